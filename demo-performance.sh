@@ -73,7 +73,7 @@ echo "When the application is running, these endpoints are available:"
 echo "----------------------------------------"
 echo ""
 echo "🎯 Performance Testing Endpoints:"
-echo "  POST /performance/load-test?users=5&duration=30"
+echo "  POST /performance/load-test?users=5&duration=30&scenario=default"
 echo "  GET  /performance/comparison"
 echo "  GET  /performance/summary"
 echo "  GET  /performance/rest-metrics"
@@ -16,6 +16,9 @@ NC='\033[0m' # No Color
 DEFAULT_USERS=5
 DEFAULT_DURATION=30
 DEFAULT_PORT=8080
+DEFAULT_SEED_ROWS=100000
+DEFAULT_RPS=50
+DEFAULT_SCENARIO=default
 
 # Print header
 print_header() {
@@ -38,6 +41,18 @@ print_usage() {
     echo "  web-test        Trigger test via REST API"
     echo "  show-metrics    Display current performance metrics"
     echo "  reset-metrics   Reset all performance metrics"
+    echo "  open-load-test  Fire requests at a fixed arrival rate and find the saturation point"
+    echo "  api-matrix      Run the scenario as REST and actions, each over HTTP and in-process"
+    echo "  ab-test         Repeat REST vs actions in alternating order and report bootstrap confidence intervals"
+    echo "  distributed-test Drive the load from separate worker JVMs and merge their histograms"
+    echo "  job-test        Queue a load test as a background job and follow its per-second progress"
+    echo "  cancel-job      Cancel a queued or running load-test job"
+    echo "  benchmark       Start the app, warm up, run one test headless and exit non-zero on a breached budget"
+    echo "  list-scenarios  List the load-test scenarios the application knows"
+    echo "  list-results    List the saved load-test runs"
+    echo "  compare-results Compare a saved run against a baseline (exit code 1 on regression)"
+    echo "  seed            Bulk-load synthetic benchmark data"
+    echo "  scaling-sweep   Seed growing table sizes, run the same scenario at each and flag super-linear operations"
     echo "  start-app       Start the Spring Boot application"
     echo "  help           Show this help message"
     echo ""
@@ -45,12 +60,64 @@ print_usage() {
     echo "  -u, --users     Number of concurrent users (default: $DEFAULT_USERS)"
     echo "  -d, --duration  Test duration in seconds (default: $DEFAULT_DURATION)"
     echo "  -p, --port      Application port (default: $DEFAULT_PORT)"
+    echo "  -s, --scenario  Scenario name (default: $DEFAULT_SCENARIO; also for web-test, api-matrix and open-load-test)"
+    echo "  -t, --transport mixed, http or local (default: mixed, i.e. REST over HTTP vs actions in-process)"
+    echo ""
+    echo "Options for open-load-test:"
+    echo "  -a, --api       REST-HTTP, REST-LOCAL, ACTION-HTTP or ACTION-LOCAL (default: REST, i.e. REST-HTTP)"
+    echo "  --rps           Arrival rate of the first step (default: $DEFAULT_RPS)"
+    echo "  --max-rps       Arrival rate of the last step (default: --rps, a single step)"
+    echo "  --step-rps      Rate increase per step (default: $DEFAULT_RPS)"
+    echo "  -d, --duration  Seconds per step (default: 10)"
+    echo ""
+    echo "Options for ab-test (also -u, -s, -t):"
+    echo "  --iterations    Measured iterations (default: 10)"
+    echo "  --warmup        Iterations run first and discarded (default: 2)"
+    echo "  -d, --duration  Seconds per side per iteration (default: 10)"
+    echo ""
+    echo "Options for distributed-test (also -u, -d, -s):"
+    echo "  -w, --workers   Worker JVMs; users are split across them (default: 2)"
+    echo ""
+    echo "Options for job-test (also -u, -d, -s, -t) and cancel-job:"
+    echo "  --job           Id of the job to cancel (cancel-job, required)"
+    echo ""
+    echo "Options for benchmark (also -u, -d, -s, -t; the app must not be running):"
+    echo "  -o, --output    JSON file to write the results to"
+    echo "  --warmup        Warm-up seconds before the measured run (default: app.benchmark.warmup-seconds)"
+    echo "  --max-p99-ms, --min-throughput, --max-error-rate  Budgets per API total"
+    echo ""
+    echo "Options for compare-results:"
+    echo "  --baseline      Id of the baseline run (required)"
+    echo "  --candidate     Id of the run to check (default: latest)"
+    echo ""
+    echo "Options for seed:"
+    echo "  --cars          Car rows to insert (default: $DEFAULT_SEED_ROWS)"
+    echo "  --animals       Animal rows to insert (default: $DEFAULT_SEED_ROWS)"
+    echo "  --employees     Employee rows to insert (default: $DEFAULT_SEED_ROWS)"
+    echo "  --truncate      Empty the tables before loading"
+    echo ""
+    echo "Options for scaling-sweep (also -u, -d, -t):"
+    echo "  --sizes         Rows per table at each step, comma-separated (default: app.scaling.sizes, 10k to 10M)"
+    echo "  -s, --scenario  Scenario whose operations run one at a time at each size (default: app.scaling.scenario)"
+    echo "  --truncate      Required: confirms the sweep may empty the car, animal and employee tables"
     echo ""
     echo "Examples:"
     echo "  $0 quick-test"
     echo "  $0 custom-test -u 10 -d 60"
     echo "  $0 web-test --users 8 --duration 45"
+    echo "  $0 custom-test --scenario read-heavy -u 50"
+    echo "  $0 custom-test --transport http -u 20"
+    echo "  $0 api-matrix -u 20 -d 30"
+    echo "  $0 ab-test -u 10 -d 10 --iterations 10 --warmup 2 -t http"
+    echo "  $0 distributed-test -w 4 -u 200 -d 60"
+    echo "  $0 job-test -u 20 -d 120"
+    echo "  $0 cancel-job --job 3"
+    echo "  $0 benchmark -s read-heavy -u 20 -d 60 -o results.json --max-p99-ms 50"
     echo "  $0 interactive"
+    echo "  $0 open-load-test --api ACTION --rps 100 --max-rps 1000 --step-rps 100 -d 10"
+    echo "  $0 compare-results --baseline 20261019-120000-000-load-test-default"
+    echo "  $0 seed --cars 1000000 --animals 1000000 --employees 1000000 --truncate"
+    echo "  $0 scaling-sweep --sizes 10000,100000,1000000 -d 30 --truncate"
 }
 
 # Check if application is running
@@ -106,6 +173,8 @@ run_web_test() {
     local users=${1:-$DEFAULT_USERS}
     local duration=${2:-$DEFAULT_DURATION}
     local port=${3:-$DEFAULT_PORT}
+    local scenario=${4:-$DEFAULT_SCENARIO}
+    local transport=${5:-mixed}
     
     if ! check_app_running $port; then
         echo -e "${RED}❌ Application is not running on port $port${NC}"
@@ -114,10 +183,10 @@ run_web_test() {
     fi
     
     echo -e "${BLUE}🌐 Triggering performance test via REST API...${NC}"
-    echo "Parameters: Users=$users, Duration=$duration seconds"
+    echo "Parameters: Users=$users, Duration=$duration seconds, Scenario=$scenario, Transport=$transport"
     echo ""
     
-    curl -X POST "http://localhost:$port/performance/load-test?users=$users&duration=$duration" \
+    curl -X POST "http://localhost:$port/performance/load-test?users=$users&duration=$duration&scenario=$scenario&transport=$transport" \
         -H "Content-Type: application/json" \
         -w "\n\nHTTP Status: %{http_code}\nTotal Time: %{time_total}s\n" \
         2>/dev/null || {
@@ -161,6 +230,271 @@ reset_metrics() {
     echo -e "${GREEN}✅ Metrics reset completed${NC}"
 }
 
+# Bulk-load synthetic data via REST API
+seed_data() {
+    local port=${1:-$DEFAULT_PORT}
+
+    if ! check_app_running $port; then
+        echo -e "${RED}❌ Application is not running on port $port${NC}"
+        exit 1
+    fi
+
+    echo -e "${BLUE}🌱 Seeding benchmark data...${NC}"
+    echo "Rows: cars=$CARS, animals=$ANIMALS, employees=$EMPLOYEES, truncate=$TRUNCATE"
+    echo ""
+
+    curl -s -X POST "http://localhost:$port/performance/seed?cars=$CARS&animals=$ANIMALS&employees=$EMPLOYEES&truncate=$TRUNCATE" || {
+        echo -e "${RED}❌ Failed to seed data${NC}"
+        exit 1
+    }
+    echo ""
+}
+
+# Run an open-model (constant arrival rate) test via REST API
+run_open_load_test() {
+    local port=${1:-$DEFAULT_PORT}
+    local max_rps=${MAX_RPS:-$RPS}
+
+    if ! check_app_running $port; then
+        echo -e "${RED}❌ Application is not running on port $port${NC}"
+        exit 1
+    fi
+
+    echo -e "${BLUE}🌐 Triggering open-model load test via REST API...${NC}"
+    echo "Parameters: API=$API, Rate=$RPS..$max_rps req/s (step $STEP_RPS), ${STEP_DURATION}s per step, Scenario=$SCENARIO"
+    echo ""
+
+    curl -s -X POST "http://localhost:$port/performance/open-load-test?api=$API&rps=$RPS&maxRps=$max_rps&stepRps=$STEP_RPS&stepDuration=$STEP_DURATION&scenario=$SCENARIO" || {
+        echo -e "${RED}❌ Failed to connect to the application${NC}"
+        exit 1
+    }
+    echo ""
+}
+
+# Run the scenario in all four API modes, one after the other
+run_api_matrix() {
+    local port=${1:-$DEFAULT_PORT}
+
+    if ! check_app_running $port; then
+        echo -e "${RED}❌ Application is not running on port $port${NC}"
+        exit 1
+    fi
+
+    echo -e "${BLUE}🌐 Triggering API matrix via REST API...${NC}"
+    echo "Parameters: Users=$USERS, Duration=$DURATION seconds per mode, Scenario=$SCENARIO"
+    echo ""
+
+    curl -s -X POST "http://localhost:$port/performance/api-matrix?users=$USERS&duration=$DURATION&scenario=$SCENARIO" || {
+        echo -e "${RED}❌ Failed to connect to the application${NC}"
+        exit 1
+    }
+    echo ""
+}
+
+# Run the A/B benchmark via REST API
+run_ab_test() {
+    local port=${1:-$DEFAULT_PORT}
+
+    if ! check_app_running $port; then
+        echo -e "${RED}❌ Application is not running on port $port${NC}"
+        exit 1
+    fi
+
+    echo -e "${BLUE}🌐 Triggering A/B benchmark via REST API...${NC}"
+    echo "Parameters: Users=$USERS, Duration=$STEP_DURATION seconds per side, Iterations=$ITERATIONS (+$WARMUP warmup), Scenario=$SCENARIO, Transport=$TRANSPORT"
+    echo ""
+
+    curl -s -X POST "http://localhost:$port/performance/ab-test?users=$USERS&duration=$STEP_DURATION&iterations=$ITERATIONS&warmup=$WARMUP&transport=$TRANSPORT&scenario=$SCENARIO" || {
+        echo -e "${RED}❌ Failed to connect to the application${NC}"
+        exit 1
+    }
+    echo ""
+}
+
+# Run a load test from separate worker JVMs via REST API
+run_distributed_test() {
+    local port=${1:-$DEFAULT_PORT}
+
+    if ! check_app_running $port; then
+        echo -e "${RED}❌ Application is not running on port $port${NC}"
+        exit 1
+    fi
+
+    echo -e "${BLUE}🌐 Triggering distributed load test via REST API...${NC}"
+    echo "Parameters: Workers=$WORKERS, Users=$USERS in total, Duration=$DURATION seconds, Scenario=$SCENARIO"
+    echo ""
+
+    curl -s -X POST "http://localhost:$port/performance/distributed-load-test?workers=$WORKERS&users=$USERS&duration=$DURATION&scenario=$SCENARIO" || {
+        echo -e "${RED}❌ Failed to connect to the application${NC}"
+        exit 1
+    }
+    echo ""
+}
+
+# Queue a load test as a job and stream its snapshots until it finishes
+run_job_test() {
+    local port=${1:-$DEFAULT_PORT}
+
+    if ! check_app_running $port; then
+        echo -e "${RED}❌ Application is not running on port $port${NC}"
+        exit 1
+    fi
+
+    echo -e "${BLUE}📥 Queueing load-test job...${NC}"
+    echo "Parameters: Users=$USERS, Duration=$DURATION seconds, Scenario=$SCENARIO, Transport=$TRANSPORT"
+    local job
+    job=$(curl -s -X POST "http://localhost:$port/performance/jobs?users=$USERS&duration=$DURATION&scenario=$SCENARIO&transport=$TRANSPORT")
+    local id
+    id=$(echo "$job" | grep -o '"id":[0-9]*' | head -1 | cut -d: -f2)
+    if [ -z "$id" ]; then
+        echo -e "${RED}❌ Job was not queued: $job${NC}"
+        exit 1
+    fi
+    echo -e "${GREEN}✅ Job $id queued; following its progress (Ctrl-C stops following, not the job)${NC}"
+    echo ""
+    curl -s -N "http://localhost:$port/performance/jobs/$id/events"
+    echo ""
+}
+
+# Cancel a load-test job
+cancel_job() {
+    local port=${1:-$DEFAULT_PORT}
+
+    if [ -z "$JOB_ID" ]; then
+        echo -e "${RED}❌ --job is required${NC}"
+        exit 1
+    fi
+    curl -s -X POST "http://localhost:$port/performance/jobs/$JOB_ID/cancel" || {
+        echo -e "${RED}❌ Failed to connect to the application${NC}"
+        exit 1
+    }
+    echo ""
+}
+
+# Start the app, run one benchmark without a console and exit with its code
+run_benchmark() {
+    local args="performance --scenario $SCENARIO --users $USERS --duration $DURATION --transport $TRANSPORT"
+    [ -n "$OUTPUT" ] && args="$args --output $OUTPUT"
+    [ -n "$BENCH_WARMUP" ] && args="$args --warmup $BENCH_WARMUP"
+    [ -n "$MAX_P99_MS" ] && args="$args --max-p99-ms $MAX_P99_MS"
+    [ -n "$MIN_THROUGHPUT" ] && args="$args --min-throughput $MIN_THROUGHPUT"
+    [ -n "$MAX_ERROR_RATE" ] && args="$args --max-error-rate $MAX_ERROR_RATE"
+
+    echo -e "${BLUE}🏁 Running headless benchmark: $args${NC}"
+    local status=0
+    ./gradlew -q bootRun --args="$args" || status=$?
+    if [ $status -eq 0 ]; then
+        echo -e "${GREEN}✅ Benchmark passed${NC}"
+    else
+        echo -e "${RED}❌ Benchmark exited with code $status${NC}"
+    fi
+    exit $status
+}
+
+# Seed growing table sizes and run the same scenario at each via REST API
+run_scaling_sweep() {
+    local port=${1:-$DEFAULT_PORT}
+
+    if ! check_app_running $port; then
+        echo -e "${RED}❌ Application is not running on port $port${NC}"
+        exit 1
+    fi
+
+    if [ "$TRUNCATE" != "true" ]; then
+        echo -e "${RED}❌ The sweep empties the car, animal and employee tables first; pass --truncate to allow it${NC}"
+        exit 1
+    fi
+
+    local params="users=$USERS&duration=$DURATION&transport=$TRANSPORT&truncate=true"
+    [ -n "$SIZES" ] && params="$params&sizes=$SIZES"
+    [ "$SCENARIO" != "$DEFAULT_SCENARIO" ] && params="$params&scenario=$SCENARIO"
+
+    echo -e "${BLUE}📏 Queueing scaling sweep (this seeds every size and can take hours at 10M rows)...${NC}"
+    echo "Parameters: Sizes=${SIZES:-app.scaling.sizes}, Users=$USERS, Duration=$DURATION seconds per operation and size"
+    echo ""
+
+    local queued
+    queued=$(curl -s -X POST "http://localhost:$port/performance/scaling-sweep?$params") || {
+        echo -e "${RED}❌ Failed to connect to the application${NC}"
+        exit 1
+    }
+    echo "$queued"
+    local id
+    id=$(echo "$queued" | grep -o 'as job [0-9]*' | head -1 | awk '{print $3}')
+    if [ -z "$id" ]; then
+        echo -e "${RED}❌ Sweep was not queued${NC}"
+        exit 1
+    fi
+
+    # Poll rather than stream: a sweep's snapshots span every operation and size, the stage says where it is
+    local status=202
+    while [ "$status" = "202" ]; do
+        sleep 10
+        status=$(curl -s -o /tmp/scaling-sweep-$id.txt -w '%{http_code}' "http://localhost:$port/performance/scaling-sweep/$id")
+        [ "$status" = "202" ] && tail -1 /tmp/scaling-sweep-$id.txt
+    done
+    echo ""
+    cat /tmp/scaling-sweep-$id.txt
+    rm -f /tmp/scaling-sweep-$id.txt
+    [ "$status" = "200" ] || exit 1
+}
+
+# List the scenarios the application can run
+list_scenarios() {
+    local port=${1:-$DEFAULT_PORT}
+
+    if ! check_app_running $port; then
+        echo -e "${RED}❌ Application is not running on port $port${NC}"
+        exit 1
+    fi
+
+    curl -s "http://localhost:$port/performance/scenarios" || {
+        echo -e "${RED}❌ Failed to fetch scenarios${NC}"
+        exit 1
+    }
+    echo ""
+}
+
+# List saved runs
+list_results() {
+    local port=${1:-$DEFAULT_PORT}
+
+    if ! check_app_running $port; then
+        echo -e "${RED}❌ Application is not running on port $port${NC}"
+        exit 1
+    fi
+
+    curl -s "http://localhost:$port/performance/results" || {
+        echo -e "${RED}❌ Failed to fetch saved runs${NC}"
+        exit 1
+    }
+    echo ""
+}
+
+# Compare a saved run against a baseline; exits 1 when a regression is flagged
+compare_results() {
+    local port=${1:-$DEFAULT_PORT}
+
+    if [ -z "$BASELINE" ]; then
+        echo -e "${RED}❌ --baseline is required${NC}"
+        exit 1
+    fi
+    if ! check_app_running $port; then
+        echo -e "${RED}❌ Application is not running on port $port${NC}"
+        exit 1
+    fi
+
+    local report
+    report=$(curl -s -f "http://localhost:$port/performance/results/compare?baseline=$BASELINE&candidate=$CANDIDATE") || {
+        echo -e "${RED}❌ Failed to compare runs $BASELINE and $CANDIDATE${NC}"
+        exit 1
+    }
+    echo "$report"
+    if echo "$report" | grep -q "REGRESSION detected\|NOT COMPARED"; then
+        exit 1
+    fi
+}
+
 # Launch interactive mode
 launch_interactive() {
     echo -e "${BLUE}🎮 Interactive Performance Testing Menu${NC}"
@@ -186,9 +520,11 @@ launch_interactive() {
                 echo -e "${BLUE}⚙️ Custom Test Configuration${NC}"
                 read -p "Number of concurrent users [default: 5]: " users
                 read -p "Test duration in seconds [default: 30]: " duration
+                read -p "Scenario [default: $DEFAULT_SCENARIO]: " scenario
                 users=${users:-5}
                 duration=${duration:-30}
-                run_web_test $users $duration $DEFAULT_PORT
+                scenario=${scenario:-$DEFAULT_SCENARIO}
+                run_web_test $users $duration $DEFAULT_PORT $scenario
                 ;;
             3)
                 show_metrics $DEFAULT_PORT
@@ -217,11 +553,24 @@ launch_interactive() {
 show_api_endpoints() {
     echo -e "${BLUE}🔗 Available REST API Endpoints:${NC}"
     echo "Performance Testing:"
-    echo "  • POST /performance/load-test?users=5&duration=30"
+    echo "  • POST /performance/load-test?users=5&duration=30&scenario=default&transport=mixed"
+    echo "  • POST /performance/api-matrix?users=5&duration=30&scenario=default"
+    echo "  • POST /performance/ab-test?users=5&duration=10&iterations=10&warmup=2&transport=http"
+    echo "  • POST /performance/distributed-load-test?workers=2&users=10&duration=30&scenario=default"
+    echo "  • POST /performance/jobs?users=5&duration=30&scenario=default&transport=mixed"
+    echo "  • GET  /performance/jobs/{id}/events"
+    echo "  • GET  /performance/scenarios"
+    echo "  • GET  /performance/results"
+    echo "  • GET  /performance/results/compare?baseline=<id>&candidate=latest"
     echo "  • GET  /performance/comparison"
+    echo "  • GET  /performance/server-timings"
     echo "  • GET  /performance/summary"
     echo "  • GET  /performance/table"
     echo "  • POST /performance/reset"
+    echo "  • POST /performance/open-load-test?api=REST&rps=50&maxRps=500&stepRps=50"
+    echo "  • POST /performance/seed?cars=100000&animals=100000&employees=100000"
+    echo "  • POST /performance/scaling-sweep?sizes=10000,100000,1000000,10000000&duration=30&truncate=true"
+    echo "  • GET  /performance/scaling-sweep/{id}"
     echo ""
     echo "REST APIs (for manual testing):"
     echo "  • GET  /api/animals"
@@ -245,6 +594,29 @@ parse_args() {
     USERS=$DEFAULT_USERS
     DURATION=$DEFAULT_DURATION
     PORT=$DEFAULT_PORT
+    CARS=$DEFAULT_SEED_ROWS
+    ANIMALS=$DEFAULT_SEED_ROWS
+    EMPLOYEES=$DEFAULT_SEED_ROWS
+    TRUNCATE=false
+    API=REST
+    RPS=$DEFAULT_RPS
+    MAX_RPS=""
+    STEP_RPS=$DEFAULT_RPS
+    STEP_DURATION=10
+    SCENARIO=$DEFAULT_SCENARIO
+    TRANSPORT=mixed
+    ITERATIONS=10
+    WARMUP=2
+    WORKERS=2
+    OUTPUT=""
+    BENCH_WARMUP=""
+    MAX_P99_MS=""
+    MIN_THROUGHPUT=""
+    MAX_ERROR_RATE=""
+    BASELINE=""
+    CANDIDATE=latest
+    JOB_ID=""
+    SIZES=""
     
     while [[ $# -gt 0 ]]; do
         case $1 in
@@ -254,12 +626,98 @@ parse_args() {
                 ;;
             -d|--duration)
                 DURATION="$2"
+                STEP_DURATION="$2"
+                shift 2
+                ;;
+            -s|--scenario)
+                SCENARIO="$2"
+                shift 2
+                ;;
+            -t|--transport)
+                TRANSPORT="$2"
+                shift 2
+                ;;
+            --iterations)
+                ITERATIONS="$2"
+                shift 2
+                ;;
+            --warmup)
+                WARMUP="$2"
+                BENCH_WARMUP="$2"
+                shift 2
+                ;;
+            -o|--output)
+                OUTPUT="$2"
+                shift 2
+                ;;
+            --max-p99-ms)
+                MAX_P99_MS="$2"
+                shift 2
+                ;;
+            --min-throughput)
+                MIN_THROUGHPUT="$2"
+                shift 2
+                ;;
+            --max-error-rate)
+                MAX_ERROR_RATE="$2"
+                shift 2
+                ;;
+            -w|--workers)
+                WORKERS="$2"
+                shift 2
+                ;;
+            --sizes)
+                SIZES="$2"
+                shift 2
+                ;;
+            --job)
+                JOB_ID="$2"
+                shift 2
+                ;;
+            --baseline)
+                BASELINE="$2"
+                shift 2
+                ;;
+            --candidate)
+                CANDIDATE="$2"
+                shift 2
+                ;;
+            -a|--api)
+                API="$2"
+                shift 2
+                ;;
+            --rps)
+                RPS="$2"
+                shift 2
+                ;;
+            --max-rps)
+                MAX_RPS="$2"
+                shift 2
+                ;;
+            --step-rps)
+                STEP_RPS="$2"
                 shift 2
                 ;;
             -p|--port)
                 PORT="$2"
                 shift 2
                 ;;
+            --cars)
+                CARS="$2"
+                shift 2
+                ;;
+            --animals)
+                ANIMALS="$2"
+                shift 2
+                ;;
+            --employees)
+                EMPLOYEES="$2"
+                shift 2
+                ;;
+            --truncate)
+                TRUNCATE=true
+                shift
+                ;;
             *)
                 shift
                 ;;
@@ -285,12 +743,12 @@ main() {
         custom-test)
             shift
             parse_args "$@"
-            run_web_test $USERS $DURATION $PORT
+            run_web_test $USERS $DURATION $PORT $SCENARIO $TRANSPORT
             ;;
         web-test)
             shift
             parse_args "$@"
-            run_web_test $USERS $DURATION $PORT
+            run_web_test $USERS $DURATION $PORT $SCENARIO $TRANSPORT
             ;;
         interactive)
             launch_interactive
@@ -305,6 +763,66 @@ main() {
             parse_args "$@"
             reset_metrics $PORT
             ;;
+        open-load-test)
+            shift
+            parse_args "$@"
+            run_open_load_test $PORT
+            ;;
+        api-matrix)
+            shift
+            parse_args "$@"
+            run_api_matrix $PORT
+            ;;
+        ab-test)
+            shift
+            parse_args "$@"
+            run_ab_test $PORT
+            ;;
+        distributed-test)
+            shift
+            parse_args "$@"
+            run_distributed_test $PORT
+            ;;
+        job-test)
+            shift
+            parse_args "$@"
+            run_job_test $PORT
+            ;;
+        cancel-job)
+            shift
+            parse_args "$@"
+            cancel_job $PORT
+            ;;
+        benchmark)
+            shift
+            parse_args "$@"
+            run_benchmark
+            ;;
+        list-scenarios)
+            shift
+            parse_args "$@"
+            list_scenarios $PORT
+            ;;
+        list-results)
+            shift
+            parse_args "$@"
+            list_results $PORT
+            ;;
+        compare-results)
+            shift
+            parse_args "$@"
+            compare_results $PORT
+            ;;
+        scaling-sweep)
+            shift
+            parse_args "$@"
+            run_scaling_sweep $PORT
+            ;;
+        seed)
+            shift
+            parse_args "$@"
+            seed_data $PORT
+            ;;
         start-app)
             start_application
             ;;
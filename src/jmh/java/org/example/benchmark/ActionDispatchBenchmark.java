@@ -0,0 +1,80 @@
+package org.example.benchmark;
+
+import org.example.action.car.request.GetCarByIdRequest;
+import org.example.action.car.request.SearchCarsRequest;
+import org.example.action.core.ActionLogger;
+import org.example.action.core.ActionResponse;
+import org.example.action.core.DefaultActionLogger;
+import org.example.benchmark.support.CarActionFixture;
+import org.example.benchmark.support.NoopActionLogger;
+import org.example.models.view.CarView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of going through ActionDispatcher compared with calling CarService directly, over in-memory repositories.
+ * The three by-id variants isolate the action wrapper (request/response objects) from the dispatcher itself
+ * (lookup, logging, metrics); the logger parameter separates logging from the rest of the dispatch path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ActionDispatchBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"NOOP", "DEFAULT"})
+    private String logger;
+
+    private CarActionFixture fixture;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void wire() {
+        ActionLogger actionLogger = "NOOP".equals(logger) ? new NoopActionLogger() : new DefaultActionLogger();
+        fixture = CarActionFixture.create(rows, actionLogger);
+        ids = fixture.ids();
+    }
+
+    @Benchmark
+    public Optional<CarView> getByIdDirect() {
+        return fixture.carService().getById(pick());
+    }
+
+    @Benchmark
+    public ActionResponse getByIdAction() {
+        return fixture.getCarByIdAction().execute(new GetCarByIdRequest(pick()));
+    }
+
+    @Benchmark
+    public ActionResponse getByIdDispatch() {
+        return fixture.dispatcher().dispatch(new GetCarByIdRequest(pick()));
+    }
+
+    @Benchmark
+    public List<CarView> searchDirect() {
+        return fixture.carService().searchByBrand("BM");
+    }
+
+    @Benchmark
+    public ActionResponse searchDispatch() {
+        return fixture.dispatcher().dispatch(new SearchCarsRequest("BM"));
+    }
+
+    private long pick() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
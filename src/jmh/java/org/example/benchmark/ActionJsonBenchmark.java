@@ -0,0 +1,78 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.benchmark.support.JsonSamples;
+import org.example.benchmark.support.JsonSamples.Entity;
+import org.example.benchmark.support.JsonSamples.Operation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON cost of every action request and response type, with the ObjectMapper setup the controllers use.
+ * Requests are read back into their own class, as @RequestBody does; responses have no creator Jackson can bind,
+ * so they are parsed into a tree the way a client reads them. List-bearing responses hold {@code listSize} rows;
+ * {@link ListPayloadJsonBenchmark} covers the size sweep.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ActionJsonBenchmark {
+
+    @Param({"CAR", "ANIMAL", "EMPLOYEE"})
+    private Entity entity;
+
+    @Param({"COUNT", "CREATE", "DELETE", "GET_ALL", "GET_BY_ID", "GET_BY_TIME_RANGE", "GET_PAGE", "QUERY", "SEARCH", "UPDATE"})
+    private Operation operation;
+
+    @Param({"10"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private Class<?> requestType;
+    private Object request;
+    private Object response;
+    private byte[] requestJson;
+    private byte[] responseJson;
+
+    @Setup(Level.Trial)
+    public void buildSamples() throws IOException {
+        objectMapper = JsonSamples.objectMapper();
+        requestType = JsonSamples.requestType(entity, operation);
+        request = JsonSamples.instance(requestType, listSize);
+        response = JsonSamples.instance(JsonSamples.responseType(entity, operation), listSize);
+        requestJson = objectMapper.writeValueAsBytes(request);
+        responseJson = objectMapper.writeValueAsBytes(response);
+        objectMapper.readValue(requestJson, requestType);
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() throws IOException {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public Object deserializeRequest() throws IOException {
+        return objectMapper.readValue(requestJson, requestType);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public JsonNode parseResponse() throws IOException {
+        return objectMapper.readTree(responseJson);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import org.example.action.car.request.GetCarByIdRequest;
+import org.example.action.car.response.GetCarByIdResponse;
+import org.example.action.core.ActionLogger;
+import org.example.action.core.DefaultActionLogger;
+import org.example.benchmark.support.NoopActionLogger;
+import org.example.models.view.CarView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of DefaultActionLogger (start + success, as the dispatcher logs them) with INFO enabled and
+ * with it filtered out, against a no-op logger. Events are formatted but not written; see logback-test.xml.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ActionLoggerBenchmark {
+
+    @Param({"INFO", "WARN"})
+    private String level;
+
+    private final ActionLogger defaultLogger = new DefaultActionLogger();
+    private final ActionLogger noopLogger = new NoopActionLogger();
+    private final GetCarByIdRequest request = new GetCarByIdRequest(42L);
+    private final GetCarByIdResponse response =
+            new GetCarByIdResponse(new CarView(42L, "Toyota", LocalDateTime.now(), LocalDateTime.now()));
+
+    @Setup(Level.Trial)
+    public void configureLevel() {
+        Logger logger = (Logger) LoggerFactory.getLogger(DefaultActionLogger.class);
+        logger.setLevel(ch.qos.logback.classic.Level.toLevel(level));
+    }
+
+    @Benchmark
+    public void defaultLogger() {
+        defaultLogger.logActionStart(request.getActionType(), request);
+        defaultLogger.logActionSuccess(request.getActionType(), request, response, 1);
+    }
+
+    @Benchmark
+    public void noopLogger() {
+        noopLogger.logActionStart(request.getActionType(), request);
+        noopLogger.logActionSuccess(request.getActionType(), request, response, 1);
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.benchmark;
+
+import org.example.action.car.response.GetCarByIdResponse;
+import org.example.action.car.response.SearchCarsResponse;
+import org.example.action.core.ValidationResult;
+import org.example.models.view.CarView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation-bound building blocks of every action call: ValidationResult and ActionResponse construction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ActionModelBenchmark {
+    private static final List<String> ERRORS = List.of("brand must not be blank", "brand is too long", "id must be positive");
+
+    private final CarView car = new CarView(42L, "Toyota", LocalDateTime.now(), LocalDateTime.now());
+    private final List<CarView> cars = List.of(car, car, car);
+    private final ValidationResult failed = ValidationResult.failure(ERRORS);
+    private long id = 42L;
+
+    @Benchmark
+    public ValidationResult validationSuccess() {
+        return ValidationResult.success();
+    }
+
+    @Benchmark
+    public ValidationResult validationFailure() {
+        return ValidationResult.failure("brand must not be blank");
+    }
+
+    @Benchmark
+    public ValidationResult validationFailureList() {
+        return ValidationResult.failure(ERRORS);
+    }
+
+    @Benchmark
+    public List<String> validationGetErrors() {
+        return failed.getErrors();
+    }
+
+    @Benchmark
+    public GetCarByIdResponse responseFound() {
+        return new GetCarByIdResponse(car);
+    }
+
+    @Benchmark
+    public GetCarByIdResponse responseNotFound() {
+        return GetCarByIdResponse.notFound("Car not found with id: " + id++);
+    }
+
+    @Benchmark
+    public SearchCarsResponse responseList() {
+        return new SearchCarsResponse(cars);
+    }
+}
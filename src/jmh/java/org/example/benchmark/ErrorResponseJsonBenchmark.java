@@ -0,0 +1,59 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.benchmark.support.JsonSamples;
+import org.example.rest.exception.ErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON cost of the REST ErrorResponse, without details and with a typical validation failure's worth of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseJsonBenchmark {
+
+    @Param({"0", "5"})
+    private int details;
+
+    private ObjectMapper objectMapper;
+    private ErrorResponse errorResponse;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void buildResponse() throws IOException {
+        objectMapper = JsonSamples.objectMapper();
+        List<String> fieldErrors = new ArrayList<>();
+        for (int i = 0; i < details; i++) {
+            fieldErrors.add("field" + i + ": must not be blank");
+        }
+        errorResponse = new ErrorResponse("VALIDATION_ERROR", "Input validation failed", LocalDateTime.now(),
+                details == 0 ? null : fieldErrors);
+        json = objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public JsonNode parse() throws IOException {
+        return objectMapper.readTree(json);
+    }
+}
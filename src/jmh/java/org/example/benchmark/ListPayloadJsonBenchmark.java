@@ -0,0 +1,72 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.action.car.response.GetAllCarsResponse;
+import org.example.benchmark.support.JsonSamples;
+import org.example.models.entity.Car;
+import org.example.models.view.CarView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON cost of get-all sized payloads from 1 to 100k rows: the REST body ({@code List<CarView>}), the entity
+ * list the REST API returned before projections ({@code List<Car>}), and the GET_ALL_CARS action response.
+ * Run with the gc profiler (on by default in build.gradle) for gc.alloc.rate.norm per payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListPayloadJsonBenchmark {
+
+    public enum Payload { REST_VIEWS, REST_ENTITIES, ACTION_GET_ALL }
+
+    @Param({"1", "100", "1000", "10000", "100000"})
+    private int size;
+
+    @Param({"REST_VIEWS", "REST_ENTITIES", "ACTION_GET_ALL"})
+    private Payload payload;
+
+    private ObjectMapper objectMapper;
+    private Object body;
+    private byte[] json;
+    private JavaType readType;
+
+    @Setup(Level.Trial)
+    public void buildPayload() throws IOException {
+        objectMapper = JsonSamples.objectMapper();
+        body = switch (payload) {
+            case REST_VIEWS -> JsonSamples.list(CarView.class, size);
+            case REST_ENTITIES -> JsonSamples.list(Car.class, size);
+            case ACTION_GET_ALL -> new GetAllCarsResponse(JsonSamples.list(CarView.class, size));
+        };
+        readType = switch (payload) {
+            case REST_VIEWS -> objectMapper.getTypeFactory().constructCollectionType(List.class, CarView.class);
+            case REST_ENTITIES -> objectMapper.getTypeFactory().constructCollectionType(List.class, Car.class);
+            case ACTION_GET_ALL -> objectMapper.constructType(JsonNode.class);
+        };
+        json = objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return objectMapper.readValue(json, readType);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.benchmark;
+
+import org.example.performance.PerformanceMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PerformanceMetrics.recordExecution, which every dispatched action calls, uncontended and shared by 4 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PerformanceMetricsBenchmark {
+
+    private PerformanceMetrics metrics;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        metrics = new PerformanceMetrics("ACTION");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void recordExecution() {
+        metrics.recordExecution(ThreadLocalRandom.current().nextInt(100), true);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordExecutionContended() {
+        metrics.recordExecution(ThreadLocalRandom.current().nextInt(100), true);
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.benchmark;
+
+import org.example.Main;
+import org.example.config.ReadPathProperties;
+import org.example.config.ReadPathProperties.ReadPath;
+import org.example.models.view.AnimalView;
+import org.example.models.view.CarView;
+import org.example.models.view.GovEmployeeView;
+import org.example.service.AnimalService;
+import org.example.service.CarService;
+import org.example.service.GovEmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot read queries through the services on the Spring Data JPA path versus the hand-written JDBC path.
+ * Needs the "local" MySQL with data in all three tables; the second-level cache is switched off so
+ * by-id measures the query itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadPathBenchmark {
+
+    @Param({"JPA", "JDBC"})
+    private ReadPath path;
+
+    private ConfigurableApplicationContext context;
+    private CarService carService;
+    private AnimalService animalService;
+    private GovEmployeeService govEmployeeService;
+    private long[] carIds;
+    private long[] animalIds;
+    private long[] employeeIds;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        SpringApplication application = new SpringApplication(Main.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false");
+        context.getBean(ReadPathProperties.class).useEverywhere(path);
+        carService = context.getBean(CarService.class);
+        animalService = context.getBean(AnimalService.class);
+        govEmployeeService = context.getBean(GovEmployeeService.class);
+        carIds = carService.getPage(0, 1000).stream().mapToLong(CarView::id).toArray();
+        animalIds = animalService.getPage(0, 1000).stream().mapToLong(AnimalView::id).toArray();
+        employeeIds = govEmployeeService.getPage(0, 1000).stream().mapToLong(GovEmployeeView::id).toArray();
+        if (carIds.length == 0 || animalIds.length == 0 || employeeIds.length == 0) {
+            throw new IllegalStateException("Seed car, animal and gov_employee before running this benchmark");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<?> carById() {
+        return carService.getById(pick(carIds));
+    }
+
+    @Benchmark
+    public List<?> carPage() {
+        return carService.getPage(ThreadLocalRandom.current().nextInt(50), 20);
+    }
+
+    @Benchmark
+    public List<?> carSearch() {
+        return carService.searchByBrand("BM");
+    }
+
+    @Benchmark
+    public Optional<?> animalById() {
+        return animalService.getById(pick(animalIds));
+    }
+
+    @Benchmark
+    public List<?> animalPage() {
+        return animalService.getPage(ThreadLocalRandom.current().nextInt(50), 20);
+    }
+
+    @Benchmark
+    public List<?> animalSearch() {
+        return animalService.searchByType("do");
+    }
+
+    @Benchmark
+    public Optional<?> employeeById() {
+        return govEmployeeService.getById(pick(employeeIds));
+    }
+
+    @Benchmark
+    public List<?> employeePage() {
+        return govEmployeeService.getPage(ThreadLocalRandom.current().nextInt(50), 20);
+    }
+
+    @Benchmark
+    public List<?> employeeSearch() {
+        return govEmployeeService.searchByName("jo");
+    }
+
+    private static long pick(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
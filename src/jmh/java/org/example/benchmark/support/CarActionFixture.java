@@ -0,0 +1,86 @@
+package org.example.benchmark.support;
+
+import org.example.action.car.GetCarByIdAction;
+import org.example.action.car.SearchCarsAction;
+import org.example.action.core.ActionDispatcher;
+import org.example.action.core.ActionLogger;
+import org.example.config.ReadPathProperties;
+import org.example.performance.PerformanceMonitor;
+import org.example.service.CarService;
+import org.example.models.view.CarView;
+import org.example.repository.GroupCountRepository.Grouping;
+import org.example.service.ResourceCounters;
+import org.example.service.ResourceCounters.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * CarService, its actions and an ActionDispatcher wired by hand over in-memory fakes: no Spring context,
+ * no transactions, no database. Both read paths, the list-query engine, group counts and the row counter work
+ * against the same in-memory rows.
+ */
+public final class CarActionFixture {
+    private static final List<String> BRANDS = List.of("Toyota", "BMW", "Ford", "Honda", "Audi", "Tesla", "Volvo", "Kia");
+
+    private final CarService carService;
+    private final GetCarByIdAction getCarByIdAction;
+    private final SearchCarsAction searchCarsAction;
+    private final ActionDispatcher dispatcher;
+    private final PerformanceMonitor performanceMonitor;
+    private final long[] ids;
+
+    private CarActionFixture(int rows, ActionLogger actionLogger) {
+        InMemoryCarRepository cars = InMemoryCarRepository.create();
+        ResourceCounters resourceCounters = new ResourceCounters(new JdbcTemplate() {
+            @Override
+            public <T> T queryForObject(String sql, Class<T> requiredType) {
+                // Only the counters' COUNT(*) comes here; tables other than car are empty
+                return requiredType.cast(sql.endsWith(" " + Resource.CAR.getTable()) ? cars.size() : 0L);
+            }
+        });
+        resourceCounters.reconcileAll();
+        carService = new CarService(cars.repository(), cars.jdbcRepository(), new ReadPathProperties(),
+                new InMemoryListQueryEngine(resource -> "car".equals(resource) ? cars.views() : Stream.empty()),
+                new InMemoryGroupCountRepository().source(Grouping.CAR_BRAND, () -> cars.views().map(CarView::brand)),
+                resourceCounters);
+        getCarByIdAction = new GetCarByIdAction(carService);
+        searchCarsAction = new SearchCarsAction(carService);
+        performanceMonitor = new PerformanceMonitor();
+        dispatcher = new ActionDispatcher(List.of(getCarByIdAction, searchCarsAction),
+                List.of(), actionLogger, performanceMonitor);
+        ids = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            ids[i] = carService.add(BRANDS.get(i % BRANDS.size())).getId();
+        }
+    }
+
+    public static CarActionFixture create(int rows, ActionLogger actionLogger) {
+        return new CarActionFixture(rows, actionLogger);
+    }
+
+    public CarService carService() {
+        return carService;
+    }
+
+    public GetCarByIdAction getCarByIdAction() {
+        return getCarByIdAction;
+    }
+
+    public SearchCarsAction searchCarsAction() {
+        return searchCarsAction;
+    }
+
+    public ActionDispatcher dispatcher() {
+        return dispatcher;
+    }
+
+    public PerformanceMonitor performanceMonitor() {
+        return performanceMonitor;
+    }
+
+    public long[] ids() {
+        return ids;
+    }
+}
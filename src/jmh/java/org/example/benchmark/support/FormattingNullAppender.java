@@ -0,0 +1,21 @@
+package org.example.benchmark.support;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+/**
+ * Logback appender that formats every event and throws the text away, so logging benchmarks pay for
+ * message formatting but not for console or file I/O.
+ */
+public class FormattingNullAppender extends AppenderBase<ILoggingEvent> {
+    private volatile int lastLength;
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        lastLength = event.getFormattedMessage().length();
+    }
+
+    public int getLastLength() {
+        return lastLength;
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.benchmark.support;
+
+import org.example.models.entity.Car;
+import org.example.models.view.CarView;
+import org.example.repository.CarJdbcRepository;
+import org.example.repository.CarRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Map-backed car table for benchmarks that must not touch a database. It serves both the {@link CarRepository}
+ * methods CarService calls and a {@link CarJdbcRepository} over the same rows; other repository methods throw.
+ */
+public final class InMemoryCarRepository implements InvocationHandler {
+    private final ConcurrentNavigableMap<Long, Car> rows = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final CarRepository repository;
+    private final CarJdbcRepository jdbcRepository;
+
+    private InMemoryCarRepository() {
+        repository = (CarRepository) Proxy.newProxyInstance(CarRepository.class.getClassLoader(),
+                new Class<?>[]{CarRepository.class}, this);
+        jdbcRepository = new CarJdbcRepository(null) {
+            @Override
+            public Optional<CarView> findById(Long id) {
+                return Optional.ofNullable(rows.get(id)).map(CarView::from);
+            }
+
+            @Override
+            public List<CarView> findPage(int page, int size) {
+                return page(page, size);
+            }
+
+            @Override
+            public List<CarView> findByBrandContainingIgnoreCase(String brand) {
+                return search(brand);
+            }
+        };
+    }
+
+    public static InMemoryCarRepository create() {
+        return new InMemoryCarRepository();
+    }
+
+    public CarRepository repository() {
+        return repository;
+    }
+
+    public CarJdbcRepository jdbcRepository() {
+        return jdbcRepository;
+    }
+
+    /**
+     * All rows in id order, as views.
+     */
+    public Stream<CarView> views() {
+        return rows.values().stream().map(CarView::from);
+    }
+
+    public long size() {
+        return rows.size();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "save", "saveAndFlush" -> save((Car) args[0]);
+            case "findById" -> Optional.ofNullable(rows.get((Long) args[0]));
+            case "delete" -> {
+                rows.remove(((Car) args[0]).getId());
+                yield null;
+            }
+            case "count" -> (long) rows.size();
+            case "findAllProjectedBy" -> args == null ? views().toList()
+                    : page(((Pageable) args[0]).getPageNumber(), ((Pageable) args[0]).getPageSize());
+            case "findProjectedByBrandContainingIgnoreCase" -> search((String) args[0]);
+            case "findByIdCreatedBetween" -> Optional.ofNullable(rows.get((Long) args[0]))
+                    .filter(car -> within(car.getCreatedAt(), (LocalDateTime) args[1], (LocalDateTime) args[2]))
+                    .map(CarView::from);
+            case "findCreatedBetween" -> keyset(Car::getCreatedAt, args);
+            case "findUpdatedBetween" -> keyset(Car::getUpdatedAt, args);
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemoryCarRepository[" + rows.size() + " rows]";
+            default -> throw new UnsupportedOperationException("Not stubbed: " + method.getName());
+        };
+    }
+
+    private Car save(Car car) {
+        LocalDateTime now = LocalDateTime.now();
+        if (car.getId() == null) {
+            car.setId(sequence.incrementAndGet());
+            car.setCreatedAt(now);
+        }
+        car.setUpdatedAt(now);
+        rows.put(car.getId(), car);
+        return car;
+    }
+
+    private List<CarView> page(int page, int size) {
+        return views().skip((long) page * size).limit(size).toList();
+    }
+
+    private List<CarView> search(String brand) {
+        String needle = brand.toLowerCase(Locale.ROOT);
+        return rows.values().stream()
+                .filter(car -> car.getBrand().toLowerCase(Locale.ROOT).contains(needle))
+                .map(CarView::from)
+                .toList();
+    }
+
+    /**
+     * Keyset page over (timestamp, id) within [from, to), after the cursor; args as in the repository signature.
+     */
+    private List<CarView> keyset(Function<Car, LocalDateTime> timestamp, Object[] args) {
+        LocalDateTime from = (LocalDateTime) args[0];
+        LocalDateTime to = (LocalDateTime) args[1];
+        LocalDateTime afterTimestamp = (LocalDateTime) args[2];
+        long afterId = (Long) args[3];
+        Limit limit = (Limit) args[4];
+        return rows.values().stream()
+                .filter(car -> within(timestamp.apply(car), from, to))
+                .filter(car -> timestamp.apply(car).isAfter(afterTimestamp)
+                        || (timestamp.apply(car).isEqual(afterTimestamp) && car.getId() > afterId))
+                .sorted(Comparator.comparing(timestamp).thenComparing(Car::getId))
+                .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+                .map(CarView::from)
+                .toList();
+    }
+
+    private static boolean within(LocalDateTime value, LocalDateTime from, LocalDateTime to) {
+        return value != null && !value.isBefore(from) && value.isBefore(to);
+    }
+}
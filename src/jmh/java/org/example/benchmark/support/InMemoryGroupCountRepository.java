@@ -0,0 +1,62 @@
+package org.example.benchmark.support;
+
+import org.example.models.view.GroupCount;
+import org.example.repository.GroupCountRepository;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Group counts kept in memory instead of the *_count summary tables. {@link #rebuild} recomputes a grouping from the
+ * keys registered with {@link #source}; a grouping without a source has no base rows and rebuilds empty.
+ */
+public class InMemoryGroupCountRepository extends GroupCountRepository {
+    private final Map<Grouping, Map<String, Long>> groups = new EnumMap<>(Grouping.class);
+    private final Map<Grouping, Supplier<Stream<String>>> sources = new EnumMap<>(Grouping.class);
+
+    public InMemoryGroupCountRepository() {
+        super(null);
+        for (Grouping grouping : Grouping.values()) {
+            groups.put(grouping, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void adjust(Grouping grouping, String key, long delta) {
+        if (key == null || delta == 0) return;
+        groups.get(grouping).compute(key, (k, count) -> {
+            long next = (count == null ? 0 : count) + delta;
+            return next <= 0 ? null : next;
+        });
+    }
+
+    /**
+     * Register the group key of every base row, standing in for the source table and key expression.
+     */
+    public InMemoryGroupCountRepository source(Grouping grouping, Supplier<Stream<String>> keys) {
+        sources.put(grouping, keys);
+        return this;
+    }
+
+    @Override
+    public void rebuild(Grouping grouping, String sourceTable, String keyExpression) {
+        Map<String, Long> counts = groups.get(grouping);
+        counts.clear();
+        sources.getOrDefault(grouping, Stream::empty).get()
+                .filter(key -> key != null && !key.isEmpty())
+                .forEach(key -> counts.merge(key, 1L, Long::sum));
+    }
+
+    @Override
+    public List<GroupCount> findAll(Grouping grouping) {
+        return groups.get(grouping).entrySet().stream()
+                .map(e -> new GroupCount(e.getKey(), e.getValue()))
+                .sorted(Comparator.comparingLong(GroupCount::count).reversed().thenComparing(GroupCount::group))
+                .toList();
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.benchmark.support;
+
+import org.example.config.QueryProperties;
+import org.example.service.query.FilterCondition;
+import org.example.service.query.ListQuery;
+import org.example.service.query.ListQueryEngine;
+import org.example.service.query.QueryField;
+import org.example.service.query.QueryResource;
+import org.example.service.query.SortKey;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link ListQueryEngine} that filters, sorts and pages view records in memory instead of building a Criteria
+ * query. Field and operator checks match the real engine; the index allow-list is not applied.
+ */
+public class InMemoryListQueryEngine extends ListQueryEngine {
+    private final Function<String, Stream<?>> rowsByResource;
+
+    /**
+     * @param rowsByResource all views of a resource, looked up by {@link QueryResource#name()}
+     */
+    public InMemoryListQueryEngine(Function<String, Stream<?>> rowsByResource) {
+        super(null, new QueryProperties());
+        this.rowsByResource = rowsByResource;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <E, V> List<V> execute(QueryResource<E, V> resource, ListQuery query) {
+        Map<String, RecordComponent> components = Arrays.stream(resource.viewType().getRecordComponents())
+                .collect(Collectors.toMap(RecordComponent::getName, Function.identity()));
+        Comparator<V> order = Comparator.comparing(view -> (Comparable) value(components.get("id"), view));
+        for (int i = query.sort().size() - 1; i >= 0; i--) {
+            SortKey key = query.sort().get(i);
+            RecordComponent component = component(resource, components, key.field());
+            Comparator<V> byKey = Comparator.comparing(view -> (Comparable) value(component, view),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            order = (key.direction() == Sort.Direction.DESC ? byKey.reversed() : byKey).thenComparing(order);
+        }
+        return rowsByResource.apply(resource.name())
+                .map(resource.viewType()::cast)
+                .filter(view -> query.filters().stream().allMatch(filter -> matches(resource, components, filter, view)))
+                .sorted(order)
+                .skip((long) query.page() * query.size())
+                .limit(query.size())
+                .toList();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean matches(QueryResource<?, ?> resource, Map<String, RecordComponent> components,
+                                   FilterCondition filter, Object view) {
+        QueryField field = resource.fields().get(filter.field());
+        RecordComponent component = component(resource, components, filter.field());
+        if (!field.type().supports(filter.operator())) {
+            throw new IllegalArgumentException("Operator '" + filter.operator().token()
+                    + "' is not supported on field '" + field.name() + "'");
+        }
+        Comparable actual = (Comparable) value(component, view);
+        List<Comparable<?>> values = filter.values().stream()
+                .<Comparable<?>>map(raw -> field.type().parse(field.name(), raw)).toList();
+        if (actual == null) return false;
+        return switch (filter.operator()) {
+            case EQ -> actual.equals(values.get(0));
+            case PREFIX -> ((String) actual).startsWith((String) values.get(0));
+            case GT -> actual.compareTo(values.get(0)) > 0;
+            case GTE -> actual.compareTo(values.get(0)) >= 0;
+            case LT -> actual.compareTo(values.get(0)) < 0;
+            case LTE -> actual.compareTo(values.get(0)) <= 0;
+            case IN -> values.contains(actual);
+        };
+    }
+
+    private static RecordComponent component(QueryResource<?, ?> resource, Map<String, RecordComponent> components,
+                                             String name) {
+        RecordComponent component = resource.fields().containsKey(name) ? components.get(name) : null;
+        if (component == null) {
+            throw new IllegalArgumentException("Unknown field '" + name + "'; queryable fields: " + resource.fields().keySet());
+        }
+        return component;
+    }
+
+    private static Object value(RecordComponent component, Object view) {
+        try {
+            return component.getAccessor().invoke(view);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read " + component.getName() + " of " + view, e);
+        }
+    }
+}
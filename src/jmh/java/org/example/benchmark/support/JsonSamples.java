@@ -0,0 +1,156 @@
+package org.example.benchmark.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sample payloads for the JSON benchmarks, built reflectively so that every request and response type is covered
+ * without a hand-written fixture per class: the richest public constructor is called with generated values, and
+ * lists get {@code listSize} elements.
+ */
+public final class JsonSamples {
+    private static final List<String> WORDS = List.of("Toyota", "Labrador", "Maria Garcia", "Volvo", "Parrot",
+            "John Smith", "Tesla", "Goldfish", "Yuki Tanaka", "Skoda");
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000_000);
+
+    /**
+     * Entity name as used in the action class names, with its plural and package.
+     */
+    public enum Entity {
+        CAR("Car", "Cars", "car"),
+        ANIMAL("Animal", "Animals", "animal"),
+        EMPLOYEE("Employee", "Employees", "govemployee");
+
+        private final String singular;
+        private final String plural;
+        private final String actionPackage;
+
+        Entity(String singular, String plural, String actionPackage) {
+            this.singular = singular;
+            this.plural = plural;
+            this.actionPackage = actionPackage;
+        }
+    }
+
+    /**
+     * The ten operations every entity exposes as actions, mapped to their request/response class name stem.
+     */
+    public enum Operation {
+        COUNT, CREATE, DELETE, GET_ALL, GET_BY_ID, GET_BY_TIME_RANGE, GET_PAGE, QUERY, SEARCH, UPDATE;
+
+        String stem(Entity entity) {
+            return switch (this) {
+                case COUNT -> "Count" + entity.plural;
+                case CREATE -> "Create" + entity.singular;
+                case DELETE -> "Delete" + entity.singular;
+                case GET_ALL -> "GetAll" + entity.plural;
+                case GET_BY_ID -> "Get" + entity.singular + "ById";
+                case GET_BY_TIME_RANGE -> "Get" + entity.plural + "ByTimeRange";
+                case GET_PAGE -> "Get" + entity.plural + "Page";
+                case QUERY -> "Query" + entity.plural;
+                case SEARCH -> "Search" + entity.plural;
+                case UPDATE -> "Update" + entity.singular;
+            };
+        }
+    }
+
+    private JsonSamples() {
+    }
+
+    /**
+     * ObjectMapper configured like the one Spring Boot auto-configures for the controllers.
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    public static Class<?> requestType(Entity entity, Operation operation) {
+        return actionClass(entity, "request", operation.stem(entity) + "Request");
+    }
+
+    public static Class<?> responseType(Entity entity, Operation operation) {
+        return actionClass(entity, "response", operation.stem(entity) + "Response");
+    }
+
+    /**
+     * A populated instance of {@code type}; lists anywhere in the object graph hold {@code listSize} elements.
+     */
+    public static <T> T instance(Class<T> type, int listSize) {
+        return type.cast(value(type, listSize, 0));
+    }
+
+    /**
+     * A list of {@code size} populated instances of {@code elementType}, e.g. the body of a REST get-all.
+     */
+    public static <T> List<T> list(Class<T> elementType, int size) {
+        List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(elementType.cast(value(elementType, 0, i)));
+        }
+        return list;
+    }
+
+    private static Class<?> actionClass(Entity entity, String kind, String simpleName) {
+        String name = "org.example.action." + entity.actionPackage + "." + kind + "." + simpleName;
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("No action " + kind + " class " + name, e);
+        }
+    }
+
+    private static Object value(Type type, int listSize, int index) {
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == List.class) {
+            Type elementType = parameterized.getActualTypeArguments()[0];
+            List<Object> list = new ArrayList<>(listSize);
+            for (int i = 0; i < listSize; i++) {
+                list.add(value(elementType, 0, i));
+            }
+            return list;
+        }
+        Class<?> raw = (Class<?>) type;
+        if (raw == Long.class || raw == long.class) return index + 1L;
+        if (raw == Integer.class || raw == int.class) return 20;
+        if (raw == Boolean.class || raw == boolean.class) return true;
+        if (raw == String.class) return WORDS.get(index % WORDS.size());
+        if (raw == LocalDateTime.class) return BASE_TIME.plusSeconds(index * 37L);
+        return construct(raw, listSize, index);
+    }
+
+    private static Object construct(Class<?> type, int listSize, int index) {
+        Constructor<?> constructor = Arrays.stream(type.getConstructors())
+                .max(Comparator.comparingInt(Constructor<?>::getParameterCount)
+                        .thenComparing(JsonSamples::isSuccessConstructor))
+                .orElseThrow(() -> new IllegalStateException("No public constructor on " + type.getName()));
+        Type[] parameters = constructor.getGenericParameterTypes();
+        Object[] args = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            args[i] = value(parameters[i], listSize, index);
+        }
+        try {
+            return constructor.newInstance(args);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not build a sample " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Among equally long constructors, prefer the success form over the single-message failure form.
+     */
+    private static boolean isSuccessConstructor(Constructor<?> constructor) {
+        return !Arrays.equals(constructor.getParameterTypes(), new Class<?>[]{String.class});
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.benchmark.support;
+
+import org.example.action.core.ActionLogger;
+import org.example.action.core.ActionRequest;
+import org.example.action.core.ActionResponse;
+import org.example.action.core.ValidationResult;
+
+/**
+ * ActionLogger that does nothing, to separate dispatch overhead from logging overhead.
+ */
+public class NoopActionLogger implements ActionLogger {
+
+    @Override
+    public void logActionStart(String actionType, ActionRequest request) {
+    }
+
+    @Override
+    public void logActionSuccess(String actionType, ActionRequest request, ActionResponse response, long executionTimeMs) {
+    }
+
+    @Override
+    public void logActionFailure(String actionType, ActionRequest request, Exception error, long executionTimeMs) {
+    }
+
+    @Override
+    public void logValidationFailure(String actionType, ActionRequest request, ValidationResult validationResult) {
+    }
+}
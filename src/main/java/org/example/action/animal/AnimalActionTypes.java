@@ -11,6 +11,9 @@ public final class AnimalActionTypes {
     public static final String DELETE_ANIMAL = "DELETE_ANIMAL";
     public static final String SEARCH_ANIMALS = "SEARCH_ANIMALS";
     public static final String GET_ANIMALS_PAGE = "GET_ANIMALS_PAGE";
+    public static final String GET_ANIMALS_BY_TIME_RANGE = "GET_ANIMALS_BY_TIME_RANGE";
+    public static final String QUERY_ANIMALS = "QUERY_ANIMALS";
+    public static final String COUNT_ANIMALS = "COUNT_ANIMALS";
 
     private AnimalActionTypes() {
         // Utility class
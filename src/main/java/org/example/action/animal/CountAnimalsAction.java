@@ -0,0 +1,29 @@
+package org.example.action.animal;
+
+import org.example.action.core.Action;
+import org.example.action.animal.request.CountAnimalsRequest;
+import org.example.action.animal.response.CountAnimalsResponse;
+import org.example.service.AnimalService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Action for counting animals from the maintained row counter.
+ */
+@Component
+public class CountAnimalsAction implements Action<CountAnimalsRequest, CountAnimalsResponse> {
+    private final AnimalService animalService;
+
+    public CountAnimalsAction(AnimalService animalService) {
+        this.animalService = animalService;
+    }
+
+    @Override
+    public CountAnimalsResponse execute(CountAnimalsRequest request) {
+        return new CountAnimalsResponse(animalService.count());
+    }
+
+    @Override
+    public String getActionType() {
+        return AnimalActionTypes.COUNT_ANIMALS;
+    }
+}
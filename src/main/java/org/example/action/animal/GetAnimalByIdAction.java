@@ -3,7 +3,7 @@ package org.example.action.animal;
 import org.example.action.core.Action;
 import org.example.action.animal.request.GetAnimalByIdRequest;
 import org.example.action.animal.response.GetAnimalByIdResponse;
-import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
 import org.example.service.AnimalService;
 import org.springframework.stereotype.Component;
 import java.util.Optional;
@@ -18,7 +18,7 @@ public class GetAnimalByIdAction implements Action<GetAnimalByIdRequest, GetAnim
 
     @Override
     public GetAnimalByIdResponse execute(GetAnimalByIdRequest request) {
-        Optional<Animal> animal = animalService.getById(request.getId());
+        Optional<AnimalView> animal = animalService.getById(request.getId());
         if (animal.isPresent()) {
             return new GetAnimalByIdResponse(animal.get());
         } else {
@@ -0,0 +1,46 @@
+package org.example.action.animal;
+
+import org.example.action.core.Action;
+import org.example.action.animal.request.GetAnimalsByTimeRangeRequest;
+import org.example.action.animal.response.GetAnimalsByTimeRangeResponse;
+import org.example.models.view.AnimalView;
+import org.example.service.AnimalService;
+import org.example.service.query.KeysetPage;
+import org.springframework.stereotype.Component;
+
+/**
+ * Action for getting animals by created_at range or updated_at lower bound.
+ */
+@Component
+public class GetAnimalsByTimeRangeAction implements Action<GetAnimalsByTimeRangeRequest, GetAnimalsByTimeRangeResponse> {
+    private final AnimalService animalService;
+
+    public GetAnimalsByTimeRangeAction(AnimalService animalService) {
+        this.animalService = animalService;
+    }
+
+    @Override
+    public GetAnimalsByTimeRangeResponse execute(GetAnimalsByTimeRangeRequest request) {
+        int size = request.getSize() != null ? request.getSize() : KeysetPage.DEFAULT_SIZE;
+        try {
+            KeysetPage<AnimalView> page;
+            if (request.getUpdatedSince() != null) {
+                if (request.getCreatedFrom() != null || request.getCreatedTo() != null) {
+                    return GetAnimalsByTimeRangeResponse.invalidParameters(
+                            "Use either createdFrom/createdTo or updatedSince, not both");
+                }
+                page = animalService.getUpdatedSince(request.getUpdatedSince(), request.getCursor(), size);
+            } else {
+                page = animalService.getCreatedBetween(request.getCreatedFrom(), request.getCreatedTo(), request.getCursor(), size);
+            }
+            return new GetAnimalsByTimeRangeResponse(page.items(), page.nextCursor());
+        } catch (IllegalArgumentException e) {
+            return GetAnimalsByTimeRangeResponse.invalidParameters(e.getMessage());
+        }
+    }
+
+    @Override
+    public String getActionType() {
+        return AnimalActionTypes.GET_ANIMALS_BY_TIME_RANGE;
+    }
+}
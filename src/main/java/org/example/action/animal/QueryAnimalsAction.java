@@ -0,0 +1,35 @@
+package org.example.action.animal;
+
+import org.example.action.core.Action;
+import org.example.action.animal.request.QueryAnimalsRequest;
+import org.example.action.animal.response.QueryAnimalsResponse;
+import org.example.service.AnimalService;
+import org.example.service.query.ListQuery;
+import org.springframework.stereotype.Component;
+
+/**
+ * Action for filtering and sorting animals with the list query language.
+ */
+@Component
+public class QueryAnimalsAction implements Action<QueryAnimalsRequest, QueryAnimalsResponse> {
+    private final AnimalService animalService;
+
+    public QueryAnimalsAction(AnimalService animalService) {
+        this.animalService = animalService;
+    }
+
+    @Override
+    public QueryAnimalsResponse execute(QueryAnimalsRequest request) {
+        try {
+            ListQuery query = ListQuery.parse(request.getFilters(), request.getSort(), request.getPage(), request.getSize());
+            return new QueryAnimalsResponse(animalService.query(query));
+        } catch (IllegalArgumentException e) {
+            return QueryAnimalsResponse.invalidQuery(e.getMessage());
+        }
+    }
+
+    @Override
+    public String getActionType() {
+        return AnimalActionTypes.QUERY_ANIMALS;
+    }
+}
@@ -3,7 +3,7 @@ package org.example.action.animal;
 import org.example.action.core.Action;
 import org.example.action.animal.request.UpdateAnimalRequest;
 import org.example.action.animal.response.UpdateAnimalResponse;
-import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
 import org.example.service.AnimalService;
 import org.springframework.stereotype.Component;
 import java.util.Optional;
@@ -19,7 +19,7 @@ public class UpdateAnimalAction implements Action<UpdateAnimalRequest, UpdateAni
     @Override
     public UpdateAnimalResponse execute(UpdateAnimalRequest request) {
         try {
-            Optional<Animal> updatedAnimal = animalService.update(request.getId(), request.getType());
+            Optional<AnimalView> updatedAnimal = animalService.update(request.getId(), request.getType());
             if (updatedAnimal.isPresent()) {
                 return new UpdateAnimalResponse(updatedAnimal.get());
             } else {
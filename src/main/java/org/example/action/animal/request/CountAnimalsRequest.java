@@ -0,0 +1,15 @@
+package org.example.action.animal.request;
+
+import org.example.action.core.ActionRequest;
+import org.example.action.animal.AnimalActionTypes;
+
+/**
+ * Request for the total number of animals.
+ */
+public class CountAnimalsRequest extends ActionRequest {
+
+    @Override
+    public String getActionType() {
+        return AnimalActionTypes.COUNT_ANIMALS;
+    }
+}
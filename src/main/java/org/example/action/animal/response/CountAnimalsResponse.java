@@ -0,0 +1,19 @@
+package org.example.action.animal.response;
+
+import org.example.action.core.ActionResponse;
+
+/**
+ * Response carrying the total number of animals.
+ */
+public class CountAnimalsResponse extends ActionResponse {
+    private final long count;
+
+    public CountAnimalsResponse(long count) {
+        super(true);
+        this.count = count;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
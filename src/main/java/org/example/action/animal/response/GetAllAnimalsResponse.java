@@ -1,13 +1,13 @@
 package org.example.action.animal.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
 import java.util.List;
 
 public class GetAllAnimalsResponse extends ActionResponse {
-    private final List<Animal> animals;
+    private final List<AnimalView> animals;
 
-    public GetAllAnimalsResponse(List<Animal> animals) {
+    public GetAllAnimalsResponse(List<AnimalView> animals) {
         super(true);
         this.animals = animals;
     }
@@ -17,7 +17,7 @@ public class GetAllAnimalsResponse extends ActionResponse {
         this.animals = null;
     }
 
-    public List<Animal> getAnimals() {
+    public List<AnimalView> getAnimals() {
         return animals;
     }
 } 
\ No newline at end of file
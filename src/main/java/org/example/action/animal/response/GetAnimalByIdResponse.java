@@ -1,17 +1,17 @@
 package org.example.action.animal.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
 
 public class GetAnimalByIdResponse extends ActionResponse {
-    private final Animal animal;
+    private final AnimalView animal;
 
-    public GetAnimalByIdResponse(Animal animal, boolean success, String message) {
+    public GetAnimalByIdResponse(AnimalView animal, boolean success, String message) {
         super(success, message);
         this.animal = animal;
     }
 
-    public GetAnimalByIdResponse(Animal animal) {
+    public GetAnimalByIdResponse(AnimalView animal) {
         super(true);
         this.animal = animal;
     }
@@ -20,7 +20,7 @@ public class GetAnimalByIdResponse extends ActionResponse {
         return new GetAnimalByIdResponse(null, false, message);
     }
 
-    public Animal getAnimal() {
+    public AnimalView getAnimal() {
         return animal;
     }
 } 
\ No newline at end of file
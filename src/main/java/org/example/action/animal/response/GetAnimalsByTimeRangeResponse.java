@@ -0,0 +1,37 @@
+package org.example.action.animal.response;
+
+import org.example.action.core.ActionResponse;
+import org.example.models.view.AnimalView;
+import java.util.List;
+
+/**
+ * Response with one keyset page of animals in a time range.
+ */
+public class GetAnimalsByTimeRangeResponse extends ActionResponse {
+    private final List<AnimalView> animals;
+    private final String nextCursor;
+
+    public GetAnimalsByTimeRangeResponse(List<AnimalView> animals, String nextCursor) {
+        super(true);
+        this.animals = animals;
+        this.nextCursor = nextCursor;
+    }
+
+    public GetAnimalsByTimeRangeResponse(String message) {
+        super(false, message);
+        this.animals = null;
+        this.nextCursor = null;
+    }
+
+    public static GetAnimalsByTimeRangeResponse invalidParameters(String message) {
+        return new GetAnimalsByTimeRangeResponse(message);
+    }
+
+    public List<AnimalView> getAnimals() {
+        return animals;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
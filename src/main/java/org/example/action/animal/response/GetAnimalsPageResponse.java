@@ -1,13 +1,13 @@
 package org.example.action.animal.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
 import java.util.List;
 
 public class GetAnimalsPageResponse extends ActionResponse {
-    private final List<Animal> animals;
+    private final List<AnimalView> animals;
 
-    public GetAnimalsPageResponse(List<Animal> animals) {
+    public GetAnimalsPageResponse(List<AnimalView> animals) {
         super(true);
         this.animals = animals;
     }
@@ -21,7 +21,7 @@ public class GetAnimalsPageResponse extends ActionResponse {
         return new GetAnimalsPageResponse(message);
     }
 
-    public List<Animal> getAnimals() {
+    public List<AnimalView> getAnimals() {
         return animals;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,30 @@
+package org.example.action.animal.response;
+
+import org.example.action.core.ActionResponse;
+import org.example.models.view.AnimalView;
+import java.util.List;
+
+/**
+ * Response for a filter and sort query over animals.
+ */
+public class QueryAnimalsResponse extends ActionResponse {
+    private final List<AnimalView> animals;
+
+    public QueryAnimalsResponse(List<AnimalView> animals) {
+        super(true);
+        this.animals = animals;
+    }
+
+    public QueryAnimalsResponse(String message) {
+        super(false, message);
+        this.animals = null;
+    }
+
+    public static QueryAnimalsResponse invalidQuery(String message) {
+        return new QueryAnimalsResponse(message);
+    }
+
+    public List<AnimalView> getAnimals() {
+        return animals;
+    }
+}
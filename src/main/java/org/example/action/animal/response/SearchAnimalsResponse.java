@@ -1,18 +1,18 @@
 package org.example.action.animal.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
 import java.util.List;
 
 public class SearchAnimalsResponse extends ActionResponse {
-    private final List<Animal> animals;
+    private final List<AnimalView> animals;
 
-    public SearchAnimalsResponse(List<Animal> animals) {
+    public SearchAnimalsResponse(List<AnimalView> animals) {
         super(true);
         this.animals = animals;
     }
 
-    public List<Animal> getAnimals() {
+    public List<AnimalView> getAnimals() {
         return animals;
     }
 } 
\ No newline at end of file
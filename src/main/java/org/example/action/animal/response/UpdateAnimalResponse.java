@@ -1,12 +1,12 @@
 package org.example.action.animal.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
 
 public class UpdateAnimalResponse extends ActionResponse {
-    private final Animal animal;
+    private final AnimalView animal;
 
-    public UpdateAnimalResponse(Animal animal) {
+    public UpdateAnimalResponse(AnimalView animal) {
         super(true);
         this.animal = animal;
     }
@@ -20,7 +20,7 @@ public class UpdateAnimalResponse extends ActionResponse {
         return new UpdateAnimalResponse(message);
     }
 
-    public Animal getAnimal() {
+    public AnimalView getAnimal() {
         return animal;
     }
 } 
\ No newline at end of file
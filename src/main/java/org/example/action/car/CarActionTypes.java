@@ -11,6 +11,9 @@ public final class CarActionTypes {
     public static final String DELETE_CAR = "DELETE_CAR";
     public static final String SEARCH_CARS = "SEARCH_CARS";
     public static final String GET_CARS_PAGE = "GET_CARS_PAGE";
+    public static final String GET_CARS_BY_TIME_RANGE = "GET_CARS_BY_TIME_RANGE";
+    public static final String QUERY_CARS = "QUERY_CARS";
+    public static final String COUNT_CARS = "COUNT_CARS";
 
     private CarActionTypes() {
         // Utility class
@@ -0,0 +1,29 @@
+package org.example.action.car;
+
+import org.example.action.core.Action;
+import org.example.action.car.request.CountCarsRequest;
+import org.example.action.car.response.CountCarsResponse;
+import org.example.service.CarService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Action for counting cars from the maintained row counter.
+ */
+@Component
+public class CountCarsAction implements Action<CountCarsRequest, CountCarsResponse> {
+    private final CarService carService;
+
+    public CountCarsAction(CarService carService) {
+        this.carService = carService;
+    }
+
+    @Override
+    public CountCarsResponse execute(CountCarsRequest request) {
+        return new CountCarsResponse(carService.count());
+    }
+
+    @Override
+    public String getActionType() {
+        return CarActionTypes.COUNT_CARS;
+    }
+}
@@ -3,7 +3,7 @@ package org.example.action.car;
 import org.example.action.core.Action;
 import org.example.action.car.request.GetCarByIdRequest;
 import org.example.action.car.response.GetCarByIdResponse;
-import org.example.models.entity.Car;
+import org.example.models.view.CarView;
 import org.example.service.CarService;
 import org.springframework.stereotype.Component;
 import java.util.Optional;
@@ -21,7 +21,7 @@ public class GetCarByIdAction implements Action<GetCarByIdRequest, GetCarByIdRes
 
     @Override
     public GetCarByIdResponse execute(GetCarByIdRequest request) {
-        Optional<Car> car = carService.getById(request.getId());
+        Optional<CarView> car = carService.getById(request.getId());
         if (car.isPresent()) {
             return new GetCarByIdResponse(car.get());
         } else {
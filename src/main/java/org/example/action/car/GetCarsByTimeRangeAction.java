@@ -0,0 +1,46 @@
+package org.example.action.car;
+
+import org.example.action.core.Action;
+import org.example.action.car.request.GetCarsByTimeRangeRequest;
+import org.example.action.car.response.GetCarsByTimeRangeResponse;
+import org.example.models.view.CarView;
+import org.example.service.CarService;
+import org.example.service.query.KeysetPage;
+import org.springframework.stereotype.Component;
+
+/**
+ * Action for getting cars by created_at range or updated_at lower bound.
+ */
+@Component
+public class GetCarsByTimeRangeAction implements Action<GetCarsByTimeRangeRequest, GetCarsByTimeRangeResponse> {
+    private final CarService carService;
+
+    public GetCarsByTimeRangeAction(CarService carService) {
+        this.carService = carService;
+    }
+
+    @Override
+    public GetCarsByTimeRangeResponse execute(GetCarsByTimeRangeRequest request) {
+        int size = request.getSize() != null ? request.getSize() : KeysetPage.DEFAULT_SIZE;
+        try {
+            KeysetPage<CarView> page;
+            if (request.getUpdatedSince() != null) {
+                if (request.getCreatedFrom() != null || request.getCreatedTo() != null) {
+                    return GetCarsByTimeRangeResponse.invalidParameters(
+                            "Use either createdFrom/createdTo or updatedSince, not both");
+                }
+                page = carService.getUpdatedSince(request.getUpdatedSince(), request.getCursor(), size);
+            } else {
+                page = carService.getCreatedBetween(request.getCreatedFrom(), request.getCreatedTo(), request.getCursor(), size);
+            }
+            return new GetCarsByTimeRangeResponse(page.items(), page.nextCursor());
+        } catch (IllegalArgumentException e) {
+            return GetCarsByTimeRangeResponse.invalidParameters(e.getMessage());
+        }
+    }
+
+    @Override
+    public String getActionType() {
+        return CarActionTypes.GET_CARS_BY_TIME_RANGE;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.action.car;
+
+import org.example.action.core.Action;
+import org.example.action.car.request.QueryCarsRequest;
+import org.example.action.car.response.QueryCarsResponse;
+import org.example.service.CarService;
+import org.example.service.query.ListQuery;
+import org.springframework.stereotype.Component;
+
+/**
+ * Action for filtering and sorting cars with the list query language.
+ */
+@Component
+public class QueryCarsAction implements Action<QueryCarsRequest, QueryCarsResponse> {
+    private final CarService carService;
+
+    public QueryCarsAction(CarService carService) {
+        this.carService = carService;
+    }
+
+    @Override
+    public QueryCarsResponse execute(QueryCarsRequest request) {
+        try {
+            ListQuery query = ListQuery.parse(request.getFilters(), request.getSort(), request.getPage(), request.getSize());
+            return new QueryCarsResponse(carService.query(query));
+        } catch (IllegalArgumentException e) {
+            return QueryCarsResponse.invalidQuery(e.getMessage());
+        }
+    }
+
+    @Override
+    public String getActionType() {
+        return CarActionTypes.QUERY_CARS;
+    }
+}
@@ -3,7 +3,7 @@ package org.example.action.car;
 import org.example.action.core.Action;
 import org.example.action.car.request.UpdateCarRequest;
 import org.example.action.car.response.UpdateCarResponse;
-import org.example.models.entity.Car;
+import org.example.models.view.CarView;
 import org.example.service.CarService;
 import org.springframework.stereotype.Component;
 import java.util.Optional;
@@ -22,7 +22,7 @@ public class UpdateCarAction implements Action<UpdateCarRequest, UpdateCarRespon
     @Override
     public UpdateCarResponse execute(UpdateCarRequest request) {
         try {
-            Optional<Car> updatedCar = carService.update(request.getId(), request.getBrand());
+            Optional<CarView> updatedCar = carService.update(request.getId(), request.getBrand());
             if (updatedCar.isPresent()) {
                 return new UpdateCarResponse(updatedCar.get());
             } else {
@@ -0,0 +1,15 @@
+package org.example.action.car.request;
+
+import org.example.action.core.ActionRequest;
+import org.example.action.car.CarActionTypes;
+
+/**
+ * Request for the total number of cars.
+ */
+public class CountCarsRequest extends ActionRequest {
+
+    @Override
+    public String getActionType() {
+        return CarActionTypes.COUNT_CARS;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.action.car.request;
+
+import org.example.action.core.ActionRequest;
+import org.example.action.car.CarActionTypes;
+import java.time.LocalDateTime;
+
+/**
+ * Request for cars created in [createdFrom, createdTo) or updated since updatedSince, continued by cursor.
+ */
+public class GetCarsByTimeRangeRequest extends ActionRequest {
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+    private final LocalDateTime updatedSince;
+    private final String cursor;
+    private final Integer size;
+
+    public GetCarsByTimeRangeRequest(LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime updatedSince,
+                                 String cursor, Integer size) {
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+        this.updatedSince = updatedSince;
+        this.cursor = cursor;
+        this.size = size;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public LocalDateTime getUpdatedSince() {
+        return updatedSince;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    @Override
+    public String getActionType() {
+        return CarActionTypes.GET_CARS_BY_TIME_RANGE;
+    }
+}
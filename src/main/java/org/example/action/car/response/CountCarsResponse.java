@@ -0,0 +1,19 @@
+package org.example.action.car.response;
+
+import org.example.action.core.ActionResponse;
+
+/**
+ * Response carrying the total number of cars.
+ */
+public class CountCarsResponse extends ActionResponse {
+    private final long count;
+
+    public CountCarsResponse(long count) {
+        super(true);
+        this.count = count;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -1,20 +1,20 @@
 package org.example.action.car.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.Car;
+import org.example.models.view.CarView;
 
 /**
  * Response for getting a car by ID.
  */
 public class GetCarByIdResponse extends ActionResponse {
-    private final Car car;
+    private final CarView car;
 
-    public GetCarByIdResponse(Car car, boolean success, String message) {
+    public GetCarByIdResponse(CarView car, boolean success, String message) {
         super(success, message);
         this.car = car;
     }
 
-    public GetCarByIdResponse(Car car) {
+    public GetCarByIdResponse(CarView car) {
         super(true);
         this.car = car;
     }
@@ -23,7 +23,7 @@ public class GetCarByIdResponse extends ActionResponse {
         return new GetCarByIdResponse(null, false, message);
     }
 
-    public Car getCar() {
+    public CarView getCar() {
         return car;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,37 @@
+package org.example.action.car.response;
+
+import org.example.action.core.ActionResponse;
+import org.example.models.view.CarView;
+import java.util.List;
+
+/**
+ * Response with one keyset page of cars in a time range.
+ */
+public class GetCarsByTimeRangeResponse extends ActionResponse {
+    private final List<CarView> cars;
+    private final String nextCursor;
+
+    public GetCarsByTimeRangeResponse(List<CarView> cars, String nextCursor) {
+        super(true);
+        this.cars = cars;
+        this.nextCursor = nextCursor;
+    }
+
+    public GetCarsByTimeRangeResponse(String message) {
+        super(false, message);
+        this.cars = null;
+        this.nextCursor = null;
+    }
+
+    public static GetCarsByTimeRangeResponse invalidParameters(String message) {
+        return new GetCarsByTimeRangeResponse(message);
+    }
+
+    public List<CarView> getCars() {
+        return cars;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
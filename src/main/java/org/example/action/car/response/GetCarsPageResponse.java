@@ -1,16 +1,16 @@
 package org.example.action.car.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.Car;
+import org.example.models.view.CarView;
 import java.util.List;
 
 /**
  * Response for getting a page of cars.
  */
 public class GetCarsPageResponse extends ActionResponse {
-    private final List<Car> cars;
+    private final List<CarView> cars;
 
-    public GetCarsPageResponse(List<Car> cars) {
+    public GetCarsPageResponse(List<CarView> cars) {
         super(true);
         this.cars = cars;
     }
@@ -24,7 +24,7 @@ public class GetCarsPageResponse extends ActionResponse {
         return new GetCarsPageResponse(message);
     }
 
-    public List<Car> getCars() {
+    public List<CarView> getCars() {
         return cars;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,30 @@
+package org.example.action.car.response;
+
+import org.example.action.core.ActionResponse;
+import org.example.models.view.CarView;
+import java.util.List;
+
+/**
+ * Response for a filter and sort query over cars.
+ */
+public class QueryCarsResponse extends ActionResponse {
+    private final List<CarView> cars;
+
+    public QueryCarsResponse(List<CarView> cars) {
+        super(true);
+        this.cars = cars;
+    }
+
+    public QueryCarsResponse(String message) {
+        super(false, message);
+        this.cars = null;
+    }
+
+    public static QueryCarsResponse invalidQuery(String message) {
+        return new QueryCarsResponse(message);
+    }
+
+    public List<CarView> getCars() {
+        return cars;
+    }
+}
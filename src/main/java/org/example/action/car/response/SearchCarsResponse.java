@@ -1,21 +1,21 @@
 package org.example.action.car.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.Car;
+import org.example.models.view.CarView;
 import java.util.List;
 
 /**
  * Response for searching cars.
  */
 public class SearchCarsResponse extends ActionResponse {
-    private final List<Car> cars;
+    private final List<CarView> cars;
 
-    public SearchCarsResponse(List<Car> cars) {
+    public SearchCarsResponse(List<CarView> cars) {
         super(true);
         this.cars = cars;
     }
 
-    public List<Car> getCars() {
+    public List<CarView> getCars() {
         return cars;
     }
 } 
\ No newline at end of file
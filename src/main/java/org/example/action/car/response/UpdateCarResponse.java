@@ -1,15 +1,15 @@
 package org.example.action.car.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.Car;
+import org.example.models.view.CarView;
 
 /**
  * Response for updating a car.
  */
 public class UpdateCarResponse extends ActionResponse {
-    private final Car car;
+    private final CarView car;
 
-    public UpdateCarResponse(Car car) {
+    public UpdateCarResponse(CarView car) {
         super(true);
         this.car = car;
     }
@@ -23,7 +23,7 @@ public class UpdateCarResponse extends ActionResponse {
         return new UpdateCarResponse(message);
     }
 
-    public Car getCar() {
+    public CarView getCar() {
         return car;
     }
 } 
\ No newline at end of file
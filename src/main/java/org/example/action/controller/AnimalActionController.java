@@ -81,4 +81,31 @@ public class AnimalActionController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
     }
-} 
\ No newline at end of file
+
+    @PostMapping("/get-by-time-range")
+    public ResponseEntity<GetAnimalsByTimeRangeResponse> getAnimalsByTimeRange(@RequestBody GetAnimalsByTimeRangeRequest request) {
+        GetAnimalsByTimeRangeResponse response = actionDispatcher.dispatch(request);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<QueryAnimalsResponse> queryAnimals(@RequestBody QueryAnimalsRequest request) {
+        QueryAnimalsResponse response = actionDispatcher.dispatch(request);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @PostMapping("/count")
+    public ResponseEntity<CountAnimalsResponse> countAnimals() {
+        CountAnimalsRequest request = new CountAnimalsRequest();
+        CountAnimalsResponse response = actionDispatcher.dispatch(request);
+        return ResponseEntity.ok(response);
+    }
+}
\ No newline at end of file
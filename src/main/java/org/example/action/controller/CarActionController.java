@@ -85,4 +85,31 @@ public class CarActionController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
     }
-} 
\ No newline at end of file
+
+    @PostMapping("/get-by-time-range")
+    public ResponseEntity<GetCarsByTimeRangeResponse> getCarsByTimeRange(@RequestBody GetCarsByTimeRangeRequest request) {
+        GetCarsByTimeRangeResponse response = actionDispatcher.dispatch(request);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<QueryCarsResponse> queryCars(@RequestBody QueryCarsRequest request) {
+        QueryCarsResponse response = actionDispatcher.dispatch(request);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @PostMapping("/count")
+    public ResponseEntity<CountCarsResponse> countCars() {
+        CountCarsRequest request = new CountCarsRequest();
+        CountCarsResponse response = actionDispatcher.dispatch(request);
+        return ResponseEntity.ok(response);
+    }
+}
\ No newline at end of file
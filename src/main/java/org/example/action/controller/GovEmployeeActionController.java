@@ -84,4 +84,31 @@ public class GovEmployeeActionController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
     }
-} 
\ No newline at end of file
+
+    @PostMapping("/get-by-time-range")
+    public ResponseEntity<GetEmployeesByTimeRangeResponse> getEmployeesByTimeRange(@RequestBody GetEmployeesByTimeRangeRequest request) {
+        GetEmployeesByTimeRangeResponse response = actionDispatcher.dispatch(request);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<QueryEmployeesResponse> queryEmployees(@RequestBody QueryEmployeesRequest request) {
+        QueryEmployeesResponse response = actionDispatcher.dispatch(request);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @PostMapping("/count")
+    public ResponseEntity<CountEmployeesResponse> countEmployees() {
+        CountEmployeesRequest request = new CountEmployeesRequest();
+        CountEmployeesResponse response = actionDispatcher.dispatch(request);
+        return ResponseEntity.ok(response);
+    }
+}
\ No newline at end of file
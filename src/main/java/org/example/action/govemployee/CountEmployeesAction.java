@@ -0,0 +1,29 @@
+package org.example.action.govemployee;
+
+import org.example.action.core.Action;
+import org.example.action.govemployee.request.CountEmployeesRequest;
+import org.example.action.govemployee.response.CountEmployeesResponse;
+import org.example.service.GovEmployeeService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Action for counting employees from the maintained row counter.
+ */
+@Component
+public class CountEmployeesAction implements Action<CountEmployeesRequest, CountEmployeesResponse> {
+    private final GovEmployeeService govEmployeeService;
+
+    public CountEmployeesAction(GovEmployeeService govEmployeeService) {
+        this.govEmployeeService = govEmployeeService;
+    }
+
+    @Override
+    public CountEmployeesResponse execute(CountEmployeesRequest request) {
+        return new CountEmployeesResponse(govEmployeeService.count());
+    }
+
+    @Override
+    public String getActionType() {
+        return GovEmployeeActionTypes.COUNT_EMPLOYEES;
+    }
+}
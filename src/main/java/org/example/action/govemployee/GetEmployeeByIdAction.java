@@ -3,7 +3,7 @@ package org.example.action.govemployee;
 import org.example.action.core.Action;
 import org.example.action.govemployee.request.GetEmployeeByIdRequest;
 import org.example.action.govemployee.response.GetEmployeeByIdResponse;
-import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
 import org.example.service.GovEmployeeService;
 import org.springframework.stereotype.Component;
 import java.util.Optional;
@@ -19,7 +19,7 @@ public class GetEmployeeByIdAction implements Action<GetEmployeeByIdRequest, Get
     @Override
     public GetEmployeeByIdResponse execute(GetEmployeeByIdRequest request) {
         try {
-            Optional<GovEmployee> employee = govEmployeeService.getById(request.getId());
+            Optional<GovEmployeeView> employee = govEmployeeService.getById(request.getId());
             if (employee.isPresent()) {
                 return new GetEmployeeByIdResponse(employee.get());
             } else {
@@ -0,0 +1,46 @@
+package org.example.action.govemployee;
+
+import org.example.action.core.Action;
+import org.example.action.govemployee.request.GetEmployeesByTimeRangeRequest;
+import org.example.action.govemployee.response.GetEmployeesByTimeRangeResponse;
+import org.example.models.view.GovEmployeeView;
+import org.example.service.GovEmployeeService;
+import org.example.service.query.KeysetPage;
+import org.springframework.stereotype.Component;
+
+/**
+ * Action for getting employees by created_at range or updated_at lower bound.
+ */
+@Component
+public class GetEmployeesByTimeRangeAction implements Action<GetEmployeesByTimeRangeRequest, GetEmployeesByTimeRangeResponse> {
+    private final GovEmployeeService govEmployeeService;
+
+    public GetEmployeesByTimeRangeAction(GovEmployeeService govEmployeeService) {
+        this.govEmployeeService = govEmployeeService;
+    }
+
+    @Override
+    public GetEmployeesByTimeRangeResponse execute(GetEmployeesByTimeRangeRequest request) {
+        int size = request.getSize() != null ? request.getSize() : KeysetPage.DEFAULT_SIZE;
+        try {
+            KeysetPage<GovEmployeeView> page;
+            if (request.getUpdatedSince() != null) {
+                if (request.getCreatedFrom() != null || request.getCreatedTo() != null) {
+                    return GetEmployeesByTimeRangeResponse.invalidParameters(
+                            "Use either createdFrom/createdTo or updatedSince, not both");
+                }
+                page = govEmployeeService.getUpdatedSince(request.getUpdatedSince(), request.getCursor(), size);
+            } else {
+                page = govEmployeeService.getCreatedBetween(request.getCreatedFrom(), request.getCreatedTo(), request.getCursor(), size);
+            }
+            return new GetEmployeesByTimeRangeResponse(page.items(), page.nextCursor());
+        } catch (IllegalArgumentException e) {
+            return GetEmployeesByTimeRangeResponse.invalidParameters(e.getMessage());
+        }
+    }
+
+    @Override
+    public String getActionType() {
+        return GovEmployeeActionTypes.GET_EMPLOYEES_BY_TIME_RANGE;
+    }
+}
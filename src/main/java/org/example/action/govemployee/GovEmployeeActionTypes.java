@@ -11,6 +11,9 @@ public class GovEmployeeActionTypes {
     public static final String DELETE_EMPLOYEE = "DELETE_EMPLOYEE";
     public static final String SEARCH_EMPLOYEES = "SEARCH_EMPLOYEES";
     public static final String GET_EMPLOYEES_PAGE = "GET_EMPLOYEES_PAGE";
+    public static final String GET_EMPLOYEES_BY_TIME_RANGE = "GET_EMPLOYEES_BY_TIME_RANGE";
+    public static final String QUERY_EMPLOYEES = "QUERY_EMPLOYEES";
+    public static final String COUNT_EMPLOYEES = "COUNT_EMPLOYEES";
     
     private GovEmployeeActionTypes() {
         // Utility class - prevent instantiation
@@ -0,0 +1,35 @@
+package org.example.action.govemployee;
+
+import org.example.action.core.Action;
+import org.example.action.govemployee.request.QueryEmployeesRequest;
+import org.example.action.govemployee.response.QueryEmployeesResponse;
+import org.example.service.GovEmployeeService;
+import org.example.service.query.ListQuery;
+import org.springframework.stereotype.Component;
+
+/**
+ * Action for filtering and sorting employees with the list query language.
+ */
+@Component
+public class QueryEmployeesAction implements Action<QueryEmployeesRequest, QueryEmployeesResponse> {
+    private final GovEmployeeService govEmployeeService;
+
+    public QueryEmployeesAction(GovEmployeeService govEmployeeService) {
+        this.govEmployeeService = govEmployeeService;
+    }
+
+    @Override
+    public QueryEmployeesResponse execute(QueryEmployeesRequest request) {
+        try {
+            ListQuery query = ListQuery.parse(request.getFilters(), request.getSort(), request.getPage(), request.getSize());
+            return new QueryEmployeesResponse(govEmployeeService.query(query));
+        } catch (IllegalArgumentException e) {
+            return QueryEmployeesResponse.invalidQuery(e.getMessage());
+        }
+    }
+
+    @Override
+    public String getActionType() {
+        return GovEmployeeActionTypes.QUERY_EMPLOYEES;
+    }
+}
@@ -3,7 +3,7 @@ package org.example.action.govemployee;
 import org.example.action.core.Action;
 import org.example.action.govemployee.request.UpdateEmployeeRequest;
 import org.example.action.govemployee.response.UpdateEmployeeResponse;
-import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
 import org.example.service.GovEmployeeService;
 import org.springframework.stereotype.Component;
 import java.util.Optional;
@@ -19,7 +19,7 @@ public class UpdateEmployeeAction implements Action<UpdateEmployeeRequest, Updat
     @Override
     public UpdateEmployeeResponse execute(UpdateEmployeeRequest request) {
         try {
-            Optional<GovEmployee> updatedEmployee = govEmployeeService.update(request.getId(), request.getName());
+            Optional<GovEmployeeView> updatedEmployee = govEmployeeService.update(request.getId(), request.getName());
             if (updatedEmployee.isPresent()) {
                 return new UpdateEmployeeResponse(updatedEmployee.get());
             } else {
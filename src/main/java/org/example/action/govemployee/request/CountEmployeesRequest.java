@@ -0,0 +1,15 @@
+package org.example.action.govemployee.request;
+
+import org.example.action.core.ActionRequest;
+import org.example.action.govemployee.GovEmployeeActionTypes;
+
+/**
+ * Request for the total number of employees.
+ */
+public class CountEmployeesRequest extends ActionRequest {
+
+    @Override
+    public String getActionType() {
+        return GovEmployeeActionTypes.COUNT_EMPLOYEES;
+    }
+}
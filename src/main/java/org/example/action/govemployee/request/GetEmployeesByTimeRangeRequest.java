@@ -0,0 +1,50 @@
+package org.example.action.govemployee.request;
+
+import org.example.action.core.ActionRequest;
+import org.example.action.govemployee.GovEmployeeActionTypes;
+import java.time.LocalDateTime;
+
+/**
+ * Request for employees created in [createdFrom, createdTo) or updated since updatedSince, continued by cursor.
+ */
+public class GetEmployeesByTimeRangeRequest extends ActionRequest {
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+    private final LocalDateTime updatedSince;
+    private final String cursor;
+    private final Integer size;
+
+    public GetEmployeesByTimeRangeRequest(LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime updatedSince,
+                                 String cursor, Integer size) {
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+        this.updatedSince = updatedSince;
+        this.cursor = cursor;
+        this.size = size;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public LocalDateTime getUpdatedSince() {
+        return updatedSince;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    @Override
+    public String getActionType() {
+        return GovEmployeeActionTypes.GET_EMPLOYEES_BY_TIME_RANGE;
+    }
+}
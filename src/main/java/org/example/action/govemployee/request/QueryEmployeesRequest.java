@@ -0,0 +1,43 @@
+package org.example.action.govemployee.request;
+
+import org.example.action.core.ActionRequest;
+import org.example.action.govemployee.GovEmployeeActionTypes;
+import java.util.List;
+
+/**
+ * Request for employees matching filter terms ({@code field:operator:value}) in the given sort order.
+ */
+public class QueryEmployeesRequest extends ActionRequest {
+    private final List<String> filters;
+    private final List<String> sort;
+    private final Integer page;
+    private final Integer size;
+
+    public QueryEmployeesRequest(List<String> filters, List<String> sort, Integer page, Integer size) {
+        this.filters = filters;
+        this.sort = sort;
+        this.page = page;
+        this.size = size;
+    }
+
+    public List<String> getFilters() {
+        return filters;
+    }
+
+    public List<String> getSort() {
+        return sort;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    @Override
+    public String getActionType() {
+        return GovEmployeeActionTypes.QUERY_EMPLOYEES;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.action.govemployee.response;
+
+import org.example.action.core.ActionResponse;
+
+/**
+ * Response carrying the total number of employees.
+ */
+public class CountEmployeesResponse extends ActionResponse {
+    private final long count;
+
+    public CountEmployeesResponse(long count) {
+        super(true);
+        this.count = count;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
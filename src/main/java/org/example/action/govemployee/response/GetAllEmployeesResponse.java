@@ -1,13 +1,13 @@
 package org.example.action.govemployee.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
 import java.util.List;
 
 public class GetAllEmployeesResponse extends ActionResponse {
-    private final List<GovEmployee> employees;
+    private final List<GovEmployeeView> employees;
 
-    public GetAllEmployeesResponse(List<GovEmployee> employees) {
+    public GetAllEmployeesResponse(List<GovEmployeeView> employees) {
         super(true);
         this.employees = employees;
     }
@@ -17,7 +17,7 @@ public class GetAllEmployeesResponse extends ActionResponse {
         this.employees = null;
     }
 
-    public List<GovEmployee> getEmployees() {
+    public List<GovEmployeeView> getEmployees() {
         return employees;
     }
 } 
\ No newline at end of file
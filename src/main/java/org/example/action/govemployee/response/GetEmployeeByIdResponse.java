@@ -1,17 +1,17 @@
 package org.example.action.govemployee.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
 
 public class GetEmployeeByIdResponse extends ActionResponse {
-    private final GovEmployee employee;
+    private final GovEmployeeView employee;
 
-    public GetEmployeeByIdResponse(GovEmployee employee, boolean success, String message) {
+    public GetEmployeeByIdResponse(GovEmployeeView employee, boolean success, String message) {
         super(success, message);
         this.employee = employee;
     }
 
-    public GetEmployeeByIdResponse(GovEmployee employee) {
+    public GetEmployeeByIdResponse(GovEmployeeView employee) {
         super(true);
         this.employee = employee;
     }
@@ -20,7 +20,7 @@ public class GetEmployeeByIdResponse extends ActionResponse {
         return new GetEmployeeByIdResponse(null, false, message);
     }
 
-    public GovEmployee getEmployee() {
+    public GovEmployeeView getEmployee() {
         return employee;
     }
 } 
\ No newline at end of file
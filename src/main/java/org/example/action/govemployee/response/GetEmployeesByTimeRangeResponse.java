@@ -0,0 +1,37 @@
+package org.example.action.govemployee.response;
+
+import org.example.action.core.ActionResponse;
+import org.example.models.view.GovEmployeeView;
+import java.util.List;
+
+/**
+ * Response with one keyset page of employees in a time range.
+ */
+public class GetEmployeesByTimeRangeResponse extends ActionResponse {
+    private final List<GovEmployeeView> employees;
+    private final String nextCursor;
+
+    public GetEmployeesByTimeRangeResponse(List<GovEmployeeView> employees, String nextCursor) {
+        super(true);
+        this.employees = employees;
+        this.nextCursor = nextCursor;
+    }
+
+    public GetEmployeesByTimeRangeResponse(String message) {
+        super(false, message);
+        this.employees = null;
+        this.nextCursor = null;
+    }
+
+    public static GetEmployeesByTimeRangeResponse invalidParameters(String message) {
+        return new GetEmployeesByTimeRangeResponse(message);
+    }
+
+    public List<GovEmployeeView> getEmployees() {
+        return employees;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.action.govemployee.response;
+
+import org.example.action.core.ActionResponse;
+import org.example.models.view.GovEmployeeView;
+import java.util.List;
+
+/**
+ * Response for a filter and sort query over employees.
+ */
+public class QueryEmployeesResponse extends ActionResponse {
+    private final List<GovEmployeeView> employees;
+
+    public QueryEmployeesResponse(List<GovEmployeeView> employees) {
+        super(true);
+        this.employees = employees;
+    }
+
+    public QueryEmployeesResponse(String message) {
+        super(false, message);
+        this.employees = null;
+    }
+
+    public static QueryEmployeesResponse invalidQuery(String message) {
+        return new QueryEmployeesResponse(message);
+    }
+
+    public List<GovEmployeeView> getEmployees() {
+        return employees;
+    }
+}
@@ -1,12 +1,12 @@
 package org.example.action.govemployee.response;
 
 import org.example.action.core.ActionResponse;
-import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
 
 public class UpdateEmployeeResponse extends ActionResponse {
-    private final GovEmployee employee;
+    private final GovEmployeeView employee;
 
-    public UpdateEmployeeResponse(GovEmployee employee) {
+    public UpdateEmployeeResponse(GovEmployeeView employee) {
         super(true);
         this.employee = employee;
     }
@@ -20,7 +20,7 @@ public class UpdateEmployeeResponse extends ActionResponse {
         return new UpdateEmployeeResponse(message);
     }
 
-    public GovEmployee getEmployee() {
+    public GovEmployeeView getEmployee() {
         return employee;
     }
 } 
\ No newline at end of file
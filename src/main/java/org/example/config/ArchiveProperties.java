@@ -0,0 +1,20 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for moving cold rows into the *_archive tables: which rows are cold, batch size and throttling.
+ * The scheduled run only happens when enabled; operators can always start a run through the endpoint.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.archive")
+public class ArchiveProperties {
+    private boolean enabled = false;
+    private int maxAgeDays = 365;
+    private int batchSize = 500;
+    private long pauseBetweenBatchesMs = 100;
+    private long replicaLagBackoffMs = 5000;
+}
@@ -0,0 +1,19 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Defaults of the headless benchmark ({@code performance --scenario ...}): warm-up length and the budgets each API's
+ * totals must meet. A budget left unset is not checked; command-line options override all of them.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.benchmark")
+public class BenchmarkProperties {
+    private int warmupSeconds = 10;
+    private Double maxP99Ms;
+    private Double minThroughputPerSecond;
+    private Double maxErrorRate;
+}
@@ -1,9 +1,12 @@
 package org.example.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
+@EnableConfigurationProperties({ReadPathProperties.class, QueryProperties.class, PartitionProperties.class,
+        ArchiveProperties.class})
 public class JpaConfig {
-} 
\ No newline at end of file
+} 
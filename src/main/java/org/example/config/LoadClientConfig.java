@@ -0,0 +1,24 @@
+package org.example.config;
+
+import org.example.performance.load.JdkHttpLoadClient;
+import org.example.performance.load.LoadHttpClient;
+import org.example.performance.load.PooledHttpLoadClient;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Chooses the load tester's HTTP client from {@link LoadClientProperties} and binds the scenario, results,
+ * load-worker, benchmark, load-job and scaling-sweep settings.
+ */
+@Configuration
+@EnableConfigurationProperties({LoadClientProperties.class, ScenarioProperties.class, ResultsProperties.class,
+        LoadWorkerProperties.class, BenchmarkProperties.class, LoadJobProperties.class,
+        ScalingProperties.class})
+public class LoadClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public LoadHttpClient loadHttpClient(LoadClientProperties properties) {
+        return properties.isHttp2() ? new JdkHttpLoadClient(properties) : new PooledHttpLoadClient(properties);
+    }
+}
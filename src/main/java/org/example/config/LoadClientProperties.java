@@ -0,0 +1,21 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * HTTP client the load tester drives the REST API with: target, pool size, timeouts and protocol.
+ * With http2 the JDK client is used (h2c upgrade; needs server.http2.enabled=true), otherwise a pooled
+ * HTTP/1.1 Apache client that also reports connect time.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.load-client")
+public class LoadClientProperties {
+    private String baseUrl = "http://localhost:8080";
+    private boolean http2 = false;
+    private int maxConnections = 2000;
+    private long connectTimeoutMs = 2000;
+    private long responseTimeoutMs = 30000;
+}
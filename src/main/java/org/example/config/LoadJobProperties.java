@@ -0,0 +1,18 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Asynchronous load-test jobs: how many may wait behind the running one, how many finished jobs are kept for
+ * polling, and how long a progress stream stays open.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.load-jobs")
+public class LoadJobProperties {
+    private int maxQueued = 10;
+    private int retainedJobs = 20;
+    private long streamTimeoutMs = 3_600_000;
+}
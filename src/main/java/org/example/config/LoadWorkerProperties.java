@@ -0,0 +1,21 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load-generator worker JVMs started by the coordinator: their JVM options, how long they get to start before the
+ * common start time, and how long past the scenario's end they may take before they are killed.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.load-workers")
+public class LoadWorkerProperties {
+    private List<String> jvmOptions = new ArrayList<>(List.of("-Xmx1g"));
+    private long startupDelayMs = 5000;
+    private long shutdownGraceMs = 60000;
+}
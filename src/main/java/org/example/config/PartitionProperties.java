@@ -0,0 +1,18 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the monthly created_at partitions: how far ahead to create them and how long to keep them.
+ * A retention of 0 months keeps every partition.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.partitions")
+public class PartitionProperties {
+    private boolean enabled = true;
+    private int monthsAhead = 3;
+    private int retentionMonths = 0;
+}
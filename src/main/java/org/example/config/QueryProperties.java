@@ -0,0 +1,22 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings for the list query language: plan cache bound and, per resource, the index-backed query shapes.
+ * Allow-list entries are {@code field:eq|prefix|in|range} for filters that can drive an index and
+ * {@code sort:field} for sort keys that can be served from an index when there is no filter.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.query")
+public class QueryProperties {
+    private int planCacheSize = 256;
+    private Map<String, List<String>> allowList = new HashMap<>();
+}
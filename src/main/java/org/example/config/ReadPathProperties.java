@@ -0,0 +1,47 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-query choice between Spring Data JPA and the hand-written JDBC repositories for hot reads.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.read-path")
+public class ReadPathProperties {
+    private Queries car = new Queries();
+    private Queries animal = new Queries();
+    private Queries employee = new Queries();
+
+    /**
+     * Switches every hot read of every entity to the given path.
+     */
+    public void useEverywhere(ReadPath path) {
+        car = Queries.of(path);
+        animal = Queries.of(path);
+        employee = Queries.of(path);
+    }
+
+    @Getter
+    @Setter
+    public static class Queries {
+        private ReadPath byId = ReadPath.JPA;
+        private ReadPath page = ReadPath.JPA;
+        private ReadPath search = ReadPath.JPA;
+
+        public static Queries of(ReadPath path) {
+            Queries queries = new Queries();
+            queries.setById(path);
+            queries.setPage(path);
+            queries.setSearch(path);
+            return queries;
+        }
+    }
+
+    public enum ReadPath {
+        JPA,
+        JDBC
+    }
+}
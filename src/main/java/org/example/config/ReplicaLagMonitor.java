@@ -0,0 +1,87 @@
+package org.example.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Periodically measures replication lag of each replica so that routing can fall back to the primary.
+ * A replica that reports no replication status is treated as an in-sync stand-in (e.g. a second local MySQL).
+ * Owns the replica pools and closes them on shutdown.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    static final long UNAVAILABLE = Long.MAX_VALUE;
+
+    private final Map<String, DataSource> replicas;
+    private final long maxReplicationLagSeconds;
+    private final Map<String, Long> lagSeconds = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, long maxReplicationLagSeconds) {
+        this.replicas = Collections.unmodifiableMap(replicas);
+        this.maxReplicationLagSeconds = maxReplicationLagSeconds;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Whether the replica was reachable and within the configured lag at the last check.
+     */
+    public boolean isWithinLag(String replicaKey) {
+        return lagSeconds.getOrDefault(replicaKey, UNAVAILABLE) <= maxReplicationLagSeconds;
+    }
+
+    public Map<String, Long> getLagSeconds() {
+        return Map.copyOf(lagSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval-ms:2000}")
+    public void refresh() {
+        replicas.forEach((key, dataSource) -> {
+            long lag = measureLag(dataSource);
+            Long previous = lagSeconds.put(key, lag);
+            boolean wasHealthy = previous != null && previous <= maxReplicationLagSeconds;
+            if (wasHealthy && lag > maxReplicationLagSeconds) {
+                logger.warn("Replica {} is lagging ({}s), routing reads to primary", key, lag == UNAVAILABLE ? "unknown" : lag);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach((key, dataSource) -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Could not close replica pool {}: {}", key, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private long measureLag(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!status.next()) {
+                return 0;
+            }
+            long lag = status.getLong("Seconds_Behind_Source");
+            return status.wasNull() ? UNAVAILABLE : lag;
+        } catch (Exception e) {
+            logger.debug("Replica lag check failed: {}", e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+}
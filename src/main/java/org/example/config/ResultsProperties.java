@@ -0,0 +1,19 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Where load-test runs are saved and how strict the comparison against a baseline run is. A change is flagged only
+ * when it is both larger than {@code regressionThreshold} (relative) and significant at {@code confidence}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.results")
+public class ResultsProperties {
+    private boolean enabled = true;
+    private String directory = "load-results";
+    private double regressionThreshold = 0.05;
+    private double confidence = 0.95;
+}
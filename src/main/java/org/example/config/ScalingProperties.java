@@ -0,0 +1,24 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Defaults of the data-size scaling sweep: the rows per table to measure at, the scenario whose operations are run
+ * at each size, the largest size at which {@code GET_ALL} is still run, and the log-log exponent of p99 growth above
+ * which an operation counts as degrading super-linearly.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.scaling")
+public class ScalingProperties {
+    private List<Long> sizes = new ArrayList<>(List.of(10_000L, 100_000L, 1_000_000L, 10_000_000L));
+    private String scenario = "scaling";
+    private int warmupSeconds = 10;
+    private long getAllMaxRows = 100_000;
+    private double superLinearExponent = 1.2;
+}
@@ -0,0 +1,16 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Where load-test scenarios come from: the bundled classpath:scenarios/ files plus, when set, every
+ * *.json, *.yaml and *.yml file in {@code directory}, which may override a bundled scenario of the same name.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.scenarios")
+public class ScenarioProperties {
+    private String directory;
+}
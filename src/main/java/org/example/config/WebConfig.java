@@ -1,7 +1,13 @@
 package org.example.config;
 
 import org.example.performance.PerformanceInterceptor;
+import org.example.performance.timing.ApiTimingFilter;
+import org.example.performance.timing.ApiTimingInterceptor;
+import org.example.performance.timing.ApiTimingRecorder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -11,14 +17,31 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     private final PerformanceInterceptor performanceInterceptor;
+    private final ApiTimingInterceptor apiTimingInterceptor;
 
-    public WebConfig(PerformanceInterceptor performanceInterceptor) {
+    public WebConfig(PerformanceInterceptor performanceInterceptor, ApiTimingInterceptor apiTimingInterceptor) {
         this.performanceInterceptor = performanceInterceptor;
+        this.apiTimingInterceptor = apiTimingInterceptor;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(performanceInterceptor)
                 .addPathPatterns("/api/**");
+        registry.addInterceptor(apiTimingInterceptor)
+                .addPathPatterns("/api/**", "/actions/**");
     }
-} 
\ No newline at end of file
+
+    /**
+     * Server-side timing of both API styles, first in the filter chain so it sees the first byte in and the last
+     * byte out.
+     */
+    @Bean
+    public FilterRegistrationBean<ApiTimingFilter> apiTimingFilter(ApiTimingRecorder apiTimingRecorder) {
+        FilterRegistrationBean<ApiTimingFilter> registration =
+                new FilterRegistrationBean<>(new ApiTimingFilter(apiTimingRecorder));
+        registration.addUrlPatterns("/api/*", "/actions/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.maintenance;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.config.ArchiveProperties;
+import org.example.config.ReplicaLagMonitor;
+import org.example.repository.GroupCountRepository;
+import org.example.service.ResourceCounters;
+import org.example.service.query.TimeRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves rows older than {@code app.archive.max-age-days} from the hot tables into their *_archive tables.
+ * Each batch is one short transaction over a keyset range of (created_at, id): lock, copy, delete. Batches are
+ * spaced out and held back while a replica is lagging, and the job can be paused between batches and resumed.
+ */
+@Component
+public class ArchivalJob {
+    private static final Logger logger = LoggerFactory.getLogger(ArchivalJob.class);
+    private static final String AFTER_CURSOR = "(created_at > ? OR (created_at = ? AND id > ?))";
+    private static final String UP_TO_LAST = "(created_at < ? OR (created_at = ? AND id <= ?))";
+
+    public enum State { IDLE, RUNNING, PAUSING, PAUSED }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GroupCountRepository groupCountRepository;
+    private final ResourceCounters resourceCounters;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ArchiveProperties archiveProperties;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "archival-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<PartitionedTable, TableProgress> progress = new EnumMap<>(PartitionedTable.class);
+    private volatile State state = State.IDLE;
+    private volatile LocalDateTime cutoff;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public ArchivalJob(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       GroupCountRepository groupCountRepository, ResourceCounters resourceCounters,
+                       EntityManagerFactory entityManagerFactory, ArchiveProperties archiveProperties,
+                       ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.groupCountRepository = groupCountRepository;
+        this.resourceCounters = resourceCounters;
+        this.entityManagerFactory = entityManagerFactory;
+        this.archiveProperties = archiveProperties;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 2 * * *}")
+    public void scheduledRun() {
+        if (archiveProperties.isEnabled()) {
+            start();
+        }
+    }
+
+    /**
+     * Start a new run, or resume a paused one from where it stopped. Returns false if a run is already active.
+     */
+    public synchronized boolean start() {
+        if (state == State.RUNNING || state == State.PAUSING) return false;
+        if (state == State.IDLE) {
+            cutoff = LocalDateTime.now().minusDays(archiveProperties.getMaxAgeDays());
+            startedAt = LocalDateTime.now();
+            finishedAt = null;
+            progress.clear();
+            for (PartitionedTable table : PartitionedTable.values()) {
+                progress.put(table, new TableProgress());
+            }
+        }
+        state = State.RUNNING;
+        executor.submit(this::run);
+        return true;
+    }
+
+    /**
+     * Ask the running job to stop after its current batch; {@link #start()} resumes it.
+     */
+    public synchronized boolean pause() {
+        if (state != State.RUNNING) return false;
+        state = State.PAUSING;
+        return true;
+    }
+
+    public synchronized ArchiveProgress getProgress() {
+        List<ArchiveProgress.TableStatus> tables = new ArrayList<>();
+        progress.forEach((table, p) -> tables.add(new ArchiveProgress.TableStatus(table.getTable(),
+                p.rowsMoved.get(), p.batches.get(), p.cursorCreatedAt, p.cursorId, p.completed, p.lastBatchMillis)));
+        return new ArchiveProgress(state, cutoff, startedAt, finishedAt, tables);
+    }
+
+    private void run() {
+        try {
+            for (PartitionedTable table : PartitionedTable.values()) {
+                TableProgress tableProgress = progress.get(table);
+                while (!tableProgress.completed) {
+                    if (state == State.PAUSING) {
+                        finish(State.PAUSED);
+                        return;
+                    }
+                    waitForReplicas();
+                    int moved = moveBatch(table, tableProgress);
+                    if (moved < archiveProperties.getBatchSize()) {
+                        tableProgress.completed = true;
+                    } else {
+                        Thread.sleep(archiveProperties.getPauseBetweenBatchesMs());
+                    }
+                }
+                logger.info("Archived {} rows from {} created before {}", tableProgress.rowsMoved.get(), table.getTable(), cutoff);
+            }
+            finish(State.IDLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(State.PAUSED);
+        } catch (RuntimeException e) {
+            logger.error("Archival run failed, pausing", e);
+            finish(State.PAUSED);
+        }
+    }
+
+    private synchronized void finish(State next) {
+        state = next;
+        if (next == State.IDLE) {
+            finishedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Lock the next batch of cold rows in keyset order, copy the range into the archive table and delete it
+     * from the hot table in one transaction. Returns the number of rows moved.
+     */
+    int moveBatch(PartitionedTable table, TableProgress tableProgress) {
+        long start = System.nanoTime();
+        Timestamp cursorTs = Timestamp.valueOf(tableProgress.cursorCreatedAt);
+        List<Row> rows = transactionTemplate.execute(status -> {
+            List<Row> batch = jdbcTemplate.query("SELECT id, created_at, " + table.getGroupExpression()
+                            + " FROM " + table.getTable() + " WHERE created_at < ? AND " + AFTER_CURSOR
+                            + " ORDER BY created_at, id LIMIT ? FOR UPDATE",
+                    (rs, rowNum) -> new Row(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime(), rs.getString(3)),
+                    Timestamp.valueOf(cutoff), cursorTs, cursorTs, tableProgress.cursorId, archiveProperties.getBatchSize());
+            if (batch.isEmpty()) return batch;
+
+            Row last = batch.get(batch.size() - 1);
+            Timestamp lastTs = Timestamp.valueOf(last.createdAt());
+            Object[] range = {cursorTs, cursorTs, tableProgress.cursorId, lastTs, lastTs, last.id()};
+            String where = " WHERE " + AFTER_CURSOR + " AND " + UP_TO_LAST;
+            jdbcTemplate.update("INSERT INTO " + table.getArchiveTable() + " (id, " + table.getColumn()
+                    + ", created_at, updated_at) SELECT id, " + table.getColumn() + ", created_at, updated_at FROM "
+                    + table.getTable() + where, range);
+            int deleted = jdbcTemplate.update("DELETE FROM " + table.getTable() + where, range);
+            if (deleted != batch.size()) {
+                throw new IllegalStateException("Archival of " + table.getTable() + " locked " + batch.size()
+                        + " rows but deleted " + deleted);
+            }
+
+            Map<String, Long> groups = new HashMap<>();
+            batch.forEach(row -> groups.merge(row.groupKey(), 1L, Long::sum));
+            groups.forEach((key, count) -> groupCountRepository.adjust(table.getGrouping(), key, -count));
+            resourceCounters.adjust(table.getResource(), -deleted);
+            return batch;
+        });
+        if (rows == null || rows.isEmpty()) return 0;
+
+        Cache cache = entityManagerFactory.getCache();
+        rows.forEach(row -> cache.evict(table.getEntityClass(), row.id()));
+        Row last = rows.get(rows.size() - 1);
+        tableProgress.cursorCreatedAt = last.createdAt();
+        tableProgress.cursorId = last.id();
+        tableProgress.rowsMoved.addAndGet(rows.size());
+        tableProgress.batches.incrementAndGet();
+        tableProgress.lastBatchMillis = (System.nanoTime() - start) / 1_000_000;
+        return rows.size();
+    }
+
+    private void waitForReplicas() throws InterruptedException {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (monitor == null) return;
+        while (state == State.RUNNING
+                && !monitor.getReplicas().keySet().stream().allMatch(monitor::isWithinLag)) {
+            logger.debug("Replica lag above limit, holding archival for {} ms", archiveProperties.getReplicaLagBackoffMs());
+            Thread.sleep(archiveProperties.getReplicaLagBackoffMs());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Row(long id, LocalDateTime createdAt, String groupKey) {
+    }
+
+    /**
+     * Keyset position and counters of one table within the current run.
+     */
+    static final class TableProgress {
+        private final AtomicLong rowsMoved = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private volatile LocalDateTime cursorCreatedAt = TimeRange.MIN;
+        private volatile long cursorId;
+        private volatile boolean completed;
+        private volatile long lastBatchMillis;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.maintenance;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Operator endpoints for the archival job: progress, start or resume, and pause.
+ */
+@RestController
+@RequestMapping("/maintenance/archive")
+public class ArchiveController {
+    private final ArchivalJob archivalJob;
+
+    public ArchiveController(ArchivalJob archivalJob) {
+        this.archivalJob = archivalJob;
+    }
+
+    /**
+     * Current state, cutoff and rows moved per table.
+     */
+    @GetMapping
+    public ResponseEntity<ArchiveProgress> getProgress() {
+        return ResponseEntity.ok(archivalJob.getProgress());
+    }
+
+    /**
+     * Start a run, or resume a paused one from its last position.
+     */
+    @PostMapping("/start")
+    public ResponseEntity<ArchiveProgress> start() {
+        boolean started = archivalJob.start();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).body(archivalJob.getProgress());
+    }
+
+    /**
+     * Stop the running job after its current batch.
+     */
+    @PostMapping("/pause")
+    public ResponseEntity<ArchiveProgress> pause() {
+        boolean pausing = archivalJob.pause();
+        return ResponseEntity.status(pausing ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).body(archivalJob.getProgress());
+    }
+}
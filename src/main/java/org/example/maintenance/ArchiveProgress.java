@@ -0,0 +1,19 @@
+package org.example.maintenance;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Snapshot of the archival job: run state, the created_at cutoff and per-table keyset position and counters.
+ */
+public record ArchiveProgress(ArchivalJob.State state, LocalDateTime cutoff, LocalDateTime startedAt,
+                              LocalDateTime finishedAt, List<TableStatus> tables) {
+
+    public long rowsMoved() {
+        return tables.stream().mapToLong(TableStatus::rowsMoved).sum();
+    }
+
+    public record TableStatus(String table, long rowsMoved, long batches, LocalDateTime cursorCreatedAt,
+                              long cursorId, boolean completed, long lastBatchMillis) {
+    }
+}
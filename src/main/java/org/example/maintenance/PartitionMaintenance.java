@@ -0,0 +1,195 @@
+package org.example.maintenance;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.config.PartitionProperties;
+import org.example.repository.GroupCountRepository;
+import org.example.service.ResourceCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly created_at partitions rolling: splits p_future into the coming months ahead of time and drops
+ * months past retention. An expired month is swapped out with EXCHANGE PARTITION into an unpartitioned staging table
+ * and then dropped, both metadata operations; its rows are counted in the staging table, away from the live one.
+ */
+@Component
+public class PartitionMaintenance {
+    private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenance.class);
+    static final String HISTORY = "p_history";
+    static final String FUTURE = "p_future";
+    static final String EXPIRED_SUFFIX = "_expired";
+    private static final Pattern MONTHLY = Pattern.compile("p\\d{6}");
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUNDARY = DateTimeFormatter.ofPattern("yyyy-MM-'01 00:00:00'");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GroupCountRepository groupCountRepository;
+    private final ResourceCounters resourceCounters;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PartitionProperties partitionProperties;
+
+    public PartitionMaintenance(JdbcTemplate jdbcTemplate, GroupCountRepository groupCountRepository,
+                                ResourceCounters resourceCounters, EntityManagerFactory entityManagerFactory,
+                                PartitionProperties partitionProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.groupCountRepository = groupCountRepository;
+        this.resourceCounters = resourceCounters;
+        this.entityManagerFactory = entityManagerFactory;
+        this.partitionProperties = partitionProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partitions.cron:0 15 3 * * *}")
+    public void maintainAll() {
+        if (!partitionProperties.isEnabled()) return;
+        for (PartitionedTable table : PartitionedTable.values()) {
+            try {
+                maintain(table, YearMonth.now());
+            } catch (RuntimeException e) {
+                logger.error("Partition maintenance failed for {}", table.getTable(), e);
+            }
+        }
+    }
+
+    /**
+     * Create the partitions up to {@code monthsAhead} after the current month and drop those past retention.
+     */
+    public Result maintain(PartitionedTable table, YearMonth currentMonth) {
+        List<String> partitions = partitionNames(table);
+        if (partitions.isEmpty()) {
+            logger.debug("{} is not partitioned, skipping maintenance", table.getTable());
+            return new Result(table.getTable(), List.of(), List.of());
+        }
+        if (stagingExists(table)) {
+            logger.warn("Found {} left by an interrupted drop, releasing it first", staging(table));
+            releaseStaging(table);
+        }
+        List<String> dropped = dropExpired(table, partitions, currentMonth);
+        List<String> created = createAhead(table, partitions, currentMonth);
+        if (!created.isEmpty() || !dropped.isEmpty()) {
+            logger.info("Partitions of {}: created {}, dropped {}", table.getTable(), created, dropped);
+        }
+        return new Result(table.getTable(), created, dropped);
+    }
+
+    public List<String> partitionNames(PartitionedTable table) {
+        return jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL "
+                + "ORDER BY PARTITION_ORDINAL_POSITION", String.class, table.getTable());
+    }
+
+    private List<String> createAhead(PartitionedTable table, List<String> partitions, YearMonth currentMonth) {
+        if (!partitions.contains(FUTURE)) {
+            logger.warn("{} has no {} partition, cannot add months ahead", table.getTable(), FUTURE);
+            return List.of();
+        }
+        YearMonth target = currentMonth.plusMonths(partitionProperties.getMonthsAhead());
+        YearMonth last = monthlyPartitions(partitions).stream().max(YearMonth::compareTo).orElse(currentMonth.minusMonths(1));
+        List<String> created = new ArrayList<>();
+        StringBuilder definitions = new StringBuilder();
+        for (YearMonth month = last.plusMonths(1); !month.isAfter(target); month = month.plusMonths(1)) {
+            String name = month.format(PARTITION_NAME);
+            definitions.append("PARTITION ").append(name).append(" VALUES LESS THAN (UNIX_TIMESTAMP('")
+                    .append(month.plusMonths(1).format(BOUNDARY)).append("')), ");
+            created.add(name);
+        }
+        if (created.isEmpty()) return created;
+        // p_future is kept empty by running ahead of time; if rows did land there, splitting it would copy them all.
+        // Until someone splits it, no month is created ahead and every new row piles into p_future, so this is an error
+        if (!jdbcTemplate.queryForList("SELECT 1 FROM " + table.getTable() + " PARTITION (" + FUTURE + ") LIMIT 1",
+                Integer.class).isEmpty()) {
+            logger.error("{} has rows in {}: months {} were NOT created and new rows keep landing in {}. Split it "
+                    + "by hand in a quiet window: ALTER TABLE {} REORGANIZE PARTITION {} INTO (...)",
+                    table.getTable(), FUTURE, created, FUTURE, table.getTable(), FUTURE);
+            return List.of();
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table.getTable() + " REORGANIZE PARTITION " + FUTURE + " INTO ("
+                + definitions + "PARTITION " + FUTURE + " VALUES LESS THAN MAXVALUE)");
+        return created;
+    }
+
+    private List<String> dropExpired(PartitionedTable table, List<String> partitions, YearMonth currentMonth) {
+        if (partitionProperties.getRetentionMonths() <= 0) return List.of();
+        YearMonth cutoff = currentMonth.minusMonths(partitionProperties.getRetentionMonths());
+        List<YearMonth> months = monthlyPartitions(partitions);
+        List<String> expired = new ArrayList<>();
+        // p_history ends where the first monthly partition starts
+        if (partitions.contains(HISTORY) && !months.isEmpty() && !months.get(0).isAfter(cutoff)) {
+            expired.add(HISTORY);
+        }
+        months.stream().filter(month -> month.isBefore(cutoff)).map(month -> month.format(PARTITION_NAME)).forEach(expired::add);
+        for (String partition : expired) {
+            dropPartition(table, partition);
+        }
+        return expired;
+    }
+
+    /**
+     * Detach one partition's rows into the staging table in a single metadata swap, drop the now empty partition,
+     * then take the detached rows out of the group counts, the row counter and the second-level cache.
+     */
+    private void dropPartition(PartitionedTable table, String partition) {
+        String staging = staging(table);
+        jdbcTemplate.execute("CREATE TABLE " + staging + " LIKE " + table.getTable());
+        jdbcTemplate.execute("ALTER TABLE " + staging + " REMOVE PARTITIONING");
+        jdbcTemplate.execute("ALTER TABLE " + table.getTable() + " EXCHANGE PARTITION " + partition
+                + " WITH TABLE " + staging + " WITHOUT VALIDATION");
+        jdbcTemplate.execute("ALTER TABLE " + table.getTable() + " DROP PARTITION " + partition);
+        entityManagerFactory.getCache().evict(table.getEntityClass());
+        releaseStaging(table);
+    }
+
+    /**
+     * Subtract the staged rows from the derived counts and drop the staging table. Nothing reads or writes the
+     * staging table, so the GROUP BY here holds no locks on the live table.
+     */
+    private void releaseStaging(PartitionedTable table) {
+        String staging = staging(table);
+        List<Map<String, Object>> groups = jdbcTemplate.queryForList("SELECT " + table.getGroupExpression()
+                + " AS group_key, COUNT(*) AS row_count FROM " + staging + " GROUP BY " + table.getGroupExpression());
+        long rows = 0;
+        for (Map<String, Object> group : groups) {
+            long count = ((Number) group.get("row_count")).longValue();
+            groupCountRepository.adjust(table.getGrouping(), (String) group.get("group_key"), -count);
+            rows += count;
+        }
+        resourceCounters.adjust(table.getResource(), -rows);
+        jdbcTemplate.execute("DROP TABLE " + staging);
+    }
+
+    private boolean stagingExists(PartitionedTable table) {
+        Long tables = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.TABLES "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?", Long.class, staging(table));
+        return tables != null && tables > 0;
+    }
+
+    private static String staging(PartitionedTable table) {
+        return table.getTable() + EXPIRED_SUFFIX;
+    }
+
+    private static List<YearMonth> monthlyPartitions(List<String> partitions) {
+        return partitions.stream()
+                .filter(name -> MONTHLY.matcher(name).matches())
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Partitions created and dropped for one table in one maintenance run.
+     */
+    public record Result(String table, List<String> created, List<String> dropped) {
+    }
+}
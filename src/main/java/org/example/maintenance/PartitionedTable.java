@@ -0,0 +1,66 @@
+package org.example.maintenance;
+
+import org.example.models.entity.Animal;
+import org.example.models.entity.Car;
+import org.example.models.entity.GovEmployee;
+import org.example.repository.GroupCountRepository.Grouping;
+import org.example.service.ResourceCounters.Resource;
+
+/**
+ * Entity tables partitioned by created_at month, with the derived data that bulk removals must keep in step.
+ */
+public enum PartitionedTable {
+    ANIMAL("animal", "type", Animal.class, Resource.ANIMAL, Grouping.ANIMAL_TYPE, "type"),
+    CAR("car", "brand", Car.class, Resource.CAR, Grouping.CAR_BRAND, "brand"),
+    EMPLOYEE("gov_employee", "name", GovEmployee.class, Resource.EMPLOYEE, Grouping.EMPLOYEE_NAME_INITIAL, "UPPER(LEFT(name, 1))");
+
+    private final String table;
+    private final String column;
+    private final Class<?> entityClass;
+    private final Resource resource;
+    private final Grouping grouping;
+    private final String groupExpression;
+
+    PartitionedTable(String table, String column, Class<?> entityClass, Resource resource, Grouping grouping, String groupExpression) {
+        this.table = table;
+        this.column = column;
+        this.entityClass = entityClass;
+        this.resource = resource;
+        this.grouping = grouping;
+        this.groupExpression = groupExpression;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * The entity's own data column next to id and the audit timestamps.
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    public String getArchiveTable() {
+        return table + "_archive";
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    public Grouping getGrouping() {
+        return grouping;
+    }
+
+    /**
+     * SQL expression over the base table that yields the group key, matching the V4 backfill.
+     */
+    public String getGroupExpression() {
+        return groupExpression;
+    }
+}
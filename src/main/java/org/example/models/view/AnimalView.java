@@ -0,0 +1,15 @@
+package org.example.models.view;
+
+import org.example.models.entity.Animal;
+import java.time.LocalDateTime;
+
+/**
+ * An animal's id, type and audit timestamps. Get-all and type search select it as a constructor projection;
+ * {@link #from(Animal)} maps the entity returned by by-id reads and writes.
+ */
+public record AnimalView(Long id, String type, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public static AnimalView from(Animal animal) {
+        return new AnimalView(animal.getId(), animal.getType(), animal.getCreatedAt(), animal.getUpdatedAt());
+    }
+}
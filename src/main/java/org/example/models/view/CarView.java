@@ -0,0 +1,15 @@
+package org.example.models.view;
+
+import org.example.models.entity.Car;
+import java.time.LocalDateTime;
+
+/**
+ * A car as the read endpoints return it. List, search and page queries select it directly; by-id reads map the
+ * second-level-cached {@link Car} through {@link #from(Car)}.
+ */
+public record CarView(Long id, String brand, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public static CarView from(Car car) {
+        return new CarView(car.getId(), car.getBrand(), car.getCreatedAt(), car.getUpdatedAt());
+    }
+}
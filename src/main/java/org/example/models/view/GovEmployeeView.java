@@ -0,0 +1,15 @@
+package org.example.models.view;
+
+import org.example.models.entity.GovEmployee;
+import java.time.LocalDateTime;
+
+/**
+ * A government employee's id, name and audit timestamps. Name search and get-all read it without hydrating a
+ * {@link GovEmployee}; by-id reads and writes go through {@link #from(GovEmployee)}.
+ */
+public record GovEmployeeView(Long id, String name, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public static GovEmployeeView from(GovEmployee employee) {
+        return new GovEmployeeView(employee.getId(), employee.getName(), employee.getCreatedAt(), employee.getUpdatedAt());
+    }
+}
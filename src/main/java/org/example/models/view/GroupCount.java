@@ -0,0 +1,7 @@
+package org.example.models.view;
+
+/**
+ * Number of rows sharing one group key, read from a maintained summary table.
+ */
+public record GroupCount(String group, long count) {
+}
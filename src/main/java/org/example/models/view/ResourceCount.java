@@ -0,0 +1,7 @@
+package org.example.models.view;
+
+/**
+ * Exact number of rows in a collection, served from a maintained counter.
+ */
+public record ResourceCount(String resource, long count) {
+}
@@ -0,0 +1,19 @@
+package org.example.performance;
+
+/**
+ * Hit, miss and eviction statistics of a single second-level cache region.
+ * Counts that the cache provider does not report are -1.
+ */
+public record CacheRegionMetrics(
+        String region,
+        long hitCount,
+        long missCount,
+        long putCount,
+        long evictionCount,
+        long elementCountInMemory) {
+
+    public double getHitRatio() {
+        long lookups = hitCount + missCount;
+        return lookups > 0 ? (double) hitCount / lookups * 100 : 0.0;
+    }
+}
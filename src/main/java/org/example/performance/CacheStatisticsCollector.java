@@ -0,0 +1,79 @@
+package org.example.performance;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects per-region second-level cache statistics from Hibernate and the JCache provider.
+ */
+@Component
+public class CacheStatisticsCollector {
+    static final List<String> ENTITY_REGIONS = List.of("car", "animal", "gov_employee");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    public CacheStatisticsCollector(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public List<CacheRegionMetrics> collect() {
+        Statistics statistics = statistics();
+        return ENTITY_REGIONS.stream()
+                .map(region -> collectRegion(statistics, region))
+                .toList();
+    }
+
+    /**
+     * Clears Hibernate statistics; JCache eviction counters are cumulative for the cache lifetime.
+     */
+    public void reset() {
+        statistics().clear();
+    }
+
+    private CacheRegionMetrics collectRegion(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = null;
+        try {
+            regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            // Region is not registered, e.g. when the second-level cache is disabled
+        }
+        if (regionStatistics == null) {
+            return new CacheRegionMetrics(region, 0, 0, 0, -1, -1);
+        }
+        return new CacheRegionMetrics(
+                region,
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount(),
+                evictionCount(region),
+                regionStatistics.getElementCountInMemory());
+    }
+
+    private long evictionCount(String region) {
+        try {
+            Set<ObjectName> names = mBeanServer.queryNames(
+                    new ObjectName("javax.cache:type=CacheStatistics,Cache=" + region + ",*"), null);
+            long evictions = 0;
+            for (ObjectName name : names) {
+                evictions += ((Number) mBeanServer.getAttribute(name, "CacheEvictions")).longValue();
+            }
+            return names.isEmpty() ? -1 : evictions;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -1,28 +1,43 @@
 package org.example.performance;
 
+import org.example.performance.benchmark.HeadlessBenchmark;
+import org.example.performance.scenario.ApiMode;
+import org.example.performance.scenario.ScenarioCatalog;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 import java.util.Scanner;
 
 /**
  * Command-line interface for running performance tests manually.
- * This provides an interactive way to trigger and configure performance tests.
+ * {@code performance} alone opens an interactive menu; with options (see {@link HeadlessBenchmark}) it runs one
+ * benchmark without a console and exits with its result code.
  */
 @Component
 public class PerformanceCommandLineRunner implements CommandLineRunner {
     private final PerformanceLoadTester loadTester;
     private final PerformanceMonitor performanceMonitor;
+    private final HeadlessBenchmark headlessBenchmark;
+    private final ApplicationContext applicationContext;
     private final Scanner scanner = new Scanner(System.in);
 
-    public PerformanceCommandLineRunner(PerformanceLoadTester loadTester, PerformanceMonitor performanceMonitor) {
+    public PerformanceCommandLineRunner(PerformanceLoadTester loadTester, PerformanceMonitor performanceMonitor,
+                                        HeadlessBenchmark headlessBenchmark, ApplicationContext applicationContext) {
         this.loadTester = loadTester;
         this.performanceMonitor = performanceMonitor;
+        this.headlessBenchmark = headlessBenchmark;
+        this.applicationContext = applicationContext;
     }
 
     @Override
     public void run(String... args) throws Exception {
         // Only run if launched with "performance" argument
         if (args.length > 0 && "performance".equals(args[0])) {
+            if (args.length > 1) {
+                int exitCode = headlessBenchmark.run(args);
+                System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+            }
             runInteractivePerformanceTest();
         }
     }
@@ -111,11 +126,13 @@ public class PerformanceCommandLineRunner implements CommandLineRunner {
     private void runCustomTest() {
         System.out.println("\n⚙️  Custom Test Configuration");
         
-        int users = getIntInput("Number of concurrent users (1-50)", 5, 1, 50);
+        int users = getIntInput("Number of concurrent users (1-5000)", 5, 1, 5000);
         int duration = getIntInput("Test duration in seconds (5-300)", 30, 5, 300);
+        String scenario = getStringInput("Scenario", ScenarioCatalog.DEFAULT_SCENARIO);
+        String transport = getStringInput("Transport (mixed, http, local)", ApiMode.MIXED);
         
         PerformanceLoadTester.LoadTestConfiguration config = 
-            new PerformanceLoadTester.LoadTestConfiguration(users, duration);
+            new PerformanceLoadTester.LoadTestConfiguration(users, duration, scenario, transport);
         runTest(config);
     }
 
@@ -141,11 +158,19 @@ public class PerformanceCommandLineRunner implements CommandLineRunner {
         }
     }
 
+    private String getStringInput(String prompt, String defaultValue) {
+        System.out.printf("  %s [default: %s]: ", prompt, defaultValue);
+        String input = scanner.nextLine().trim();
+        return input.isEmpty() ? defaultValue : input;
+    }
+
     private void runTest(PerformanceLoadTester.LoadTestConfiguration config) {
         System.out.println("\n" + "=".repeat(60));
         System.out.println("🎯 Test Configuration:");
         System.out.println("  • Concurrent Users: " + config.getConcurrentUsers());
         System.out.println("  • Duration: " + config.getTestDurationSeconds() + " seconds");
+        System.out.println("  • Scenario: " + config.getScenario());
+        System.out.println("  • Transport: " + config.getTransport());
         System.out.println("=".repeat(60));
         
         // Reset metrics before test
@@ -186,7 +211,7 @@ public class PerformanceCommandLineRunner implements CommandLineRunner {
         
         // Comparison
         System.out.println("🔍 Performance Comparison:");
-        System.out.println("  • Faster Approach: " + comparison.getFasterApproach());
+        System.out.println("  • Faster Approach: " + comparison.getFasterApproach() + " (last A/B benchmark)");
         System.out.printf("  • Speed Difference: %.2f%% %s%n", 
             Math.abs(comparison.getAverageTimeDifferencePercent()),
             comparison.getAverageTimeDifferencePercent() > 0 ? "(Action faster)" : "(REST faster)");
@@ -219,8 +244,16 @@ public class PerformanceCommandLineRunner implements CommandLineRunner {
         System.out.println("\n🔗 Available REST API Endpoints:");
         System.out.println("=".repeat(80));
         System.out.println("Performance Testing:");
-        System.out.println("  • POST /performance/load-test?users=5&duration=30");
+        System.out.println("  • POST /performance/load-test?users=5&duration=30&scenario=default&transport=mixed");
+        System.out.println("  • POST /performance/api-matrix?users=5&duration=30&scenario=default");
+        System.out.println("  • POST /performance/ab-test?users=5&duration=10&iterations=10&warmup=2&transport=http");
+        System.out.println("  • POST /performance/distributed-load-test?workers=2&users=10&duration=30&scenario=default");
+        System.out.println("  • POST /performance/jobs?users=5&duration=30&scenario=default&transport=mixed");
+        System.out.println("  • GET  /performance/jobs/{id}/events");
+        System.out.println("  • POST /performance/scaling-sweep?sizes=10000,100000,1000000,10000000&duration=30");
+        System.out.println("  • GET  /performance/scenarios");
         System.out.println("  • GET  /performance/comparison");
+        System.out.println("  • GET  /performance/server-timings");
         System.out.println("  • GET  /performance/summary");
         System.out.println("  • POST /performance/reset");
         System.out.println();
@@ -1,15 +1,28 @@
 package org.example.performance;
 
+import org.example.performance.ab.AbResult;
+
 /**
- * Comparison of performance metrics between REST and Action-based APIs.
+ * Comparison of performance metrics between REST and Action-based APIs over one run. The differences are not tested
+ * for significance: requests of one run share JIT, GC and buffer pool state and are not independent samples. Winners
+ * come from the repeated runs of {@link org.example.performance.ab.AbBenchmarkRunner}.
  */
 public class PerformanceComparison {
     private final PerformanceMetrics restMetrics;
     private final PerformanceMetrics actionMetrics;
+    private final AbResult abResult;
 
     public PerformanceComparison(PerformanceMetrics restMetrics, PerformanceMetrics actionMetrics) {
+        this(restMetrics, actionMetrics, null);
+    }
+
+    /**
+     * @param abResult Last A/B benchmark, which names the winner; null when none has run
+     */
+    public PerformanceComparison(PerformanceMetrics restMetrics, PerformanceMetrics actionMetrics, AbResult abResult) {
         this.restMetrics = restMetrics;
         this.actionMetrics = actionMetrics;
+        this.abResult = abResult;
     }
 
     public PerformanceMetrics getRestMetrics() {
@@ -48,16 +61,10 @@ public class PerformanceComparison {
     }
 
     /**
-     * Get winner based on average execution time.
+     * Winner of the last A/B benchmark (REST, ACTION, TIE or MIXED); TIE until one has run.
      */
     public String getFasterApproach() {
-        if (actionMetrics.getAverageExecutionTime() < restMetrics.getAverageExecutionTime()) {
-            return "ACTION";
-        } else if (restMetrics.getAverageExecutionTime() < actionMetrics.getAverageExecutionTime()) {
-            return "REST";
-        } else {
-            return "TIE";
-        }
+        return abResult == null ? AbResult.TIE : abResult.winner();
     }
 
     @Override
@@ -72,7 +79,9 @@ public class PerformanceComparison {
         sb.append(" (positive means Action has higher throughput)\n");
         sb.append("Success Rate Difference: ").append(String.format("%.2f%%", getSuccessRateDifferencePercent()));
         sb.append(" (positive means Action has higher success rate)\n");
-        sb.append("Faster Approach: ").append(getFasterApproach()).append("\n");
+        sb.append("Faster Approach: ").append(getFasterApproach());
+        sb.append(abResult == null ? " (no A/B benchmark yet; POST /performance/ab-test compares repeated runs)\n"
+                : " (last A/B benchmark; the differences above are one run and not tested)\n");
         return sb.toString();
     }
 } 
\ No newline at end of file
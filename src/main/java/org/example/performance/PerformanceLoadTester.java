@@ -1,224 +1,224 @@
 package org.example.performance;
 
-import org.example.action.animal.request.*;
-import org.example.action.car.request.*;
-import org.example.action.govemployee.request.*;
-import org.example.action.core.ActionDispatcher;
-import org.example.models.dto.AnimalDto;
-import org.example.models.dto.CarDto;
-import org.example.models.dto.GovEmployeeDto;
+import org.example.performance.load.HttpTimingRecorder;
+import org.example.performance.load.LoadHttpClient;
+import org.example.performance.load.LoadOperation;
+import org.example.performance.load.OpenModelConfiguration;
+import org.example.performance.load.OpenModelLoadGenerator;
+import org.example.performance.load.OpenModelResult;
+import org.example.performance.results.RunResultStore;
+import org.example.performance.scenario.ApiMode;
+import org.example.performance.scenario.Scenario;
+import org.example.performance.scenario.ScenarioCatalog;
+import org.example.performance.scenario.ScenarioDriver;
+import org.example.performance.scenario.ScenarioResult;
+import org.example.performance.scenario.ScenarioSnapshot;
+import org.example.performance.scenario.ScenarioRunner;
+import org.example.performance.scenario.ScenarioWorkload;
+import org.example.performance.timing.ApiTimingRecorder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
-import java.util.Random;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
 
 /**
  * Load tester for comparing REST vs Action-based API performance.
+ * The operation mix comes from a named {@link Scenario}; simulated users run on virtual threads and REST calls go
+ * through the pooled {@link LoadHttpClient}. Every run is saved by the {@link RunResultStore}.
  */
 @Component
 public class PerformanceLoadTester {
-    private final ActionDispatcher actionDispatcher;
-    private final RestTemplate restTemplate;
+    private final LoadHttpClient httpClient;
     private final PerformanceMonitor performanceMonitor;
-    private final Random random = new Random();
+    private final OpenModelLoadGenerator openModelLoadGenerator;
+    private final ScenarioCatalog scenarioCatalog;
+    private final ScenarioRunner scenarioRunner;
+    private final RunResultStore runResultStore;
+    private final ApiTimingRecorder apiTimingRecorder;
+    private volatile HttpTimingRecorder httpTimings = new HttpTimingRecorder();
+    private volatile String lastRunId;
     
-    public PerformanceLoadTester(ActionDispatcher actionDispatcher, PerformanceMonitor performanceMonitor) {
-        this.actionDispatcher = actionDispatcher;
+    public PerformanceLoadTester(PerformanceMonitor performanceMonitor, OpenModelLoadGenerator openModelLoadGenerator,
+                                 LoadHttpClient httpClient, ScenarioCatalog scenarioCatalog,
+                                 ScenarioRunner scenarioRunner, RunResultStore runResultStore,
+                                 ApiTimingRecorder apiTimingRecorder) {
         this.performanceMonitor = performanceMonitor;
-        this.restTemplate = new RestTemplate();
+        this.openModelLoadGenerator = openModelLoadGenerator;
+        this.httpClient = httpClient;
+        this.scenarioCatalog = scenarioCatalog;
+        this.scenarioRunner = scenarioRunner;
+        this.runResultStore = runResultStore;
+        this.apiTimingRecorder = apiTimingRecorder;
     }
 
     /**
-     * Run a comprehensive load test comparing REST vs Action APIs.
+     * Run a comprehensive load test comparing REST vs Action APIs: the configured scenario runs on both at once,
+     * with the same number of users on each, over the configured transport.
      */
     public PerformanceTestResult runLoadTest(LoadTestConfiguration config) {
+        return runLoadTest(config, snapshot -> { });
+    }
+
+    /**
+     * Run the load test like {@link #runLoadTest(LoadTestConfiguration)}, handing {@code progress} a snapshot after
+     * every second. If the calling thread is interrupted the run stops, is not saved, and a
+     * {@link CancellationException} is thrown.
+     */
+    public PerformanceTestResult runLoadTest(LoadTestConfiguration config, Consumer<ScenarioSnapshot> progress) {
+        return runLoadTest(scenarioCatalog.find(config.getScenario()), config, progress);
+    }
+
+    /**
+     * Run a scenario that is not in the catalog, e.g. one operation of a catalog scenario on its own, with the users,
+     * duration and transport of {@code config}.
+     */
+    public PerformanceTestResult runLoadTest(Scenario scenario, LoadTestConfiguration config,
+                                             Consumer<ScenarioSnapshot> progress) {
         System.out.println("🚀 Starting Performance Load Test...");
-        System.out.println("Configuration: " + config);
+        System.out.println("Configuration: " + config + ", scenario " + scenario.name());
+        
+        List<ApiMode> modes = ApiMode.pair(config.getTransport());
         
         // Reset metrics before test
         performanceMonitor.reset();
-        
-        ExecutorService executor = Executors.newFixedThreadPool(config.getConcurrentUsers());
-        CountDownLatch latch = new CountDownLatch(config.getConcurrentUsers() * 2); // *2 for REST and Action
+        apiTimingRecorder.reset();
+        Map<ApiMode, HttpTimingRecorder> recorders = recorders(modes);
         
         long testStartTime = System.currentTimeMillis();
-        
-        // Run REST tests
-        for (int i = 0; i < config.getConcurrentUsers(); i++) {
-            executor.submit(() -> {
-                try {
-                    runRestTests(config);
-                } finally {
-                    latch.countDown();
-                }
-            });
-        }
-        
-        // Run Action tests
-        for (int i = 0; i < config.getConcurrentUsers(); i++) {
-            executor.submit(() -> {
-                try {
-                    runActionTests(config);
-                } finally {
-                    latch.countDown();
-                }
-            });
-        }
-        
-        try {
-            latch.await(config.getTestDurationSeconds() + 30, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        executor.shutdown();
+        List<ScenarioDriver> drivers = modes.stream()
+            .map(mode -> scenarioRunner.driver(mode, recorders.get(mode)))
+            .toList();
+        ScenarioResult scenarioResult = scenarioRunner.run(scenario, config.getConcurrentUsers(),
+            config.getTestDurationSeconds(), drivers, progress);
         long testEndTime = System.currentTimeMillis();
+        if (Thread.currentThread().isInterrupted()) {
+            System.out.println("🛑 Load test cancelled after " + (testEndTime - testStartTime) + "ms");
+            throw new CancellationException("Load test cancelled");
+        }
         
         System.out.println("✅ Load test completed in " + (testEndTime - testStartTime) + "ms");
         
-        return new PerformanceTestResult(testStartTime, testEndTime, config);
-    }
-    
-    private void runRestTests(LoadTestConfiguration config) {
-        long testEndTime = System.currentTimeMillis() + (config.getTestDurationSeconds() * 1000);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        Map<String, Object> configuration = configuration(scenario, config);
+        lastRunId = runResultStore.saveScenarioRun("load-test", Instant.ofEpochMilli(testStartTime), configuration,
+            scenarioResult);
         
-        while (System.currentTimeMillis() < testEndTime) {
-            try {
-                // Test various REST endpoints
-                testRestAnimals(headers);
-                testRestCars(headers);
-                testRestEmployees(headers);
-                
-                // Add small delay to simulate realistic usage
-                Thread.sleep(random.nextInt(50) + 10);
-            } catch (Exception e) {
-                // Continue testing even if some requests fail
-            }
-        }
+        return new PerformanceTestResult(testStartTime, testEndTime, config, summaries(recorders), scenarioResult,
+            lastRunId);
     }
-    
-    private void runActionTests(LoadTestConfiguration config) {
-        long testEndTime = System.currentTimeMillis() + (config.getTestDurationSeconds() * 1000);
+
+    /**
+     * Run the scenario flat on the configured transport for {@code seconds} without saving it, then reset the
+     * metrics, so JIT compilation, connection pools and caches are warm when the measured run starts.
+     */
+    public void warmUp(LoadTestConfiguration config, int seconds) {
+        warmUp(scenarioCatalog.find(config.getScenario()), config, seconds);
+    }
+
+    public void warmUp(Scenario scenario, LoadTestConfiguration config, int seconds) {
+        if (seconds < 1) return;
+        scenario = scenario.withPhases(List.of());
+        List<ApiMode> modes = ApiMode.pair(config.getTransport());
+        Map<ApiMode, HttpTimingRecorder> recorders = recorders(modes);
+        System.out.println("🔥 Warming up for " + seconds + " s...");
+        scenarioRunner.run(scenario, config.getConcurrentUsers(), seconds, modes.stream()
+            .map(mode -> scenarioRunner.driver(mode, recorders.get(mode)))
+            .toList());
+        performanceMonitor.reset();
+        apiTimingRecorder.reset();
+    }
+
+    /**
+     * Run the scenario once per {@link ApiMode}, one mode at a time with the same users and duration, so REST and
+     * actions can be compared both over HTTP and in-process, and the HTTP overhead of each read off directly.
+     */
+    public PerformanceTestResult runApiMatrix(LoadTestConfiguration config) {
+        System.out.println("🚀 Starting API matrix: " + config);
+        Scenario scenario = scenarioCatalog.find(config.getScenario());
+        performanceMonitor.reset();
+        apiTimingRecorder.reset();
+        Map<ApiMode, HttpTimingRecorder> recorders = recorders(List.of(ApiMode.values()));
         
-        while (System.currentTimeMillis() < testEndTime) {
-            try {
-                // Test various Action endpoints
-                testActionAnimals();
-                testActionCars();
-                testActionEmployees();
-                
-                // Add small delay to simulate realistic usage
-                Thread.sleep(random.nextInt(50) + 10);
-            } catch (Exception e) {
-                // Continue testing even if some requests fail
-            }
+        long testStartTime = System.currentTimeMillis();
+        List<ScenarioResult> runs = new ArrayList<>();
+        for (ApiMode mode : ApiMode.values()) {
+            System.out.println("▶️ " + mode.getLabel());
+            runs.add(scenarioRunner.run(scenario, config.getConcurrentUsers(), config.getTestDurationSeconds(),
+                List.of(scenarioRunner.driver(mode, recorders.get(mode)))));
         }
+        ScenarioResult scenarioResult = ScenarioResult.sequence(runs);
+        long testEndTime = System.currentTimeMillis();
+        System.out.println("✅ API matrix completed in " + (testEndTime - testStartTime) + "ms");
+        
+        lastRunId = runResultStore.saveScenarioRun("api-matrix", Instant.ofEpochMilli(testStartTime),
+            configuration(scenario, config), scenarioResult);
+        return new PerformanceTestResult(testStartTime, testEndTime, config, summaries(recorders), scenarioResult,
+            lastRunId);
     }
     
-    private void testRestAnimals(HttpHeaders headers) {
-        try {
-            String baseUrl = "http://localhost:8080/api/animals";
-            
-            // GET all animals
-            restTemplate.getForEntity(baseUrl, String.class);
-            
-            // POST create animal
-            AnimalDto dto = new AnimalDto();
-            dto.setType("TestAnimal" + random.nextInt(1000));
-            HttpEntity<AnimalDto> entity = new HttpEntity<>(dto, headers);
-            var response = restTemplate.postForEntity(baseUrl, entity, String.class);
-            
-            // GET by ID (if create was successful)
-            if (response.getStatusCode().is2xxSuccessful()) {
-                restTemplate.getForEntity(baseUrl + "/1", String.class);
-            }
-            
-            // GET search
-            restTemplate.getForEntity(baseUrl + "/search?type=TestAnimal", String.class);
-            
-        } catch (Exception e) {
-            // Ignore errors for load testing
-        }
+    private Map<ApiMode, HttpTimingRecorder> recorders(List<ApiMode> modes) {
+        Map<ApiMode, HttpTimingRecorder> recorders = new EnumMap<>(ApiMode.class);
+        modes.stream().filter(ApiMode::isHttp).forEach(mode -> recorders.put(mode, new HttpTimingRecorder()));
+        return recorders;
     }
     
-    private void testRestCars(HttpHeaders headers) {
-        try {
-            String baseUrl = "http://localhost:8080/api/cars";
-            
-            restTemplate.getForEntity(baseUrl, String.class);
-            
-            CarDto dto = new CarDto();
-            dto.setBrand("TestCar" + random.nextInt(1000));
-            HttpEntity<CarDto> entity = new HttpEntity<>(dto, headers);
-            restTemplate.postForEntity(baseUrl, entity, String.class);
-            
-        } catch (Exception e) {
-            // Ignore errors for load testing
-        }
+    private Map<String, HttpTimingRecorder.HttpTimingSummary> summaries(Map<ApiMode, HttpTimingRecorder> recorders) {
+        Map<String, HttpTimingRecorder.HttpTimingSummary> summaries = new LinkedHashMap<>();
+        recorders.forEach((mode, recorder) -> summaries.put(mode.getLabel(), recorder.summary(httpClient.description())));
+        return summaries;
     }
     
-    private void testRestEmployees(HttpHeaders headers) {
-        try {
-            String baseUrl = "http://localhost:8080/api/employees";
-            
-            restTemplate.getForEntity(baseUrl, String.class);
-            
-            GovEmployeeDto dto = new GovEmployeeDto();
-            dto.setName("TestEmployee" + random.nextInt(1000));
-            HttpEntity<GovEmployeeDto> entity = new HttpEntity<>(dto, headers);
-            restTemplate.postForEntity(baseUrl, entity, String.class);
-            
-        } catch (Exception e) {
-            // Ignore errors for load testing
-        }
+    private Map<String, Object> configuration(Scenario scenario, LoadTestConfiguration config) {
+        Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("scenario", scenario.name());
+        configuration.put("users", config.getConcurrentUsers());
+        configuration.put("durationSeconds", config.getTestDurationSeconds());
+        configuration.put("transport", config.getTransport());
+        configuration.put("definition", scenario);
+        return configuration;
     }
     
-    private void testActionAnimals() {
-        try {
-            // GET all animals
-            actionDispatcher.dispatch(new GetAllAnimalsRequest());
-            
-            // Create animal
-            actionDispatcher.dispatch(new CreateAnimalRequest("TestAnimal" + random.nextInt(1000)));
-            
-            // Get by ID
-            actionDispatcher.dispatch(new GetAnimalByIdRequest(1L));
-            
-            // Search
-            actionDispatcher.dispatch(new SearchAnimalsRequest("TestAnimal"));
-            
-        } catch (Exception e) {
-            // Ignore errors for load testing
-        }
+    /**
+     * Run an open-model test against one API mode (see {@link ApiMode#parse(String)}): single requests arrive at
+     * the configured rate, each drawn from the named scenario's operation mix.
+     */
+    public OpenModelResult runOpenModelTest(OpenModelConfiguration config, ApiMode mode, String scenarioName) {
+        Scenario scenario = scenarioCatalog.find(scenarioName);
+        performanceMonitor.reset();
+        apiTimingRecorder.reset();
+        httpTimings = new HttpTimingRecorder();
+        ScenarioDriver driver = scenarioRunner.driver(mode, httpTimings);
+        ScenarioWorkload workload = scenarioRunner.workload(scenario);
+        LoadOperation operation = ScenarioRunner.operation(workload, driver);
+        long start = System.currentTimeMillis();
+        OpenModelResult result = openModelLoadGenerator.run(config, () -> operation);
+        
+        Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("scenario", scenario.name());
+        configuration.put("api", mode.getLabel());
+        configuration.put("arrivals", config);
+        configuration.put("definition", scenario);
+        lastRunId = runResultStore.saveOpenModelRun(Instant.ofEpochMilli(start), System.currentTimeMillis() - start,
+            configuration, mode.getLabel(), result);
+        return result;
     }
-    
-    private void testActionCars() {
-        try {
-            actionDispatcher.dispatch(new GetAllCarsRequest());
-            actionDispatcher.dispatch(new CreateCarRequest("TestCar" + random.nextInt(1000)));
-            
-        } catch (Exception e) {
-            // Ignore errors for load testing
-        }
+
+    /**
+     * Id under which the current or last run was saved, or null if it was not saved.
+     */
+    public String getLastRunId() {
+        return lastRunId;
     }
-    
-    private void testActionEmployees() {
-        try {
-            actionDispatcher.dispatch(new GetAllEmployeesRequest());
-            actionDispatcher.dispatch(new CreateEmployeeRequest("TestEmployee" + random.nextInt(1000)));
-            
-        } catch (Exception e) {
-            // Ignore errors for load testing
-        }
+
+    /**
+     * Connect, time-to-first-byte and total times of the HTTP requests sent by the current or last open-model run.
+     */
+    public HttpTimingRecorder.HttpTimingSummary getHttpTimings() {
+        return httpTimings.summary(httpClient.description());
     }
     
     /**
@@ -227,6 +227,8 @@ public class PerformanceLoadTester {
     public static class LoadTestConfiguration {
         private int concurrentUsers = 5;
         private int testDurationSeconds = 30;
+        private String scenario = ScenarioCatalog.DEFAULT_SCENARIO;
+        private String transport = ApiMode.MIXED;
         
         public LoadTestConfiguration() {}
         
@@ -235,15 +237,30 @@ public class PerformanceLoadTester {
             this.testDurationSeconds = testDurationSeconds;
         }
         
+        public LoadTestConfiguration(int concurrentUsers, int testDurationSeconds, String scenario) {
+            this(concurrentUsers, testDurationSeconds);
+            this.scenario = scenario;
+        }
+        
+        public LoadTestConfiguration(int concurrentUsers, int testDurationSeconds, String scenario, String transport) {
+            this(concurrentUsers, testDurationSeconds, scenario);
+            this.transport = transport;
+        }
+        
         // Getters and setters
         public int getConcurrentUsers() { return concurrentUsers; }
         public void setConcurrentUsers(int concurrentUsers) { this.concurrentUsers = concurrentUsers; }
         public int getTestDurationSeconds() { return testDurationSeconds; }
         public void setTestDurationSeconds(int testDurationSeconds) { this.testDurationSeconds = testDurationSeconds; }
+        public String getScenario() { return scenario; }
+        public void setScenario(String scenario) { this.scenario = scenario; }
+        public String getTransport() { return transport; }
+        public void setTransport(String transport) { this.transport = transport; }
         
         @Override
         public String toString() {
-            return String.format("LoadTestConfig{users=%d, duration=%ds}", concurrentUsers, testDurationSeconds);
+            return String.format("LoadTestConfig{users=%d, duration=%ds, scenario=%s, transport=%s}",
+                concurrentUsers, testDurationSeconds, scenario, transport);
         }
     }
     
@@ -254,16 +271,28 @@ public class PerformanceLoadTester {
         private final long startTime;
         private final long endTime;
         private final LoadTestConfiguration config;
+        private final Map<String, HttpTimingRecorder.HttpTimingSummary> httpTimings;
+        private final ScenarioResult scenarioResult;
+        private final String runId;
         
-        public PerformanceTestResult(long startTime, long endTime, LoadTestConfiguration config) {
+        public PerformanceTestResult(long startTime, long endTime, LoadTestConfiguration config,
+                                     Map<String, HttpTimingRecorder.HttpTimingSummary> httpTimings,
+                                     ScenarioResult scenarioResult,
+                                     String runId) {
             this.startTime = startTime;
             this.endTime = endTime;
             this.config = config;
+            this.httpTimings = httpTimings;
+            this.scenarioResult = scenarioResult;
+            this.runId = runId;
         }
         
         public long getStartTime() { return startTime; }
         public long getEndTime() { return endTime; }
         public LoadTestConfiguration getConfig() { return config; }
+        public Map<String, HttpTimingRecorder.HttpTimingSummary> getHttpTimings() { return httpTimings; }
+        public ScenarioResult getScenarioResult() { return scenarioResult; }
+        public String getRunId() { return runId; }
         public long getDurationMs() { return endTime - startTime; }
     }
 } 
\ No newline at end of file
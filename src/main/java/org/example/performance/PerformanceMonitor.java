@@ -1,5 +1,6 @@
 package org.example.performance;
 
+import org.example.performance.ab.AbResult;
 import org.springframework.stereotype.Component;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
@@ -10,6 +11,7 @@ import java.util.Map;
 @Component
 public class PerformanceMonitor {
     private final Map<String, PerformanceMetrics> metrics = new ConcurrentHashMap<>();
+    private volatile AbResult lastAbResult;
 
     public PerformanceMonitor() {
         metrics.put("REST", new PerformanceMetrics("REST"));
@@ -43,7 +45,21 @@ public class PerformanceMonitor {
     public PerformanceComparison getComparison() {
         PerformanceMetrics restMetrics = metrics.get("REST");
         PerformanceMetrics actionMetrics = metrics.get("ACTION");
-        return new PerformanceComparison(restMetrics, actionMetrics);
+        return new PerformanceComparison(restMetrics, actionMetrics, lastAbResult);
+    }
+
+    /**
+     * Keeps the result of a completed A/B benchmark; the comparison names its winner.
+     */
+    public void recordAbResult(AbResult result) {
+        lastAbResult = result;
+    }
+
+    /**
+     * Result of the last completed A/B benchmark, or null if none ran yet.
+     */
+    public AbResult getLastAbResult() {
+        return lastAbResult;
     }
 
     /**
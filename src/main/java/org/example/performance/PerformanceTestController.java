@@ -1,7 +1,40 @@
 package org.example.performance;
 
+import org.example.performance.ab.AbBenchmarkRunner;
+import org.example.performance.ab.AbConfiguration;
+import org.example.performance.ab.AbResult;
+import org.example.performance.job.LoadTestJob;
+import org.example.performance.job.LoadTestJobManager;
+import org.example.performance.load.HttpTimingRecorder;
+import org.example.performance.load.LatencySummary;
+import org.example.performance.load.OpenModelConfiguration;
+import org.example.performance.load.OpenModelResult;
+import org.example.performance.results.EnvironmentFingerprint;
+import org.example.performance.results.RunComparison;
+import org.example.performance.results.RunRecord;
+import org.example.performance.results.RunResultStore;
+import org.example.performance.scaling.ScalingConfiguration;
+import org.example.performance.scaling.ScalingResult;
+import org.example.performance.scaling.ScalingSweep;
+import org.example.performance.scenario.ApiMode;
+import org.example.performance.scenario.Scenario;
+import org.example.performance.scenario.ScenarioCatalog;
+import org.example.performance.scenario.ScenarioResult;
+import org.example.performance.seed.DataSeeder;
+import org.example.performance.seed.SeedConfiguration;
+import org.example.performance.seed.SeedResult;
+import org.example.performance.timing.ApiTimingRecorder;
+import org.example.performance.worker.LoadWorkerCoordinator;
+import org.example.performance.worker.WorkerConfiguration;
+import org.example.performance.worker.WorkerReport;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Controller for performance testing and comparison endpoints.
@@ -11,10 +44,36 @@ import org.springframework.http.ResponseEntity;
 public class PerformanceTestController {
     private final PerformanceMonitor performanceMonitor;
     private final PerformanceLoadTester loadTester;
+    private final CacheStatisticsCollector cacheStatisticsCollector;
+    private final ReadPathLoadComparison readPathLoadComparison;
+    private final DataSeeder dataSeeder;
+    private final ScenarioCatalog scenarioCatalog;
+    private final RunResultStore runResultStore;
+    private final ApiTimingRecorder apiTimingRecorder;
+    private final AbBenchmarkRunner abBenchmarkRunner;
+    private final LoadWorkerCoordinator loadWorkerCoordinator;
+    private final ScalingSweep scalingSweep;
+    private final LoadTestJobManager jobManager;
 
-    public PerformanceTestController(PerformanceMonitor performanceMonitor, PerformanceLoadTester loadTester) {
+    public PerformanceTestController(PerformanceMonitor performanceMonitor, PerformanceLoadTester loadTester,
+                                     CacheStatisticsCollector cacheStatisticsCollector,
+                                     ReadPathLoadComparison readPathLoadComparison, DataSeeder dataSeeder,
+                                     ScenarioCatalog scenarioCatalog, RunResultStore runResultStore,
+                                     ApiTimingRecorder apiTimingRecorder, AbBenchmarkRunner abBenchmarkRunner,
+                                     LoadWorkerCoordinator loadWorkerCoordinator, ScalingSweep scalingSweep,
+                                     LoadTestJobManager jobManager) {
         this.performanceMonitor = performanceMonitor;
         this.loadTester = loadTester;
+        this.cacheStatisticsCollector = cacheStatisticsCollector;
+        this.readPathLoadComparison = readPathLoadComparison;
+        this.dataSeeder = dataSeeder;
+        this.scenarioCatalog = scenarioCatalog;
+        this.runResultStore = runResultStore;
+        this.apiTimingRecorder = apiTimingRecorder;
+        this.abBenchmarkRunner = abBenchmarkRunner;
+        this.loadWorkerCoordinator = loadWorkerCoordinator;
+        this.scalingSweep = scalingSweep;
+        this.jobManager = jobManager;
     }
 
     /**
@@ -41,12 +100,30 @@ public class PerformanceTestController {
         return ResponseEntity.ok(performanceMonitor.getComparison());
     }
 
+    /**
+     * Get second-level cache hit, miss and eviction statistics per entity region.
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<List<CacheRegionMetrics>> getCacheStatistics() {
+        return ResponseEntity.ok(cacheStatisticsCollector.collect());
+    }
+
+    /**
+     * Get server-side phase timings of /api and /actions requests, measured alike by the timing filter.
+     */
+    @GetMapping("/server-timings")
+    public ResponseEntity<String> getServerTimings() {
+        return ResponseEntity.ok(formatServerTimings(apiTimingRecorder.summaries()));
+    }
+
     /**
      * Reset all performance metrics.
      */
     @PostMapping("/reset")
     public ResponseEntity<String> resetMetrics() {
         performanceMonitor.reset();
+        apiTimingRecorder.reset();
+        cacheStatisticsCollector.reset();
         return ResponseEntity.ok("Performance metrics reset successfully");
     }
 
@@ -63,42 +140,535 @@ public class PerformanceTestController {
      * Run a load test manually with custom parameters.
      * @param users Number of concurrent users (default: 5)
      * @param duration Test duration in seconds (default: 30)
+     * @param scenario Scenario to run (default: default); its phases, if any, replace users and duration
+     * @param transport How each API is reached: mixed (REST over HTTP, actions in-process), http or local
+     *                  (default: mixed)
      */
     @PostMapping("/load-test")
     public ResponseEntity<String> runLoadTest(
             @RequestParam(defaultValue = "5") int users,
-            @RequestParam(defaultValue = "30") int duration) {
-        
-        PerformanceLoadTester.LoadTestConfiguration config = 
-            new PerformanceLoadTester.LoadTestConfiguration(users, duration);
-        
-        // Reset metrics before test
-        performanceMonitor.reset();
-        
-        // Run the load test
-        PerformanceLoadTester.PerformanceTestResult result = loadTester.runLoadTest(config);
-        
-        // Generate detailed summary with table format
+            @RequestParam(defaultValue = "30") int duration,
+            @RequestParam(defaultValue = ScenarioCatalog.DEFAULT_SCENARIO) String scenario,
+            @RequestParam(defaultValue = ApiMode.MIXED) String transport) {
+        return jobManager.runExclusively(() -> {
+            PerformanceLoadTester.LoadTestConfiguration config =
+                new PerformanceLoadTester.LoadTestConfiguration(users, duration, scenario, transport);
+
+            // Reset metrics before test
+            performanceMonitor.reset();
+
+            // Run the load test
+            PerformanceLoadTester.PerformanceTestResult result = loadTester.runLoadTest(config);
+
+            // Generate detailed summary with table format
+            StringBuilder response = new StringBuilder();
+            response.append("🎯 Load Test Completed Successfully!\n\n");
+            response.append("📊 Test Configuration:\n");
+            response.append("  • Concurrent Users: ").append(config.getConcurrentUsers()).append("\n");
+            response.append("  • Test Duration: ").append(config.getTestDurationSeconds()).append(" seconds\n");
+            response.append("  • Scenario: ").append(config.getScenario()).append("\n");
+            response.append("  • Transport: ").append(config.getTransport()).append("\n");
+            response.append("  • Actual Duration: ").append(result.getDurationMs()).append(" ms\n\n");
+
+            // Get fresh comparison data and format as table
+            PerformanceComparison comparison = performanceMonitor.getComparison();
+            response.append("📈 Performance Results Table:\n");
+            response.append(formatAsTable(comparison));
+            response.append("\n");
+            response.append(formatScenarioResult(result.getScenarioResult()));
+            result.getHttpTimings().forEach((mode, timings) -> response.append("\n").append(formatHttpTimings(mode, timings)));
+            appendServerTimings(response);
+            appendDatabaseNote(response);
+            appendRunId(response, result.getRunId());
+
+            response.append("\n🔗 Access other endpoints:\n");
+            response.append("  • Metrics: GET /performance/comparison\n");
+            response.append("  • Summary: GET /performance/summary\n");
+            response.append("  • Reset: POST /performance/reset\n");
+
+            return ResponseEntity.ok(response.toString());
+        }).orElseGet(this::busy);
+    }
+
+    /**
+     * Open-model load test of one API: requests arrive at a fixed rate regardless of response times, stepping from
+     * rps to maxRps, and latency is measured from each request's scheduled send time.
+     * @param api REST-HTTP, REST-LOCAL, ACTION-HTTP or ACTION-LOCAL; REST and ACTION mean REST-HTTP and
+     *            ACTION-LOCAL (default: REST)
+     * @param rps Arrival rate of the first step (default: 50)
+     * @param maxRps Arrival rate of the last step (default: rps, i.e. a single constant-rate step)
+     * @param stepRps Rate increase per step (default: 50)
+     * @param stepDuration Seconds per step (default: 10)
+     * @param maxInFlight Concurrent request ceiling of the generator (default: 1000)
+     * @param scenario Scenario whose operation mix the requests are drawn from (default: default)
+     */
+    @PostMapping("/open-load-test")
+    public ResponseEntity<String> runOpenLoadTest(
+            @RequestParam(defaultValue = "REST") String api,
+            @RequestParam(defaultValue = "50") double rps,
+            @RequestParam(required = false) Double maxRps,
+            @RequestParam(defaultValue = "50") double stepRps,
+            @RequestParam(defaultValue = "10") int stepDuration,
+            @RequestParam(defaultValue = "1000") int maxInFlight,
+            @RequestParam(defaultValue = ScenarioCatalog.DEFAULT_SCENARIO) String scenario) {
+        return jobManager.runExclusively(() -> {
+            OpenModelConfiguration config = new OpenModelConfiguration(rps, maxRps == null ? rps : maxRps, stepRps,
+                stepDuration, maxInFlight, OpenModelConfiguration.DEFAULT_TOLERANCE);
+            ApiMode mode = ApiMode.parse(api);
+            OpenModelResult result = loadTester.runOpenModelTest(config, mode, scenario);
+
+            StringBuilder response = new StringBuilder();
+            response.append("🎯 Open-Model Load Test (").append(mode.getLabel()).append(", scenario ").append(scenario)
+                .append(")\n\n");
+            response.append("Latency in ms; 'corrected' counts from the scheduled send time, 'sent' from the actual one.\n");
+            response.append(String.format("%9s %9s %8s %7s %7s %8s %9s %9s %9s %9s %9s %5s%n",
+                "Target/s", "Done/s", "Requests", "Errors", "Timeout", "Backlog", "p50", "p99", "p99.9", "max", "p99 sent",
+                "Sat"));
+            for (OpenModelResult.StepResult step : result.steps()) {
+                LatencySummary corrected = step.corrected();
+                response.append(String.format("%9.0f %9.1f %8d %7d %7d %8d %9.2f %9.2f %9.2f %9.2f %9.2f %5s%n",
+                    step.targetRps(), step.achievedRps(), step.completed(), step.errors(), step.timedOut(), step.backlog(),
+                    corrected.p50Ms(), corrected.p99Ms(), corrected.p999Ms(), corrected.maxMs(),
+                    step.uncorrected().p99Ms(), step.saturated() ? "⚠️" : ""));
+            }
+            response.append("\n");
+            if (result.saturationRps() == null) {
+                response.append(String.format("✅ Kept up with every step (max %.0f req/s)%n", result.maxSustainedRps()));
+            } else {
+                response.append(String.format("⚠️ Stopped keeping up at %.0f req/s; max sustained %.0f req/s%n",
+                    result.saturationRps(), result.maxSustainedRps()));
+            }
+            if (mode.isHttp()) {
+                response.append("\n").append(formatHttpTimings(mode.getLabel(), loadTester.getHttpTimings()));
+                appendServerTimings(response);
+            }
+            appendDatabaseNote(response);
+            appendRunId(response, loadTester.getLastRunId());
+            return ResponseEntity.ok(response.toString());
+        }).orElseGet(this::busy);
+    }
+
+    /**
+     * Run the scenario once in each API mode, REST and actions each over HTTP and in-process, one mode after the
+     * other, and report the four side by side.
+     * @param users Number of concurrent users per mode (default: 5)
+     * @param duration Seconds per mode (default: 30)
+     * @param scenario Scenario to run (default: default)
+     */
+    @PostMapping("/api-matrix")
+    public ResponseEntity<String> runApiMatrix(
+            @RequestParam(defaultValue = "5") int users,
+            @RequestParam(defaultValue = "30") int duration,
+            @RequestParam(defaultValue = ScenarioCatalog.DEFAULT_SCENARIO) String scenario) {
+        return jobManager.runExclusively(() -> {
+            PerformanceLoadTester.PerformanceTestResult result = loadTester.runApiMatrix(
+                new PerformanceLoadTester.LoadTestConfiguration(users, duration, scenario));
+            ScenarioResult scenarioResult = result.getScenarioResult();
+
+            StringBuilder response = new StringBuilder();
+            response.append(String.format("🧮 API Matrix (scenario %s, %d users, %d s per mode)%n%n",
+                scenarioResult.scenario(), users, duration));
+            response.append("Totals, ms:\n");
+            response.append(String.format("  %-12s %9s %7s %9s %9s %9s %9s%n",
+                "Mode", "Requests", "Errors", "Req/s", "p50", "p99", "max"));
+            Map<ApiMode, ScenarioResult.OperationResult> totals = new EnumMap<>(ApiMode.class);
+            for (ApiMode mode : ApiMode.values()) {
+                ScenarioResult.OperationResult total = scenarioResult.total(mode.getLabel());
+                if (total == null) continue;
+                totals.put(mode, total);
+                response.append(String.format("  %-12s %9d %7d %9.1f %9.2f %9.2f %9.2f%n", mode.getLabel(),
+                    total.requests(), total.errors(), total.throughputPerSecond(),
+                    total.latency().p50Ms(), total.latency().p99Ms(), total.latency().maxMs()));
+            }
+
+            response.append("\np99 by operation, ms:\n");
+            response.append(String.format("  %-20s", "Operation"));
+            for (ApiMode mode : ApiMode.values()) {
+                response.append(String.format(" %12s", mode.getLabel()));
+            }
+            response.append("\n");
+            Map<String, Map<String, Double>> p99ByOperation = new LinkedHashMap<>();
+            for (ScenarioResult.OperationResult op : scenarioResult.operations()) {
+                p99ByOperation.computeIfAbsent(op.operation(), key -> new LinkedHashMap<>())
+                    .put(op.driver(), op.latency().p99Ms());
+            }
+            p99ByOperation.forEach((operation, byMode) -> {
+                response.append(String.format("  %-20s", operation));
+                for (ApiMode mode : ApiMode.values()) {
+                    Double p99 = byMode.get(mode.getLabel());
+                    response.append(p99 == null ? String.format(" %12s", "-") : String.format(" %12.2f", p99));
+                }
+                response.append("\n");
+            });
+
+            response.append("\n🔍 Differences (p50 and throughput of the totals):\n");
+            appendModeDifference(response, "HTTP overhead, REST", totals, ApiMode.REST_LOCAL, ApiMode.REST_HTTP);
+            appendModeDifference(response, "HTTP overhead, actions", totals, ApiMode.ACTION_LOCAL, ApiMode.ACTION_HTTP);
+            appendModeDifference(response, "Actions vs REST, HTTP", totals, ApiMode.REST_HTTP, ApiMode.ACTION_HTTP);
+            appendModeDifference(response, "Actions vs REST, local", totals, ApiMode.REST_LOCAL, ApiMode.ACTION_LOCAL);
+
+            result.getHttpTimings().forEach((mode, timings) -> response.append("\n").append(formatHttpTimings(mode, timings)));
+            appendServerTimings(response);
+            appendDatabaseNote(response);
+            appendRunId(response, result.getRunId());
+            return ResponseEntity.ok(response.toString());
+        }).orElseGet(this::busy);
+    }
+
+    /**
+     * A/B benchmark of REST against actions: alternating runs, warmup discarded, and bootstrap confidence intervals
+     * for mean latency, p99 and throughput. A winner is only named for significant differences.
+     * @param users Number of concurrent users (default: 5)
+     * @param duration Seconds per API per iteration (default: 10)
+     * @param iterations Measured iterations (default: 10)
+     * @param warmup Discarded iterations before them (default: 2)
+     * @param transport mixed, http or local (default: http)
+     * @param scenario Scenario to run (default: default)
+     */
+    @PostMapping("/ab-test")
+    public ResponseEntity<String> runAbTest(
+            @RequestParam(defaultValue = "5") int users,
+            @RequestParam(defaultValue = "10") int duration,
+            @RequestParam(defaultValue = "10") int iterations,
+            @RequestParam(defaultValue = "2") int warmup,
+            @RequestParam(defaultValue = ApiMode.HTTP) String transport,
+            @RequestParam(defaultValue = ScenarioCatalog.DEFAULT_SCENARIO) String scenario,
+            @RequestParam(defaultValue = "2000") int resamples) {
+        return jobManager.runExclusively(() -> {
+            AbResult result = abBenchmarkRunner.run(new AbConfiguration(scenario, transport, users, duration, iterations,
+                warmup, resamples, AbConfiguration.DEFAULT_CONFIDENCE));
+
+            StringBuilder response = new StringBuilder();
+            response.append(String.format("⚖️ A/B Benchmark: %s vs %s (scenario %s, %d users, %d s per run)%n%n",
+                result.restDriver(), result.actionDriver(), scenario, users, duration));
+            response.append("Iterations, ms:\n");
+            response.append(String.format("  %4s %-13s %10s %9s %9s %10s %9s %9s%n", "#", "First",
+                "REST req/s", "mean", "p99", "ACT req/s", "mean", "p99"));
+            for (AbResult.Iteration iteration : result.iterations()) {
+                response.append(String.format("  %4s %-13s %10.1f %9.2f %9.2f %10.1f %9.2f %9.2f%n",
+                    iteration.warmup() ? "w" + iteration.number() : String.valueOf(iteration.number()),
+                    iteration.firstDriver(), iteration.rest().throughputPerSecond(), iteration.rest().meanMs(),
+                    iteration.rest().p99Ms(), iteration.action().throughputPerSecond(), iteration.action().meanMs(),
+                    iteration.action().p99Ms()));
+            }
+
+            response.append(String.format("%nBootstrap %.0f%% intervals over %d measured iterations:%n",
+                result.configuration().confidence() * 100, result.configuration().iterations()));
+            response.append(String.format("  %-17s %-26s %-26s %-26s %s%n", "Metric", "REST", "ACTION", "Δ ACTION vs REST",
+                "Verdict"));
+            for (AbResult.MetricEstimate metric : result.metrics()) {
+                response.append(String.format("  %-17s %-26s %-26s %-26s %s%n", metric.metric(),
+                    formatInterval(metric.rest()), formatInterval(metric.action()),
+                    String.format("%+.1f%% [%+.1f%%, %+.1f%%]", metric.difference().estimate() * 100,
+                        metric.difference().lower() * 100, metric.difference().upper() * 100),
+                    metric.better()));
+            }
+            response.append("\n");
+            response.append(switch (result.winner()) {
+                case AbResult.TIE -> "🤝 No significant difference\n";
+                case AbResult.MIXED -> "🔀 Mixed: the APIs win on different metrics\n";
+                default -> "🥇 Winner: " + result.winner() + " (significant on every metric that differs)\n";
+            });
+            appendDatabaseNote(response);
+            return ResponseEntity.ok(response.toString());
+        }).orElseGet(this::busy);
+    }
+
+    /**
+     * Load test driven from separate worker JVMs instead of the server's own, so the load generator does not compete
+     * with the server for heap and GC. Users are split across the workers and their histograms merged losslessly.
+     * @param workers Number of worker JVMs (default: 2)
+     * @param users Concurrent users per API across all workers (default: 10)
+     * @param duration Test duration in seconds (default: 30)
+     * @param scenario Scenario to run (default: default)
+     * @param transport Must be http: workers reach both APIs over HTTP (default: http)
+     */
+    @PostMapping("/distributed-load-test")
+    public ResponseEntity<String> runDistributedLoadTest(
+            @RequestParam(defaultValue = "2") int workers,
+            @RequestParam(defaultValue = "10") int users,
+            @RequestParam(defaultValue = "30") int duration,
+            @RequestParam(defaultValue = ScenarioCatalog.DEFAULT_SCENARIO) String scenario,
+            @RequestParam(defaultValue = ApiMode.HTTP) String transport) {
+        return jobManager.runExclusively(() -> {
+            LoadWorkerCoordinator.WorkerRunResult result = loadWorkerCoordinator.run(
+                new WorkerConfiguration(scenario, transport, users, duration, workers));
+
+            StringBuilder response = new StringBuilder();
+            response.append(String.format("🧵 Distributed Load Test (scenario %s, %d users per API, %d worker JVMs, %d s)%n%n",
+                scenario, users, workers, duration));
+            long firstStart = result.reports().stream().mapToLong(WorkerReport::startedAtEpochMs).min().orElse(0);
+            response.append(String.format("  %-8s %10s %10s %12s%n", "Worker", "Requests", "Duration", "Start skew"));
+            for (WorkerReport report : result.reports()) {
+                response.append(String.format("  %-8d %10d %8d ms %9d ms%n", report.worker() + 1, report.requests(),
+                    report.durationMs(), report.startedAtEpochMs() - firstStart));
+            }
+            response.append("\n");
+            response.append(formatScenarioResult(result.result()));
+            appendServerTimings(response);
+            appendDatabaseNote(response);
+            appendRunId(response, result.runId());
+            return ResponseEntity.ok(response.toString());
+        }).orElseGet(this::busy);
+    }
+
+    /**
+     * List the load-test scenarios available to load-test and open-load-test.
+     */
+    @GetMapping("/scenarios")
+    public ResponseEntity<String> listScenarios() {
         StringBuilder response = new StringBuilder();
-        response.append("🎯 Load Test Completed Successfully!\n\n");
-        response.append("📊 Test Configuration:\n");
-        response.append("  • Concurrent Users: ").append(config.getConcurrentUsers()).append("\n");
-        response.append("  • Test Duration: ").append(config.getTestDurationSeconds()).append(" seconds\n");
-        response.append("  • Actual Duration: ").append(result.getDurationMs()).append(" ms\n\n");
-        
-        // Get fresh comparison data and format as table
-        PerformanceComparison comparison = performanceMonitor.getComparison();
-        response.append("📈 Performance Results Table:\n");
-        response.append(formatAsTable(comparison));
-        
-        response.append("\n🔗 Access other endpoints:\n");
-        response.append("  • Metrics: GET /performance/comparison\n");
-        response.append("  • Summary: GET /performance/summary\n");
-        response.append("  • Reset: POST /performance/reset\n");
-        
+        response.append("🎬 Load-Test Scenarios\n\n");
+        for (Scenario scenario : scenarioCatalog.list()) {
+            response.append(String.format("%-16s %-8s %s%n", scenario.name(), scenario.idSelection().distribution(),
+                scenario.description() == null ? "" : scenario.description()));
+        }
+        return ResponseEntity.ok(response.toString());
+    }
+
+    /**
+     * List the saved load-test runs, oldest first.
+     */
+    @GetMapping("/results")
+    public ResponseEntity<String> listResults() {
+        StringBuilder response = new StringBuilder();
+        response.append("💾 Saved Runs\n\n");
+        response.append(String.format("%-52s %-15s %10s %-12s %s%n", "Id", "Type", "Duration", "Environment", "Totals"));
+        for (RunRecord run : runResultStore.list()) {
+            StringBuilder totals = new StringBuilder();
+            run.series().stream().filter(series -> series.operation().equals("TOTAL")).forEach(series ->
+                totals.append(String.format("%s %.1f req/s p99 %.2f ms  ", series.driver(),
+                    series.throughputPerSecond(), series.latency().p99Ms())));
+            response.append(String.format("%-52s %-15s %8d s %-12s %s%n", run.id(), run.type(),
+                run.durationMs() / 1000, run.environment() == null ? "-" : run.environment().hash(), totals));
+        }
+        return ResponseEntity.ok(response.toString());
+    }
+
+    /**
+     * A saved run as stored: configuration, environment fingerprint and every series with its histogram.
+     */
+    @GetMapping("/results/{id}")
+    public ResponseEntity<RunRecord> getResult(@PathVariable String id) {
+        return ResponseEntity.ok(runResultStore.load(id));
+    }
+
+    /**
+     * Compare a saved run against a baseline run and flag significant p99 or throughput regressions.
+     * @param baseline Id of the baseline run
+     * @param candidate Id of the run to check (default: latest)
+     */
+    @GetMapping("/results/compare")
+    public ResponseEntity<String> compareResults(
+            @RequestParam String baseline,
+            @RequestParam(defaultValue = RunResultStore.LATEST) String candidate) {
+        RunComparison comparison = runResultStore.compare(baseline, candidate);
+
+        StringBuilder response = new StringBuilder();
+        response.append("⚖️ Run Comparison\n\n");
+        response.append("  • Baseline: ").append(comparison.baselineId()).append("\n");
+        response.append("  • Candidate: ").append(comparison.candidateId()).append("\n");
+        response.append(String.format("  • Flags changes over %.0f%% at %.0f%% confidence%n",
+            comparison.threshold() * 100, comparison.confidence() * 100));
+        if (!comparison.hasCommonSeries()) {
+            response.append("  ⚠️ The runs have no series in common\n\n");
+            response.append("❌ NOT COMPARED: no common series\n");
+            return ResponseEntity.ok(response.toString());
+        }
+        if (!comparison.comparable()) {
+            response.append("  ⚠️ Only one of the runs used an embedded database; their numbers are not comparable\n");
+        } else if (!comparison.sameEnvironment()) {
+            response.append("  ⚠️ Environment fingerprints differ; the runs may not be comparable\n");
+        }
+        response.append("\n");
+        response.append(String.format("%-28s %9s %9s %8s %-17s %9s %9s %8s %7s %-17s%n", "Series",
+            "p99 base", "p99 new", "Δ", "p99 verdict", "Req/s base", "Req/s new", "Δ", "p", "Throughput verdict"));
+        for (RunComparison.SeriesComparison series : comparison.series()) {
+            response.append(String.format("%-28s %9.2f %9.2f %+7.1f%% %-17s %9.1f %9.1f %+7.1f%% %7s %-17s%n",
+                series.series(), series.baselineP99Ms(), series.candidateP99Ms(), series.p99Change() * 100,
+                series.p99Verdict(), series.baselineThroughput(), series.candidateThroughput(),
+                series.throughputChange() * 100,
+                series.throughputPValue() == null ? "-" : String.format("%.3f", series.throughputPValue()),
+                series.throughputVerdict()));
+        }
+        response.append("\n");
+        response.append(comparison.hasRegressions() ? "❌ REGRESSION detected\n" : "✅ No significant regressions\n");
         return ResponseEntity.ok(response.toString());
     }
 
+    /**
+     * Load test the hot read queries on the JPA path and then on the JDBC path.
+     * @param users Number of concurrent callers (default: 4)
+     * @param duration Seconds spent on each query per path (default: 5)
+     */
+    @PostMapping("/read-path-comparison")
+    public ResponseEntity<String> compareReadPaths(
+            @RequestParam(defaultValue = "4") int users,
+            @RequestParam(defaultValue = "5") int duration) {
+        return jobManager.runExclusively(() -> {
+            List<ReadPathLoadComparison.ReadPathResult> results = readPathLoadComparison.run(users, duration);
+
+            StringBuilder response = new StringBuilder();
+            response.append("🎯 JPA vs JDBC Read Path Comparison\n\n");
+            response.append(String.format("%-16s %-4s %8s %10s %10s %10s %10s%n",
+                "Query", "Path", "Requests", "Req/s", "Avg µs", "p50 µs", "p99 µs"));
+            for (ReadPathLoadComparison.ReadPathResult result : results) {
+                response.append(String.format("%-16s %-4s %8d %10.0f %10.1f %10.1f %10.1f%n",
+                    result.query(), result.path(), result.requests(), result.throughputPerSecond(),
+                    result.averageMicros(), result.p50Micros(), result.p99Micros()));
+            }
+            appendDatabaseNote(response);
+            return ResponseEntity.ok(response.toString());
+        }).orElseGet(this::busy);
+    }
+
+    /**
+     * Bulk-load synthetic benchmark data into all three tables in parallel; 409 while a job is queued or running.
+     * @param cars Car rows to insert (default: 100000)
+     * @param animals Animal rows to insert (default: 100000)
+     * @param employees Employee rows to insert (default: 100000)
+     * @param truncate Empty the tables first (default: false)
+     */
+    @PostMapping("/seed")
+    public ResponseEntity<String> seedData(
+            @RequestParam(defaultValue = "100000") long cars,
+            @RequestParam(defaultValue = "100000") long animals,
+            @RequestParam(defaultValue = "100000") long employees,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "730") int spreadDays,
+            @RequestParam(defaultValue = "0.99") double zipfTheta,
+            @RequestParam(defaultValue = "42") long seed,
+            @RequestParam(defaultValue = "false") boolean truncate) {
+        SeedConfiguration config = new SeedConfiguration(cars, animals, employees, batchSize, spreadDays, zipfTheta,
+            seed, truncate);
+        return jobManager.runExclusively(() -> {
+            SeedResult result = dataSeeder.seed(config);
+
+            StringBuilder response = new StringBuilder();
+            response.append("🌱 Seeding Completed\n\n");
+            response.append(String.format("%-14s %12s %10s %12s%n", "Table", "Rows", "ms", "Rows/s"));
+            for (SeedResult.TableSeedResult table : result.tables()) {
+                response.append(String.format("%-14s %,12d %,10d %,12.0f%n",
+                    table.table(), table.rows(), table.millis(), table.rowsPerSecond()));
+            }
+            response.append(String.format("%nTotal: %,d rows in %,d ms%n", result.totalRows(), result.totalMillis()));
+            appendDatabaseNote(response);
+            return ResponseEntity.ok(response.toString());
+        }).orElseGet(this::busy);
+    }
+
+    /**
+     * Queue a scaling sweep as a background job: seed the tables up to each size in turn, run every operation of the
+     * scenario on its own at every size, then tabulate p99 and throughput per operation against the rows per table
+     * and flag operations whose p99 grows super-linearly. The first step truncates the tables, so truncate=true is
+     * required; later steps top them up. Answers 202 with the job; follow it under /performance/jobs/{id} and read
+     * the report from GET /performance/scaling-sweep/{id}.
+     * @param sizes Rows per table at each step, ascending (default: app.scaling.sizes, 10k to 10M)
+     * @param scenario Scenario whose operations run at each size (default: app.scaling.scenario, scaling)
+     * @param users Concurrent users per API (default: 5)
+     * @param duration Measured seconds per operation and size (default: 30)
+     * @param warmup Unmeasured seconds before each measurement (default: app.scaling.warmup-seconds)
+     * @param transport mixed, http or local (default: http)
+     * @param truncate Confirms that the car, animal and employee tables may be emptied (default: false)
+     */
+    @PostMapping("/scaling-sweep")
+    public ResponseEntity<String> runScalingSweep(
+            @RequestParam(required = false) List<Long> sizes,
+            @RequestParam(required = false) String scenario,
+            @RequestParam(defaultValue = "5") int users,
+            @RequestParam(defaultValue = "30") int duration,
+            @RequestParam(required = false) Integer warmup,
+            @RequestParam(defaultValue = ApiMode.HTTP) String transport,
+            @RequestParam(defaultValue = "false") boolean truncate) {
+        ScalingConfiguration config = scalingSweep.configure(sizes, scenario, transport, users, duration, warmup,
+            truncate);
+        return jobManager.submitScalingSweep(config)
+            .map(job -> ResponseEntity.accepted().location(URI.create("/performance/jobs/" + job.getId()))
+                .body(String.format("📏 Scaling sweep queued as job %d over %s rows per table%n"
+                    + "  • Progress: GET /performance/jobs/%d (stage), GET /performance/jobs/%d/events%n"
+                    + "  • Report:   GET /performance/scaling-sweep/%d%n",
+                    job.getId(), config.sizes(), job.getId(), job.getId(), job.getId())))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body("⏳ The job queue is full; try again once a job has finished\n"));
+    }
+
+    /**
+     * Report of a scaling-sweep job: 202 with its stage while it runs, 409 if it failed or was cancelled.
+     * @param id Job id returned by POST /performance/scaling-sweep
+     */
+    @GetMapping("/scaling-sweep/{id}")
+    public ResponseEntity<String> getScalingSweep(@PathVariable long id) {
+        LoadTestJob job = jobManager.get(id);
+        if (!LoadTestJob.SCALING_SWEEP.equals(job.getType())) {
+            throw new IllegalArgumentException("Job " + id + " is a " + job.getType() + ", not a scaling sweep");
+        }
+        if (!job.isFinished()) {
+            return ResponseEntity.accepted().body(String.format("⏳ Job %d is %s: %s%n", id, job.getStatus(),
+                job.getStage() == null ? "waiting" : job.getStage()));
+        }
+        if (job.getStatus() != LoadTestJob.Status.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(String.format("❌ Job %d %s%s%n", id,
+                job.getStatus(), job.getError() == null ? "" : ": " + job.getError()));
+        }
+        return ResponseEntity.ok(formatScalingResult((ScalingResult) job.getResult()));
+    }
+
+    private String formatScalingResult(ScalingResult result) {
+        ScalingConfiguration config = result.configuration();
+        StringBuilder response = new StringBuilder();
+        response.append(String.format("📏 Data-Size Scaling Sweep (scenario %s, %d users, %d s per operation and size, %s)%n",
+            config.scenario(), config.users(), config.durationSeconds(), config.transport()));
+        response.append("Every operation ran on its own; GET_ALL only up to ")
+            .append(formatRows(config.getAllMaxRows())).append(" rows.\n\n");
+        response.append(String.format("%-12s %10s %6s%n", "Rows/table", "Seed ms", "Runs"));
+        for (ScalingResult.SizeRun run : result.runs()) {
+            response.append(String.format("%-12s %,10d %6d%n", formatRows(run.rows()), run.seedMillis(),
+                run.measurements().stream().map(ScalingResult.Measurement::runId).distinct().count()));
+        }
+
+        StringBuilder header = new StringBuilder(String.format("%-12s %-20s", "API", "Operation"));
+        result.runs().forEach(run -> header.append(String.format(" %9s", formatRows(run.rows()))));
+        response.append("\np99 ms by rows per table (exponent k: p99 grows like rows^k at the steepest step):\n");
+        response.append(header).append(String.format(" %8s%n", "k"));
+        for (ScalingResult.Growth growth : result.growth()) {
+            response.append(String.format("%-12s %-20s", growth.driver(), growth.operation()));
+            for (ScalingResult.SizeRun run : result.runs()) {
+                ScalingResult.Measurement point = growth.at(run.rows());
+                response.append(point == null ? String.format(" %9s", "-") : String.format(" %9.2f", point.p99Ms()));
+            }
+            response.append(Double.isNaN(growth.p99Exponent()) ? String.format(" %8s", "-")
+                : String.format(" %8.2f", growth.p99Exponent()));
+            response.append(growth.superLinear() ? " ⚠️\n" : "\n");
+        }
+        response.append("\nReq/s by rows per table:\n").append(header).append("\n");
+        for (ScalingResult.Growth growth : result.growth()) {
+            response.append(String.format("%-12s %-20s", growth.driver(), growth.operation()));
+            for (ScalingResult.SizeRun run : result.runs()) {
+                ScalingResult.Measurement point = growth.at(run.rows());
+                response.append(point == null ? String.format(" %9s", "-")
+                    : String.format(" %9.1f", point.throughputPerSecond()));
+            }
+            response.append("\n");
+        }
+
+        response.append("\n");
+        List<ScalingResult.Growth> superLinear = result.superLinear();
+        if (superLinear.isEmpty()) {
+            response.append(String.format("✅ No operation's p99 grows faster than rows^%.1f%n",
+                result.superLinearExponent()));
+        } else {
+            response.append(String.format("⚠️ Super-linear (p99 grows faster than rows^%.1f):%n",
+                result.superLinearExponent()));
+            superLinear.forEach(growth -> response.append(String.format("  • %s %s (k = %.2f)%n", growth.driver(),
+                growth.operation(), growth.p99Exponent())));
+        }
+        if (scalingSweep.getLastCsv() != null) {
+            response.append("\n💾 CSV for plotting: ").append(scalingSweep.getLastCsv().toAbsolutePath()).append("\n");
+        }
+        appendDatabaseNote(response);
+        return response.toString();
+    }
+
     /**
      * Get performance summary as a formatted table.
      */
@@ -108,19 +678,146 @@ public class PerformanceTestController {
         return ResponseEntity.ok(formatAsTable(comparison));
     }
 
+    private static String formatRows(long rows) {
+        if (rows >= 1_000_000 && rows % 1_000_000 == 0) return rows / 1_000_000 + "M";
+        if (rows >= 1_000 && rows % 1_000 == 0) return rows / 1_000 + "k";
+        return String.valueOf(rows);
+    }
+
     /**
-     * Format performance comparison results as a table.
+     * 409 for a synchronous test refused because a job or another test has the machine.
+     */
+    private ResponseEntity<String> busy() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body("⏳ A load-test job or another test is running; its load would skew both results.\n"
+                + "Wait for it (GET /performance/jobs), or queue this load test as a job (POST /performance/jobs).\n");
+    }
+
+    private void appendDatabaseNote(StringBuilder response) {
+        EnvironmentFingerprint environment = runResultStore.fingerprint();
+        if (environment.embeddedDatabase()) {
+            response.append("\n⚠️ Ran on embedded ").append(environment.database())
+                .append(": dispatch, serialization and caching numbers hold; DB-bound latencies only compare with other ")
+                .append("embedded-database runs\n");
+        }
+    }
+
+    private void appendRunId(StringBuilder response, String runId) {
+        if (runId != null) {
+            response.append("\n💾 Saved as run ").append(runId)
+                .append(" (compare: GET /performance/results/compare?baseline=<id>&candidate=").append(runId).append(")\n");
+        }
+    }
+
+    private String formatInterval(AbResult.Interval interval) {
+        return String.format("%.2f [%.2f, %.2f]", interval.estimate(), interval.lower(), interval.upper());
+    }
+
+    private void appendServerTimings(StringBuilder response) {
+        List<ApiTimingRecorder.ApiTimingSummary> summaries = apiTimingRecorder.summaries();
+        if (!summaries.isEmpty()) {
+            response.append("\n").append(formatServerTimings(summaries));
+        }
+    }
+
+    /**
+     * Format the server-side phases per API style, first byte in to last byte out.
+     */
+    private String formatServerTimings(List<ApiTimingRecorder.ApiTimingSummary> summaries) {
+        StringBuilder text = new StringBuilder();
+        text.append("🖥️ Server timings by phase, ms (first byte in to last byte out):\n");
+        text.append(String.format("  %-7s %-16s %9s %9s %9s %9s %9s%n",
+            "API", "Phase", "Requests", "mean", "p50", "p99", "max"));
+        for (ApiTimingRecorder.ApiTimingSummary summary : summaries) {
+            appendServerPhase(text, summary.api(), "total", summary.total());
+            appendServerPhase(text, summary.api(), "deserialization", summary.deserialization());
+            appendServerPhase(text, summary.api(), "handler", summary.handler());
+            appendServerPhase(text, summary.api(), "serialization", summary.serialization());
+            appendServerPhase(text, summary.api(), "framework", summary.framework());
+            if (summary.errors() > 0) {
+                text.append(String.format("  %-7s %,d of %,d requests failed%n", "", summary.errors(), summary.requests()));
+            }
+        }
+        return text.toString();
+    }
+
+    private void appendServerPhase(StringBuilder text, String api, String phase, LatencySummary latency) {
+        text.append(String.format("  %-7s %-16s %9d %9.3f %9.3f %9.3f %9.3f%n",
+            api, phase, latency.count(), latency.meanMs(), latency.p50Ms(), latency.p99Ms(), latency.maxMs()));
+    }
+
+    private void appendModeDifference(StringBuilder text, String label,
+                                      Map<ApiMode, ScenarioResult.OperationResult> totals, ApiMode from, ApiMode to) {
+        ScenarioResult.OperationResult base = totals.get(from);
+        ScenarioResult.OperationResult other = totals.get(to);
+        if (base == null || other == null) return;
+        double p50Delta = other.latency().p50Ms() - base.latency().p50Ms();
+        double throughputChange = base.throughputPerSecond() == 0 ? 0.0
+            : (other.throughputPerSecond() / base.throughputPerSecond() - 1) * 100;
+        text.append(String.format("  %-24s %s → %s: p50 %+.2f ms, throughput %+.1f%%%n",
+            label, from.getLabel(), to.getLabel(), p50Delta, throughputChange));
+    }
+
+    /**
+     * Format per-operation latency of a scenario run, one block per driver.
+     */
+    private String formatScenarioResult(ScenarioResult result) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("🎬 Scenario '%s' by operation, ms:%n", result.scenario()));
+        text.append(String.format("  %-12s %-20s %9s %7s %9s %9s %9s %9s%n",
+            "Driver", "Operation", "Requests", "Errors", "Req/s", "p50", "p99", "max"));
+        for (String driver : result.drivers()) {
+            for (ScenarioResult.OperationResult op : result.operations()) {
+                if (op.driver().equals(driver)) appendOperation(text, op);
+            }
+            appendOperation(text, result.total(driver));
+        }
+        return text.toString();
+    }
+
+    private void appendOperation(StringBuilder text, ScenarioResult.OperationResult op) {
+        text.append(String.format("  %-12s %-20s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+            op.driver(), op.operation(), op.requests(), op.errors(), op.throughputPerSecond(),
+            op.latency().p50Ms(), op.latency().p99Ms(), op.latency().maxMs()));
+    }
+
+    /**
+     * Format the client-side HTTP timing breakdown of the requests sent in one API mode.
+     */
+    private String formatHttpTimings(String mode, HttpTimingRecorder.HttpTimingSummary timings) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("🌐 %s client timings, ms (%s, %,d requests, %,d errors):%n",
+            mode, timings.client(), timings.requests(), timings.errors()));
+        text.append(String.format("  %-8s %9s %9s %9s %9s%n", "Phase", "p50", "p90", "p99", "max"));
+        appendPhase(text, "connect", timings.connect());
+        appendPhase(text, "ttfb", timings.ttfb());
+        appendPhase(text, "total", timings.total());
+        return text.toString();
+    }
+
+    private void appendPhase(StringBuilder text, String phase, LatencySummary latency) {
+        if (latency == null) {
+            text.append(String.format("  %-8s %9s%n", phase, "n/a"));
+            return;
+        }
+        text.append(String.format("  %-8s %9.2f %9.2f %9.2f %9.2f%n",
+            phase, latency.p50Ms(), latency.p90Ms(), latency.p99Ms(), latency.maxMs()));
+    }
+
+    /**
+     * Format performance comparison results as a table. One run is not tested for significance, so the winners
+     * come from the last A/B benchmark and are TIE until one has run.
      */
     private String formatAsTable(PerformanceComparison comparison) {
         PerformanceMetrics restMetrics = comparison.getRestMetrics();
         PerformanceMetrics actionMetrics = comparison.getActionMetrics();
+        AbResult abResult = abBenchmarkRunner.getLastResult();
         
         StringBuilder table = new StringBuilder();
         
         // Determine winners for each metric
-        String speedWinner = comparison.getFasterApproach();
-        String throughputWinner = getThroughputWinner(comparison);
-        String successWinner = getSuccessRateWinner(comparison);
+        String speedWinner = abWinner(abResult, AbResult.MEAN_LATENCY);
+        String throughputWinner = abWinner(abResult, AbResult.THROUGHPUT);
         
         // Header
         table.append("╔═══════════════╦══════════╦══════════════╦══════════════╦══════════════╦════════╗\n");
@@ -128,7 +825,7 @@ public class PerformanceTestController {
         table.append("╠═══════════════╬══════════╬══════════════╬══════════════╬══════════════╬════════╣\n");
         
         // REST API row with winner indicators
-        String restStatus = getStatusIndicator("REST", speedWinner, throughputWinner, successWinner);
+        String restStatus = getStatusIndicator("REST", speedWinner, throughputWinner);
         table.append(String.format("║ %-13s ║ %8s ║ %10.2fms ║ %11.1f%% ║ %9.0f/s ║ %-6s ║\n",
             "REST API",
             formatNumber(restMetrics.getTotalRequests()),
@@ -138,7 +835,7 @@ public class PerformanceTestController {
             restStatus));
         
         // Action API row with winner indicators
-        String actionStatus = getStatusIndicator("ACTION", speedWinner, throughputWinner, successWinner);
+        String actionStatus = getStatusIndicator("ACTION", speedWinner, throughputWinner);
         table.append(String.format("║ %-13s ║ %8s ║ %10.2fms ║ %11.1f%% ║ %9.0f/s ║ %-6s ║\n",
             "Action API",
             formatNumber(actionMetrics.getTotalRequests()),
@@ -165,31 +862,33 @@ public class PerformanceTestController {
         table.append("\n🏆 PERFORMANCE SUMMARY:\n");
         table.append("═════════════════════════════════════════════════════════════════════════════════\n");
         
+        if (abResult == null) {
+            table.append("⚖️ No A/B benchmark yet; a single run is not tested for significance\n");
+        } else {
+            table.append(String.format("⚖️ Verdicts from the last A/B benchmark (%s vs %s, scenario %s, %d iterations)\n",
+                abResult.restDriver(), abResult.actionDriver(), abResult.configuration().scenario(),
+                abResult.configuration().iterations()));
+        }
+
         // Overall winner determination
-        String overallWinner = determineOverallWinner(comparison);
+        String overallWinner = determineOverallWinner(abResult, speedWinner, throughputWinner);
         table.append(String.format("🥇 OVERALL WINNER: %s\n", overallWinner));
         
         // Detailed breakdown
         table.append("\n📈 METRIC BREAKDOWN:\n");
-        table.append(String.format("  🚀 Speed Champion:      %s (%+.2f%% %s)\n", 
-            speedWinner,
-            Math.abs(comparison.getAverageTimeDifferencePercent()),
-            speedWinner.equals("ACTION") ? "faster" : speedWinner.equals("REST") ? "faster" : "tie"));
+        table.append(String.format("  🚀 Speed Champion:      %s (%s)\n",
+            speedWinner, describeAbDifference(abResult, AbResult.MEAN_LATENCY)));
             
-        table.append(String.format("  ⚡ Throughput Leader:   %s (%+.2f%% %s)\n", 
-            throughputWinner,
-            Math.abs(comparison.getThroughputDifferencePercent()),
-            getThroughputDescription(comparison)));
+        table.append(String.format("  ⚡ Throughput Leader:   %s (%s)\n",
+            throughputWinner, describeAbDifference(abResult, AbResult.THROUGHPUT)));
             
-        table.append(String.format("  ✅ Reliability King:    %s (%+.2f%% %s)\n", 
-            successWinner,
-            Math.abs(comparison.getSuccessRateDifferencePercent()),
-            getSuccessRateDescription(comparison)));
+        table.append(String.format("  ✅ Reliability:         %+.2f%% success rate, Action vs REST (not tested)\n",
+            comparison.getSuccessRateDifferencePercent()));
         
         // Performance insights
         table.append("\n💡 INSIGHTS:\n");
         if (restMetrics.getTotalRequests() > 0 && actionMetrics.getTotalRequests() > 0) {
-            addPerformanceInsights(table, comparison);
+            addPerformanceInsights(table, comparison, abResult);
         } else {
             table.append("  📊 Run a load test to see detailed performance insights!\n");
         }
@@ -197,36 +896,34 @@ public class PerformanceTestController {
         return table.toString();
     }
 
-    private String getThroughputWinner(PerformanceComparison comparison) {
-        double diff = comparison.getThroughputDifferencePercent();
-        if (Math.abs(diff) < 1.0) return "TIE";
-        return diff > 0 ? "ACTION" : "REST";
+    private String abWinner(AbResult abResult, String metric) {
+        return abResult == null ? AbResult.TIE : abResult.better(metric);
     }
 
-    private String getSuccessRateWinner(PerformanceComparison comparison) {
-        double diff = comparison.getSuccessRateDifferencePercent();
-        if (Math.abs(diff) < 0.1) return "TIE";
-        return diff > 0 ? "ACTION" : "REST";
+    private String describeAbDifference(AbResult abResult, String metric) {
+        if (abResult == null) return "run ab-test";
+        return abResult.find(metric)
+            .map(estimate -> String.format("%+.1f%% %s, Action vs REST in A/B", estimate.difference().estimate() * 100,
+                estimate.metric()))
+            .orElse("not measured");
     }
 
-    private String getStatusIndicator(String architecture, String speedWinner, String throughputWinner, String successWinner) {
+    private String getStatusIndicator(String architecture, String speedWinner, String throughputWinner) {
         int wins = 0;
         if (speedWinner.equals(architecture)) wins++;
         if (throughputWinner.equals(architecture)) wins++;
-        if (successWinner.equals(architecture)) wins++;
         
         switch (wins) {
-            case 3: return "🏆🏆🏆";
             case 2: return "🏆🏆";
             case 1: return "🏆";
             default: return "";
         }
     }
 
-    private String determineOverallWinner(PerformanceComparison comparison) {
-        String speedWinner = comparison.getFasterApproach();
-        String throughputWinner = getThroughputWinner(comparison);
-        String successWinner = getSuccessRateWinner(comparison);
+    private String determineOverallWinner(AbResult abResult, String speedWinner, String throughputWinner) {
+        if (abResult == null) {
+            return "TIE 🤝 (not tested for significance; run ab-test: POST /performance/ab-test)";
+        }
         
         // Count wins for each architecture
         int restWins = 0;
@@ -238,44 +935,27 @@ public class PerformanceTestController {
         if ("REST".equals(throughputWinner)) restWins++;
         else if ("ACTION".equals(throughputWinner)) actionWins++;
         
-        if ("REST".equals(successWinner)) restWins++;
-        else if ("ACTION".equals(successWinner)) actionWins++;
-        
         if (actionWins > restWins) return "ACTION API 🎯";
         else if (restWins > actionWins) return "REST API 🌐";
-        else return "TIE 🤝 (Both architectures performed equally)";
-    }
-
-    private String getThroughputDescription(PerformanceComparison comparison) {
-        double diff = comparison.getThroughputDifferencePercent();
-        if (Math.abs(diff) < 1.0) return "tie";
-        return diff > 0 ? "higher throughput" : "higher throughput";
-    }
-
-    private String getSuccessRateDescription(PerformanceComparison comparison) {
-        double diff = comparison.getSuccessRateDifferencePercent();
-        if (Math.abs(diff) < 0.1) return "tie";
-        return diff > 0 ? "better reliability" : "better reliability";
+        else return "TIE 🤝 (no significant difference in the A/B benchmark)";
     }
 
-    private void addPerformanceInsights(StringBuilder table, PerformanceComparison comparison) {
+    private void addPerformanceInsights(StringBuilder table, PerformanceComparison comparison, AbResult abResult) {
         PerformanceMetrics restMetrics = comparison.getRestMetrics();
         PerformanceMetrics actionMetrics = comparison.getActionMetrics();
         
         // Response time insight
-        double avgTimeDiff = comparison.getAverageTimeDifferencePercent();
-        if (Math.abs(avgTimeDiff) > 5) {
-            String faster = avgTimeDiff > 0 ? "Action" : "REST";
-            table.append(String.format("  ⚡ %s API is significantly faster (%.1f%% difference)\n", 
-                faster, Math.abs(avgTimeDiff)));
+        String faster = abWinner(abResult, AbResult.MEAN_LATENCY);
+        if (!AbResult.TIE.equals(faster)) {
+            table.append(String.format("  ⚡ %s API is significantly faster in the A/B benchmark (%s)\n",
+                faster.equals(AbResult.ACTION) ? "Action" : "REST", describeAbDifference(abResult, AbResult.MEAN_LATENCY)));
         }
         
         // Throughput insight
-        double throughputDiff = comparison.getThroughputDifferencePercent();
-        if (Math.abs(throughputDiff) > 10) {
-            String leader = throughputDiff > 0 ? "Action" : "REST";
-            table.append(String.format("  🚀 %s API handles %.1f%% more requests per second\n", 
-                leader, Math.abs(throughputDiff)));
+        String leader = abWinner(abResult, AbResult.THROUGHPUT);
+        if (!AbResult.TIE.equals(leader)) {
+            table.append(String.format("  🚀 %s API handles significantly more requests per second in the A/B benchmark\n",
+                leader.equals(AbResult.ACTION) ? "Action" : "REST"));
         }
         
         // Consistency insight
@@ -0,0 +1,240 @@
+package org.example.performance;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import org.example.config.ReadPathProperties.ReadPath;
+import org.example.models.entity.Animal;
+import org.example.models.entity.Car;
+import org.example.models.entity.GovEmployee;
+import org.example.models.view.AnimalView;
+import org.example.models.view.CarView;
+import org.example.models.view.GovEmployeeView;
+import org.example.repository.AnimalJdbcRepository;
+import org.example.repository.AnimalRepository;
+import org.example.repository.CarJdbcRepository;
+import org.example.repository.CarRepository;
+import org.example.repository.GovEmployeeJdbcRepository;
+import org.example.repository.GovEmployeeRepository;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Load test of the hot read queries, once through the JPA repositories and once through the JDBC repositories.
+ * The repositories are called directly, so the live {@code app.read-path} settings are never touched, and JPA by-id
+ * bypasses the second-level cache so both paths hit the database.
+ */
+@Component
+public class ReadPathLoadComparison {
+    private static final int SAMPLE_SIZE = 1000;
+    private static final int WARMUP_CALLS = 200;
+    private static final Map<String, Object> BYPASS_CACHE =
+            Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+
+    private final CarRepository carRepository;
+    private final CarJdbcRepository carJdbcRepository;
+    private final AnimalRepository animalRepository;
+    private final AnimalJdbcRepository animalJdbcRepository;
+    private final GovEmployeeRepository govEmployeeRepository;
+    private final GovEmployeeJdbcRepository govEmployeeJdbcRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReadPathLoadComparison(CarRepository carRepository, CarJdbcRepository carJdbcRepository,
+                                  AnimalRepository animalRepository, AnimalJdbcRepository animalJdbcRepository,
+                                  GovEmployeeRepository govEmployeeRepository,
+                                  GovEmployeeJdbcRepository govEmployeeJdbcRepository,
+                                  EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.carRepository = carRepository;
+        this.carJdbcRepository = carJdbcRepository;
+        this.animalRepository = animalRepository;
+        this.animalJdbcRepository = animalJdbcRepository;
+        this.govEmployeeRepository = govEmployeeRepository;
+        this.govEmployeeJdbcRepository = govEmployeeJdbcRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Run every hot read query on both paths and return one result per query and path.
+     */
+    public List<ReadPathResult> run(int concurrentUsers, int secondsPerQuery) {
+        System.out.println("🚀 Starting JPA vs JDBC read path comparison...");
+        List<HotQuery> queries = hotQueries();
+        List<Sample> samples = new ArrayList<>();
+        samples.addAll(sample(carJdbcRepository.findPage(0, SAMPLE_SIZE), v -> new Sample(v.id(), v.brand())));
+        samples.addAll(sample(animalJdbcRepository.findPage(0, SAMPLE_SIZE), v -> new Sample(v.id(), v.type())));
+        samples.addAll(sample(govEmployeeJdbcRepository.findPage(0, SAMPLE_SIZE), v -> new Sample(v.id(), v.name())));
+        if (samples.isEmpty()) {
+            throw new IllegalStateException("No rows to read; seed data before comparing read paths");
+        }
+
+        List<ReadPathResult> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentUsers);
+        try {
+            for (ReadPath path : ReadPath.values()) {
+                for (HotQuery query : queries) {
+                    Consumer<Sample> call = inReadOnlyTransaction(query.on(path));
+                    for (int i = 0; i < WARMUP_CALLS; i++) {
+                        call.accept(pick(samples));
+                    }
+                    ReadPathResult result = measure(executor, query.name(), path, call,
+                            samples, concurrentUsers, secondsPerQuery);
+                    System.out.println("  " + result);
+                    results.add(result);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        System.out.println("✅ Read path comparison completed");
+        return results;
+    }
+
+    private List<HotQuery> hotQueries() {
+        return List.of(
+                new HotQuery("car by-id",
+                        s -> findBypassingCache(Car.class, s.id()).map(CarView::from),
+                        s -> carJdbcRepository.findById(s.id())),
+                new HotQuery("car page",
+                        s -> carRepository.findAllProjectedBy(PageRequest.of(page(s), 20)),
+                        s -> carJdbcRepository.findPage(page(s), 20)),
+                new HotQuery("car search",
+                        s -> carRepository.findProjectedByBrandContainingIgnoreCase(s.term()),
+                        s -> carJdbcRepository.findByBrandContainingIgnoreCase(s.term())),
+                new HotQuery("animal by-id",
+                        s -> findBypassingCache(Animal.class, s.id()).map(AnimalView::from),
+                        s -> animalJdbcRepository.findById(s.id())),
+                new HotQuery("animal page",
+                        s -> animalRepository.findAllProjectedBy(PageRequest.of(page(s), 20)),
+                        s -> animalJdbcRepository.findPage(page(s), 20)),
+                new HotQuery("animal search",
+                        s -> animalRepository.findProjectedByTypeContainingIgnoreCase(s.term()),
+                        s -> animalJdbcRepository.findByTypeContainingIgnoreCase(s.term())),
+                new HotQuery("employee by-id",
+                        s -> findBypassingCache(GovEmployee.class, s.id()).map(GovEmployeeView::from),
+                        s -> govEmployeeJdbcRepository.findById(s.id())),
+                new HotQuery("employee page",
+                        s -> govEmployeeRepository.findAllProjectedBy(PageRequest.of(page(s), 20)),
+                        s -> govEmployeeJdbcRepository.findPage(page(s), 20)),
+                new HotQuery("employee search",
+                        s -> govEmployeeRepository.findProjectedByNameContainingIgnoreCase(s.term()),
+                        s -> govEmployeeJdbcRepository.findByNameContainingIgnoreCase(s.term())));
+    }
+
+    private <T> Optional<T> findBypassingCache(Class<T> type, long id) {
+        return Optional.ofNullable(entityManager.find(type, id, BYPASS_CACHE));
+    }
+
+    /**
+     * Both paths pay for the same read-only transaction the services open, so only the query itself differs.
+     */
+    private Consumer<Sample> inReadOnlyTransaction(Consumer<Sample> call) {
+        return sample -> readOnlyTransaction.executeWithoutResult(status -> call.accept(sample));
+    }
+
+    private static int page(Sample sample) {
+        return (int) (sample.id() % 50);
+    }
+
+    private ReadPathResult measure(ExecutorService executor, String query, ReadPath path, Consumer<Sample> call,
+                                   List<Sample> samples, int concurrentUsers, int seconds) {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<long[]>> workers = new ArrayList<>();
+        for (int i = 0; i < concurrentUsers; i++) {
+            workers.add(executor.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    call.accept(pick(samples));
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        long[] all = new long[0];
+        for (Future<long[]> worker : workers) {
+            try {
+                long[] latencies = worker.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + latencies.length);
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Read path comparison interrupted", e);
+            } catch (Exception e) {
+                throw new IllegalStateException("Query '" + query + "' failed on " + path, e);
+            }
+        }
+        Arrays.sort(all);
+        return ReadPathResult.of(query, path, all, seconds);
+    }
+
+    private static <T> List<Sample> sample(List<T> rows, Function<T, Sample> toSample) {
+        return rows.stream()
+                .map(toSample)
+                .filter(s -> s.term() != null && !s.term().isEmpty())
+                .map(s -> new Sample(s.id(), s.term().substring(0, Math.min(3, s.term().length()))))
+                .toList();
+    }
+
+    private static Sample pick(List<Sample> samples) {
+        return samples.get(ThreadLocalRandom.current().nextInt(samples.size()));
+    }
+
+    private record Sample(long id, String term) {
+    }
+
+    private record HotQuery(String name, Consumer<Sample> jpa, Consumer<Sample> jdbc) {
+
+        Consumer<Sample> on(ReadPath path) {
+            return path == ReadPath.JDBC ? jdbc : jpa;
+        }
+    }
+
+    /**
+     * Latency and throughput of one query on one read path.
+     */
+    public record ReadPathResult(String query, ReadPath path, long requests, double throughputPerSecond,
+                                 double averageMicros, double p50Micros, double p99Micros) {
+
+        static ReadPathResult of(String query, ReadPath path, long[] sortedNanos, int seconds) {
+            int n = sortedNanos.length;
+            double average = n == 0 ? 0.0 : Arrays.stream(sortedNanos).average().orElse(0.0) / 1000.0;
+            return new ReadPathResult(query, path, n, (double) n / seconds, average,
+                    percentile(sortedNanos, 0.50), percentile(sortedNanos, 0.99));
+        }
+
+        private static double percentile(long[] sortedNanos, double quantile) {
+            if (sortedNanos.length == 0) return 0.0;
+            int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(index, 0)] / 1000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-16s %-4s %8d req %9.0f/s avg %8.1fµs p50 %8.1fµs p99 %8.1fµs",
+                    query, path, requests, throughputPerSecond, averageMicros, p50Micros, p99Micros);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.performance.ab;
+
+import org.example.performance.PerformanceMonitor;
+import org.example.performance.load.HttpTimingRecorder;
+import org.example.performance.scenario.ApiMode;
+import org.example.performance.scenario.Scenario;
+import org.example.performance.scenario.ScenarioCatalog;
+import org.example.performance.scenario.ScenarioDriver;
+import org.example.performance.scenario.ScenarioResult;
+import org.example.performance.scenario.ScenarioRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Benchmarks REST against actions over repeated, alternating runs instead of one concurrent run: each iteration
+ * runs the scenario on one API and then on the other, flipping the order every iteration, and the first
+ * iterations are discarded as warmup. Mean latency, p99 and throughput are compared with bootstrap confidence
+ * intervals over the measured iterations.
+ */
+@Component
+public class AbBenchmarkRunner {
+    private static final long BOOTSTRAP_SEED = 42;
+
+    private final ScenarioCatalog scenarioCatalog;
+    private final ScenarioRunner scenarioRunner;
+    private final PerformanceMonitor performanceMonitor;
+
+    public AbBenchmarkRunner(ScenarioCatalog scenarioCatalog, ScenarioRunner scenarioRunner,
+                             PerformanceMonitor performanceMonitor) {
+        this.scenarioCatalog = scenarioCatalog;
+        this.scenarioRunner = scenarioRunner;
+        this.performanceMonitor = performanceMonitor;
+    }
+
+    public AbResult run(AbConfiguration config) {
+        Scenario scenario = scenarioCatalog.find(config.scenario());
+        List<ApiMode> modes = ApiMode.pair(config.transport());
+        ScenarioDriver rest = scenarioRunner.driver(modes.get(0), new HttpTimingRecorder());
+        ScenarioDriver action = scenarioRunner.driver(modes.get(1), new HttpTimingRecorder());
+        int rounds = config.warmupIterations() + config.iterations();
+        System.out.printf("⚖️ A/B benchmark: %s vs %s, %d warmup + %d measured iterations of %d s per API%n",
+                rest.name(), action.name(), config.warmupIterations(), config.iterations(), config.iterationSeconds());
+
+        List<AbResult.Iteration> iterations = new ArrayList<>();
+        for (int i = 0; i < rounds; i++) {
+            boolean restFirst = i % 2 == 0;
+            boolean warmup = i < config.warmupIterations();
+            System.out.printf("🔁 Iteration %d/%d%s%n", i + 1, rounds, warmup ? " (warmup)" : "");
+            AbResult.Sample first = sample(scenario, config, restFirst ? rest : action);
+            AbResult.Sample second = sample(scenario, config, restFirst ? action : rest);
+            iterations.add(new AbResult.Iteration(i + 1, warmup, restFirst ? rest.name() : action.name(),
+                    restFirst ? first : second, restFirst ? second : first));
+        }
+
+        List<AbResult.Iteration> measured = iterations.stream().filter(iteration -> !iteration.warmup()).toList();
+        SplittableRandom random = new SplittableRandom(BOOTSTRAP_SEED);
+        List<AbResult.MetricEstimate> metrics = List.of(
+                estimate(AbResult.MEAN_LATENCY, true, measured, AbResult.Sample::meanMs, config, random),
+                estimate(AbResult.P99_LATENCY, true, measured, AbResult.Sample::p99Ms, config, random),
+                estimate(AbResult.THROUGHPUT, false, measured, AbResult.Sample::throughputPerSecond, config, random));
+        AbResult result = new AbResult(config, rest.name(), action.name(), iterations, metrics);
+        System.out.println("✅ A/B benchmark completed, winner: " + result.winner());
+        performanceMonitor.recordAbResult(result);
+        return result;
+    }
+
+    /**
+     * Result of the last completed run, or null if none ran yet.
+     */
+    public AbResult getLastResult() {
+        return performanceMonitor.getLastAbResult();
+    }
+
+    private AbResult.Sample sample(Scenario scenario, AbConfiguration config, ScenarioDriver driver) {
+        ScenarioResult result = scenarioRunner.run(scenario, config.users(), config.iterationSeconds(), List.of(driver));
+        ScenarioResult.OperationResult total = result.total(driver.name());
+        if (total == null) {
+            return new AbResult.Sample(0, 0, 0, 0, 0);
+        }
+        return new AbResult.Sample(total.requests(), total.errors(), total.latency().meanMs(),
+                total.latency().p99Ms(), total.throughputPerSecond());
+    }
+
+    private static AbResult.MetricEstimate estimate(String metric, boolean lowerIsBetter,
+                                                    List<AbResult.Iteration> measured,
+                                                    ToDoubleFunction<AbResult.Sample> value,
+                                                    AbConfiguration config, SplittableRandom random) {
+        double[] rest = measured.stream().mapToDouble(iteration -> value.applyAsDouble(iteration.rest())).toArray();
+        double[] action = measured.stream().mapToDouble(iteration -> value.applyAsDouble(iteration.action())).toArray();
+        return Bootstrap.estimate(metric, lowerIsBetter, rest, action, config.resamples(), config.confidence(), random);
+    }
+}
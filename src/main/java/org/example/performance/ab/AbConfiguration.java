@@ -0,0 +1,32 @@
+package org.example.performance.ab;
+
+import org.example.performance.scenario.ApiMode;
+
+/**
+ * Settings of an A/B run: {@code iterations} measured rounds after {@code warmupIterations} discarded ones, each
+ * round running the scenario once per API for {@code iterationSeconds}.
+ */
+public record AbConfiguration(String scenario, String transport, int users, int iterationSeconds, int iterations,
+                              int warmupIterations, int resamples, double confidence) {
+    public static final int DEFAULT_RESAMPLES = 2000;
+    public static final double DEFAULT_CONFIDENCE = 0.95;
+
+    public AbConfiguration {
+        ApiMode.pair(transport);
+        if (users < 1 || iterationSeconds < 1) {
+            throw new IllegalArgumentException("Users and iteration seconds must be >= 1");
+        }
+        if (iterations < 3) {
+            throw new IllegalArgumentException("At least 3 measured iterations are needed, got " + iterations);
+        }
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("Warmup iterations must be >= 0");
+        }
+        if (resamples < 100) {
+            throw new IllegalArgumentException("At least 100 bootstrap resamples are needed, got " + resamples);
+        }
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1, got " + confidence);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.performance.ab;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outcome of an A/B run: every iteration, warmup included, and a bootstrap estimate per metric over the measured
+ * iterations.
+ */
+public record AbResult(AbConfiguration configuration, String restDriver, String actionDriver,
+                       List<Iteration> iterations, List<MetricEstimate> metrics) {
+    public static final String REST = "REST";
+    public static final String ACTION = "ACTION";
+    public static final String TIE = "TIE";
+    public static final String MIXED = "MIXED";
+    public static final String MEAN_LATENCY = "mean latency ms";
+    public static final String P99_LATENCY = "p99 latency ms";
+    public static final String THROUGHPUT = "throughput req/s";
+
+    /**
+     * The API every significant metric favours; TIE when no metric differs significantly, MIXED when they disagree.
+     */
+    public String winner() {
+        List<String> verdicts = metrics.stream()
+                .map(MetricEstimate::better)
+                .filter(verdict -> !verdict.equals(TIE))
+                .distinct()
+                .toList();
+        if (verdicts.isEmpty()) return TIE;
+        return verdicts.size() == 1 ? verdicts.get(0) : MIXED;
+    }
+
+    /**
+     * The API that is significantly better on one metric, TIE when neither is or the metric was not measured.
+     */
+    public String better(String metric) {
+        return find(metric).map(MetricEstimate::better).orElse(TIE);
+    }
+
+    public Optional<MetricEstimate> find(String metric) {
+        return metrics.stream().filter(estimate -> estimate.metric().equals(metric)).findFirst();
+    }
+
+    /**
+     * One round: the scenario on both APIs, in alternating order so neither always runs on a warmer system.
+     */
+    public record Iteration(int number, boolean warmup, String firstDriver, Sample rest, Sample action) {
+    }
+
+    /**
+     * Totals of one API in one iteration.
+     */
+    public record Sample(long requests, long errors, double meanMs, double p99Ms, double throughputPerSecond) {
+    }
+
+    public record Interval(double estimate, double lower, double upper) {
+
+        public boolean excludesZero() {
+            return lower > 0 || upper < 0;
+        }
+    }
+
+    /**
+     * Mean over the measured iterations of one metric per API, and the relative difference action vs REST.
+     */
+    public record MetricEstimate(String metric, boolean lowerIsBetter, Interval rest, Interval action,
+                                 Interval difference) {
+
+        public boolean significant() {
+            return difference.excludesZero();
+        }
+
+        /**
+         * REST or ACTION when the difference is significant, otherwise TIE.
+         */
+        public String better() {
+            if (!significant()) return TIE;
+            boolean actionLower = difference.estimate() < 0;
+            return actionLower == lowerIsBetter ? ACTION : REST;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.performance.ab;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Percentile bootstrap over paired iterations: resampling whole iterations keeps each REST run together with the
+ * action run next to it, so drift during the benchmark affects both sides of every resample alike.
+ */
+final class Bootstrap {
+
+    private Bootstrap() {
+    }
+
+    /**
+     * Mean of each side with its confidence interval, and the relative difference {@code action / rest - 1}
+     * with its confidence interval.
+     */
+    static AbResult.MetricEstimate estimate(String metric, boolean lowerIsBetter, double[] rest, double[] action,
+                                            int resamples, double confidence, RandomGenerator random) {
+        int n = rest.length;
+        double[] restMeans = new double[resamples];
+        double[] actionMeans = new double[resamples];
+        double[] differences = new double[resamples];
+        for (int r = 0; r < resamples; r++) {
+            double restSum = 0;
+            double actionSum = 0;
+            for (int i = 0; i < n; i++) {
+                int pick = random.nextInt(n);
+                restSum += rest[pick];
+                actionSum += action[pick];
+            }
+            restMeans[r] = restSum / n;
+            actionMeans[r] = actionSum / n;
+            differences[r] = relativeDifference(restSum, actionSum);
+        }
+        double restMean = mean(rest);
+        double actionMean = mean(action);
+        return new AbResult.MetricEstimate(metric, lowerIsBetter,
+                interval(restMean, restMeans, confidence),
+                interval(actionMean, actionMeans, confidence),
+                interval(relativeDifference(restMean, actionMean), differences, confidence));
+    }
+
+    static AbResult.Interval interval(double estimate, double[] resampled, double confidence) {
+        double[] sorted = resampled.clone();
+        Arrays.sort(sorted);
+        double tail = (1 - confidence) / 2;
+        return new AbResult.Interval(estimate, quantile(sorted, tail), quantile(sorted, 1 - tail));
+    }
+
+    private static double quantile(double[] sorted, double q) {
+        int index = (int) Math.floor(q * (sorted.length - 1));
+        return sorted[Math.min(Math.max(index, 0), sorted.length - 1)];
+    }
+
+    private static double relativeDifference(double rest, double action) {
+        return rest == 0 ? 0.0 : action / rest - 1;
+    }
+
+    private static double mean(double[] values) {
+        return Arrays.stream(values).average().orElse(0.0);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.performance.benchmark;
+
+import org.example.performance.scenario.ScenarioResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Limits the totals of every driver in a run must meet; null limits are not checked.
+ */
+public record BenchmarkBudget(Double maxP99Ms, Double minThroughputPerSecond, Double maxErrorRate) {
+    public static final String P99_MS = "p99Ms";
+    public static final String THROUGHPUT = "throughputPerSecond";
+    public static final String ERROR_RATE = "errorRate";
+
+    public BenchmarkBudget {
+        if ((maxP99Ms != null && maxP99Ms <= 0) || (minThroughputPerSecond != null && minThroughputPerSecond < 0)) {
+            throw new IllegalArgumentException("Latency budget must be > 0 and throughput budget >= 0");
+        }
+        if (maxErrorRate != null && (maxErrorRate < 0 || maxErrorRate > 1)) {
+            throw new IllegalArgumentException("Error-rate budget must be between 0 and 1, got " + maxErrorRate);
+        }
+    }
+
+    /**
+     * One check per driver and configured limit, against the driver's totals.
+     */
+    public List<BudgetCheck> check(ScenarioResult result) {
+        List<BudgetCheck> checks = new ArrayList<>();
+        for (String driver : result.drivers()) {
+            ScenarioResult.OperationResult total = result.total(driver);
+            if (maxP99Ms != null) {
+                double p99 = total.latency().p99Ms();
+                checks.add(new BudgetCheck(driver, P99_MS, maxP99Ms, p99, p99 <= maxP99Ms));
+            }
+            if (minThroughputPerSecond != null) {
+                double throughput = total.throughputPerSecond();
+                checks.add(new BudgetCheck(driver, THROUGHPUT, minThroughputPerSecond, throughput,
+                        throughput >= minThroughputPerSecond));
+            }
+            if (maxErrorRate != null) {
+                double errorRate = total.requests() == 0 ? 0.0 : (double) total.errors() / total.requests();
+                checks.add(new BudgetCheck(driver, ERROR_RATE, maxErrorRate, errorRate, errorRate <= maxErrorRate));
+            }
+        }
+        return checks;
+    }
+
+    /**
+     * A measured value against its limit; p99 and error rate are maxima, throughput a minimum.
+     */
+    public record BudgetCheck(String driver, String metric, double limit, double actual, boolean passed) {
+    }
+}
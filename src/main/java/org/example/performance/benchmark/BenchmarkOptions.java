@@ -0,0 +1,70 @@
+package org.example.performance.benchmark;
+
+import org.example.config.BenchmarkProperties;
+import org.example.performance.scenario.ApiMode;
+import org.example.performance.scenario.ScenarioCatalog;
+
+/**
+ * Options of a headless benchmark run: {@code performance --scenario X --users N --duration D [--transport T]
+ * [--warmup S] [--output results.json] [--max-p99-ms M] [--min-throughput R] [--max-error-rate E]}. Values may
+ * also be given as {@code --option=value}. Budgets not given fall back to {@link BenchmarkProperties}.
+ */
+public record BenchmarkOptions(String scenario, int users, int durationSeconds, String transport, int warmupSeconds,
+                               String output, BenchmarkBudget budget) {
+    public static final String USAGE = "performance --scenario NAME --users N --duration SECONDS [--transport "
+            + "mixed|http|local] [--warmup SECONDS] [--output FILE] [--max-p99-ms MS] [--min-throughput RPS] "
+            + "[--max-error-rate FRACTION]";
+
+    public BenchmarkOptions {
+        ApiMode.pair(transport);
+        if (users < 1 || durationSeconds < 1 || warmupSeconds < 0) {
+            throw new IllegalArgumentException("Users and duration must be >= 1 and warmup >= 0");
+        }
+    }
+
+    /**
+     * Parse the arguments after {@code performance}.
+     */
+    public static BenchmarkOptions parse(BenchmarkProperties defaults, String... args) {
+        String scenario = ScenarioCatalog.DEFAULT_SCENARIO;
+        int users = 5;
+        int duration = 30;
+        String transport = ApiMode.MIXED;
+        int warmup = defaults.getWarmupSeconds();
+        String output = null;
+        Double maxP99Ms = defaults.getMaxP99Ms();
+        Double minThroughput = defaults.getMinThroughputPerSecond();
+        Double maxErrorRate = defaults.getMaxErrorRate();
+        for (int i = 1; i < args.length; i++) {
+            String name = args[i];
+            String value;
+            int equals = name.indexOf('=');
+            if (equals > 0) {
+                value = name.substring(equals + 1);
+                name = name.substring(0, equals);
+            } else if (i + 1 < args.length) {
+                value = args[++i];
+            } else {
+                throw new IllegalArgumentException("Missing value for " + name);
+            }
+            try {
+                switch (name) {
+                    case "--scenario" -> scenario = value;
+                    case "--users" -> users = Integer.parseInt(value);
+                    case "--duration" -> duration = Integer.parseInt(value);
+                    case "--transport" -> transport = value;
+                    case "--warmup" -> warmup = Integer.parseInt(value);
+                    case "--output" -> output = value;
+                    case "--max-p99-ms" -> maxP99Ms = Double.parseDouble(value);
+                    case "--min-throughput" -> minThroughput = Double.parseDouble(value);
+                    case "--max-error-rate" -> maxErrorRate = Double.parseDouble(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + name);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+            }
+        }
+        return new BenchmarkOptions(scenario, users, duration, transport, warmup, output,
+                new BenchmarkBudget(maxP99Ms, minThroughput, maxErrorRate));
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.performance.benchmark;
+
+import org.example.performance.results.EnvironmentFingerprint;
+import org.example.performance.results.RunRecord;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Machine-readable outcome of a headless benchmark, written as JSON: the options, what it ran on, one series per
+ * driver and operation plus a {@code TOTAL} per driver (histograms encoded as in saved runs), and the budget checks.
+ * {@code runId} is null when the run was not saved.
+ */
+public record BenchmarkReport(String runId, Instant startedAt, long durationMs, BenchmarkOptions options,
+                              EnvironmentFingerprint environment, List<RunRecord.Series> series,
+                              List<BenchmarkBudget.BudgetCheck> budgetChecks, boolean passed) {
+}
@@ -0,0 +1,114 @@
+package org.example.performance.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.BenchmarkProperties;
+import org.example.performance.PerformanceLoadTester;
+import org.example.performance.results.EnvironmentFingerprint;
+import org.example.performance.results.RunRecord;
+import org.example.performance.results.RunResultStore;
+import org.example.performance.scenario.ScenarioResult;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Non-interactive benchmark for scripts and CI: warm up, run the scenario, check the budgets, optionally write a
+ * {@link BenchmarkReport} and return a process exit code. Needs no console.
+ */
+@Component
+public class HeadlessBenchmark {
+    public static final int EXIT_PASSED = 0;
+    public static final int EXIT_BUDGET_BREACHED = 1;
+    public static final int EXIT_USAGE = 2;
+    public static final int EXIT_FAILED = 3;
+
+    private final PerformanceLoadTester loadTester;
+    private final RunResultStore runResultStore;
+    private final BenchmarkProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public HeadlessBenchmark(PerformanceLoadTester loadTester, RunResultStore runResultStore,
+                             BenchmarkProperties properties, ObjectMapper objectMapper) {
+        this.loadTester = loadTester;
+        this.runResultStore = runResultStore;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Run with the arguments after {@code performance}; returns one of the {@code EXIT_*} codes.
+     */
+    public int run(String... args) {
+        BenchmarkOptions options;
+        try {
+            options = BenchmarkOptions.parse(properties, args);
+        } catch (IllegalArgumentException e) {
+            System.out.println("❌ " + e.getMessage());
+            System.out.println("💡 Usage: " + BenchmarkOptions.USAGE);
+            return EXIT_USAGE;
+        }
+        try {
+            PerformanceLoadTester.LoadTestConfiguration config = new PerformanceLoadTester.LoadTestConfiguration(
+                    options.users(), options.durationSeconds(), options.scenario(), options.transport());
+            loadTester.warmUp(config, options.warmupSeconds());
+            PerformanceLoadTester.PerformanceTestResult result = loadTester.runLoadTest(config);
+            ScenarioResult scenarioResult = result.getScenarioResult();
+            List<BenchmarkBudget.BudgetCheck> checks = options.budget().check(scenarioResult);
+            boolean passed = checks.stream().allMatch(BenchmarkBudget.BudgetCheck::passed);
+
+            print(scenarioResult, checks);
+            EnvironmentFingerprint environment = runResultStore.fingerprint();
+            if (environment.embeddedDatabase()) {
+                System.out.println("⚠️ Ran on embedded " + environment.database()
+                        + "; DB-bound budgets only hold against other embedded-database runs");
+            }
+            if (options.output() != null) {
+                BenchmarkReport report = new BenchmarkReport(result.getRunId(),
+                        Instant.ofEpochMilli(result.getStartTime()), result.getDurationMs(), options,
+                        environment, RunRecord.Series.all(scenarioResult), checks, passed);
+                write(Path.of(options.output()), report);
+            }
+            System.out.println(passed ? "✅ All budgets met" : "❌ Budget breached");
+            return passed ? EXIT_PASSED : EXIT_BUDGET_BREACHED;
+        } catch (IllegalArgumentException e) {
+            System.out.println("❌ " + e.getMessage());
+            return EXIT_USAGE;
+        } catch (IOException | RuntimeException e) {
+            System.out.println("❌ Benchmark failed: " + e.getMessage());
+            return EXIT_FAILED;
+        }
+    }
+
+    private void print(ScenarioResult result, List<BenchmarkBudget.BudgetCheck> checks) {
+        System.out.printf("%n📊 %-12s %9s %7s %9s %9s %9s%n", "Driver", "Requests", "Errors", "Req/s", "p50 ms",
+                "p99 ms");
+        for (String driver : result.drivers()) {
+            ScenarioResult.OperationResult total = result.total(driver);
+            System.out.printf("   %-12s %9d %7d %9.1f %9.2f %9.2f%n", driver, total.requests(), total.errors(),
+                    total.throughputPerSecond(), total.latency().p50Ms(), total.latency().p99Ms());
+        }
+        if (checks.isEmpty()) {
+            System.out.println("💡 No budgets configured");
+            return;
+        }
+        System.out.println("\n🎯 Budgets:");
+        for (BenchmarkBudget.BudgetCheck check : checks) {
+            String bound = check.metric().equals(BenchmarkBudget.THROUGHPUT) ? ">=" : "<=";
+            System.out.printf("   %s %-12s %-20s %12.4f %s %-12.4f%n", check.passed() ? "✅" : "❌", check.driver(),
+                    check.metric(), check.actual(), bound, check.limit());
+        }
+    }
+
+    private void write(Path output, BenchmarkReport report) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+        System.out.println("💾 Wrote " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.performance.job;
+
+import org.example.performance.PerformanceLoadTester;
+import org.example.performance.results.RunRecord;
+import org.example.performance.scenario.ScenarioSnapshot;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * One submitted job, a load test or a scaling sweep: its state, what it is doing, the per-second snapshots so far,
+ * and once completed the saved run id and a series per driver and operation of a load test, or the result of a
+ * sweep. Snapshots are pushed to every subscribed event stream as they arrive.
+ * <p>
+ * Sends to a stream can block on a slow client, so they happen outside the job's monitor: the subscribers are copied
+ * under it and written to after. Each stream is written under its own monitor instead, which keeps its events in
+ * order while a replay and a new snapshot race.
+ */
+public class LoadTestJob {
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED }
+
+    public static final String LOAD_TEST = "load-test";
+    public static final String SCALING_SWEEP = "scaling-sweep";
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String DONE_EVENT = "done";
+
+    private final long id;
+    private final String type;
+    private final Object configuration;
+    private final Instant submittedAt = Instant.now();
+    private final List<ScenarioSnapshot> snapshots = new ArrayList<>();
+    private final List<SseEmitter> subscribers = new ArrayList<>();
+    private volatile Status status = Status.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String stage;
+    private volatile String runId;
+    private volatile String error;
+    private volatile List<RunRecord.Series> series;
+    private volatile Object result;
+    private Future<?> future;
+
+    LoadTestJob(long id, PerformanceLoadTester.LoadTestConfiguration configuration) {
+        this(id, LOAD_TEST, configuration);
+    }
+
+    LoadTestJob(long id, String type, Object configuration) {
+        this.id = id;
+        this.type = type;
+        this.configuration = configuration;
+    }
+
+    public long getId() { return id; }
+    public String getType() { return type; }
+    public Object getConfiguration() { return configuration; }
+    public String getStage() { return stage; }
+    public Status getStatus() { return status; }
+    public boolean isCancelRequested() { return cancelRequested; }
+    public Instant getSubmittedAt() { return submittedAt; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public String getRunId() { return runId; }
+    public String getError() { return error; }
+    public List<RunRecord.Series> getSeries() { return series; }
+    public Object getResult() { return result; }
+
+    public synchronized int getSnapshotCount() {
+        return snapshots.size();
+    }
+
+    /**
+     * Most recent per-second snapshot, or null before the first second has passed.
+     */
+    public synchronized ScenarioSnapshot getLatestSnapshot() {
+        return snapshots.isEmpty() ? null : snapshots.get(snapshots.size() - 1);
+    }
+
+    public boolean isFinished() {
+        Status current = status;
+        return current == Status.COMPLETED || current == Status.FAILED || current == Status.CANCELLED;
+    }
+
+    synchronized void setFuture(Future<?> future) {
+        this.future = future;
+        if (cancelRequested && status == Status.RUNNING) future.cancel(true);
+    }
+
+    /**
+     * Move from queued to running; false if the job was cancelled while it waited.
+     */
+    synchronized boolean start() {
+        if (status != Status.QUEUED) return false;
+        status = Status.RUNNING;
+        startedAt = Instant.now();
+        return true;
+    }
+
+    /**
+     * Cancel a queued job at once, or interrupt a running one; false if it has already finished.
+     */
+    boolean cancel() {
+        List<SseEmitter> streams;
+        synchronized (this) {
+            if (status == Status.RUNNING) {
+                cancelRequested = true;
+                if (future != null) future.cancel(true);
+                return true;
+            }
+            if (status != Status.QUEUED) return false;
+            cancelRequested = true;
+            if (future != null) future.cancel(false);
+            streams = markFinished(Status.CANCELLED);
+        }
+        sendDone(streams);
+        return true;
+    }
+
+    void publish(ScenarioSnapshot snapshot) {
+        List<SseEmitter> streams;
+        synchronized (this) {
+            snapshots.add(snapshot);
+            streams = List.copyOf(subscribers);
+        }
+        for (SseEmitter emitter : streams) {
+            synchronized (emitter) {
+                if (!send(emitter, SNAPSHOT_EVENT, snapshot)) unsubscribe(emitter);
+            }
+        }
+    }
+
+    void setStage(String stage) {
+        this.stage = stage;
+    }
+
+    void complete(String runId, List<RunRecord.Series> series) {
+        this.runId = runId;
+        this.series = series;
+        finish(Status.COMPLETED);
+    }
+
+    void complete(Object result) {
+        this.result = result;
+        finish(Status.COMPLETED);
+    }
+
+    void fail(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    void finish(Status status) {
+        List<SseEmitter> streams;
+        synchronized (this) {
+            streams = markFinished(status);
+        }
+        sendDone(streams);
+    }
+
+    /**
+     * Replay the snapshots so far to a new stream, then keep it for the ones to come; a finished job's stream is
+     * closed straight after the replay.
+     */
+    void subscribe(SseEmitter emitter) {
+        emitter.onCompletion(() -> unsubscribe(emitter));
+        emitter.onTimeout(() -> unsubscribe(emitter));
+        // Held through the replay, so a snapshot published meanwhile waits and arrives after it
+        synchronized (emitter) {
+            List<ScenarioSnapshot> replay;
+            boolean finished;
+            synchronized (this) {
+                replay = List.copyOf(snapshots);
+                finished = isFinished();
+                if (!finished) subscribers.add(emitter);
+            }
+            for (ScenarioSnapshot snapshot : replay) {
+                if (!send(emitter, SNAPSHOT_EVENT, snapshot)) {
+                    unsubscribe(emitter);
+                    return;
+                }
+            }
+            if (finished && send(emitter, DONE_EVENT, this)) emitter.complete();
+        }
+    }
+
+    private synchronized void unsubscribe(SseEmitter emitter) {
+        subscribers.remove(emitter);
+    }
+
+    /**
+     * Record the final status and hand back the streams to close; none if the job had already finished.
+     */
+    private synchronized List<SseEmitter> markFinished(Status status) {
+        if (isFinished()) return List.of();
+        this.status = status;
+        this.finishedAt = Instant.now();
+        List<SseEmitter> streams = List.copyOf(subscribers);
+        subscribers.clear();
+        return streams;
+    }
+
+    private void sendDone(List<SseEmitter> streams) {
+        for (SseEmitter emitter : streams) {
+            synchronized (emitter) {
+                if (send(emitter, DONE_EVENT, this)) emitter.complete();
+            }
+        }
+    }
+
+    private static boolean send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; drop the stream
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.performance.job;
+
+import org.example.performance.PerformanceLoadTester;
+import org.example.performance.scenario.ApiMode;
+import org.example.performance.scenario.ScenarioCatalog;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Load tests as background jobs: submit, poll, follow per-second progress as Server-Sent Events, or cancel.
+ */
+@RestController
+@RequestMapping("/performance/jobs")
+public class LoadTestJobController {
+    private final LoadTestJobManager jobManager;
+
+    public LoadTestJobController(LoadTestJobManager jobManager) {
+        this.jobManager = jobManager;
+    }
+
+    /**
+     * Queue a load test like {@code POST /performance/load-test}; 429 if the queue is full.
+     * @param users Number of concurrent users (default: 5)
+     * @param duration Test duration in seconds (default: 30)
+     * @param scenario Scenario to run (default: default)
+     * @param transport mixed, http or local (default: mixed)
+     */
+    @PostMapping
+    public ResponseEntity<LoadTestJob> submit(
+            @RequestParam(defaultValue = "5") int users,
+            @RequestParam(defaultValue = "30") int duration,
+            @RequestParam(defaultValue = ScenarioCatalog.DEFAULT_SCENARIO) String scenario,
+            @RequestParam(defaultValue = ApiMode.MIXED) String transport) {
+        return jobManager.submit(new PerformanceLoadTester.LoadTestConfiguration(users, duration, scenario, transport))
+            .map(job -> ResponseEntity.accepted().location(URI.create("/performance/jobs/" + job.getId())).body(job))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build());
+    }
+
+    /**
+     * Queued, running and recently finished jobs.
+     */
+    @GetMapping
+    public ResponseEntity<List<LoadTestJob>> list() {
+        return ResponseEntity.ok(jobManager.list());
+    }
+
+    /**
+     * State of a job with its latest snapshot, and the run id and series once it has completed.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<LoadTestJob> get(@PathVariable long id) {
+        return ResponseEntity.ok(jobManager.get(id));
+    }
+
+    /**
+     * Stream of {@code snapshot} events, one per second of the run, then a {@code done} event with the job.
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable long id) {
+        return jobManager.subscribe(id);
+    }
+
+    /**
+     * Cancel a queued job, or stop a running one without saving it; 409 if it has already finished.
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<LoadTestJob> cancel(@PathVariable long id) {
+        boolean cancelling = jobManager.cancel(id);
+        return ResponseEntity.status(cancelling ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).body(jobManager.get(id));
+    }
+}
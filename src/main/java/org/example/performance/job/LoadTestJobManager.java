@@ -0,0 +1,194 @@
+package org.example.performance.job;
+
+import jakarta.annotation.PreDestroy;
+import org.example.config.LoadJobProperties;
+import org.example.performance.PerformanceLoadTester;
+import org.example.performance.results.RunRecord;
+import org.example.performance.scenario.ApiMode;
+import org.example.performance.scaling.ScalingConfiguration;
+import org.example.performance.scaling.ScalingResult;
+import org.example.performance.scaling.ScalingSweep;
+import org.example.performance.scenario.ScenarioCatalog;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs submitted load tests and scaling sweeps one at a time on a background thread, so no request thread waits for
+ * a whole test.
+ * Jobs queue behind the running one up to {@code app.load-jobs.max-queued}; the last
+ * {@code app.load-jobs.retained-jobs} finished ones stay available for polling. The synchronous tests share the
+ * same machine, so they run through {@link #runExclusively} and never overlap a job or each other.
+ */
+@Component
+public class LoadTestJobManager {
+    private final PerformanceLoadTester loadTester;
+    private final ScenarioCatalog scenarioCatalog;
+    private final ScalingSweep scalingSweep;
+    private final LoadJobProperties properties;
+    private final AtomicLong ids = new AtomicLong();
+    private final Map<Long, LoadTestJob> jobs = new LinkedHashMap<>();
+    private final ReentrantLock exclusive = new ReentrantLock();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "load-test-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LoadTestJobManager(PerformanceLoadTester loadTester, ScenarioCatalog scenarioCatalog,
+                              ScalingSweep scalingSweep, LoadJobProperties properties) {
+        this.loadTester = loadTester;
+        this.scenarioCatalog = scenarioCatalog;
+        this.scalingSweep = scalingSweep;
+        this.properties = properties;
+    }
+
+    /**
+     * Queue a load test; empty if {@code max-queued} jobs are already waiting.
+     */
+    public synchronized Optional<LoadTestJob> submit(PerformanceLoadTester.LoadTestConfiguration configuration) {
+        scenarioCatalog.find(configuration.getScenario());
+        ApiMode.pair(configuration.getTransport());
+        if (configuration.getConcurrentUsers() < 1 || configuration.getTestDurationSeconds() < 1) {
+            throw new IllegalArgumentException("Users and duration must be >= 1");
+        }
+        return enqueue(LoadTestJob.LOAD_TEST, configuration, job -> {
+            PerformanceLoadTester.PerformanceTestResult result = loadTester.runLoadTest(configuration, job::publish);
+            job.complete(result.getRunId(), RunRecord.Series.all(result.getScenarioResult()));
+        });
+    }
+
+    /**
+     * Queue a scaling sweep; its job completes with the {@link ScalingResult}. Empty if the queue is full.
+     */
+    public synchronized Optional<LoadTestJob> submitScalingSweep(ScalingConfiguration configuration) {
+        scenarioCatalog.find(configuration.scenario());
+        return enqueue(LoadTestJob.SCALING_SWEEP, configuration,
+                job -> job.complete(scalingSweep.run(configuration, job::setStage, job::publish)));
+    }
+
+    private Optional<LoadTestJob> enqueue(String type, Object configuration, Consumer<LoadTestJob> work) {
+        long queued = jobs.values().stream().filter(job -> job.getStatus() == LoadTestJob.Status.QUEUED).count();
+        if (queued >= properties.getMaxQueued()) {
+            return Optional.empty();
+        }
+        LoadTestJob job = new LoadTestJob(ids.incrementAndGet(), type, configuration);
+        jobs.put(job.getId(), job);
+        job.setFuture(executor.submit(() -> execute(job, work)));
+        evictFinished();
+        System.out.println("📥 Queued " + type + " job " + job.getId() + ": " + configuration);
+        return Optional.of(job);
+    }
+
+    public synchronized LoadTestJob get(long id) {
+        LoadTestJob job = jobs.get(id);
+        if (job == null) {
+            throw new NoSuchElementException("Unknown load-test job " + id);
+        }
+        return job;
+    }
+
+    /**
+     * Running and queued jobs, then the retained finished ones, in submission order.
+     */
+    public synchronized List<LoadTestJob> list() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /**
+     * Cancel a queued or running job; false if it has already finished.
+     */
+    public boolean cancel(long id) {
+        return get(id).cancel();
+    }
+
+    /**
+     * Run a synchronous test with the machine to itself. Empty, without running it, while a job is queued or running
+     * or another synchronous test is; jobs submitted meanwhile wait for it to finish.
+     */
+    public <T> Optional<T> runExclusively(Supplier<T> test) {
+        synchronized (this) {
+            if (jobs.values().stream().anyMatch(job -> !job.isFinished()) || !exclusive.tryLock()) {
+                return Optional.empty();
+            }
+        }
+        try {
+            return Optional.of(test.get());
+        } finally {
+            exclusive.unlock();
+        }
+    }
+
+    /**
+     * Event stream of a job's per-second snapshots, starting with those already taken and ending with the job.
+     */
+    public SseEmitter subscribe(long id) {
+        LoadTestJob job = get(id);
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeoutMs());
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    private void execute(LoadTestJob job, Consumer<LoadTestJob> work) {
+        try {
+            exclusive.lockInterruptibly();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            run(job, work);
+        } finally {
+            exclusive.unlock();
+        }
+    }
+
+    private void run(LoadTestJob job, Consumer<LoadTestJob> work) {
+        if (!job.start()) return;
+        System.out.println("▶️ Running " + job.getType() + " job " + job.getId());
+        try {
+            work.accept(job);
+            System.out.println("✅ " + job.getType() + " job " + job.getId() + " completed");
+        } catch (CancellationException e) {
+            job.finish(LoadTestJob.Status.CANCELLED);
+            System.out.println("🛑 " + job.getType() + " job " + job.getId() + " cancelled");
+        } catch (RuntimeException e) {
+            if (job.isCancelRequested()) {
+                job.finish(LoadTestJob.Status.CANCELLED);
+            } else {
+                job.fail(e.getMessage());
+                System.out.println("❌ " + job.getType() + " job " + job.getId() + " failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void evictFinished() {
+        long finished = jobs.values().stream().filter(LoadTestJob::isFinished).count();
+        Iterator<LoadTestJob> oldest = jobs.values().iterator();
+        while (finished > properties.getRetainedJobs() && oldest.hasNext()) {
+            if (oldest.next().isFinished()) {
+                oldest.remove();
+                finished--;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.performance.load;
+
+/**
+ * Status and timing of one HTTP exchange, in microseconds from the call. {@code connectMicros} covers leasing a
+ * pooled connection and opening it if needed; it is -1 when the client cannot observe it. {@code ttfbMicros}
+ * ends when the response head has been received.
+ */
+public record HttpTiming(int status, long connectMicros, long ttfbMicros, long totalMicros, long responseBytes) {
+
+    public boolean isSuccess() {
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.performance.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histograms of connect, time-to-first-byte and total time across the requests of a run.
+ */
+public class HttpTimingRecorder {
+    private final Histogram connect = new ConcurrentHistogram(3);
+    private final Histogram ttfb = new ConcurrentHistogram(3);
+    private final Histogram total = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    public void record(HttpTiming timing) {
+        if (timing.connectMicros() >= 0) {
+            connect.recordValue(timing.connectMicros());
+        }
+        ttfb.recordValue(timing.ttfbMicros());
+        total.recordValue(timing.totalMicros());
+        if (!timing.isSuccess()) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Count a request that failed before any response, e.g. a refused connection or a timeout.
+     */
+    public void recordFailure() {
+        errors.increment();
+    }
+
+    public HttpTimingSummary summary(String client) {
+        return new HttpTimingSummary(client, total.getTotalCount(), errors.sum(),
+                connect.getTotalCount() == 0 ? null : LatencySummary.of(connect),
+                LatencySummary.of(ttfb), LatencySummary.of(total));
+    }
+
+    /**
+     * Connect is null when the client does not expose it.
+     */
+    public record HttpTimingSummary(String client, long requests, long errors, LatencySummary connect,
+                                    LatencySummary ttfb, LatencySummary total) {
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.performance.load;
+
+import org.example.config.LoadClientProperties;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDK HttpClient on a virtual-thread executor, used when HTTP/2 is requested: all users share multiplexed streams
+ * instead of a connection each. The JDK client does not expose connection setup, so connect time is not reported.
+ */
+public class JdkHttpLoadClient implements LoadHttpClient {
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final String baseUrl;
+    private final Duration responseTimeout;
+    private final boolean http2;
+
+    public JdkHttpLoadClient(LoadClientProperties properties) {
+        this.baseUrl = properties.getBaseUrl();
+        this.responseTimeout = Duration.ofMillis(properties.getResponseTimeoutMs());
+        this.http2 = properties.isHttp2();
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.client = HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+                .executor(executor)
+                .build();
+    }
+
+    @Override
+    public HttpTiming send(String method, String path, String jsonBody) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(responseTimeout);
+        if (jsonBody == null) {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(jsonBody));
+        }
+        AtomicLong firstByte = new AtomicLong();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(builder.build(), info -> {
+                firstByte.set(System.nanoTime());
+                return HttpResponse.BodySubscribers.ofByteArray();
+            });
+            long done = System.nanoTime();
+            return new HttpTiming(response.statusCode(), -1, (firstByte.get() - start) / 1000, (done - start) / 1000,
+                    response.body().length);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for " + path);
+        }
+    }
+
+    @Override
+    public String description() {
+        return http2 ? "HTTP/2 (JDK client, h2c)" : "HTTP/1.1 (JDK client)";
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.performance.load;
+
+import java.io.IOException;
+
+/**
+ * Blocking HTTP client for load generation, meant to be called from virtual threads. Every call returns its
+ * status and timing breakdown instead of throwing on error statuses.
+ */
+public interface LoadHttpClient extends AutoCloseable {
+
+    /**
+     * Send a request to {@code path} (relative to the configured base URL) with an optional JSON body and read
+     * the whole response.
+     */
+    HttpTiming send(String method, String path, String jsonBody) throws IOException;
+
+    /**
+     * Short description of the client and protocol, for reports.
+     */
+    String description();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,9 @@
+package org.example.performance.load;
+
+/**
+ * One request fired by a load generator; returns whether it succeeded. Exceptions count as failures.
+ */
+@FunctionalInterface
+public interface LoadOperation {
+    boolean execute() throws Exception;
+}
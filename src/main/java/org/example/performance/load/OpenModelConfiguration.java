@@ -0,0 +1,54 @@
+package org.example.performance.load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Arrival-rate schedule for an open-model run: constant {@code startRps}, or steps of {@code stepRps} up to
+ * {@code endRps}, each held for {@code stepSeconds}. At most {@code maxInFlight} requests run at once; later
+ * arrivals wait for a slot and the wait counts towards their latency.
+ */
+public record OpenModelConfiguration(double startRps, double endRps, double stepRps, int stepSeconds,
+                                     int maxInFlight, double tolerance) {
+    public static final int DEFAULT_STEP_SECONDS = 10;
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+    public static final double DEFAULT_TOLERANCE = 0.05;
+
+    public OpenModelConfiguration {
+        if (startRps <= 0 || endRps < startRps) {
+            throw new IllegalArgumentException("Rates must satisfy 0 < startRps <= endRps");
+        }
+        if (endRps > startRps && stepRps <= 0) {
+            throw new IllegalArgumentException("stepRps must be > 0 when endRps > startRps");
+        }
+        if (stepSeconds < 1) {
+            throw new IllegalArgumentException("stepSeconds must be >= 1");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be >= 1");
+        }
+        if (tolerance <= 0 || tolerance >= 1) {
+            throw new IllegalArgumentException("tolerance must be between 0 and 1");
+        }
+    }
+
+    public static OpenModelConfiguration constant(double rps, int seconds) {
+        return new OpenModelConfiguration(rps, rps, 0, seconds, DEFAULT_MAX_IN_FLIGHT, DEFAULT_TOLERANCE);
+    }
+
+    public static OpenModelConfiguration stepped(double startRps, double endRps, double stepRps, int stepSeconds) {
+        return new OpenModelConfiguration(startRps, endRps, stepRps, stepSeconds, DEFAULT_MAX_IN_FLIGHT, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Target rate of each step, in order.
+     */
+    public List<Double> targetRates() {
+        List<Double> rates = new ArrayList<>();
+        rates.add(startRps);
+        for (double rate = startRps + stepRps; stepRps > 0 && rate <= endRps + 1e-9; rate += stepRps) {
+            rates.add(rate);
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.performance.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator: requests are sent on a fixed schedule at the target rate, whether or not earlier
+ * ones have returned, each on its own virtual thread. Latency is taken from the scheduled send time, so time a
+ * request spends queued behind a slow server is counted instead of being silently skipped (coordinated omission).
+ * Requests still waiting for a slot or a response when the drain timeout ends are recorded as timeouts, with their
+ * latency up to that moment.
+ */
+@Component
+public class OpenModelLoadGenerator {
+    private static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final double MIN_SEND_DELAY_MS = 1.0;
+
+    private final Duration drainTimeout;
+
+    public OpenModelLoadGenerator() {
+        this(DEFAULT_DRAIN_TIMEOUT);
+    }
+
+    OpenModelLoadGenerator(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+    }
+
+    /**
+     * Run every step of the schedule, drawing each request from {@code operations}.
+     */
+    public OpenModelResult run(OpenModelConfiguration config, Supplier<LoadOperation> operations) {
+        System.out.printf("🚀 Starting open-model load test: %s%n", config);
+        Semaphore slots = new Semaphore(config.maxInFlight());
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Step> steps = new ArrayList<>();
+        long stepNanos = TimeUnit.SECONDS.toNanos(config.stepSeconds());
+        long stepStart = System.nanoTime();
+        try {
+            for (double target : config.targetRates()) {
+                Step step = new Step(target, stepStart + stepNanos);
+                steps.add(step);
+                long arrivals = Math.round(target * config.stepSeconds());
+                for (long i = 0; i < arrivals; i++) {
+                    long intended = stepStart + Math.round(i * 1_000_000_000.0 / target);
+                    parkUntil(intended);
+                    LoadOperation operation = operations.get();
+                    Pending pending = step.schedule(intended);
+                    executor.execute(() -> step.execute(operation, pending, slots));
+                }
+                parkUntil(step.end);
+                step.backlog = step.scheduled.sum() - step.completed.sum();
+                System.out.printf("  ⏱️ %,.0f req/s target: %,d done in window, backlog %,d%n",
+                        target, step.completedInWindow.sum(), step.backlog);
+                stepStart = step.end;
+            }
+        } finally {
+            drain(executor, steps);
+        }
+
+        List<OpenModelResult.StepResult> results = steps.stream().map(step -> step.result(config)).toList();
+        OpenModelResult result = new OpenModelResult(results);
+        if (result.saturationRps() != null) {
+            System.out.printf("⚠️ Saturated at %,.0f req/s (max sustained %,.0f req/s)%n",
+                    result.saturationRps(), result.maxSustainedRps());
+        }
+        System.out.println("✅ Open-model load test completed");
+        return result;
+    }
+
+    private static void parkUntil(long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void drain(ExecutorService executor, List<Step> steps) {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(drainTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long now = System.nanoTime();
+        steps.forEach(step -> step.timeOutUnfinished(now));
+        executor.shutdownNow();
+    }
+
+    /**
+     * One scheduled request; whichever of completion and drain timeout closes it first records it.
+     */
+    private static final class Pending {
+        private final long intended;
+        private final AtomicBoolean open = new AtomicBoolean(true);
+        private volatile long sent;
+
+        private Pending(long intended) {
+            this.intended = intended;
+        }
+
+        private boolean close() {
+            return open.compareAndSet(true, false);
+        }
+    }
+
+    /**
+     * Counters and histograms (microseconds) of the requests scheduled within one step.
+     */
+    private static final class Step {
+        private final double targetRps;
+        private final long end;
+        private final LongAdder scheduled = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder completedInWindow = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder timedOut = new LongAdder();
+        private final Set<Pending> unfinished = ConcurrentHashMap.newKeySet();
+        private final Histogram corrected = new ConcurrentHistogram(3);
+        private final Histogram uncorrected = new ConcurrentHistogram(3);
+        private final Histogram sendDelay = new ConcurrentHistogram(3);
+        private volatile long backlog;
+
+        private Step(double targetRps, long end) {
+            this.targetRps = targetRps;
+            this.end = end;
+        }
+
+        private Pending schedule(long intended) {
+            Pending pending = new Pending(intended);
+            unfinished.add(pending);
+            scheduled.increment();
+            return pending;
+        }
+
+        private void execute(LoadOperation operation, Pending pending, Semaphore slots) {
+            long intended = pending.intended;
+            try {
+                slots.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long sent = System.nanoTime();
+            pending.sent = sent;
+            boolean success;
+            try {
+                success = operation.execute();
+            } catch (Exception e) {
+                success = false;
+            } finally {
+                slots.release();
+            }
+            long done = System.nanoTime();
+            if (!pending.close()) {
+                return;
+            }
+            unfinished.remove(pending);
+            corrected.recordValue((done - intended) / 1000);
+            uncorrected.recordValue((done - sent) / 1000);
+            sendDelay.recordValue(Math.max(sent - intended, 0) / 1000);
+            if (!success) {
+                errors.increment();
+            }
+            completed.increment();
+            if (done <= end) {
+                completedInWindow.increment();
+            }
+        }
+
+        /**
+         * Record every request that has not returned by {@code now}, queued or in flight, as a timeout.
+         */
+        private void timeOutUnfinished(long now) {
+            for (Pending pending : unfinished) {
+                if (!pending.close()) {
+                    continue;
+                }
+                long sent = pending.sent;
+                corrected.recordValue(Math.max(now - pending.intended, 0) / 1000);
+                sendDelay.recordValue(Math.max((sent != 0 ? sent : now) - pending.intended, 0) / 1000);
+                if (sent != 0) {
+                    uncorrected.recordValue(Math.max(now - sent, 0) / 1000);
+                }
+                timedOut.increment();
+            }
+            unfinished.clear();
+        }
+
+        private OpenModelResult.StepResult result(OpenModelConfiguration config) {
+            double achieved = completedInWindow.sum() / (double) config.stepSeconds();
+            LatencySummary correctedSummary = LatencySummary.of(corrected);
+            LatencySummary uncorrectedSummary = LatencySummary.of(uncorrected);
+            LatencySummary sendDelaySummary = LatencySummary.of(sendDelay);
+            boolean fellBehind = achieved < targetRps * (1 - config.tolerance());
+            boolean queued = sendDelaySummary.p99Ms() > Math.max(uncorrectedSummary.p99Ms(), MIN_SEND_DELAY_MS);
+            return new OpenModelResult.StepResult(targetRps, achieved, scheduled.sum(), completed.sum(), errors.sum(),
+                    timedOut.sum(), backlog, correctedSummary, uncorrectedSummary, sendDelaySummary, fellBehind || queued, corrected);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.performance.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+
+/**
+ * Per-step outcome of an open-model run. Latency is measured twice: from the moment each request was scheduled
+ * to be sent (corrected for coordinated omission) and from the moment it was actually sent.
+ */
+public record OpenModelResult(List<StepResult> steps) {
+
+    /**
+     * Target rate of the first step the system could not keep up with, or null if it kept up throughout.
+     */
+    public Double saturationRps() {
+        return steps.stream().filter(StepResult::saturated).map(StepResult::targetRps).findFirst().orElse(null);
+    }
+
+    /**
+     * Highest target rate sustained before the first saturated step, or 0 if the first step already saturated.
+     */
+    public double maxSustainedRps() {
+        double sustained = 0;
+        for (StepResult step : steps) {
+            if (step.saturated()) break;
+            sustained = step.targetRps();
+        }
+        return sustained;
+    }
+
+    /**
+     * One arrival-rate step. {@code timedOut} requests had not returned when the drain timeout ended; they are not in
+     * {@code completed} but their latency up to then is in the histograms. {@code backlog} is the number of requests
+     * scheduled but not completed when the step ended and {@code sendDelay} how late requests left the client. {@code saturated} is set when completions fell
+     * short of the target rate by more than the tolerance, or when p99 send delay exceeded the p99 service time.
+     * {@code correctedHistogram} holds the corrected latencies in microseconds.
+     */
+    public record StepResult(double targetRps, double achievedRps, long scheduled, long completed, long errors,
+                             long timedOut, long backlog, LatencySummary corrected, LatencySummary uncorrected,
+                             LatencySummary sendDelay, boolean saturated, Histogram correctedHistogram) {
+    }
+}
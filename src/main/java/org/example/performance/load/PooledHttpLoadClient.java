@@ -0,0 +1,98 @@
+package org.example.performance.load;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+import org.example.config.LoadClientProperties;
+
+import java.io.IOException;
+
+/**
+ * HTTP/1.1 client over a keep-alive connection pool sized for thousands of concurrent virtual-thread users.
+ * Two interceptors around the connect step of the exec chain time the pool lease plus any new TCP connect.
+ */
+public class PooledHttpLoadClient implements LoadHttpClient {
+    private static final String CONNECT_STARTED = "load.connect.started";
+    private static final String CONNECT_FINISHED = "load.connect.finished";
+
+    private final CloseableHttpClient client;
+    private final String baseUrl;
+    private final int maxConnections;
+
+    public PooledHttpLoadClient(LoadClientProperties properties) {
+        this.baseUrl = properties.getBaseUrl();
+        this.maxConnections = properties.getMaxConnections();
+        Timeout responseTimeout = Timeout.ofMilliseconds(properties.getResponseTimeoutMs());
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutMs()))
+                        .setSocketTimeout(responseTimeout)
+                        .build())
+                .build();
+        this.client = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(responseTimeout)
+                        .setResponseTimeout(responseTimeout)
+                        .build())
+                .addExecInterceptorBefore(ChainElement.CONNECT.name(), "load-connect-started", (request, scope, chain) -> {
+                    scope.clientContext.setAttribute(CONNECT_STARTED, System.nanoTime());
+                    return chain.proceed(request, scope);
+                })
+                .addExecInterceptorAfter(ChainElement.CONNECT.name(), "load-connect-finished", (request, scope, chain) -> {
+                    scope.clientContext.setAttribute(CONNECT_FINISHED, System.nanoTime());
+                    return chain.proceed(request, scope);
+                })
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Override
+    public HttpTiming send(String method, String path, String jsonBody) throws IOException {
+        ClassicRequestBuilder builder = ClassicRequestBuilder.create(method).setUri(baseUrl + path);
+        if (jsonBody != null) {
+            builder.setEntity(new StringEntity(jsonBody, ContentType.APPLICATION_JSON));
+        }
+        ClassicHttpRequest request = builder.build();
+        HttpClientContext context = HttpClientContext.create();
+        long start = System.nanoTime();
+        return client.execute(request, context, response -> {
+            long firstByte = System.nanoTime();
+            byte[] body = response.getEntity() == null ? new byte[0] : EntityUtils.toByteArray(response.getEntity());
+            long done = System.nanoTime();
+            return new HttpTiming(response.getCode(), connectMicros(context), (firstByte - start) / 1000,
+                    (done - start) / 1000, body.length);
+        });
+    }
+
+    private static long connectMicros(HttpClientContext context) {
+        Object started = context.getAttribute(CONNECT_STARTED);
+        Object finished = context.getAttribute(CONNECT_FINISHED);
+        if (!(started instanceof Long from) || !(finished instanceof Long to)) return -1;
+        return (to - from) / 1000;
+    }
+
+    @Override
+    public String description() {
+        return "HTTP/1.1 pooled (max " + maxConnections + " connections)";
+    }
+
+    @Override
+    public void close() {
+        client.close(CloseMode.GRACEFUL);
+    }
+}
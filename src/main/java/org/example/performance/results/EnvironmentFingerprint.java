@@ -0,0 +1,69 @@
+package org.example.performance.results;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * What a run was measured on: JVM, flags, GC, OS, CPUs, heap, database, load client and active profiles.
+ * Runs are only comparable when their {@link #hash()} matches; DB-bound numbers from an {@link #embeddedDatabase()
+ * embedded database} never compare with those from a real one.
+ */
+public record EnvironmentFingerprint(String javaVersion, String javaVendor, String vmName, List<String> jvmArguments,
+                                     List<String> garbageCollectors, String osName, String osVersion, String osArch,
+                                     int availableProcessors, long maxHeapBytes, String hostname, String database,
+                                     String loadClient, List<String> activeProfiles) {
+    private static final List<String> EMBEDDED_DATABASES = List.of("H2", "HSQL", "Apache Derby");
+
+    public static EnvironmentFingerprint capture(String database, String loadClient, List<String> activeProfiles) {
+        Runtime runtime = Runtime.getRuntime();
+        return new EnvironmentFingerprint(
+                System.getProperty("java.version"),
+                System.getProperty("java.vendor"),
+                System.getProperty("java.vm.name"),
+                ManagementFactory.getRuntimeMXBean().getInputArguments(),
+                ManagementFactory.getGarbageCollectorMXBeans().stream().map(GarbageCollectorMXBean::getName).toList(),
+                System.getProperty("os.name"),
+                System.getProperty("os.version"),
+                System.getProperty("os.arch"),
+                runtime.availableProcessors(),
+                runtime.maxMemory(),
+                localHostname(),
+                database,
+                loadClient,
+                activeProfiles);
+    }
+
+    /**
+     * Short SHA-256 over every field, so two runs on the same setup share a hash.
+     */
+    public String hash() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Whether the run used an in-process database such as H2 in the bench profile.
+     */
+    public boolean embeddedDatabase() {
+        return database != null && EMBEDDED_DATABASES.stream().anyMatch(database::startsWith);
+    }
+
+    private static String localHostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
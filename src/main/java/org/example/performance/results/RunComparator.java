@@ -0,0 +1,129 @@
+package org.example.performance.results;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the series two runs have in common. A p99 change is significant when the batch-means confidence
+ * intervals of the two p99s do not overlap: each run's steady seconds are cut into consecutive batches of at least
+ * {@value #MIN_LATENCY_SAMPLES} requests, and the interval is taken over the batches' p99s rather than over individual,
+ * correlated requests. A throughput change is significant when the Mann-Whitney test on the per-second completions
+ * rejects equality. Either is only flagged when it also exceeds the relative threshold.
+ * A run on an embedded database against one on a real database is not compared at all: the numbers are printed
+ * but every verdict is {@link RunComparison.Verdict#NOT_COMPARABLE}.
+ */
+public final class RunComparator {
+    static final double P99 = 0.99;
+    static final int MIN_LATENCY_SAMPLES = 100;
+    static final int MIN_SECOND_SAMPLES = 5;
+    static final int MIN_BATCHES = 5;
+
+    private RunComparator() {
+    }
+
+    public static RunComparison compare(RunRecord baseline, RunRecord candidate, double threshold, double confidence) {
+        boolean comparable = embedded(baseline) == embedded(candidate);
+        Map<String, RunRecord.Series> baselineSeries = baseline.series().stream()
+                .collect(Collectors.toMap(RunRecord.Series::key, Function.identity(), (a, b) -> a));
+        List<RunComparison.SeriesComparison> series = new ArrayList<>();
+        for (RunRecord.Series after : candidate.series()) {
+            RunRecord.Series before = baselineSeries.get(after.key());
+            if (before != null) {
+                RunComparison.SeriesComparison comparison = compare(before, after, threshold, confidence);
+                series.add(comparable ? comparison : notComparable(comparison));
+            }
+        }
+        boolean sameEnvironment = baseline.environment() != null && candidate.environment() != null
+                && baseline.environment().hash().equals(candidate.environment().hash());
+        return new RunComparison(baseline.id(), candidate.id(), sameEnvironment, threshold, confidence, series);
+    }
+
+    private static boolean embedded(RunRecord run) {
+        return run.environment() != null && run.environment().embeddedDatabase();
+    }
+
+    private static RunComparison.SeriesComparison notComparable(RunComparison.SeriesComparison s) {
+        return new RunComparison.SeriesComparison(s.series(), s.baselineP99Ms(), s.candidateP99Ms(), s.p99Change(),
+                RunComparison.Verdict.NOT_COMPARABLE, s.baselineThroughput(), s.candidateThroughput(),
+                s.throughputChange(), s.throughputPValue(), RunComparison.Verdict.NOT_COMPARABLE);
+    }
+
+    static RunComparison.SeriesComparison compare(RunRecord.Series before, RunRecord.Series after,
+                                                  double threshold, double confidence) {
+        Histogram beforeLatency = before.decodeHistogram();
+        Histogram afterLatency = after.decodeHistogram();
+        double beforeP99 = beforeLatency.getValueAtPercentile(P99 * 100) / 1000.0;
+        double afterP99 = afterLatency.getValueAtPercentile(P99 * 100) / 1000.0;
+        RunComparison.Verdict p99Verdict = p99Verdict(before, after, threshold, confidence);
+
+        long[] beforeSeconds = steadySeconds(before.completedPerSecond());
+        long[] afterSeconds = steadySeconds(after.completedPerSecond());
+        Double pValue = null;
+        RunComparison.Verdict throughputVerdict = RunComparison.Verdict.INSUFFICIENT_DATA;
+        if (beforeSeconds.length >= MIN_SECOND_SAMPLES && afterSeconds.length >= MIN_SECOND_SAMPLES) {
+            pValue = Statistics.mannWhitneyPValue(beforeSeconds, afterSeconds);
+            double beforeMedian = Statistics.median(beforeSeconds);
+            double change = relativeChange(beforeMedian, Statistics.median(afterSeconds));
+            boolean significant = pValue < 1 - confidence && Math.abs(change) > threshold;
+            throughputVerdict = !significant ? RunComparison.Verdict.NO_CHANGE
+                    : change < 0 ? RunComparison.Verdict.REGRESSION : RunComparison.Verdict.IMPROVEMENT;
+        }
+        return new RunComparison.SeriesComparison(after.key(), beforeP99, afterP99, relativeChange(beforeP99, afterP99),
+                p99Verdict, before.throughputPerSecond(), after.throughputPerSecond(),
+                relativeChange(before.throughputPerSecond(), after.throughputPerSecond()), pValue, throughputVerdict);
+    }
+
+    private static RunComparison.Verdict p99Verdict(RunRecord.Series before, RunRecord.Series after, double threshold,
+                                                    double confidence) {
+        double[] beforeBatches = batchP99s(before.decodeLatencyPerSecond());
+        double[] afterBatches = batchP99s(after.decodeLatencyPerSecond());
+        if (beforeBatches.length < MIN_BATCHES || afterBatches.length < MIN_BATCHES) {
+            return RunComparison.Verdict.INSUFFICIENT_DATA;
+        }
+        double[] beforeInterval = Statistics.meanInterval(beforeBatches, confidence);
+        double[] afterInterval = Statistics.meanInterval(afterBatches, confidence);
+        double change = relativeChange(before.decodeHistogram().getValueAtPercentile(P99 * 100),
+                after.decodeHistogram().getValueAtPercentile(P99 * 100));
+        if (afterInterval[0] > beforeInterval[1] && change > threshold) return RunComparison.Verdict.REGRESSION;
+        if (afterInterval[1] < beforeInterval[0] && change < -threshold) return RunComparison.Verdict.IMPROVEMENT;
+        return RunComparison.Verdict.NO_CHANGE;
+    }
+
+    /**
+     * p99 of each batch of consecutive steady seconds (first and last dropped) holding at least
+     * {@value #MIN_LATENCY_SAMPLES} requests; a trailing batch short of that is left out.
+     */
+    static double[] batchP99s(Histogram[] perSecond) {
+        List<Double> p99s = new ArrayList<>();
+        Histogram batch = null;
+        for (int i = 1; i < perSecond.length - 1; i++) {
+            if (batch == null) {
+                batch = new Histogram(perSecond[i].getNumberOfSignificantValueDigits());
+            }
+            batch.add(perSecond[i]);
+            if (batch.getTotalCount() >= MIN_LATENCY_SAMPLES) {
+                p99s.add((double) batch.getValueAtPercentile(P99 * 100));
+                batch = null;
+            }
+        }
+        return p99s.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Per-second samples without the first and last second, which are partial or still warming up.
+     */
+    static long[] steadySeconds(long[] perSecond) {
+        if (perSecond == null || perSecond.length <= 2) return new long[0];
+        return Arrays.copyOfRange(perSecond, 1, perSecond.length - 1);
+    }
+
+    private static double relativeChange(double before, double after) {
+        return before == 0 ? 0.0 : (after - before) / before;
+    }
+}
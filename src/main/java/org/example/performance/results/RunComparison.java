@@ -0,0 +1,41 @@
+package org.example.performance.results;
+
+import java.util.List;
+
+/**
+ * Series-by-series comparison of a candidate run against a baseline run.
+ */
+public record RunComparison(String baselineId, String candidateId, boolean sameEnvironment, double threshold,
+                            double confidence, List<SeriesComparison> series) {
+
+    public enum Verdict { REGRESSION, IMPROVEMENT, NO_CHANGE, INSUFFICIENT_DATA, NOT_COMPARABLE }
+
+    /**
+     * p99 latency (ms) and throughput (req/s) of one series in both runs, with a verdict for each.
+     * {@code throughputPValue} is null when the runs lack per-second samples.
+     */
+    public record SeriesComparison(String series, double baselineP99Ms, double candidateP99Ms, double p99Change,
+                                   Verdict p99Verdict, double baselineThroughput, double candidateThroughput,
+                                   double throughputChange, Double throughputPValue, Verdict throughputVerdict) {
+
+        public boolean regressed() {
+            return p99Verdict == Verdict.REGRESSION || throughputVerdict == Verdict.REGRESSION;
+        }
+    }
+
+    /**
+     * False when the runs have no series in common, or when one run used an embedded database and the other did not
+     * (every verdict is then {@link Verdict#NOT_COMPARABLE}).
+     */
+    public boolean comparable() {
+        return hasCommonSeries() && series.stream().noneMatch(s -> s.p99Verdict() == Verdict.NOT_COMPARABLE);
+    }
+
+    public boolean hasCommonSeries() {
+        return !series.isEmpty();
+    }
+
+    public boolean hasRegressions() {
+        return series.stream().anyMatch(SeriesComparison::regressed);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.performance.results;
+
+import org.HdrHistogram.Histogram;
+import org.example.performance.load.LatencySummary;
+import org.example.performance.load.OpenModelResult;
+import org.example.performance.scenario.ScenarioResult;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+/**
+ * A persisted load-test run: what was run, on what, and the measured series. Histograms are stored in
+ * HdrHistogram's compressed encoding, base64 encoded, so percentiles can be recomputed without loss.
+ */
+public record RunRecord(String id, String type, Instant startedAt, long durationMs, Map<String, Object> configuration,
+                        EnvironmentFingerprint environment, List<Series> series) {
+
+    /**
+     * One measured series, e.g. one operation on one driver or one open-model step. {@code completedPerSecond} and
+     * {@code latencyPerSecond} (one encoded histogram per second) are empty when the run did not record them;
+     * runs saved before per-second latency was recorded have null there.
+     */
+    public record Series(String driver, String operation, long requests, long errors, double throughputPerSecond,
+                         LatencySummary latency, long[] completedPerSecond, String histogram,
+                         List<String> latencyPerSecond) {
+
+        public static Series of(ScenarioResult.OperationResult op) {
+            return new Series(op.driver(), op.operation(), op.requests(), op.errors(), op.throughputPerSecond(),
+                    op.latency(), op.completedPerSecond(), encode(op.histogram()),
+                    Arrays.stream(op.latencyPerSecond()).map(RunRecord::encode).toList());
+        }
+
+        /**
+         * Every operation of a scenario run, followed by the {@code TOTAL} of each driver.
+         */
+        public static List<Series> all(ScenarioResult result) {
+            List<Series> series = new ArrayList<>();
+            result.operations().forEach(op -> series.add(of(op)));
+            result.drivers().forEach(driver -> series.add(of(result.total(driver))));
+            return series;
+        }
+
+        public static Series of(String api, OpenModelResult.StepResult step) {
+            return new Series(api, String.format("%.0f rps", step.targetRps()), step.completed() + step.timedOut(),
+                    step.errors() + step.timedOut(), step.achievedRps(), step.corrected(), new long[0],
+                    encode(step.correctedHistogram()), List.of());
+        }
+
+        public String key() {
+            return driver + " " + operation;
+        }
+
+        public Histogram decodeHistogram() {
+            return decode(histogram);
+        }
+
+        public Histogram[] decodeLatencyPerSecond() {
+            return latencyPerSecond == null ? new Histogram[0]
+                    : latencyPerSecond.stream().map(RunRecord::decode).toArray(Histogram[]::new);
+        }
+    }
+
+    static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    static Histogram decode(String encoded) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), 0);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt histogram in run record", e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.performance.results;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.ResultsProperties;
+import org.example.performance.load.LoadHttpClient;
+import org.example.performance.load.OpenModelResult;
+import org.example.performance.scenario.ScenarioResult;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Saves each load-test run as one JSON file under {@code app.results.directory}, named by its id, and loads them
+ * back for comparison. A failed save is reported but never fails the run it belongs to.
+ */
+@Component
+public class RunResultStore {
+    public static final String LATEST = "latest";
+    private static final Pattern ID = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final DateTimeFormatter ID_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneOffset.UTC);
+
+    private final ResultsProperties properties;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final Environment environment;
+    private final LoadHttpClient httpClient;
+
+    public RunResultStore(ResultsProperties properties, ObjectMapper objectMapper, DataSource dataSource,
+                          Environment environment, LoadHttpClient httpClient) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.dataSource = dataSource;
+        this.environment = environment;
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Save a closed-loop scenario run; returns its id, or null when saving is disabled or failed.
+     */
+    public String saveScenarioRun(String type, Instant startedAt, Map<String, Object> configuration,
+                                  ScenarioResult result) {
+        return save(type, startedAt, result.durationMs(), configuration, RunRecord.Series.all(result));
+    }
+
+    /**
+     * Save an open-model run, one series per arrival-rate step.
+     */
+    public String saveOpenModelRun(Instant startedAt, long durationMs, Map<String, Object> configuration, String api,
+                                   OpenModelResult result) {
+        List<RunRecord.Series> series = result.steps().stream().map(step -> RunRecord.Series.of(api, step)).toList();
+        return save("open-load-test", startedAt, durationMs, configuration, series);
+    }
+
+    private String save(String type, Instant startedAt, long durationMs, Map<String, Object> configuration,
+                        List<RunRecord.Series> series) {
+        if (!properties.isEnabled()) return null;
+        Object scenario = configuration.get("scenario");
+        String id = ID_TIME.format(startedAt) + "-" + type + (scenario == null ? "" : "-" + scenario);
+        id = id.replaceAll("[^A-Za-z0-9._-]", "_");
+        RunRecord run = new RunRecord(id, type, startedAt, durationMs, configuration, fingerprint(), series);
+        try {
+            Path directory = directory();
+            Files.createDirectories(directory);
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(directory.resolve(id + ".json").toFile(), run);
+            System.out.println("💾 Saved run " + id + " to " + directory.toAbsolutePath());
+            if (run.environment().embeddedDatabase()) {
+                System.out.println("⚠️ Run " + id + " used " + run.environment().database()
+                        + "; DB-bound results only compare with other embedded-database runs");
+            }
+            return id;
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not save run " + id + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Load a run by id; {@value #LATEST} is the most recent one.
+     */
+    public RunRecord load(String id) {
+        if (LATEST.equals(id)) {
+            List<Path> files = files();
+            if (files.isEmpty()) {
+                throw new IllegalArgumentException("No saved runs in " + directory().toAbsolutePath());
+            }
+            return read(files.get(files.size() - 1));
+        }
+        if (!ID.matcher(id).matches()) {
+            throw new IllegalArgumentException("Invalid run id '" + id + "'");
+        }
+        Path file = directory().resolve(id + ".json");
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Unknown run '" + id + "' in " + directory().toAbsolutePath());
+        }
+        return read(file);
+    }
+
+    /**
+     * All saved runs, oldest first.
+     */
+    public List<RunRecord> list() {
+        return files().stream().map(this::read).toList();
+    }
+
+    public RunComparison compare(String baselineId, String candidateId) {
+        return RunComparator.compare(load(baselineId), load(candidateId),
+                properties.getRegressionThreshold(), properties.getConfidence());
+    }
+
+    public EnvironmentFingerprint fingerprint() {
+        return EnvironmentFingerprint.capture(database(), httpClient.description(),
+                Arrays.asList(environment.getActiveProfiles()));
+    }
+
+    private List<Path> files() {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) return List.of();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not list runs in " + directory.toAbsolutePath(), e);
+        }
+    }
+
+    private RunRecord read(Path file) {
+        try {
+            return objectMapper.readValue(file.toFile(), RunRecord.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read run " + file.getFileName(), e);
+        }
+    }
+
+    private Path directory() {
+        return Path.of(properties.getDirectory());
+    }
+
+    private String database() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return metaData.getDatabaseProductName() + " " + metaData.getDatabaseProductVersion();
+        } catch (SQLException e) {
+            return "unknown";
+        }
+    }
+}
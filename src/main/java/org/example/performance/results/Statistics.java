@@ -0,0 +1,105 @@
+package org.example.performance.results;
+
+import java.util.Arrays;
+
+/**
+ * Tests used to compare runs: a Student-t confidence interval for the mean of batch statistics (batch means), and the
+ * distribution-free Mann-Whitney U test for per-second throughput samples.
+ */
+final class Statistics {
+
+    private Statistics() {
+    }
+
+    /**
+     * Confidence interval {lower, upper} of the mean of {@code values}, e.g. one p99 per batch of consecutive seconds.
+     * Requests within a second share server state and are not independent, but batches far enough apart are close
+     * to it, so the spread between batches gives an honest standard error where the per-request count does not.
+     */
+    static double[] meanInterval(double[] values, double confidence) {
+        int k = values.length;
+        double mean = Arrays.stream(values).average().orElse(0.0);
+        double squares = Arrays.stream(values).map(v -> (v - mean) * (v - mean)).sum();
+        double standardError = k < 2 ? 0.0 : Math.sqrt(squares / (k - 1) / k);
+        double halfWidth = studentTQuantile(1 - (1 - confidence) / 2, Math.max(k - 1, 1)) * standardError;
+        return new double[]{mean - halfWidth, mean + halfWidth};
+    }
+
+    /**
+     * Quantile of Student's t distribution with {@code df} degrees of freedom, by the Cornish-Fisher expansion
+     * around the normal quantile (Abramowitz-Stegun 26.7.5); within 0.01 of the exact value from 3 degrees of freedom.
+     */
+    static double studentTQuantile(double p, int df) {
+        double z = normalQuantile(p);
+        double z3 = z * z * z;
+        double z5 = z3 * z * z;
+        double z7 = z5 * z * z;
+        return z + (z3 + z) / (4.0 * df)
+                + (5 * z5 + 16 * z3 + 3 * z) / (96.0 * df * df)
+                + (3 * z7 + 19 * z5 + 17 * z3 - 15 * z) / (384.0 * df * df * df);
+    }
+
+    /**
+     * Two-sided p-value of the Mann-Whitney U test that both samples come from the same distribution, using the
+     * normal approximation with tie correction.
+     */
+    static double mannWhitneyPValue(long[] a, long[] b) {
+        int n1 = a.length;
+        int n2 = b.length;
+        int n = n1 + n2;
+        long[][] pooled = new long[n][];
+        for (int i = 0; i < n1; i++) pooled[i] = new long[]{a[i], 0};
+        for (int i = 0; i < n2; i++) pooled[n1 + i] = new long[]{b[i], 1};
+        Arrays.sort(pooled, (x, y) -> Long.compare(x[0], y[0]));
+
+        double rankSumA = 0.0;
+        double tieTerm = 0.0;
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j < n && pooled[j][0] == pooled[i][0]) j++;
+            double midRank = (i + 1 + j) / 2.0;
+            for (int k = i; k < j; k++) {
+                if (pooled[k][1] == 0) rankSumA += midRank;
+            }
+            long ties = j - i;
+            tieTerm += (double) ties * ties * ties - ties;
+            i = j;
+        }
+        double u = rankSumA - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0.0) return 1.0;
+        double z = (Math.abs(u - mean) - 0.5) / Math.sqrt(variance);
+        return Math.min(1.0, 2 * (1 - normalCdf(Math.max(z, 0.0))));
+    }
+
+    static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2.0;
+    }
+
+    /**
+     * Standard normal CDF via the Abramowitz-Stegun 7.1.26 approximation of erf (error below 1.5e-7).
+     */
+    static double normalCdf(double x) {
+        double t = 1 / (1 + 0.3275911 * Math.abs(x) / Math.sqrt(2));
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027
+                + t * 1.061405429)))) * Math.exp(-x * x / 2);
+        return x >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    /**
+     * Inverse standard normal CDF by bisection on {@link #normalCdf(double)}; precise enough for critical values.
+     */
+    static double normalQuantile(double p) {
+        double low = -10;
+        double high = 10;
+        for (int i = 0; i < 100; i++) {
+            double mid = (low + high) / 2;
+            if (normalCdf(mid) < p) low = mid; else high = mid;
+        }
+        return (low + high) / 2;
+    }
+}
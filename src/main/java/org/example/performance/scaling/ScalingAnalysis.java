@@ -0,0 +1,57 @@
+package org.example.performance.scaling;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fits how each operation's p99 grows with the table size. Between two neighbouring sizes the growth exponent is
+ * {@code ln(p99b / p99a) / ln(rowsb / rowsa)}, so p99 proportional to rows^k gives k. The steepest step is kept,
+ * because fixed per-request overhead flattens the small sizes and a full scan only shows once the table is large.
+ * Every operation is measured on its own, so its exponent is not moved by how the others slow down.
+ */
+public final class ScalingAnalysis {
+
+    private ScalingAnalysis() {
+    }
+
+    /**
+     * Growth of every driver and operation, in the order they were first measured.
+     */
+    public static List<ScalingResult.Growth> growth(List<ScalingResult.SizeRun> runs, double superLinearExponent) {
+        Map<String, List<ScalingResult.Measurement>> points = new LinkedHashMap<>();
+        for (ScalingResult.SizeRun run : runs) {
+            for (ScalingResult.Measurement measurement : run.measurements()) {
+                points.computeIfAbsent(measurement.key(), key -> new ArrayList<>()).add(measurement);
+            }
+        }
+        List<ScalingResult.Growth> growth = new ArrayList<>();
+        for (List<ScalingResult.Measurement> series : points.values()) {
+            double exponent = steepestExponent(series);
+            growth.add(new ScalingResult.Growth(series.get(0).driver(), series.get(0).operation(), series, exponent,
+                    exponent > superLinearExponent));
+        }
+        return growth;
+    }
+
+    /**
+     * Steepest log-log slope of p99 against rows between neighbouring measured sizes that both had requests.
+     */
+    static double steepestExponent(List<ScalingResult.Measurement> points) {
+        double steepest = Double.NaN;
+        for (int i = 1; i < points.size(); i++) {
+            ScalingResult.Measurement before = points.get(i - 1);
+            ScalingResult.Measurement after = points.get(i);
+            if (before.requests() == 0 || after.requests() == 0 || before.p99Ms() <= 0 || after.p99Ms() <= 0) {
+                continue;
+            }
+            double exponent = Math.log(after.p99Ms() / before.p99Ms())
+                    / Math.log((double) after.rows() / before.rows());
+            if (Double.isNaN(steepest) || exponent > steepest) {
+                steepest = exponent;
+            }
+        }
+        return steepest;
+    }
+}
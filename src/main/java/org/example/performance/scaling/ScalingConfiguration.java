@@ -0,0 +1,39 @@
+package org.example.performance.scaling;
+
+import org.example.performance.scenario.ApiMode;
+
+import java.util.List;
+
+/**
+ * Settings of a scaling sweep: the rows per table at each step, in ascending order, and the load run for every
+ * operation at every step after {@code warmupSeconds} of unmeasured warm-up. {@code GET_ALL} is only measured up to
+ * {@code getAllMaxRows}. The sweep empties the tables before its first size, so {@code truncate} must be set.
+ */
+public record ScalingConfiguration(List<Long> sizes, String scenario, String transport, int users,
+                                   int durationSeconds, int warmupSeconds, long getAllMaxRows, boolean truncate,
+                                   long seed) {
+    public static final long DEFAULT_SEED = 42;
+
+    public ScalingConfiguration {
+        ApiMode.pair(transport);
+        if (!truncate) {
+            throw new IllegalArgumentException(
+                    "A scaling sweep truncates the car, animal and employee tables first; pass truncate=true to allow it");
+        }
+        if (sizes == null || sizes.size() < 2) {
+            throw new IllegalArgumentException("A sweep needs at least two sizes");
+        }
+        for (int i = 0; i < sizes.size(); i++) {
+            if (sizes.get(i) < 1 || (i > 0 && sizes.get(i) <= sizes.get(i - 1))) {
+                throw new IllegalArgumentException("Sizes must be >= 1 and strictly ascending, got " + sizes);
+            }
+        }
+        if (users < 1 || durationSeconds < 1 || warmupSeconds < 0) {
+            throw new IllegalArgumentException("Users and duration must be >= 1 and warmup >= 0");
+        }
+        if (getAllMaxRows < 0) {
+            throw new IllegalArgumentException("The GET_ALL row cap must be >= 0");
+        }
+        sizes = List.copyOf(sizes);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.performance.scaling;
+
+import org.example.performance.scenario.ScenarioResult;
+
+import java.util.List;
+
+/**
+ * Outcome of a scaling sweep: what was measured at each table size, and how every driver and operation grew
+ * across the sizes.
+ */
+public record ScalingResult(ScalingConfiguration configuration, List<SizeRun> runs, List<Growth> growth,
+                            double superLinearExponent) {
+
+    /**
+     * One step of the sweep: rows per table, how long seeding up to them took, and every operation measured there,
+     * each in its own saved run.
+     */
+    public record SizeRun(long rows, long seedMillis, List<Measurement> measurements) {
+    }
+
+    /**
+     * Requests, errors, throughput and latency of one driver and operation at one size, run with no other operation
+     * alongside, and the id of the saved run.
+     */
+    public record Measurement(long rows, String driver, String operation, long requests, long errors,
+                              double throughputPerSecond, double p50Ms, double p99Ms, String runId) {
+
+        static Measurement of(long rows, String runId, ScenarioResult.OperationResult op) {
+            return new Measurement(rows, op.driver(), op.operation(), op.requests(), op.errors(),
+                    op.throughputPerSecond(), op.latency().p50Ms(), op.latency().p99Ms(), runId);
+        }
+
+        String key() {
+            return driver + " " + operation;
+        }
+    }
+
+    /**
+     * One driver and operation across the sizes it was measured at. {@code p99Exponent} is the steepest log-log
+     * slope of p99 against rows between two neighbouring measured sizes: 0 means flat, 1 linear in the table size.
+     * NaN when fewer than two sizes had requests.
+     */
+    public record Growth(String driver, String operation, List<Measurement> points, double p99Exponent,
+                         boolean superLinear) {
+
+        /**
+         * The measurement at {@code rows}, or null if the operation was not run at that size.
+         */
+        public Measurement at(long rows) {
+            return points.stream().filter(point -> point.rows() == rows).findFirst().orElse(null);
+        }
+    }
+
+    public List<Growth> superLinear() {
+        return growth.stream().filter(Growth::superLinear).toList();
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.performance.scaling;
+
+import org.example.config.ResultsProperties;
+import org.example.config.ScalingProperties;
+import org.example.performance.PerformanceLoadTester;
+import org.example.performance.scenario.OperationType;
+import org.example.performance.scenario.Scenario;
+import org.example.performance.scenario.ScenarioCatalog;
+import org.example.performance.scenario.ScenarioOperation;
+import org.example.performance.scenario.ScenarioSnapshot;
+import org.example.performance.seed.DataSeeder;
+import org.example.performance.seed.SeedConfiguration;
+import org.example.performance.seed.SeedResult;
+import org.example.performance.seed.ZipfianGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+/**
+ * Runs a scenario's operations at growing table sizes. Before each step the tables are topped up to the step's rows
+ * per table with {@link DataSeeder}, so only the first step truncates and the data keeps one distribution throughout.
+ * At each step every operation runs on its own: warmed up, then measured and saved as a load test of just that
+ * operation, so a slow operation cannot hold the users of the others in a closed loop. {@code GET_ALL} returns the
+ * whole table and only runs up to the configured row cap. The growth of each operation across steps is fitted by
+ * {@link ScalingAnalysis} and every measurement is written as CSV next to the saved runs.
+ */
+@Component
+public class ScalingSweep {
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final DataSeeder dataSeeder;
+    private final PerformanceLoadTester loadTester;
+    private final ScenarioCatalog scenarioCatalog;
+    private final ScalingProperties properties;
+    private final ResultsProperties resultsProperties;
+    private volatile Path lastCsv;
+
+    public ScalingSweep(DataSeeder dataSeeder, PerformanceLoadTester loadTester, ScenarioCatalog scenarioCatalog,
+                        ScalingProperties properties, ResultsProperties resultsProperties) {
+        this.dataSeeder = dataSeeder;
+        this.loadTester = loadTester;
+        this.scenarioCatalog = scenarioCatalog;
+        this.properties = properties;
+        this.resultsProperties = resultsProperties;
+    }
+
+    /**
+     * A configuration with the sizes, scenario and warm-up left null taken from {@code app.scaling.*}.
+     */
+    public ScalingConfiguration configure(List<Long> sizes, String scenario, String transport, int users,
+                                          int durationSeconds, Integer warmupSeconds, boolean truncate) {
+        return new ScalingConfiguration(sizes == null || sizes.isEmpty() ? properties.getSizes() : sizes,
+                scenario == null || scenario.isBlank() ? properties.getScenario() : scenario, transport, users,
+                durationSeconds, warmupSeconds == null ? properties.getWarmupSeconds() : warmupSeconds,
+                properties.getGetAllMaxRows(), truncate, ScalingConfiguration.DEFAULT_SEED);
+    }
+
+    /**
+     * Run the sweep, reporting what it is doing to {@code stage} and the per-second snapshots of every measured run
+     * to {@code progress}. If the calling thread is interrupted it stops with a {@link CancellationException}.
+     */
+    public ScalingResult run(ScalingConfiguration config, Consumer<String> stage, Consumer<ScenarioSnapshot> progress) {
+        Scenario scenario = scenarioCatalog.find(config.scenario());
+        PerformanceLoadTester.LoadTestConfiguration load = new PerformanceLoadTester.LoadTestConfiguration(
+                config.users(), config.durationSeconds(), config.scenario(), config.transport());
+        System.out.printf("📏 Scaling sweep over %s rows per table, scenario '%s'%n", config.sizes(),
+                config.scenario());
+
+        List<ScalingResult.SizeRun> runs = new ArrayList<>();
+        long seeded = 0;
+        for (int i = 0; i < config.sizes().size(); i++) {
+            long rows = config.sizes().get(i);
+            String step = String.format("Step %d/%d, %,d rows per table", i + 1, config.sizes().size(), rows);
+            report(stage, step + ": seeding");
+            long added = rows - seeded;
+            SeedResult seed = dataSeeder.seed(new SeedConfiguration(added, added, added,
+                    SeedConfiguration.DEFAULT_BATCH_SIZE, SeedConfiguration.DEFAULT_SPREAD_DAYS,
+                    ZipfianGenerator.DEFAULT_THETA, config.seed() + 10L * i, i == 0 && config.truncate()));
+            seeded = rows;
+
+            List<ScalingResult.Measurement> measurements = new ArrayList<>();
+            for (ScenarioOperation operation : scenario.operations()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Scaling sweep cancelled");
+                }
+                if (operation.type() == OperationType.GET_ALL && rows > config.getAllMaxRows()) {
+                    report(stage, step + ": skipping " + operation.label() + " above "
+                            + config.getAllMaxRows() + " rows");
+                    continue;
+                }
+                report(stage, step + ": " + operation.label());
+                Scenario isolated = scenario.isolate(operation);
+                loadTester.warmUp(isolated, load, config.warmupSeconds());
+                PerformanceLoadTester.PerformanceTestResult result = loadTester.runLoadTest(isolated, load, progress);
+                result.getScenarioResult().operations().forEach(op ->
+                        measurements.add(ScalingResult.Measurement.of(rows, result.getRunId(), op)));
+            }
+            runs.add(new ScalingResult.SizeRun(rows, seed.totalMillis(), measurements));
+        }
+
+        ScalingResult result = new ScalingResult(config, runs,
+                ScalingAnalysis.growth(runs, properties.getSuperLinearExponent()), properties.getSuperLinearExponent());
+        lastCsv = writeCsv(result);
+        result.superLinear().forEach(growth -> System.out.printf("⚠️ %s %s: p99 grows like rows^%.2f%n",
+                growth.driver(), growth.operation(), growth.p99Exponent()));
+        return result;
+    }
+
+    private static void report(Consumer<String> stage, String message) {
+        System.out.println("📏 " + message);
+        stage.accept(message);
+    }
+
+    /**
+     * CSV written by the last sweep, or null if it could not be written.
+     */
+    public Path getLastCsv() {
+        return lastCsv;
+    }
+
+    private Path writeCsv(ScalingResult result) {
+        Path directory = Path.of(resultsProperties.getDirectory());
+        Path file = directory.resolve(FILE_TIME.format(LocalDateTime.now()) + "-scaling-sweep.csv");
+        try {
+            Files.createDirectories(directory);
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+                out.println("rows,driver,operation,requests,errors,throughput_per_second,p50_ms,p99_ms,run_id");
+                for (ScalingResult.SizeRun run : result.runs()) {
+                    for (ScalingResult.Measurement m : run.measurements()) {
+                        out.println(String.format(Locale.ROOT, "%d,%s,%s,%d,%d,%.3f,%.3f,%.3f,%s", m.rows(),
+                                m.driver(), m.operation(), m.requests(), m.errors(), m.throughputPerSecond(),
+                                m.p50Ms(), m.p99Ms(), m.runId() == null ? "" : m.runId()));
+                    }
+                }
+            }
+            System.out.println("💾 Wrote " + file.toAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not write " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
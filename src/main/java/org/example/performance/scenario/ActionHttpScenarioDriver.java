@@ -0,0 +1,78 @@
+package org.example.performance.scenario;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.performance.load.HttpTiming;
+import org.example.performance.load.HttpTimingRecorder;
+import org.example.performance.load.LoadHttpClient;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Posts scenario calls to the action controllers over HTTP, recording client-side timings; the HTTP counterpart of
+ * {@link ActionScenarioDriver}.
+ */
+public class ActionHttpScenarioDriver implements ScenarioDriver {
+    private final LoadHttpClient httpClient;
+    private final HttpTimingRecorder timings;
+    private final ObjectMapper objectMapper;
+
+    public ActionHttpScenarioDriver(LoadHttpClient httpClient, HttpTimingRecorder timings, ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.timings = timings;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return ApiMode.ACTION_HTTP.getLabel();
+    }
+
+    @Override
+    public boolean execute(ScenarioCall call) throws IOException {
+        Map<String, Object> body = body(call);
+        String json = body == null ? null : objectMapper.writeValueAsString(body);
+        try {
+            HttpTiming timing = httpClient.send("POST", path(call), json);
+            timings.record(timing);
+            return timing.isSuccess();
+        } catch (IOException e) {
+            timings.recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * Action endpoint of a scenario call, e.g. {@code /actions/cars/get-by-id}.
+     */
+    static String path(ScenarioCall call) {
+        ScenarioOperation op = call.operation();
+        String action = switch (op.type()) {
+            case GET_ALL -> "get-all";
+            case GET_BY_ID -> "get-by-id";
+            case GET_PAGE -> "get-page";
+            case SEARCH -> "search";
+            case COUNT -> "count";
+            case CREATE -> "create";
+            case UPDATE -> "update";
+            case DELETE -> "delete";
+        };
+        return op.entity().getActionPath() + "/" + action;
+    }
+
+    /**
+     * JSON body the action endpoint binds its request from, or null for the endpoints that take none.
+     */
+    static Map<String, Object> body(ScenarioCall call) {
+        ScenarioOperation op = call.operation();
+        String field = op.entity().getField();
+        return switch (op.type()) {
+            case GET_ALL, COUNT -> null;
+            case GET_BY_ID, DELETE -> Map.of("id", call.id());
+            case GET_PAGE -> Map.of("page", call.page(), "size", op.pageSize());
+            case SEARCH -> Map.of(field, op.term());
+            case CREATE -> Map.of(field, call.value());
+            case UPDATE -> Map.of("id", call.id(), field, call.value());
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.performance.scenario;
+
+import org.example.action.animal.request.*;
+import org.example.action.car.request.*;
+import org.example.action.core.ActionDispatcher;
+import org.example.action.core.ActionRequest;
+import org.example.action.core.ActionResponse;
+import org.example.action.govemployee.request.*;
+
+/**
+ * Dispatches scenario calls to the action handlers in-process.
+ */
+public class ActionScenarioDriver implements ScenarioDriver {
+    private final ActionDispatcher actionDispatcher;
+
+    public ActionScenarioDriver(ActionDispatcher actionDispatcher) {
+        this.actionDispatcher = actionDispatcher;
+    }
+
+    @Override
+    public String name() {
+        return ApiMode.ACTION_LOCAL.getLabel();
+    }
+
+    @Override
+    public boolean execute(ScenarioCall call) {
+        ActionResponse response = actionDispatcher.dispatch(request(call));
+        return response.isSuccess();
+    }
+
+    /**
+     * The action request equivalent to a scenario call.
+     */
+    static ActionRequest request(ScenarioCall call) {
+        ScenarioOperation op = call.operation();
+        return switch (op.entity()) {
+            case CAR -> switch (op.type()) {
+                case GET_ALL -> new GetAllCarsRequest();
+                case GET_BY_ID -> new GetCarByIdRequest(call.id());
+                case GET_PAGE -> new GetCarsPageRequest(call.page(), op.pageSize());
+                case SEARCH -> new SearchCarsRequest(op.term());
+                case COUNT -> new CountCarsRequest();
+                case CREATE -> new CreateCarRequest(call.value());
+                case UPDATE -> new UpdateCarRequest(call.id(), call.value());
+                case DELETE -> new DeleteCarRequest(call.id());
+            };
+            case ANIMAL -> switch (op.type()) {
+                case GET_ALL -> new GetAllAnimalsRequest();
+                case GET_BY_ID -> new GetAnimalByIdRequest(call.id());
+                case GET_PAGE -> new GetAnimalsPageRequest(call.page(), op.pageSize());
+                case SEARCH -> new SearchAnimalsRequest(op.term());
+                case COUNT -> new CountAnimalsRequest();
+                case CREATE -> new CreateAnimalRequest(call.value());
+                case UPDATE -> new UpdateAnimalRequest(call.id(), call.value());
+                case DELETE -> new DeleteAnimalRequest(call.id());
+            };
+            case EMPLOYEE -> switch (op.type()) {
+                case GET_ALL -> new GetAllEmployeesRequest();
+                case GET_BY_ID -> new GetEmployeeByIdRequest(call.id());
+                case GET_PAGE -> new GetEmployeesPageRequest(call.page(), op.pageSize());
+                case SEARCH -> new SearchEmployeesRequest(op.term());
+                case COUNT -> new CountEmployeesRequest();
+                case CREATE -> new CreateEmployeeRequest(call.value());
+                case UPDATE -> new UpdateEmployeeRequest(call.id(), call.value());
+                case DELETE -> new DeleteEmployeeRequest(call.id());
+            };
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.performance.scenario;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One API style reached through one transport: REST or actions, over HTTP or called in-process. Pairing the
+ * modes by transport separates the cost of the architecture from the cost of HTTP.
+ */
+public enum ApiMode {
+    REST_HTTP("REST-HTTP", "REST", true),
+    REST_LOCAL("REST-LOCAL", "REST", false),
+    ACTION_HTTP("ACTION-HTTP", "ACTION", true),
+    ACTION_LOCAL("ACTION-LOCAL", "ACTION", false);
+
+    /**
+     * Transports a load test can pair REST and actions on, see {@link #pair(String)}.
+     */
+    public static final String MIXED = "mixed";
+    public static final String HTTP = "http";
+    public static final String LOCAL = "local";
+
+    private final String label;
+    private final String api;
+    private final boolean http;
+
+    ApiMode(String label, String api, boolean http) {
+        this.label = label;
+        this.api = api;
+        this.http = http;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getApi() {
+        return api;
+    }
+
+    public boolean isHttp() {
+        return http;
+    }
+
+    /**
+     * Mode by label or name, case-insensitive; the bare API names keep their original meaning, i.e. REST over
+     * HTTP and actions in-process.
+     */
+    public static ApiMode parse(String value) {
+        String normalized = value.trim().toUpperCase(Locale.ROOT).replace('_', '-');
+        return switch (normalized) {
+            case "REST" -> REST_HTTP;
+            case "ACTION" -> ACTION_LOCAL;
+            default -> Arrays.stream(values())
+                    .filter(mode -> mode.label.equals(normalized))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown API mode: " + value
+                            + " (expected REST-HTTP, REST-LOCAL, ACTION-HTTP or ACTION-LOCAL)"));
+        };
+    }
+
+    /**
+     * The REST and action modes a load test runs side by side for a transport: mixed, http or local.
+     */
+    public static List<ApiMode> pair(String transport) {
+        return switch (transport.trim().toLowerCase(Locale.ROOT)) {
+            case MIXED -> List.of(REST_HTTP, ACTION_LOCAL);
+            case HTTP -> List.of(REST_HTTP, ACTION_HTTP);
+            case LOCAL -> List.of(REST_LOCAL, ACTION_LOCAL);
+            default -> throw new IllegalArgumentException("Unknown transport: " + transport
+                    + " (expected mixed, http or local)");
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.performance.scenario;
+
+import org.example.performance.seed.ZipfianGenerator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks existing ids of one table. UNIFORM spreads over [minId, maxId]; ZIPFIAN favours a few hot ids, scattered
+ * over the range by hashing the rank so the hot set is not just the oldest rows; LATEST favours the newest ids and
+ * follows the top of the range as the scenario creates rows. The Zipfian generator is sized to the range and rebuilt
+ * once creates have grown the range to twice that size, so a scenario that starts on an empty or small table does
+ * not keep drawing from a handful of ids.
+ */
+final class IdSelector {
+    private static final long RESIZE_FACTOR = 2;
+
+    private final Scenario.Distribution distribution;
+    private final double theta;
+    private final long minId;
+    private final AtomicLong maxId;
+    private final AtomicReference<ZipfianGenerator> zipfian;
+
+    IdSelector(Scenario.IdSelection selection, long minId, long maxId) {
+        this.distribution = selection.distribution();
+        this.theta = selection.theta();
+        this.minId = minId;
+        this.maxId = new AtomicLong(maxId);
+        this.zipfian = new AtomicReference<>(distribution == Scenario.Distribution.UNIFORM
+                ? null : new ZipfianGenerator(Math.max(maxId - minId + 1, 1), theta));
+    }
+
+    long next(RandomGenerator random) {
+        long max = maxId.get();
+        long items = max - minId + 1;
+        if (items <= 1) return minId;
+        return switch (distribution) {
+            case UNIFORM -> minId + random.nextLong(items);
+            case ZIPFIAN -> minId + Math.floorMod(scramble(zipfian(items).next(random)), items);
+            case LATEST -> Math.max(minId, max - zipfian(items).next(random));
+        };
+    }
+
+    /**
+     * The Zipfian generator, rebuilt for {@code items} if the range outgrew it. Construction is O(items), but
+     * growing geometrically keeps the cost per created row constant.
+     */
+    private ZipfianGenerator zipfian(long items) {
+        ZipfianGenerator current = zipfian.get();
+        if (items < current.getItems() * RESIZE_FACTOR) {
+            return current;
+        }
+        synchronized (zipfian) {
+            current = zipfian.get();
+            if (items >= current.getItems() * RESIZE_FACTOR) {
+                current = new ZipfianGenerator(items, theta);
+                zipfian.set(current);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * A create succeeded; ids are auto-increment, so the range grows by one at the top.
+     */
+    void created() {
+        maxId.incrementAndGet();
+    }
+
+    long minId() {
+        return minId;
+    }
+
+    /**
+     * FNV-1a over the rank's bytes, as YCSB does for its scrambled Zipfian keys.
+     */
+    static long scramble(long rank) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < 8; i++) {
+            hash ^= (rank >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
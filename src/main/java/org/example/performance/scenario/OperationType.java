@@ -0,0 +1,25 @@
+package org.example.performance.scenario;
+
+/**
+ * Operation a scenario can issue against an entity; writes are the ones that change rows.
+ */
+public enum OperationType {
+    GET_ALL(false),
+    GET_BY_ID(false),
+    GET_PAGE(false),
+    SEARCH(false),
+    COUNT(false),
+    CREATE(true),
+    UPDATE(true),
+    DELETE(true);
+
+    private final boolean write;
+
+    OperationType(boolean write) {
+        this.write = write;
+    }
+
+    public boolean isWrite() {
+        return write;
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.performance.scenario;
+
+import org.example.models.dto.AnimalDto;
+import org.example.models.dto.CarDto;
+import org.example.models.dto.GovEmployeeDto;
+import org.example.performance.PerformanceMonitor;
+import org.example.rest.controller.AnimalRestController;
+import org.example.rest.controller.CarRestController;
+import org.example.rest.controller.GovEmployeeRestController;
+import org.springframework.http.ResponseEntity;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Calls the REST controller methods in-process, skipping HTTP, message conversion and bean validation just as
+ * {@link ActionScenarioDriver} skips them for actions. Calls are recorded as REST executions, mirroring what the
+ * dispatcher records for actions.
+ */
+public class RestLocalScenarioDriver implements ScenarioDriver {
+    private final CarRestController carController;
+    private final AnimalRestController animalController;
+    private final GovEmployeeRestController employeeController;
+    private final PerformanceMonitor performanceMonitor;
+
+    public RestLocalScenarioDriver(CarRestController carController, AnimalRestController animalController,
+                                   GovEmployeeRestController employeeController,
+                                   PerformanceMonitor performanceMonitor) {
+        this.carController = carController;
+        this.animalController = animalController;
+        this.employeeController = employeeController;
+        this.performanceMonitor = performanceMonitor;
+    }
+
+    @Override
+    public String name() {
+        return ApiMode.REST_LOCAL.getLabel();
+    }
+
+    @Override
+    public boolean execute(ScenarioCall call) {
+        long start = System.currentTimeMillis();
+        boolean success = false;
+        try {
+            success = invoke(call).getStatusCode().is2xxSuccessful();
+        } catch (NoSuchElementException | IllegalArgumentException e) {
+            // What the exception handler turns into 404 and 400 over HTTP
+        } finally {
+            performanceMonitor.recordRestExecution(System.currentTimeMillis() - start, success);
+        }
+        return success;
+    }
+
+    private ResponseEntity<?> invoke(ScenarioCall call) {
+        ScenarioOperation op = call.operation();
+        return switch (op.entity()) {
+            case CAR -> switch (op.type()) {
+                case GET_ALL -> carController.getAllCars(null, null, null, null, 100);
+                case GET_BY_ID -> carController.getCar(call.id(), null);
+                case GET_PAGE -> carController.getCarsPage(call.page(), op.pageSize());
+                case SEARCH -> carController.searchCars(op.term());
+                case COUNT -> carController.countCars();
+                case CREATE -> carController.addCar(carDto(call.value()));
+                case UPDATE -> carController.putCar(call.id(), carDto(call.value()));
+                case DELETE -> carController.deleteCar(call.id());
+            };
+            case ANIMAL -> switch (op.type()) {
+                case GET_ALL -> animalController.getAllAnimals(null, null, null, null, 100);
+                case GET_BY_ID -> animalController.getAnimal(call.id(), null);
+                case GET_PAGE -> animalController.getAnimalsPage(call.page(), op.pageSize());
+                case SEARCH -> animalController.searchAnimals(op.term());
+                case COUNT -> animalController.countAnimals();
+                case CREATE -> animalController.addAnimal(animalDto(call.value()));
+                case UPDATE -> animalController.putAnimal(call.id(), animalDto(call.value()));
+                case DELETE -> animalController.deleteAnimal(call.id());
+            };
+            case EMPLOYEE -> switch (op.type()) {
+                case GET_ALL -> employeeController.getAllEmployees(null, null, null, null, 100);
+                case GET_BY_ID -> employeeController.getEmployee(call.id(), null);
+                case GET_PAGE -> employeeController.getEmployeesPage(call.page(), op.pageSize());
+                case SEARCH -> employeeController.searchEmployees(op.term());
+                case COUNT -> employeeController.countEmployees();
+                case CREATE -> employeeController.addEmployee(employeeDto(call.value()));
+                case UPDATE -> employeeController.putEmployee(call.id(), employeeDto(call.value()));
+                case DELETE -> employeeController.deleteEmployee(call.id());
+            };
+        };
+    }
+
+    private static CarDto carDto(String brand) {
+        CarDto dto = new CarDto();
+        dto.setBrand(brand);
+        return dto;
+    }
+
+    private static AnimalDto animalDto(String type) {
+        AnimalDto dto = new AnimalDto();
+        dto.setType(type);
+        return dto;
+    }
+
+    private static GovEmployeeDto employeeDto(String name) {
+        GovEmployeeDto dto = new GovEmployeeDto();
+        dto.setName(name);
+        return dto;
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.performance.scenario;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.performance.load.HttpTiming;
+import org.example.performance.load.HttpTimingRecorder;
+import org.example.performance.load.LoadHttpClient;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Sends scenario calls to the REST controllers over HTTP, recording client-side timings.
+ */
+public class RestScenarioDriver implements ScenarioDriver {
+    private final LoadHttpClient httpClient;
+    private final HttpTimingRecorder timings;
+    private final ObjectMapper objectMapper;
+
+    public RestScenarioDriver(LoadHttpClient httpClient, HttpTimingRecorder timings, ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.timings = timings;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return ApiMode.REST_HTTP.getLabel();
+    }
+
+    @Override
+    public boolean execute(ScenarioCall call) throws IOException {
+        ScenarioOperation op = call.operation();
+        String base = op.entity().getRestPath();
+        return switch (op.type()) {
+            case GET_ALL -> send("GET", base, null);
+            case GET_BY_ID -> send("GET", base + "/" + call.id(), null);
+            case GET_PAGE -> send("GET", base + "/page?page=" + call.page() + "&size=" + op.pageSize(), null);
+            case SEARCH -> send("GET", base + "/search?" + op.entity().getField() + "="
+                    + URLEncoder.encode(op.term(), StandardCharsets.UTF_8), null);
+            case COUNT -> send("GET", base + "/count", null);
+            case CREATE -> send("POST", base, body(op.entity(), call.value()));
+            case UPDATE -> send("PUT", base + "/" + call.id(), body(op.entity(), call.value()));
+            case DELETE -> send("DELETE", base + "/" + call.id(), null);
+        };
+    }
+
+    private boolean send(String method, String path, String body) throws IOException {
+        try {
+            HttpTiming timing = httpClient.send(method, path, body);
+            timings.record(timing);
+            return timing.isSuccess();
+        } catch (IOException e) {
+            timings.recordFailure();
+            throw e;
+        }
+    }
+
+    private String body(ScenarioEntity entity, String value) throws IOException {
+        return objectMapper.writeValueAsString(Map.of(entity.getField(), value));
+    }
+}
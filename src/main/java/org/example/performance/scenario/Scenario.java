@@ -0,0 +1,128 @@
+package org.example.performance.scenario;
+
+import org.example.performance.seed.ZipfianGenerator;
+
+import java.util.List;
+
+/**
+ * Declarative load-test scenario, loaded from a JSON or YAML file by {@link ScenarioCatalog}: a weighted operation
+ * mix, an optional read ratio that rescales it, how ids are picked, payload lengths, think time and ramp phases.
+ * A scenario without phases runs flat at the users and duration given by the caller.
+ */
+public record Scenario(String name, String description, Double readRatio, IdSelection idSelection,
+                       PayloadSize payload, ThinkTime thinkTime, List<ScenarioOperation> operations,
+                       List<ScenarioPhase> phases) {
+
+    public enum Distribution { UNIFORM, ZIPFIAN, LATEST }
+
+    public Scenario {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Scenario needs a name");
+        }
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("Scenario '" + name + "' needs at least one operation");
+        }
+        operations = List.copyOf(operations);
+        phases = phases == null ? List.of() : List.copyOf(phases);
+        idSelection = idSelection == null ? new IdSelection(null, null) : idSelection;
+        payload = payload == null ? new PayloadSize(null, null) : payload;
+        thinkTime = thinkTime == null ? new ThinkTime(null, null) : thinkTime;
+        if (readRatio != null) {
+            if (readRatio < 0.0 || readRatio > 1.0) {
+                throw new IllegalArgumentException("Read ratio of '" + name + "' must be between 0 and 1");
+            }
+            boolean hasReads = operations.stream().anyMatch(op -> !op.type().isWrite());
+            boolean hasWrites = operations.stream().anyMatch(op -> op.type().isWrite());
+            if ((readRatio > 0.0 && !hasReads) || (readRatio < 1.0 && !hasWrites)) {
+                throw new IllegalArgumentException("Read ratio " + readRatio + " of '" + name
+                        + "' needs both read and write operations in the mix");
+            }
+        }
+    }
+
+    /**
+     * Operation weights after applying the read ratio: reads share {@code readRatio} of the total in proportion
+     * to their own weights, writes share the rest. Without a read ratio the weights are used as written.
+     */
+    public double[] effectiveWeights() {
+        double[] weights = new double[operations.size()];
+        double reads = 0.0;
+        double writes = 0.0;
+        for (ScenarioOperation op : operations) {
+            if (op.type().isWrite()) writes += op.weight(); else reads += op.weight();
+        }
+        for (int i = 0; i < weights.length; i++) {
+            ScenarioOperation op = operations.get(i);
+            if (readRatio == null) {
+                weights[i] = op.weight();
+            } else if (op.type().isWrite()) {
+                weights[i] = writes == 0.0 ? 0.0 : op.weight() / writes * (1.0 - readRatio);
+            } else {
+                weights[i] = reads == 0.0 ? 0.0 : op.weight() / reads * readRatio;
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * The same scenario with other phases; an empty list makes it run flat at the caller's users and duration.
+     */
+    public Scenario withPhases(List<ScenarioPhase> phases) {
+        return new Scenario(name, description, readRatio, idSelection, payload, thinkTime, operations, phases);
+    }
+
+    /**
+     * One operation of this scenario on its own, flat, with the same id selection, payload and think time; named
+     * after the scenario and the operation.
+     */
+    public Scenario isolate(ScenarioOperation operation) {
+        return new Scenario(name + ": " + operation.label(), description, null, idSelection, payload, thinkTime,
+                List.of(operation), List.of());
+    }
+
+    /**
+     * The phases to run: the scenario's own, or one flat phase of {@code users} for {@code durationSeconds}.
+     */
+    public List<ScenarioPhase> phasesOr(int users, int durationSeconds) {
+        return phases.isEmpty() ? List.of(ScenarioPhase.steady("steady", durationSeconds, users)) : phases;
+    }
+
+    /**
+     * How ids are chosen for GET_BY_ID, GET_PAGE, UPDATE and DELETE; theta only applies to ZIPFIAN and LATEST.
+     */
+    public record IdSelection(Distribution distribution, Double theta) {
+        public IdSelection {
+            distribution = distribution == null ? Distribution.UNIFORM : distribution;
+            theta = theta == null ? ZipfianGenerator.DEFAULT_THETA : theta;
+            if (theta <= 0.0 || theta >= 1.0) {
+                throw new IllegalArgumentException("Id selection theta must be in (0, 1)");
+            }
+        }
+    }
+
+    /**
+     * Length range of generated brand, type and name values; bounded by the 2-50 characters the DTOs accept.
+     */
+    public record PayloadSize(Integer minLength, Integer maxLength) {
+        public PayloadSize {
+            minLength = minLength == null ? 8 : minLength;
+            maxLength = maxLength == null ? Math.max(minLength, 16) : maxLength;
+            if (minLength < 2 || maxLength > 50 || minLength > maxLength) {
+                throw new IllegalArgumentException("Payload length must satisfy 2 <= minLength <= maxLength <= 50");
+            }
+        }
+    }
+
+    /**
+     * Pause each user takes between operations, in milliseconds.
+     */
+    public record ThinkTime(Integer minMs, Integer maxMs) {
+        public ThinkTime {
+            minMs = minMs == null ? 10 : minMs;
+            maxMs = maxMs == null ? Math.max(minMs, 60) : maxMs;
+            if (minMs < 0 || minMs > maxMs) {
+                throw new IllegalArgumentException("Think time must satisfy 0 <= minMs <= maxMs");
+            }
+        }
+    }
+}
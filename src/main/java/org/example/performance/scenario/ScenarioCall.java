@@ -0,0 +1,8 @@
+package org.example.performance.scenario;
+
+/**
+ * One concrete request drawn from a scenario: the operation and its position in the mix, plus the id, page and
+ * payload value it uses.
+ */
+public record ScenarioCall(int index, ScenarioOperation operation, long id, int page, String value) {
+}
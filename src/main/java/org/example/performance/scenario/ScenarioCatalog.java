@@ -0,0 +1,109 @@
+package org.example.performance.scenario;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.example.config.ScenarioProperties;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Load-test scenarios by name, read from JSON and YAML files. Files are re-read on every lookup so scenarios in
+ * {@code app.scenarios.directory} can be edited between runs without a restart.
+ */
+@Component
+public class ScenarioCatalog {
+    public static final String DEFAULT_SCENARIO = "default";
+
+    private final ScenarioProperties properties;
+    private final ObjectMapper jsonMapper = JsonMapper.builder()
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS).build();
+    private final ObjectMapper yamlMapper = YAMLMapper.builder()
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS).build();
+
+    public ScenarioCatalog(ScenarioProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * The scenario with this name; unknown names fail with the list of known ones.
+     */
+    public Scenario find(String name) {
+        Map<String, Scenario> scenarios = loadAll();
+        Scenario scenario = scenarios.get(name);
+        if (scenario == null) {
+            throw new IllegalArgumentException("Unknown scenario '" + name + "'; available: " + scenarios.keySet());
+        }
+        return scenario;
+    }
+
+    public List<Scenario> list() {
+        return new ArrayList<>(loadAll().values());
+    }
+
+    private Map<String, Scenario> loadAll() {
+        Map<String, Scenario> scenarios = new TreeMap<>();
+        try {
+            Resource[] bundled = new PathMatchingResourcePatternResolver().getResources("classpath*:scenarios/*");
+            for (Resource resource : bundled) {
+                add(scenarios, resource);
+            }
+            String directory = properties.getDirectory();
+            if (directory != null && !directory.isBlank() && Files.isDirectory(Path.of(directory))) {
+                try (Stream<Path> files = Files.list(Path.of(directory))) {
+                    for (Path file : files.sorted().toList()) {
+                        add(scenarios, new FileSystemResource(file));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not list scenario files", e);
+        }
+        return scenarios;
+    }
+
+    private void add(Map<String, Scenario> scenarios, Resource resource) {
+        String filename = resource.getFilename();
+        if (filename == null) return;
+        ObjectMapper mapper = filename.endsWith(".json") ? jsonMapper
+                : filename.endsWith(".yaml") || filename.endsWith(".yml") ? yamlMapper : null;
+        if (mapper == null) return;
+        try (InputStream in = resource.getInputStream()) {
+            Scenario scenario = parse(mapper, in, filename);
+            scenarios.put(scenario.name(), scenario);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read scenario file " + filename, e);
+        }
+    }
+
+    /**
+     * Parse one scenario; mapping and validation failures name the file they came from.
+     */
+    Scenario parse(ObjectMapper mapper, InputStream in, String source) throws IOException {
+        try {
+            return mapper.readValue(in, Scenario.class);
+        } catch (JsonMappingException e) {
+            throw new IllegalArgumentException("Invalid scenario file " + source + ": " + e.getOriginalMessage(), e);
+        }
+    }
+
+    Scenario parseYaml(String yaml) throws IOException {
+        return parse(yamlMapper, new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)), "inline");
+    }
+}
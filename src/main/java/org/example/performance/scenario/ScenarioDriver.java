@@ -0,0 +1,14 @@
+package org.example.performance.scenario;
+
+/**
+ * Executes scenario calls against one API; returns whether the call succeeded.
+ */
+public interface ScenarioDriver {
+
+    /**
+     * Name used in reports: the label of its {@link ApiMode}.
+     */
+    String name();
+
+    boolean execute(ScenarioCall call) throws Exception;
+}
@@ -0,0 +1,40 @@
+package org.example.performance.scenario;
+
+import org.example.maintenance.PartitionedTable;
+
+/**
+ * Resource a scenario operation targets, with its REST path, action path and the JSON field of its payload.
+ */
+public enum ScenarioEntity {
+    CAR(PartitionedTable.CAR, "/api/cars", "/actions/cars", "brand"),
+    ANIMAL(PartitionedTable.ANIMAL, "/api/animals", "/actions/animals", "type"),
+    EMPLOYEE(PartitionedTable.EMPLOYEE, "/api/employees", "/actions/employees", "name");
+
+    private final PartitionedTable table;
+    private final String restPath;
+    private final String actionPath;
+    private final String field;
+
+    ScenarioEntity(PartitionedTable table, String restPath, String actionPath, String field) {
+        this.table = table;
+        this.restPath = restPath;
+        this.actionPath = actionPath;
+        this.field = field;
+    }
+
+    public PartitionedTable getTable() {
+        return table;
+    }
+
+    public String getRestPath() {
+        return restPath;
+    }
+
+    public String getActionPath() {
+        return actionPath;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.performance.scenario;
+
+/**
+ * One entry of a scenario's operation mix. {@code term} is the SEARCH prefix and {@code pageSize} the GET_PAGE
+ * size; both are ignored by the other operation types.
+ */
+public record ScenarioOperation(ScenarioEntity entity, OperationType type, double weight, String term,
+                                Integer pageSize) {
+    public static final String DEFAULT_TERM = "Test";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    public ScenarioOperation {
+        if (entity == null || type == null) {
+            throw new IllegalArgumentException("Scenario operation needs an entity and a type");
+        }
+        if (!(weight > 0)) {
+            throw new IllegalArgumentException("Weight of " + entity + " " + type + " must be > 0");
+        }
+        if (term == null || term.isBlank()) {
+            term = DEFAULT_TERM;
+        }
+        if (pageSize == null) {
+            pageSize = DEFAULT_PAGE_SIZE;
+        }
+        if (pageSize < 1 || pageSize > 1000) {
+            throw new IllegalArgumentException("Page size of " + entity + " " + type + " must be between 1 and 1000");
+        }
+    }
+
+    public ScenarioOperation(ScenarioEntity entity, OperationType type, double weight) {
+        this(entity, type, weight, null, null);
+    }
+
+    /**
+     * Label used in reports, e.g. {@code CAR GET_BY_ID}.
+     */
+    public String label() {
+        return entity + " " + type;
+    }
+}
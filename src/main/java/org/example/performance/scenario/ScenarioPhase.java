@@ -0,0 +1,40 @@
+package org.example.performance.scenario;
+
+/**
+ * A stretch of a scenario during which the number of active users ramps linearly from {@code fromUsers} to
+ * {@code toUsers}. Setting {@code users} alone gives a flat phase.
+ */
+public record ScenarioPhase(String name, int durationSeconds, Integer users, Integer fromUsers, Integer toUsers) {
+
+    public ScenarioPhase {
+        if (durationSeconds < 1) {
+            throw new IllegalArgumentException("Phase '" + name + "' must last at least 1 second");
+        }
+        if (users != null) {
+            fromUsers = fromUsers == null ? users : fromUsers;
+            toUsers = toUsers == null ? users : toUsers;
+        }
+        if (fromUsers == null || toUsers == null) {
+            throw new IllegalArgumentException("Phase '" + name + "' needs users or fromUsers/toUsers");
+        }
+        if (fromUsers < 0 || toUsers < 0 || Math.max(fromUsers, toUsers) < 1) {
+            throw new IllegalArgumentException("Phase '" + name + "' needs a positive number of users");
+        }
+    }
+
+    public static ScenarioPhase steady(String name, int durationSeconds, int users) {
+        return new ScenarioPhase(name, durationSeconds, users, users, users);
+    }
+
+    /**
+     * Users that should be active {@code elapsedMillis} into this phase.
+     */
+    public int usersAt(long elapsedMillis) {
+        double fraction = Math.min(1.0, Math.max(0.0, (double) elapsedMillis / (durationSeconds * 1000L)));
+        return (int) Math.round(fromUsers + (toUsers - fromUsers) * fraction);
+    }
+
+    public int maxUsers() {
+        return Math.max(fromUsers, toUsers);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.performance.scenario;
+
+import org.HdrHistogram.Histogram;
+import org.example.performance.load.LatencySummary;
+
+import java.util.List;
+
+/**
+ * Outcome of a scenario run: one row per driver and operation, with its latency histogram in microseconds.
+ */
+public record ScenarioResult(String scenario, List<ScenarioPhase> phases, long durationMs,
+                             List<OperationResult> operations) {
+
+    /**
+     * Requests, errors and latency of one operation of the mix on one driver; {@code completedPerSecond} holds the
+     * requests finished in each second of the run and {@code latencyPerSecond} their latencies, one histogram per
+     * second (empty when not recorded).
+     */
+    public record OperationResult(String driver, String operation, long requests, long errors,
+                                  double throughputPerSecond, LatencySummary latency, Histogram histogram,
+                                  long[] completedPerSecond, Histogram[] latencyPerSecond) {
+    }
+
+    /**
+     * Totals of one driver across every operation, with the merged latency histogram.
+     */
+    public OperationResult total(String driver) {
+        Histogram merged = null;
+        long[] perSecond = null;
+        Histogram[] latencyPerSecond = new Histogram[0];
+        long requests = 0;
+        long errors = 0;
+        double throughput = 0;
+        for (OperationResult op : operations) {
+            if (!op.driver().equals(driver)) continue;
+            latencyPerSecond = addPerSecond(latencyPerSecond, op.latencyPerSecond());
+            if (merged == null) {
+                merged = op.histogram().copy();
+                perSecond = op.completedPerSecond().clone();
+            } else {
+                merged.add(op.histogram());
+                for (int i = 0; i < perSecond.length; i++) {
+                    perSecond[i] += op.completedPerSecond()[i];
+                }
+            }
+            requests += op.requests();
+            errors += op.errors();
+            throughput += op.throughputPerSecond();
+        }
+        if (merged == null) return null;
+        return new OperationResult(driver, "TOTAL", requests, errors, throughput,
+                LatencySummary.of(merged), merged, perSecond, latencyPerSecond);
+    }
+
+    /**
+     * Second-by-second sum of two runs of per-second histograms; returns new histograms and leaves both inputs as
+     * they are.
+     */
+    public static Histogram[] addPerSecond(Histogram[] into, Histogram[] from) {
+        Histogram[] sum = new Histogram[Math.max(into.length, from.length)];
+        for (int i = 0; i < sum.length; i++) {
+            // Auto-resizing, so seconds with different value ranges still add up
+            sum[i] = new Histogram((i < from.length ? from[i] : into[i]).getNumberOfSignificantValueDigits());
+            if (i < into.length) sum[i].add(into[i]);
+            if (i < from.length) sum[i].add(from[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Runs of the same scenario made one after another, one per driver, as a single result.
+     */
+    public static ScenarioResult sequence(List<ScenarioResult> runs) {
+        return new ScenarioResult(runs.get(0).scenario(), runs.get(0).phases(),
+                runs.stream().mapToLong(ScenarioResult::durationMs).sum(),
+                runs.stream().flatMap(run -> run.operations().stream()).toList());
+    }
+
+    public List<String> drivers() {
+        return operations.stream().map(OperationResult::driver).distinct().toList();
+    }
+}
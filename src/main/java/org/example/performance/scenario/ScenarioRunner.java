@@ -0,0 +1,355 @@
+package org.example.performance.scenario;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.example.action.core.ActionDispatcher;
+import org.example.performance.PerformanceMonitor;
+import org.example.performance.load.HttpTimingRecorder;
+import org.example.performance.load.LatencySummary;
+import org.example.performance.load.LoadHttpClient;
+import org.example.performance.load.LoadOperation;
+import org.example.rest.controller.AnimalRestController;
+import org.example.rest.controller.CarRestController;
+import org.example.rest.controller.GovEmployeeRestController;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs a {@link Scenario} closed-loop: every driver gets its own simulated users on virtual threads, each drawing
+ * calls from one shared {@link ScenarioWorkload} and pausing for the think time between them. The number of active
+ * users follows the scenario's phases. Callers may observe a run through a {@link ScenarioSnapshot} every second,
+ * and stop it early by interrupting the calling thread.
+ */
+@Component
+public class ScenarioRunner {
+    private static final long IDLE_POLL_MS = 50;
+    private static final long STRAGGLER_GRACE_MS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActionDispatcher actionDispatcher;
+    private final LoadHttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final CarRestController carRestController;
+    private final AnimalRestController animalRestController;
+    private final GovEmployeeRestController govEmployeeRestController;
+    private final PerformanceMonitor performanceMonitor;
+
+    public ScenarioRunner(JdbcTemplate jdbcTemplate, ActionDispatcher actionDispatcher, LoadHttpClient httpClient,
+                          ObjectMapper objectMapper, CarRestController carRestController,
+                          AnimalRestController animalRestController,
+                          GovEmployeeRestController govEmployeeRestController, PerformanceMonitor performanceMonitor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.actionDispatcher = actionDispatcher;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.carRestController = carRestController;
+        this.animalRestController = animalRestController;
+        this.govEmployeeRestController = govEmployeeRestController;
+        this.performanceMonitor = performanceMonitor;
+    }
+
+    /**
+     * Bind a scenario to the current id range of every table its operations touch.
+     */
+    public ScenarioWorkload workload(Scenario scenario) {
+        return new ScenarioWorkload(scenario, idRanges(scenario));
+    }
+
+    /**
+     * Current id range of every table the scenario's operations touch.
+     */
+    public Map<ScenarioEntity, ScenarioWorkload.IdRange> idRanges(Scenario scenario) {
+        Map<ScenarioEntity, ScenarioWorkload.IdRange> ranges = new EnumMap<>(ScenarioEntity.class);
+        for (ScenarioOperation op : scenario.operations()) {
+            ranges.computeIfAbsent(op.entity(), entity -> jdbcTemplate.queryForObject(
+                    "SELECT MIN(id), MAX(id) FROM " + entity.getTable().getTable(),
+                    (rs, rowNum) -> rs.getObject(1) == null ? ScenarioWorkload.IdRange.EMPTY
+                            : new ScenarioWorkload.IdRange(rs.getLong(1), rs.getLong(2))));
+        }
+        return ranges;
+    }
+
+    /**
+     * Driver for one API mode; the HTTP modes record their client-side timings into {@code timings}.
+     */
+    public ScenarioDriver driver(ApiMode mode, HttpTimingRecorder timings) {
+        return switch (mode) {
+            case REST_HTTP, ACTION_HTTP -> httpDriver(mode, httpClient, timings, objectMapper);
+            case REST_LOCAL -> new RestLocalScenarioDriver(carRestController, animalRestController,
+                    govEmployeeRestController, performanceMonitor);
+            case ACTION_LOCAL -> new ActionScenarioDriver(actionDispatcher);
+        };
+    }
+
+    /**
+     * Driver for an HTTP mode over the given client, usable outside the application context.
+     */
+    public static ScenarioDriver httpDriver(ApiMode mode, LoadHttpClient httpClient, HttpTimingRecorder timings,
+                                            ObjectMapper objectMapper) {
+        return switch (mode) {
+            case REST_HTTP -> new RestScenarioDriver(httpClient, timings, objectMapper);
+            case ACTION_HTTP -> new ActionHttpScenarioDriver(httpClient, timings, objectMapper);
+            default -> throw new IllegalArgumentException(mode.getLabel() + " runs in-process, not over HTTP");
+        };
+    }
+
+    /**
+     * A single-request operation for the open-model generator: each execution draws a fresh call.
+     */
+    public static LoadOperation operation(ScenarioWorkload workload, ScenarioDriver driver) {
+        return () -> {
+            ScenarioCall call = workload.next(ThreadLocalRandom.current());
+            boolean success = driver.execute(call);
+            workload.completed(call, success);
+            return success;
+        };
+    }
+
+    /**
+     * Run the scenario on all drivers at once; scenarios without phases run {@code users} for
+     * {@code durationSeconds}.
+     */
+    public ScenarioResult run(Scenario scenario, int users, int durationSeconds, List<ScenarioDriver> drivers) {
+        return run(scenario, users, durationSeconds, drivers, snapshot -> { });
+    }
+
+    /**
+     * Run the scenario on all drivers at once, handing {@code progress} a snapshot after every second.
+     */
+    public ScenarioResult run(Scenario scenario, int users, int durationSeconds, List<ScenarioDriver> drivers,
+                              Consumer<ScenarioSnapshot> progress) {
+        return run(workload(scenario), users, durationSeconds, drivers, progress);
+    }
+
+    /**
+     * Run an already bound workload; needs no database or Spring context, so load workers in their own JVM run
+     * scenarios through here too.
+     */
+    public static ScenarioResult run(ScenarioWorkload workload, int users, int durationSeconds,
+                                     List<ScenarioDriver> drivers) {
+        return run(workload, users, durationSeconds, drivers, snapshot -> { });
+    }
+
+    /**
+     * Run an already bound workload, handing {@code progress} a snapshot after every second. Interrupting the
+     * calling thread stops the users and returns what was measured so far, with the interrupt flag still set.
+     */
+    public static ScenarioResult run(ScenarioWorkload workload, int users, int durationSeconds,
+                                     List<ScenarioDriver> drivers, Consumer<ScenarioSnapshot> progress) {
+        Scenario scenario = workload.scenario();
+        List<ScenarioPhase> phases = scenario.phasesOr(users, durationSeconds);
+        int maxUsers = phases.stream().mapToInt(ScenarioPhase::maxUsers).max().orElse(users);
+        long totalMillis = phases.stream().mapToLong(p -> p.durationSeconds() * 1000L).sum();
+        List<ScenarioOperation> operations = scenario.operations();
+        int seconds = (int) (totalMillis / 1000);
+        OperationStats[][] stats = new OperationStats[drivers.size()][operations.size()];
+        for (int d = 0; d < drivers.size(); d++) {
+            for (int o = 0; o < operations.size(); o++) {
+                stats[d][o] = new OperationStats(seconds);
+            }
+        }
+
+        System.out.printf("🎬 Scenario '%s': %d operations, %d phase(s), up to %d users per driver, %d s%n",
+                scenario.name(), operations.size(), phases.size(), maxUsers, totalMillis / 1000);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(totalMillis);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (int d = 0; d < drivers.size(); d++) {
+            ScenarioDriver driver = drivers.get(d);
+            OperationStats[] driverStats = stats[d];
+            for (int u = 0; u < maxUsers; u++) {
+                int user = u;
+                executor.submit(() -> runUser(user, workload, driver, driverStats, phases, start, deadline));
+            }
+        }
+        executor.shutdown();
+        Progress tracker = new Progress(drivers, stats, start);
+        long giveUp = deadline + TimeUnit.MILLISECONDS.toNanos(STRAGGLER_GRACE_MS);
+        try {
+            for (int second = 1; ; second++) {
+                long tick = Math.min(start + TimeUnit.SECONDS.toNanos(second), giveUp);
+                if (executor.awaitTermination(Math.max(0, tick - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                if (System.nanoTime() >= giveUp) {
+                    executor.shutdownNow();
+                    break;
+                }
+                progress.accept(tracker.next(second, phases));
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        double elapsedSeconds = Math.max(durationMs, 1) / 1000.0;
+        List<ScenarioResult.OperationResult> results = new ArrayList<>();
+        for (int d = 0; d < drivers.size(); d++) {
+            for (int o = 0; o < operations.size(); o++) {
+                OperationStats s = stats[d][o];
+                long requests = s.latency.getTotalCount() + s.failures.sum();
+                long[] perSecond = new long[seconds];
+                Histogram[] latencyPerSecond = new Histogram[seconds];
+                for (int i = 0; i < seconds; i++) {
+                    perSecond[i] = s.completedPerSecond.get(i);
+                    Histogram second = s.latencyPerSecond.get(i);
+                    latencyPerSecond[i] = second != null ? second : new Histogram(OperationStats.SECOND_PRECISION);
+                }
+                results.add(new ScenarioResult.OperationResult(drivers.get(d).name(), operations.get(o).label(),
+                        requests, s.errors.sum() + s.failures.sum(), requests / elapsedSeconds,
+                        LatencySummary.of(s.latency), s.latency, perSecond, latencyPerSecond));
+            }
+        }
+        System.out.printf("✅ Scenario '%s' completed in %d ms%n", scenario.name(), durationMs);
+        return new ScenarioResult(scenario.name(), phases, durationMs, results);
+    }
+
+    private static void runUser(int user, ScenarioWorkload workload, ScenarioDriver driver, OperationStats[] stats,
+                         List<ScenarioPhase> phases, long start, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            while (System.nanoTime() < deadline) {
+                if (user >= activeUsers(phases, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))) {
+                    Thread.sleep(IDLE_POLL_MS);
+                    continue;
+                }
+                ScenarioCall call = workload.next(random);
+                OperationStats s = stats[call.index()];
+                long callStart = System.nanoTime();
+                try {
+                    boolean success = driver.execute(call);
+                    long callEnd = System.nanoTime();
+                    long micros = Math.max(1, (callEnd - callStart) / 1000);
+                    s.latency.recordValue(micros);
+                    s.countCompletion(TimeUnit.NANOSECONDS.toSeconds(callEnd - start), micros);
+                    if (!success) s.errors.increment();
+                    workload.completed(call, success);
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    // Keep the user going; the failure is counted
+                    s.failures.increment();
+                }
+                Thread.sleep(workload.thinkTimeMs(random));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Users that should be active {@code elapsedMillis} into the run.
+     */
+    static int activeUsers(List<ScenarioPhase> phases, long elapsedMillis) {
+        long phaseStart = 0;
+        for (ScenarioPhase phase : phases) {
+            long phaseEnd = phaseStart + phase.durationSeconds() * 1000L;
+            if (elapsedMillis < phaseEnd) {
+                return phase.usersAt(elapsedMillis - phaseStart);
+            }
+            phaseStart = phaseEnd;
+        }
+        return 0;
+    }
+
+    /**
+     * Each driver's totals at the previous snapshot, so the next one covers only the time since.
+     */
+    private static final class Progress {
+        private final List<ScenarioDriver> drivers;
+        private final OperationStats[][] stats;
+        private final Histogram[] previousLatency;
+        private final long[] previousRequests;
+        private final long[] previousErrors;
+        private final long start;
+        private long previousNanos;
+
+        private Progress(List<ScenarioDriver> drivers, OperationStats[][] stats, long start) {
+            this.drivers = drivers;
+            this.stats = stats;
+            this.previousLatency = new Histogram[drivers.size()];
+            this.previousRequests = new long[drivers.size()];
+            this.previousErrors = new long[drivers.size()];
+            this.start = start;
+            this.previousNanos = start;
+            for (int d = 0; d < drivers.size(); d++) {
+                previousLatency[d] = new Histogram(3);
+            }
+        }
+
+        private ScenarioSnapshot next(int second, List<ScenarioPhase> phases) {
+            long now = System.nanoTime();
+            double intervalSeconds = Math.max(now - previousNanos, 1) / 1e9;
+            List<ScenarioSnapshot.DriverSnapshot> snapshots = new ArrayList<>();
+            for (int d = 0; d < drivers.size(); d++) {
+                Histogram latency = new Histogram(3);
+                long failures = 0;
+                long errors = 0;
+                for (OperationStats s : stats[d]) {
+                    latency.add(s.latency);
+                    failures += s.failures.sum();
+                    errors += s.errors.sum();
+                }
+                long requests = latency.getTotalCount() + failures;
+                errors += failures;
+                Histogram interval = latency.copy();
+                interval.subtract(previousLatency[d]);
+                snapshots.add(new ScenarioSnapshot.DriverSnapshot(drivers.get(d).name(),
+                        requests - previousRequests[d], errors - previousErrors[d],
+                        (requests - previousRequests[d]) / intervalSeconds, LatencySummary.of(interval), requests));
+                previousLatency[d] = latency;
+                previousRequests[d] = requests;
+                previousErrors[d] = errors;
+            }
+            previousNanos = now;
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - start);
+            return new ScenarioSnapshot(second, elapsedMs, activeUsers(phases, elapsedMs), snapshots);
+        }
+    }
+
+    /**
+     * Latency histogram (microseconds), error counts, and completions and latency per second of one operation on
+     * one driver. The per-second histograms are kept at two significant digits; they only feed per-second p99s.
+     */
+    private static final class OperationStats {
+        static final int SECOND_PRECISION = 2;
+
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final AtomicLongArray completedPerSecond;
+        private final AtomicReferenceArray<Histogram> latencyPerSecond;
+
+        private OperationStats(int seconds) {
+            this.completedPerSecond = new AtomicLongArray(seconds);
+            this.latencyPerSecond = new AtomicReferenceArray<>(seconds);
+        }
+
+        private void countCompletion(long second, long micros) {
+            if (second < completedPerSecond.length()) {
+                completedPerSecond.incrementAndGet((int) second);
+                Histogram histogram = latencyPerSecond.get((int) second);
+                if (histogram == null) {
+                    latencyPerSecond.compareAndSet((int) second, null, new ConcurrentHistogram(SECOND_PRECISION));
+                    histogram = latencyPerSecond.get((int) second);
+                }
+                histogram.recordValue(micros);
+            }
+        }
+    }
+}
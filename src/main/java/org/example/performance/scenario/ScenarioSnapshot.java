@@ -0,0 +1,20 @@
+package org.example.performance.scenario;
+
+import org.example.performance.load.LatencySummary;
+
+import java.util.List;
+
+/**
+ * Progress of a running scenario, taken once a second: the active users and, per driver, what completed since the
+ * previous snapshot.
+ */
+public record ScenarioSnapshot(int second, long elapsedMs, int activeUsers, List<DriverSnapshot> drivers) {
+
+    /**
+     * Requests, errors, throughput and latency of one driver over the last interval; {@code totalRequests} counts
+     * the whole run so far.
+     */
+    public record DriverSnapshot(String driver, long requests, long errors, double throughputPerSecond,
+                                 LatencySummary latency, long totalRequests) {
+    }
+}
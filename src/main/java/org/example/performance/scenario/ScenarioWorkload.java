@@ -0,0 +1,87 @@
+package org.example.performance.scenario;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * A scenario bound to the id ranges of the current data: draws weighted operations with their ids and payloads.
+ * Thread-safe; callers pass their own random generator.
+ */
+public final class ScenarioWorkload {
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+
+    private final Scenario scenario;
+    private final double[] cumulativeWeights;
+    private final Map<ScenarioEntity, IdSelector> idSelectors = new EnumMap<>(ScenarioEntity.class);
+
+    public ScenarioWorkload(Scenario scenario, Map<ScenarioEntity, IdRange> idRanges) {
+        this.scenario = scenario;
+        double[] weights = scenario.effectiveWeights();
+        this.cumulativeWeights = new double[weights.length];
+        double sum = 0.0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulativeWeights[i] = sum;
+        }
+        for (ScenarioOperation op : scenario.operations()) {
+            IdRange range = idRanges.getOrDefault(op.entity(), IdRange.EMPTY);
+            idSelectors.computeIfAbsent(op.entity(),
+                    entity -> new IdSelector(scenario.idSelection(), range.minId(), range.maxId()));
+        }
+    }
+
+    public Scenario scenario() {
+        return scenario;
+    }
+
+    public ScenarioCall next(RandomGenerator random) {
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int index = 0;
+        while (index < cumulativeWeights.length - 1 && cumulativeWeights[index] <= target) {
+            index++;
+        }
+        ScenarioOperation op = scenario.operations().get(index);
+        IdSelector ids = idSelectors.get(op.entity());
+        long id = ids.next(random);
+        int page = (int) Math.min(Integer.MAX_VALUE, Math.max(0, id - ids.minId()) / op.pageSize());
+        String value = op.type() == OperationType.CREATE || op.type() == OperationType.UPDATE ? value(random) : null;
+        return new ScenarioCall(index, op, id, page, value);
+    }
+
+    /**
+     * Report the outcome of a call so LATEST keeps tracking newly created rows.
+     */
+    public void completed(ScenarioCall call, boolean success) {
+        if (success && call.operation().type() == OperationType.CREATE) {
+            idSelectors.get(call.operation().entity()).created();
+        }
+    }
+
+    public long thinkTimeMs(RandomGenerator random) {
+        Scenario.ThinkTime thinkTime = scenario.thinkTime();
+        return thinkTime.minMs() + random.nextLong(thinkTime.maxMs() - thinkTime.minMs() + 1L);
+    }
+
+    /**
+     * A value of the configured length that starts with the default search term, so default SEARCH operations
+     * find the rows the scenario writes.
+     */
+    String value(RandomGenerator random) {
+        Scenario.PayloadSize payload = scenario.payload();
+        int length = payload.minLength() + random.nextInt(payload.maxLength() - payload.minLength() + 1);
+        StringBuilder value = new StringBuilder(length);
+        value.append(ScenarioOperation.DEFAULT_TERM, 0, Math.min(length, ScenarioOperation.DEFAULT_TERM.length()));
+        while (value.length() < length) {
+            value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return value.toString();
+    }
+
+    /**
+     * Smallest and largest id of a table when the run starts; an empty table is {@link #EMPTY}.
+     */
+    public record IdRange(long minId, long maxId) {
+        public static final IdRange EMPTY = new IdRange(1, 0);
+    }
+}
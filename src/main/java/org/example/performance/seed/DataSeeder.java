@@ -0,0 +1,182 @@
+package org.example.performance.seed;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.maintenance.PartitionedTable;
+import org.example.repository.GroupCountRepository;
+import org.example.service.ResourceCounters;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Bulk-loads synthetic rows into car, animal and gov_employee for benchmarks: Zipfian-skewed brands and animal
+ * types, first/last name combinations and created_at spread over a configurable window. Each table is loaded on
+ * its own thread and connection with multi-row INSERTs, one commit per statement.
+ */
+@Component
+public class DataSeeder {
+    static final List<String> BRANDS = List.of(
+            "Toyota", "Volkswagen", "Ford", "Honda", "Chevrolet", "Nissan", "Hyundai", "Kia", "BMW", "Mercedes-Benz",
+            "Audi", "Renault", "Peugeot", "Skoda", "Mazda", "Subaru", "Tesla", "Volvo", "Fiat", "Jeep",
+            "Lexus", "Porsche", "Mitsubishi", "Suzuki", "Dacia", "Seat", "Opel", "Citroen", "Land Rover", "Jaguar",
+            "Mini", "Alfa Romeo", "Dodge", "Ram", "GMC", "Cadillac", "Buick", "Chrysler", "Infiniti", "Genesis");
+    static final List<String> ANIMAL_TYPES = List.of(
+            "Dog", "Cat", "Rabbit", "Hamster", "Parrot", "Goldfish", "Horse", "Cow", "Sheep", "Goat",
+            "Chicken", "Duck", "Pig", "Turtle", "Guinea Pig", "Ferret", "Lizard", "Snake", "Canary", "Donkey",
+            "Llama", "Alpaca", "Goose", "Pigeon", "Cockatiel", "Hedgehog", "Chinchilla", "Frog", "Deer", "Fox");
+    static final List<String> FIRST_NAMES = List.of(
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Maria", "Ahmed", "Wei", "Yuki", "Olga", "Luca", "Sofia", "Mateo", "Amara", "Noah",
+            "Emma", "Liam", "Olivia", "Elena", "Ivan", "Fatima", "Hiroshi", "Priya", "Diego", "Chloe");
+    static final List<String> LAST_NAMES = List.of(
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores",
+            "Kowalski", "Novak", "Schmidt", "Rossi", "Dubois", "Tanaka", "Kim", "Singh", "Ivanova", "Okafor");
+
+    private final DataSource dataSource;
+    private final GroupCountRepository groupCountRepository;
+    private final ResourceCounters resourceCounters;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public DataSeeder(DataSource dataSource, GroupCountRepository groupCountRepository,
+                      ResourceCounters resourceCounters, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.groupCountRepository = groupCountRepository;
+        this.resourceCounters = resourceCounters;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Load all three tables in parallel, then rebuild the group-by tables and row counters from the result.
+     */
+    public SeedResult seed(SeedConfiguration config) {
+        System.out.printf("🌱 Seeding %,d cars, %,d animals, %,d employees (batch %d, spread %d days)...%n",
+                config.cars(), config.animals(), config.employees(), config.batchSize(), config.spreadDays());
+        long start = System.currentTimeMillis();
+        if (config.truncate()) {
+            truncate();
+        }
+
+        ZipfianGenerator brands = new ZipfianGenerator(BRANDS.size(), config.zipfTheta());
+        ZipfianGenerator animalTypes = new ZipfianGenerator(ANIMAL_TYPES.size(), config.zipfTheta());
+        ZipfianGenerator firstNames = new ZipfianGenerator(FIRST_NAMES.size(), config.zipfTheta());
+
+        ExecutorService executor = Executors.newFixedThreadPool(PartitionedTable.values().length);
+        List<Future<SeedResult.TableSeedResult>> futures = new ArrayList<>();
+        try {
+            futures.add(executor.submit(() -> load(PartitionedTable.CAR, config.cars(), config, config.seed(),
+                    random -> BRANDS.get(brands.nextInt(random)))));
+            futures.add(executor.submit(() -> load(PartitionedTable.ANIMAL, config.animals(), config, config.seed() + 1,
+                    random -> ANIMAL_TYPES.get(animalTypes.nextInt(random)))));
+            futures.add(executor.submit(() -> load(PartitionedTable.EMPLOYEE, config.employees(), config, config.seed() + 2,
+                    random -> FIRST_NAMES.get(firstNames.nextInt(random)) + " "
+                            + LAST_NAMES.get(random.nextInt(LAST_NAMES.size())))));
+
+            List<SeedResult.TableSeedResult> tables = new ArrayList<>();
+            for (Future<SeedResult.TableSeedResult> future : futures) {
+                tables.add(future.get());
+            }
+            rebuildDerivedData();
+            SeedResult result = new SeedResult(tables, System.currentTimeMillis() - start);
+            System.out.printf("✅ Seeded %,d rows in %,d ms%n", result.totalRows(), result.totalMillis());
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SeedResult.TableSeedResult load(PartitionedTable table, long rows, SeedConfiguration config, long seed,
+                                            Function<RandomGenerator, String> values) throws SQLException {
+        long start = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime now = LocalDateTime.now();
+        long spreadSeconds = config.spreadDays() * 86_400L;
+        long reportEvery = Math.max(rows / 10, 1);
+        long written = 0;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            PreparedStatement full = connection.prepareStatement(insertSql(table, config.batchSize()));
+            try {
+                while (written < rows) {
+                    int batch = (int) Math.min(config.batchSize(), rows - written);
+                    PreparedStatement statement = batch == config.batchSize()
+                            ? full : connection.prepareStatement(insertSql(table, batch));
+                    int parameter = 1;
+                    for (int i = 0; i < batch; i++) {
+                        LocalDateTime createdAt = now.minusSeconds(random.nextLong(spreadSeconds));
+                        long sinceCreated = Duration.between(createdAt, now).getSeconds();
+                        LocalDateTime updatedAt = createdAt.plusSeconds(random.nextLong(sinceCreated + 1));
+                        statement.setString(parameter++, values.apply(random));
+                        statement.setTimestamp(parameter++, Timestamp.valueOf(createdAt));
+                        statement.setTimestamp(parameter++, Timestamp.valueOf(updatedAt));
+                    }
+                    statement.executeUpdate();
+                    connection.commit();
+                    if (statement != full) {
+                        statement.close();
+                    }
+                    long before = written;
+                    written += batch;
+                    if (written / reportEvery != before / reportEvery) {
+                        System.out.printf("  📦 %-12s %,d / %,d%n", table.getTable(), written, rows);
+                    }
+                }
+            } finally {
+                full.close();
+            }
+        }
+        return new SeedResult.TableSeedResult(table.getTable(), written, System.currentTimeMillis() - start);
+    }
+
+    private static String insertSql(PartitionedTable table, int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table.getTable())
+                .append(" (").append(table.getColumn()).append(", created_at, updated_at) VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+        }
+        return sql.toString();
+    }
+
+    private void truncate() {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (PartitionedTable table : PartitionedTable.values()) {
+                statement.execute("TRUNCATE TABLE " + table.getTable());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not truncate tables before seeding", e);
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private void rebuildDerivedData() {
+        for (PartitionedTable table : PartitionedTable.values()) {
+            groupCountRepository.rebuild(table.getGrouping(), table.getTable(), table.getGroupExpression());
+        }
+        resourceCounters.reconcileAll();
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.performance.seed;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line mode for seeding benchmark data, next to the interactive performance runner:
+ * {@code seed --cars=1000000 --animals=1000000 --employees=1000000 [--batch-size=1000] [--spread-days=730]
+ * [--zipf-theta=0.99] [--seed=42] [--truncate]}.
+ */
+@Component
+public class DataSeederCommandLineRunner implements CommandLineRunner {
+    private final DataSeeder dataSeeder;
+
+    public DataSeederCommandLineRunner(DataSeeder dataSeeder) {
+        this.dataSeeder = dataSeeder;
+    }
+
+    @Override
+    public void run(String... args) {
+        // Only run if launched with "seed" argument
+        if (args.length > 0 && "seed".equals(args[0])) {
+            try {
+                SeedResult result = dataSeeder.seed(parse(args));
+                for (SeedResult.TableSeedResult table : result.tables()) {
+                    System.out.printf("  • %-12s %,12d rows %,10d ms %,12.0f rows/s%n",
+                            table.table(), table.rows(), table.millis(), table.rowsPerSecond());
+                }
+            } catch (IllegalArgumentException e) {
+                System.out.println("❌ " + e.getMessage());
+                System.out.println("💡 Usage: seed --cars=N --animals=N --employees=N [--batch-size=N] "
+                        + "[--spread-days=N] [--zipf-theta=X] [--seed=N] [--truncate]");
+            }
+        }
+    }
+
+    static SeedConfiguration parse(String... args) {
+        SeedConfiguration defaults = SeedConfiguration.of(100_000, 100_000, 100_000);
+        long cars = defaults.cars();
+        long animals = defaults.animals();
+        long employees = defaults.employees();
+        int batchSize = defaults.batchSize();
+        int spreadDays = defaults.spreadDays();
+        double zipfTheta = defaults.zipfTheta();
+        long seed = defaults.seed();
+        boolean truncate = false;
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].split("=", 2);
+            String value = option.length > 1 ? option[1] : "";
+            try {
+                switch (option[0]) {
+                    case "--cars" -> cars = Long.parseLong(value);
+                    case "--animals" -> animals = Long.parseLong(value);
+                    case "--employees" -> employees = Long.parseLong(value);
+                    case "--batch-size" -> batchSize = Integer.parseInt(value);
+                    case "--spread-days" -> spreadDays = Integer.parseInt(value);
+                    case "--zipf-theta" -> zipfTheta = Double.parseDouble(value);
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--truncate" -> truncate = true;
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for " + option[0] + ": " + value);
+            }
+        }
+        return new SeedConfiguration(cars, animals, employees, batchSize, spreadDays, zipfTheta, seed, truncate);
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.performance.seed;
+
+/**
+ * Row counts and value distributions for one seeding run. The same seed produces the same rows.
+ */
+public record SeedConfiguration(long cars, long animals, long employees, int batchSize, int spreadDays,
+                                double zipfTheta, long seed, boolean truncate) {
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final int DEFAULT_SPREAD_DAYS = 730;
+
+    public SeedConfiguration {
+        if (cars < 0 || animals < 0 || employees < 0) {
+            throw new IllegalArgumentException("Row counts must be >= 0");
+        }
+        if (batchSize < 1 || batchSize > 10_000) {
+            throw new IllegalArgumentException("batchSize must be between 1 and 10000");
+        }
+        if (spreadDays < 1) {
+            throw new IllegalArgumentException("spreadDays must be >= 1");
+        }
+    }
+
+    public static SeedConfiguration of(long cars, long animals, long employees) {
+        return new SeedConfiguration(cars, animals, employees, DEFAULT_BATCH_SIZE, DEFAULT_SPREAD_DAYS,
+                ZipfianGenerator.DEFAULT_THETA, 42L, false);
+    }
+}
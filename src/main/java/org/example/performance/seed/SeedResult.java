@@ -0,0 +1,19 @@
+package org.example.performance.seed;
+
+import java.util.List;
+
+/**
+ * Rows written per table and overall wall-clock time of a seeding run.
+ */
+public record SeedResult(List<TableSeedResult> tables, long totalMillis) {
+
+    public long totalRows() {
+        return tables.stream().mapToLong(TableSeedResult::rows).sum();
+    }
+
+    public record TableSeedResult(String table, long rows, long millis) {
+        public double rowsPerSecond() {
+            return millis == 0 ? rows : rows * 1000.0 / millis;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.performance.seed;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipfian distribution over {@code [0, items)} where item 0 is the most frequent, using the constant-time
+ * sampling of Gray et al. ("Quickly Generating Billion-Record Synthetic Databases") as popularised by YCSB.
+ * Construction is O(items) for the zeta constant; sampling is O(1) and the generator is thread-safe.
+ */
+public final class ZipfianGenerator {
+    public static final double DEFAULT_THETA = 0.99;
+
+    private final long items;
+    private final double theta;
+    private final double zetan;
+    private final double alpha;
+    private final double eta;
+
+    public ZipfianGenerator(long items) {
+        this(items, DEFAULT_THETA);
+    }
+
+    public ZipfianGenerator(long items, double theta) {
+        if (items <= 0) {
+            throw new IllegalArgumentException("Zipfian item count must be > 0");
+        }
+        if (theta <= 0.0 || theta >= 1.0) {
+            throw new IllegalArgumentException("Zipfian theta must be in (0, 1)");
+        }
+        this.items = items;
+        this.theta = theta;
+        this.zetan = zeta(items, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = items == 1 ? 0.0 : (1.0 - Math.pow(2.0 / items, 1.0 - theta)) / (1.0 - zeta(2, theta) / zetan);
+    }
+
+    public long next(RandomGenerator random) {
+        double u = random.nextDouble();
+        double uz = u * zetan;
+        if (uz < 1.0) return 0;
+        if (uz < 1.0 + Math.pow(0.5, theta)) return Math.min(1, items - 1);
+        long value = (long) (items * Math.pow(eta * u - eta + 1.0, alpha));
+        return Math.min(value, items - 1);
+    }
+
+    public int nextInt(RandomGenerator random) {
+        return (int) next(random);
+    }
+
+    public long getItems() {
+        return items;
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0.0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1.0 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
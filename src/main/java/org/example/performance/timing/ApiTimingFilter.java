@@ -0,0 +1,42 @@
+package org.example.performance.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Times {@code /api/**} and {@code /actions/**} requests the same way, from entering the filter chain until the
+ * response is flushed, so REST and actions are both measured with request parsing and response serialization
+ * included. Registered first in the chain by {@link org.example.config.WebConfig}.
+ */
+public class ApiTimingFilter extends OncePerRequestFilter {
+    private final ApiTimingRecorder recorder;
+
+    public ApiTimingFilter(ApiTimingRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String api = ApiTimingRecorder.apiOf(request.getRequestURI().substring(request.getContextPath().length()));
+        if (api == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        request.setAttribute(RequestTiming.ATTRIBUTE, timing);
+        boolean success = false;
+        try {
+            chain.doFilter(request, response);
+            response.flushBuffer();
+            success = response.getStatus() < 400;
+        } finally {
+            recorder.record(api, timing.phases(System.nanoTime()), success);
+        }
+    }
+}
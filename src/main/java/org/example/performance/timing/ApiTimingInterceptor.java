@@ -0,0 +1,22 @@
+package org.example.performance.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Marks where handler mapping ends and the handler, argument resolution included, begins.
+ */
+@Component
+public class ApiTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTiming timing = RequestTiming.of(request);
+        if (timing != null) {
+            timing.markHandlerStart(System.nanoTime());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.performance.timing;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.example.performance.load.LatencySummary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-side phase histograms (microseconds) per API style, fed by {@link ApiTimingFilter}.
+ */
+@Component
+public class ApiTimingRecorder {
+    public static final String REST = "REST";
+    public static final String ACTION = "ACTION";
+
+    private final Map<String, ApiHistograms> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * API style of a request path relative to the context path, or null if it is not timed.
+     */
+    static String apiOf(String path) {
+        if (path.equals("/api") || path.startsWith("/api/")) return REST;
+        if (path.equals("/actions") || path.startsWith("/actions/")) return ACTION;
+        return null;
+    }
+
+    void record(String api, RequestTiming.Phases phases, boolean success) {
+        histograms.computeIfAbsent(api, key -> new ApiHistograms()).record(phases, success);
+    }
+
+    /**
+     * Phase percentiles per API style, REST first.
+     */
+    public List<ApiTimingSummary> summaries() {
+        List<ApiTimingSummary> summaries = new ArrayList<>();
+        for (String api : List.of(REST, ACTION)) {
+            ApiHistograms h = histograms.get(api);
+            if (h != null) summaries.add(h.summary(api));
+        }
+        return summaries;
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Requests, errors and the percentiles of each phase, from first byte in to last byte out.
+     */
+    public record ApiTimingSummary(String api, long requests, long errors, LatencySummary total,
+                                   LatencySummary deserialization, LatencySummary handler,
+                                   LatencySummary serialization, LatencySummary framework) {
+    }
+
+    private static final class ApiHistograms {
+        private final Histogram total = new ConcurrentHistogram(3);
+        private final Histogram deserialization = new ConcurrentHistogram(3);
+        private final Histogram handler = new ConcurrentHistogram(3);
+        private final Histogram serialization = new ConcurrentHistogram(3);
+        private final Histogram framework = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+
+        private void record(RequestTiming.Phases phases, boolean success) {
+            total.recordValue(micros(phases.total()));
+            deserialization.recordValue(micros(phases.deserialization()));
+            handler.recordValue(micros(phases.handler()));
+            serialization.recordValue(micros(phases.serialization()));
+            framework.recordValue(micros(phases.framework()));
+            if (!success) errors.increment();
+        }
+
+        private ApiTimingSummary summary(String api) {
+            return new ApiTimingSummary(api, total.getTotalCount(), errors.sum(), LatencySummary.of(total),
+                    LatencySummary.of(deserialization), LatencySummary.of(handler),
+                    LatencySummary.of(serialization), LatencySummary.of(framework));
+        }
+
+        private static long micros(long nanos) {
+            return Math.max(0, nanos / 1000);
+        }
+    }
+}
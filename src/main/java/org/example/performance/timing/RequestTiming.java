@@ -0,0 +1,78 @@
+package org.example.performance.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Phase marks of one request, in {@link System#nanoTime()} units: set by {@link ApiTimingFilter} on the way in, by
+ * {@link ApiTimingInterceptor} when the handler is reached, and by {@link ApiTimingAdvice} around body conversion.
+ * A mark of 0 means the request never reached that point.
+ */
+public final class RequestTiming {
+    static final String ATTRIBUTE = RequestTiming.class.getName();
+
+    private final long start;
+    private long handlerStart;
+    private long readStart;
+    private long readEnd;
+    private long writeStart;
+
+    RequestTiming(long start) {
+        this.start = start;
+    }
+
+    /**
+     * Timing of the request bound to the current thread, or null outside a timed request.
+     */
+    static RequestTiming current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            return of(servlet.getRequest());
+        }
+        return null;
+    }
+
+    static RequestTiming of(HttpServletRequest request) {
+        return request.getAttribute(ATTRIBUTE) instanceof RequestTiming timing ? timing : null;
+    }
+
+    void markHandlerStart(long now) {
+        handlerStart = now;
+    }
+
+    void markReadStart(long now) {
+        readStart = now;
+    }
+
+    void markReadEnd(long now) {
+        readEnd = now;
+    }
+
+    void markWriteStart(long now) {
+        if (writeStart == 0) writeStart = now;
+    }
+
+    /**
+     * Split the time from first byte in to {@code end}, the last byte out, into its phases. Deserialization runs
+     * inside the handler window, during argument resolution, and is taken out of it; whatever no phase covers, such
+     * as filters and handler mapping, is framework time.
+     */
+    Phases phases(long end) {
+        long total = end - start;
+        long deserialization = readStart > 0 && readEnd >= readStart ? readEnd - readStart : 0;
+        long handlerFrom = handlerStart > 0 ? handlerStart : start;
+        long handlerTo = writeStart > 0 ? writeStart : end;
+        long handler = Math.max(0, handlerTo - handlerFrom - deserialization);
+        long serialization = writeStart > 0 ? end - writeStart : 0;
+        long framework = Math.max(0, total - deserialization - handler - serialization);
+        return new Phases(total, deserialization, handler, serialization, framework);
+    }
+
+    /**
+     * Nanoseconds spent in each phase of a request; the phases add up to the total.
+     */
+    record Phases(long total, long deserialization, long handler, long serialization, long framework) {
+    }
+}
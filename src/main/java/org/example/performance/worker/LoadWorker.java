@@ -0,0 +1,74 @@
+package org.example.performance.worker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.example.config.LoadClientProperties;
+import org.example.performance.load.HttpTimingRecorder;
+import org.example.performance.load.JdkHttpLoadClient;
+import org.example.performance.load.LoadHttpClient;
+import org.example.performance.load.PooledHttpLoadClient;
+import org.example.performance.results.RunRecord;
+import org.example.performance.scenario.ScenarioDriver;
+import org.example.performance.scenario.ScenarioResult;
+import org.example.performance.scenario.ScenarioRunner;
+import org.example.performance.scenario.ScenarioWorkload;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Entry point of a load-generator worker JVM, started by {@link LoadWorkerCoordinator}: reads a {@link WorkerSpec},
+ * waits for the common start time, runs its share of the scenario over HTTP and writes a {@link WorkerReport}.
+ * It starts no Spring context and opens no database connection, so it competes with the server only for CPU.
+ * <p>
+ * Usage: {@code java -cp <classpath> org.example.performance.worker.LoadWorker <spec.json> <report.json>}
+ */
+public final class LoadWorker {
+
+    private LoadWorker() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: LoadWorker <spec.json> <report.json>");
+            System.exit(2);
+        }
+        ObjectMapper objectMapper = JsonMapper.builder().build();
+        try {
+            WorkerSpec spec = objectMapper.readValue(Path.of(args[0]).toFile(), WorkerSpec.class);
+            WorkerReport report = run(spec, objectMapper);
+            objectMapper.writeValue(Path.of(args[1]).toFile(), report);
+            System.out.printf("✅ Worker %d/%d wrote %s%n", spec.worker() + 1, spec.workers(), args[1]);
+        } catch (Exception e) {
+            System.err.println("❌ Worker failed: " + e);
+            e.printStackTrace();
+            System.exit(1);
+        }
+        // The HTTP client's pool threads must not keep the JVM alive
+        System.exit(0);
+    }
+
+    static WorkerReport run(WorkerSpec spec, ObjectMapper objectMapper) throws InterruptedException {
+        LoadClientProperties clientProperties = spec.loadClient();
+        try (LoadHttpClient httpClient = clientProperties.isHttp2() ? new JdkHttpLoadClient(clientProperties)
+                : new PooledHttpLoadClient(clientProperties)) {
+            HttpTimingRecorder timings = new HttpTimingRecorder();
+            List<ScenarioDriver> drivers = spec.modes().stream()
+                    .map(mode -> ScenarioRunner.httpDriver(mode, httpClient, timings, objectMapper))
+                    .toList();
+            ScenarioWorkload workload = new ScenarioWorkload(spec.scenario(), spec.idRanges());
+
+            long wait = spec.startAtEpochMs() - System.currentTimeMillis();
+            if (wait > 0) {
+                Thread.sleep(wait);
+            } else {
+                System.out.printf("⚠️ Worker %d started %d ms after the common start time%n",
+                        spec.worker() + 1, -wait);
+            }
+            long startedAt = System.currentTimeMillis();
+            ScenarioResult result = ScenarioRunner.run(workload, spec.users(), spec.durationSeconds(), drivers);
+            return new WorkerReport(spec.worker(), startedAt, result.durationMs(),
+                    result.operations().stream().map(RunRecord.Series::of).toList());
+        }
+    }
+}
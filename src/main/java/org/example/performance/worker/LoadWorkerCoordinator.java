@@ -0,0 +1,193 @@
+package org.example.performance.worker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.LoadClientProperties;
+import org.example.config.LoadWorkerProperties;
+import org.example.performance.PerformanceMonitor;
+import org.example.performance.results.RunResultStore;
+import org.example.performance.scenario.Scenario;
+import org.example.performance.scenario.ScenarioCatalog;
+import org.example.performance.scenario.ScenarioEntity;
+import org.example.performance.scenario.ScenarioPhase;
+import org.example.performance.scenario.ScenarioResult;
+import org.example.performance.scenario.ScenarioRunner;
+import org.example.performance.scenario.ScenarioWorkload;
+import org.example.performance.timing.ApiTimingRecorder;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Runs a scenario from separate {@link LoadWorker} JVMs on this machine, so load generation no longer shares heap
+ * and GC with the server it measures. Each worker gets a share of the users and a common start time; their
+ * histograms are merged without loss into one {@link ScenarioResult}, saved and reported like any load test.
+ */
+@Component
+public class LoadWorkerCoordinator {
+    // Spring Boot's launcher, used when the application runs from its executable jar
+    private static final String PROPERTIES_LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+
+    private final ScenarioCatalog scenarioCatalog;
+    private final ScenarioRunner scenarioRunner;
+    private final RunResultStore runResultStore;
+    private final PerformanceMonitor performanceMonitor;
+    private final ApiTimingRecorder apiTimingRecorder;
+    private final LoadClientProperties loadClientProperties;
+    private final LoadWorkerProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public LoadWorkerCoordinator(ScenarioCatalog scenarioCatalog, ScenarioRunner scenarioRunner,
+                                 RunResultStore runResultStore, PerformanceMonitor performanceMonitor,
+                                 ApiTimingRecorder apiTimingRecorder, LoadClientProperties loadClientProperties,
+                                 LoadWorkerProperties properties, ObjectMapper objectMapper) {
+        this.scenarioCatalog = scenarioCatalog;
+        this.scenarioRunner = scenarioRunner;
+        this.runResultStore = runResultStore;
+        this.performanceMonitor = performanceMonitor;
+        this.apiTimingRecorder = apiTimingRecorder;
+        this.loadClientProperties = loadClientProperties;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    public WorkerRunResult run(WorkerConfiguration config) {
+        Scenario scenario = scenarioCatalog.find(config.scenario());
+        List<ScenarioPhase> phases = scenario.phasesOr(config.users(), config.durationSeconds());
+        long scenarioMillis = phases.stream().mapToLong(phase -> phase.durationSeconds() * 1000L).sum();
+        Map<ScenarioEntity, ScenarioWorkload.IdRange> idRanges = scenarioRunner.idRanges(scenario);
+        performanceMonitor.reset();
+        apiTimingRecorder.reset();
+
+        Path directory = createDirectory();
+        long startAt = System.currentTimeMillis() + properties.getStartupDelayMs();
+        System.out.printf("🧵 Starting %d load workers for scenario '%s' (%d users per API in total)%n",
+                config.workers(), scenario.name(), config.users());
+        List<Process> processes = new ArrayList<>();
+        try {
+            for (int i = 0; i < config.workers(); i++) {
+                WorkerSpec spec = new WorkerSpec(i, config.workers(), WorkerSpec.share(scenario, i, config.workers()),
+                        idRanges, config.modes(), WorkerSpec.share(config.users(), i, config.workers()),
+                        config.durationSeconds(), loadClientProperties, startAt);
+                Path specFile = directory.resolve("worker-" + i + "-spec.json");
+                objectMapper.writeValue(specFile.toFile(), spec);
+                processes.add(new ProcessBuilder(command(specFile, report(directory, i)))
+                        .redirectErrorStream(true)
+                        .redirectOutput(log(directory, i).toFile())
+                        .start());
+            }
+            long deadline = startAt + scenarioMillis + properties.getShutdownGraceMs();
+            List<WorkerReport> reports = new ArrayList<>();
+            for (int i = 0; i < processes.size(); i++) {
+                reports.add(await(processes.get(i), i, directory, deadline));
+            }
+
+            ScenarioResult result = WorkerReport.merge(scenario.name(), phases, reports);
+            System.out.printf("✅ %d workers completed; %d requests in total%n", reports.size(),
+                    reports.stream().mapToLong(WorkerReport::requests).sum());
+            String runId = runResultStore.saveScenarioRun("distributed-load-test", Instant.ofEpochMilli(startAt),
+                    configuration(scenario, config), result);
+            deleteQuietly(directory);
+            return new WorkerRunResult(config, result, reports, runId);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start load workers (files in " + directory + ")", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for load workers", e);
+        } finally {
+            processes.forEach(Process::destroyForcibly);
+        }
+    }
+
+    private WorkerReport await(Process process, int worker, Path directory, long deadline)
+            throws InterruptedException, IOException {
+        long remaining = Math.max(0, deadline - System.currentTimeMillis());
+        if (!process.waitFor(remaining, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("Worker " + (worker + 1) + " did not finish in time; see "
+                    + log(directory, worker));
+        }
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException("Worker " + (worker + 1) + " failed with exit code "
+                    + process.exitValue() + "; see " + log(directory, worker));
+        }
+        return objectMapper.readValue(report(directory, worker).toFile(), WorkerReport.class);
+    }
+
+    /**
+     * The java command for one worker: this JVM's binary and class path. From an executable jar the worker classes
+     * sit under BOOT-INF, so they are started through Spring Boot's launcher instead of directly.
+     */
+    List<String> command(Path specFile, Path reportFile) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(properties.getJvmOptions());
+        String classPath = System.getProperty("java.class.path");
+        command.add("-cp");
+        command.add(classPath);
+        if (classPath.endsWith(".jar") && !classPath.contains(File.pathSeparator)) {
+            command.add("-Dloader.main=" + LoadWorker.class.getName());
+            command.add(PROPERTIES_LAUNCHER);
+        } else {
+            command.add(LoadWorker.class.getName());
+        }
+        command.add(specFile.toString());
+        command.add(reportFile.toString());
+        return command;
+    }
+
+    private Map<String, Object> configuration(Scenario scenario, WorkerConfiguration config) {
+        Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("scenario", scenario.name());
+        configuration.put("users", config.users());
+        configuration.put("durationSeconds", config.durationSeconds());
+        configuration.put("transport", config.transport());
+        configuration.put("workers", config.workers());
+        configuration.put("workerJvmOptions", properties.getJvmOptions());
+        configuration.put("definition", scenario);
+        return configuration;
+    }
+
+    private static Path createDirectory() {
+        try {
+            return Files.createTempDirectory("load-workers-");
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create a directory for load workers", e);
+        }
+    }
+
+    private static Path report(Path directory, int worker) {
+        return directory.resolve("worker-" + worker + "-report.json");
+    }
+
+    private static Path log(Path directory, int worker) {
+        return directory.resolve("worker-" + worker + ".log");
+    }
+
+    private static void deleteQuietly(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            // Only temporary files are left behind
+        }
+    }
+
+    /**
+     * The merged result, the workers' own reports (for per-worker request counts and start skew) and the saved
+     * run id.
+     */
+    public record WorkerRunResult(WorkerConfiguration configuration, ScenarioResult result,
+                                  List<WorkerReport> reports, String runId) {
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.performance.worker;
+
+import org.example.performance.scenario.ApiMode;
+
+import java.util.List;
+
+/**
+ * Settings of a run spread over {@code workers} load-generator JVMs: {@code users} per API in total, split across
+ * the workers. Workers reach the server over HTTP only, so the transport must pair two HTTP modes.
+ */
+public record WorkerConfiguration(String scenario, String transport, int users, int durationSeconds, int workers) {
+
+    public WorkerConfiguration {
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is needed, got " + workers);
+        }
+        if (users < workers || durationSeconds < 1) {
+            throw new IllegalArgumentException("Users must be >= workers (" + workers + ") and duration >= 1");
+        }
+        if (!ApiMode.pair(transport).stream().allMatch(ApiMode::isHttp)) {
+            throw new IllegalArgumentException("Workers reach the server over HTTP only; use transport="
+                    + ApiMode.HTTP);
+        }
+    }
+
+    public List<ApiMode> modes() {
+        return ApiMode.pair(transport);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.performance.worker;
+
+import org.HdrHistogram.Histogram;
+import org.example.performance.load.LatencySummary;
+import org.example.performance.results.RunRecord;
+import org.example.performance.scenario.ScenarioPhase;
+import org.example.performance.scenario.ScenarioResult;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What one worker JVM measured: one series per driver and operation, its histogram in the same compressed encoding
+ * as saved runs, so the coordinator merges counts rather than percentiles.
+ */
+public record WorkerReport(int worker, long startedAtEpochMs, long durationMs, List<RunRecord.Series> series) {
+
+    public long requests() {
+        return series.stream().mapToLong(RunRecord.Series::requests).sum();
+    }
+
+    /**
+     * Combine the workers' series into one result: histograms are added bucket by bucket, counts and rates summed,
+     * and completions and latency histograms per second summed second by second from each worker's start.
+     */
+    public static ScenarioResult merge(String scenario, List<ScenarioPhase> phases, List<WorkerReport> reports) {
+        Map<String, MergedSeries> merged = new LinkedHashMap<>();
+        long durationMs = 0;
+        for (WorkerReport report : reports) {
+            durationMs = Math.max(durationMs, report.durationMs());
+            for (RunRecord.Series series : report.series()) {
+                merged.computeIfAbsent(series.key(), key -> new MergedSeries(series.driver(), series.operation()))
+                        .add(series);
+            }
+        }
+        return new ScenarioResult(scenario, phases, durationMs,
+                merged.values().stream().map(MergedSeries::result).toList());
+    }
+
+    private static final class MergedSeries {
+        private final String driver;
+        private final String operation;
+        // Auto-resizing, so workers whose histograms cover different value ranges still add up
+        private final Histogram histogram = new Histogram(3);
+        private long requests;
+        private long errors;
+        private double throughput;
+        private long[] completedPerSecond = new long[0];
+        private Histogram[] latencyPerSecond = new Histogram[0];
+
+        private MergedSeries(String driver, String operation) {
+            this.driver = driver;
+            this.operation = operation;
+        }
+
+        private void add(RunRecord.Series series) {
+            histogram.add(series.decodeHistogram());
+            requests += series.requests();
+            errors += series.errors();
+            throughput += series.throughputPerSecond();
+            long[] perSecond = series.completedPerSecond();
+            if (perSecond.length > completedPerSecond.length) {
+                completedPerSecond = Arrays.copyOf(completedPerSecond, perSecond.length);
+            }
+            for (int i = 0; i < perSecond.length; i++) {
+                completedPerSecond[i] += perSecond[i];
+            }
+            latencyPerSecond = ScenarioResult.addPerSecond(latencyPerSecond, series.decodeLatencyPerSecond());
+        }
+
+        private ScenarioResult.OperationResult result() {
+            return new ScenarioResult.OperationResult(driver, operation, requests, errors, throughput,
+                    LatencySummary.of(histogram), histogram, completedPerSecond, latencyPerSecond);
+        }
+    }
+}
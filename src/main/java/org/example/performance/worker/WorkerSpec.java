@@ -0,0 +1,47 @@
+package org.example.performance.worker;
+
+import org.example.config.LoadClientProperties;
+import org.example.performance.scenario.ApiMode;
+import org.example.performance.scenario.Scenario;
+import org.example.performance.scenario.ScenarioEntity;
+import org.example.performance.scenario.ScenarioPhase;
+import org.example.performance.scenario.ScenarioWorkload;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything one worker JVM needs to run its share of a scenario without a database or Spring context: the scenario
+ * with its users already divided, the id ranges read by the coordinator, the HTTP client settings and the common
+ * wall-clock start time.
+ */
+public record WorkerSpec(int worker, int workers, Scenario scenario,
+                         Map<ScenarioEntity, ScenarioWorkload.IdRange> idRanges, List<ApiMode> modes, int users,
+                         int durationSeconds, LoadClientProperties loadClient, long startAtEpochMs) {
+
+    /**
+     * Users of {@code total} that worker {@code worker} (0-based) runs; the first {@code total % workers} workers get
+     * one more.
+     */
+    static int share(int total, int worker, int workers) {
+        return total / workers + (worker < total % workers ? 1 : 0);
+    }
+
+    /**
+     * The scenario with every phase's users divided the same way, so the workers together follow the original ramp.
+     */
+    static Scenario share(Scenario scenario, int worker, int workers) {
+        if (scenario.phases().isEmpty()) return scenario;
+        List<ScenarioPhase> phases = scenario.phases().stream()
+                .map(phase -> {
+                    if (phase.maxUsers() < workers) {
+                        throw new IllegalArgumentException("Phase '" + phase.name() + "' of '" + scenario.name()
+                                + "' has fewer users than the " + workers + " workers");
+                    }
+                    return new ScenarioPhase(phase.name(), phase.durationSeconds(), null,
+                            share(phase.fromUsers(), worker, workers), share(phase.toUsers(), worker, workers));
+                })
+                .toList();
+        return scenario.withPhases(phases);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.repository;
+
+import org.example.models.view.AnimalView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC reads of the animal table that bypass Hibernate for the hottest queries.
+ */
+@Repository
+public class AnimalJdbcRepository {
+    private static final String SELECT = "SELECT id, type, created_at, updated_at FROM animal";
+    private static final RowMapper<AnimalView> ROW_MAPPER = (rs, rowNum) -> new AnimalView(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getObject(3, LocalDateTime.class),
+            rs.getObject(4, LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnimalJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<AnimalView> findById(Long id) {
+        return jdbcTemplate.query(SELECT + " WHERE id = ?", ROW_MAPPER, id).stream().findFirst();
+    }
+
+    public List<AnimalView> findPage(int page, int size) {
+        return jdbcTemplate.query(SELECT + " LIMIT ? OFFSET ?", ROW_MAPPER, size, (long) page * size);
+    }
+
+    public List<AnimalView> findByTypeContainingIgnoreCase(String type) {
+        return jdbcTemplate.query(SELECT + " WHERE UPPER(type) LIKE UPPER(?)", ROW_MAPPER, JdbcPatterns.containing(type));
+    }
+}
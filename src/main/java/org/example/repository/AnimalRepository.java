@@ -1,10 +1,43 @@
 package org.example.repository;
 
 import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface AnimalRepository extends JpaRepository<Animal, Long> {
-    List<Animal> findByTypeContainingIgnoreCase(String type);
-} 
\ No newline at end of file
+    List<AnimalView> findAllProjectedBy();
+
+    List<AnimalView> findAllProjectedBy(Pageable pageable);
+
+    List<AnimalView> findProjectedByTypeContainingIgnoreCase(String type);
+
+    @Query("SELECT new org.example.models.view.AnimalView(a.id, a.type, a.createdAt, a.updatedAt) FROM Animal a " +
+           "WHERE a.createdAt >= :from AND a.createdAt < :to " +
+           "AND (a.createdAt > :afterTimestamp OR (a.createdAt = :afterTimestamp AND a.id > :afterId)) " +
+           "ORDER BY a.createdAt, a.id")
+    List<AnimalView> findCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("afterTimestamp") LocalDateTime afterTimestamp, @Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT new org.example.models.view.AnimalView(a.id, a.type, a.createdAt, a.updatedAt) FROM Animal a " +
+           "WHERE a.updatedAt >= :from AND a.updatedAt < :to " +
+           "AND (a.updatedAt > :afterTimestamp OR (a.updatedAt = :afterTimestamp AND a.id > :afterId)) " +
+           "ORDER BY a.updatedAt, a.id")
+    List<AnimalView> findUpdatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("afterTimestamp") LocalDateTime afterTimestamp, @Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Lookup by id bounded to a creation window, so MySQL only probes the matching created_at partitions.
+     */
+    @Query("SELECT new org.example.models.view.AnimalView(a.id, a.type, a.createdAt, a.updatedAt) FROM Animal a " +
+           "WHERE a.id = :id AND a.createdAt >= :from AND a.createdAt < :to")
+    Optional<AnimalView> findByIdCreatedBetween(@Param("id") Long id, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,41 @@
+package org.example.repository;
+
+import org.example.models.view.CarView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC reads of the car table that bypass Hibernate for the hottest queries.
+ */
+@Repository
+public class CarJdbcRepository {
+    private static final String SELECT = "SELECT id, brand, created_at, updated_at FROM car";
+    private static final RowMapper<CarView> ROW_MAPPER = (rs, rowNum) -> new CarView(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getObject(3, LocalDateTime.class),
+            rs.getObject(4, LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CarJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<CarView> findById(Long id) {
+        return jdbcTemplate.query(SELECT + " WHERE id = ?", ROW_MAPPER, id).stream().findFirst();
+    }
+
+    public List<CarView> findPage(int page, int size) {
+        return jdbcTemplate.query(SELECT + " LIMIT ? OFFSET ?", ROW_MAPPER, size, (long) page * size);
+    }
+
+    public List<CarView> findByBrandContainingIgnoreCase(String brand) {
+        return jdbcTemplate.query(SELECT + " WHERE UPPER(brand) LIKE UPPER(?)", ROW_MAPPER, JdbcPatterns.containing(brand));
+    }
+}
@@ -1,10 +1,43 @@
 package org.example.repository;
 
 import org.example.models.entity.Car;
+import org.example.models.view.CarView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CarRepository extends JpaRepository<Car, Long> {
-    List<Car> findByBrandContainingIgnoreCase(String brand);
-} 
\ No newline at end of file
+    List<CarView> findAllProjectedBy();
+
+    List<CarView> findAllProjectedBy(Pageable pageable);
+
+    List<CarView> findProjectedByBrandContainingIgnoreCase(String brand);
+
+    @Query("SELECT new org.example.models.view.CarView(c.id, c.brand, c.createdAt, c.updatedAt) FROM Car c " +
+           "WHERE c.createdAt >= :from AND c.createdAt < :to " +
+           "AND (c.createdAt > :afterTimestamp OR (c.createdAt = :afterTimestamp AND c.id > :afterId)) " +
+           "ORDER BY c.createdAt, c.id")
+    List<CarView> findCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("afterTimestamp") LocalDateTime afterTimestamp, @Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT new org.example.models.view.CarView(c.id, c.brand, c.createdAt, c.updatedAt) FROM Car c " +
+           "WHERE c.updatedAt >= :from AND c.updatedAt < :to " +
+           "AND (c.updatedAt > :afterTimestamp OR (c.updatedAt = :afterTimestamp AND c.id > :afterId)) " +
+           "ORDER BY c.updatedAt, c.id")
+    List<CarView> findUpdatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("afterTimestamp") LocalDateTime afterTimestamp, @Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Lookup by id bounded to a creation window, so MySQL only probes the matching created_at partitions.
+     */
+    @Query("SELECT new org.example.models.view.CarView(c.id, c.brand, c.createdAt, c.updatedAt) FROM Car c " +
+           "WHERE c.id = :id AND c.createdAt >= :from AND c.createdAt < :to")
+    Optional<CarView> findByIdCreatedBetween(@Param("id") Long id, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,41 @@
+package org.example.repository;
+
+import org.example.models.view.GovEmployeeView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC reads of the gov_employee table that bypass Hibernate for the hottest queries.
+ */
+@Repository
+public class GovEmployeeJdbcRepository {
+    private static final String SELECT = "SELECT id, name, created_at, updated_at FROM gov_employee";
+    private static final RowMapper<GovEmployeeView> ROW_MAPPER = (rs, rowNum) -> new GovEmployeeView(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getObject(3, LocalDateTime.class),
+            rs.getObject(4, LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GovEmployeeJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<GovEmployeeView> findById(Long id) {
+        return jdbcTemplate.query(SELECT + " WHERE id = ?", ROW_MAPPER, id).stream().findFirst();
+    }
+
+    public List<GovEmployeeView> findPage(int page, int size) {
+        return jdbcTemplate.query(SELECT + " LIMIT ? OFFSET ?", ROW_MAPPER, size, (long) page * size);
+    }
+
+    public List<GovEmployeeView> findByNameContainingIgnoreCase(String name) {
+        return jdbcTemplate.query(SELECT + " WHERE UPPER(name) LIKE UPPER(?)", ROW_MAPPER, JdbcPatterns.containing(name));
+    }
+}
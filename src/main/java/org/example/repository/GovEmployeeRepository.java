@@ -1,10 +1,43 @@
 package org.example.repository;
 
 import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface GovEmployeeRepository extends JpaRepository<GovEmployee, Long> {
-    List<GovEmployee> findByNameContainingIgnoreCase(String name);
-} 
\ No newline at end of file
+    List<GovEmployeeView> findAllProjectedBy();
+
+    List<GovEmployeeView> findAllProjectedBy(Pageable pageable);
+
+    List<GovEmployeeView> findProjectedByNameContainingIgnoreCase(String name);
+
+    @Query("SELECT new org.example.models.view.GovEmployeeView(e.id, e.name, e.createdAt, e.updatedAt) FROM GovEmployee e " +
+           "WHERE e.createdAt >= :from AND e.createdAt < :to " +
+           "AND (e.createdAt > :afterTimestamp OR (e.createdAt = :afterTimestamp AND e.id > :afterId)) " +
+           "ORDER BY e.createdAt, e.id")
+    List<GovEmployeeView> findCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("afterTimestamp") LocalDateTime afterTimestamp, @Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT new org.example.models.view.GovEmployeeView(e.id, e.name, e.createdAt, e.updatedAt) FROM GovEmployee e " +
+           "WHERE e.updatedAt >= :from AND e.updatedAt < :to " +
+           "AND (e.updatedAt > :afterTimestamp OR (e.updatedAt = :afterTimestamp AND e.id > :afterId)) " +
+           "ORDER BY e.updatedAt, e.id")
+    List<GovEmployeeView> findUpdatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("afterTimestamp") LocalDateTime afterTimestamp, @Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Lookup by id bounded to a creation window, so MySQL only probes the matching created_at partitions.
+     */
+    @Query("SELECT new org.example.models.view.GovEmployeeView(e.id, e.name, e.createdAt, e.updatedAt) FROM GovEmployee e " +
+           "WHERE e.id = :id AND e.createdAt >= :from AND e.createdAt < :to")
+    Optional<GovEmployeeView> findByIdCreatedBetween(@Param("id") Long id, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
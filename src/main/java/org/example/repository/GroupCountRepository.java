@@ -0,0 +1,83 @@
+package org.example.repository;
+
+import org.example.models.view.GroupCount;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Incrementally maintained group-by counts; callers adjust them inside the transaction of the base-table write.
+ */
+@Repository
+public class GroupCountRepository {
+
+    /**
+     * Summary table and its key column for each maintained grouping.
+     */
+    public enum Grouping {
+        CAR_BRAND("car_brand_count", "brand"),
+        ANIMAL_TYPE("animal_type_count", "type"),
+        EMPLOYEE_NAME_INITIAL("gov_employee_name_initial_count", "name_initial");
+
+        private final String table;
+        private final String keyColumn;
+
+        Grouping(String table, String keyColumn) {
+            this.table = table;
+            this.keyColumn = keyColumn;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GroupCountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add delta (negative on delete) to a group, dropping the group once it reaches zero.
+     */
+    public void adjust(Grouping grouping, String key, long delta) {
+        if (key == null || delta == 0) return;
+        jdbcTemplate.update("INSERT INTO " + grouping.table + " (" + grouping.keyColumn + ", row_count) VALUES (?, ?) "
+                + "ON DUPLICATE KEY UPDATE row_count = row_count + ?", key, delta, delta);
+        if (delta < 0) {
+            jdbcTemplate.update("DELETE FROM " + grouping.table + " WHERE " + grouping.keyColumn + " = ? AND row_count <= 0", key);
+        }
+    }
+
+    /**
+     * Move one row from one group to another, e.g. when an update changes the grouped column.
+     */
+    public void move(Grouping grouping, String fromKey, String toKey) {
+        if (fromKey != null && fromKey.equals(toKey)) return;
+        adjust(grouping, fromKey, -1);
+        adjust(grouping, toKey, 1);
+    }
+
+    /**
+     * Recompute a grouping from its base table after a bulk load that bypassed the services.
+     */
+    public void rebuild(Grouping grouping, String sourceTable, String keyExpression) {
+        jdbcTemplate.update("DELETE FROM " + grouping.table);
+        jdbcTemplate.update("INSERT INTO " + grouping.table + " (" + grouping.keyColumn + ", row_count) SELECT "
+                + keyExpression + ", COUNT(*) FROM " + sourceTable + " WHERE " + keyExpression + " IS NOT NULL AND "
+                + keyExpression + " <> '' GROUP BY " + keyExpression);
+    }
+
+    public List<GroupCount> findAll(Grouping grouping) {
+        return jdbcTemplate.query("SELECT " + grouping.keyColumn + ", row_count FROM " + grouping.table
+                        + " WHERE row_count > 0 ORDER BY row_count DESC, " + grouping.keyColumn,
+                (rs, rowNum) -> new GroupCount(rs.getString(1), rs.getLong(2)));
+    }
+
+    /**
+     * Group key of a name: its first character upper-cased, matching UPPER(LEFT(name, 1)) in the backfill.
+     */
+    public static String nameInitial(String name) {
+        if (name == null || name.isEmpty()) return null;
+        return name.substring(0, name.offsetByCodePoints(0, 1)).toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.repository;
+
+/**
+ * LIKE pattern helpers matching the escaping Spring Data applies to derived "Containing" queries.
+ */
+final class JdbcPatterns {
+
+    private JdbcPatterns() {
+    }
+
+    static String containing(String value) {
+        String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -1,12 +1,20 @@
 package org.example.rest.controller;
 
 import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
+import org.example.models.view.GroupCount;
+import org.example.models.view.ResourceCount;
 import org.example.models.dto.AnimalDto;
 import org.example.service.AnimalService;
+import org.example.service.query.KeysetPage;
+import org.example.service.query.ListQuery;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -14,6 +22,8 @@ import java.util.Optional;
 @RestController
 @RequestMapping("/api/animals")
 public class AnimalRestController {
+    private static final String RESOURCE_COUNT_HEADER = "X-Resource-Count";
+
     private final AnimalService animalService;
 
     public AnimalRestController(AnimalService animalService) {
@@ -21,25 +31,39 @@ public class AnimalRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Animal>> getAllAnimals() {
-        return ResponseEntity.ok(animalService.getAll());
+    public ResponseEntity<List<AnimalView>> getAllAnimals(
+            @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(value = "updatedSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        if (updatedSince != null && (createdFrom != null || createdTo != null)) {
+            throw new IllegalArgumentException("Use either createdFrom/createdTo or updatedSince, not both");
+        }
+        if (updatedSince != null) {
+            return keysetResponse(animalService.getUpdatedSince(updatedSince, cursor, size));
+        }
+        if (createdFrom != null || createdTo != null) {
+            return keysetResponse(animalService.getCreatedBetween(createdFrom, createdTo, cursor, size));
+        }
+        return withResourceCount().body(animalService.getAll());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Animal> getAnimal(@PathVariable("id") Long id) {
-        Optional<Animal> animal = animalService.getById(id);
+    public ResponseEntity<AnimalView> getAnimal(@PathVariable("id") Long id,
+            @RequestParam(value = "createdAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAt) {
+        Optional<AnimalView> animal = animalService.getById(id, createdAt);
         return animal.map(ResponseEntity::ok)
                      .orElseThrow(() -> new NoSuchElementException("Animal not found with id: " + id));
     }
 
     @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
     public ResponseEntity<Void> checkAnimalExists(@PathVariable("id") Long id) {
-        Optional<Animal> animal = animalService.getById(id);
+        Optional<AnimalView> animal = animalService.getById(id);
         if (animal.isPresent()) {
-            return ResponseEntity.ok()
-                    .header("X-Resource-Count", "1")
-                    .header("X-Last-Modified", animal.get().getUpdatedAt() != null ? 
-                            animal.get().getUpdatedAt().toString() : "")
+            return withResourceCount()
+                    .header("X-Last-Modified", animal.get().updatedAt() != null ? 
+                            animal.get().updatedAt().toString() : "")
                     .build();
         } else {
             return ResponseEntity.notFound().build();
@@ -85,13 +109,13 @@ public class AnimalRestController {
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Animal> patchAnimal(@PathVariable("id") Long id, @Valid @RequestBody AnimalDto dto) {
+    public ResponseEntity<AnimalView> patchAnimal(@PathVariable("id") Long id, @Valid @RequestBody AnimalDto dto) {
         if (dto.getType() != null) {
-            Optional<Animal> updatedAnimal = animalService.update(id, dto.getType());
+            Optional<AnimalView> updatedAnimal = animalService.update(id, dto.getType());
             return updatedAnimal.map(ResponseEntity::ok)
                                .orElseThrow(() -> new NoSuchElementException("Animal not found with id: " + id));
         }
-        Optional<Animal> animal = animalService.getById(id);
+        Optional<AnimalView> animal = animalService.getById(id);
         return animal.map(ResponseEntity::ok)
                      .orElseThrow(() -> new NoSuchElementException("Animal not found with id: " + id));
     }
@@ -104,24 +128,61 @@ public class AnimalRestController {
      * This prevents corruption when new fields are added to the entity in the future.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Animal> putAnimal(@PathVariable("id") Long id, @Valid @RequestBody AnimalDto dto) {
+    public ResponseEntity<AnimalView> putAnimal(@PathVariable("id") Long id, @Valid @RequestBody AnimalDto dto) {
         // Using PATCH-like semantics for data safety
         // All required fields must be provided due to @Valid validation
-        Optional<Animal> updatedAnimal = animalService.update(id, dto.getType());
+        Optional<AnimalView> updatedAnimal = animalService.update(id, dto.getType());
         return updatedAnimal.map(ResponseEntity::ok)
                            .orElseThrow(() -> new NoSuchElementException("Animal not found with id: " + id));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<Animal>> searchAnimals(@RequestParam(value = "type", required = false) String type) {
+    public ResponseEntity<List<AnimalView>> searchAnimals(@RequestParam(value = "type", required = false) String type) {
         return ResponseEntity.ok(animalService.searchByType(type));
     }
 
+    /**
+     * Filter and sort query, e.g. {@code ?filter=id:in:1,2,3&filter=createdAt:gte:2024-01-01T00:00:00&sort=createdAt:desc}.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<List<AnimalView>> queryAnimals(@RequestParam MultiValueMap<String, String> params,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(animalService.query(ListQuery.parse(params.get("filter"), params.get("sort"), page, size)));
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<ResourceCount> countAnimals() {
+        return ResponseEntity.ok(new ResourceCount("animals", animalService.count()));
+    }
+
+    @GetMapping("/stats/by-type")
+    public ResponseEntity<List<GroupCount>> getAnimalCountsByType() {
+        return ResponseEntity.ok(animalService.getCountsByType());
+    }
+
     @GetMapping("/page")
-    public ResponseEntity<List<Animal>> getAnimalsPage(@RequestParam("page") int page, @RequestParam("size") int size) {
+    public ResponseEntity<List<AnimalView>> getAnimalsPage(@RequestParam("page") int page, @RequestParam("size") int size) {
         if (page < 0 || size <= 0) {
             throw new IllegalArgumentException("Page must be >= 0 and size must be > 0");
         }
         return ResponseEntity.ok(animalService.getPage(page, size));
     }
-} 
\ No newline at end of file
+
+    private ResponseEntity<List<AnimalView>> keysetResponse(KeysetPage<AnimalView> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header("X-Next-Cursor", page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    /**
+     * 200 carrying the collection's row count, left out while the counter is not seeded yet.
+     */
+    private ResponseEntity.BodyBuilder withResourceCount() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        animalService.countIfReady().ifPresent(count -> response.header(RESOURCE_COUNT_HEADER, String.valueOf(count)));
+        return response;
+    }
+}
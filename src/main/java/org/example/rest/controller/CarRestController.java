@@ -1,12 +1,20 @@
 package org.example.rest.controller;
 
 import org.example.models.entity.Car;
+import org.example.models.view.CarView;
+import org.example.models.view.GroupCount;
+import org.example.models.view.ResourceCount;
 import org.example.models.dto.CarDto;
 import org.example.service.CarService;
+import org.example.service.query.KeysetPage;
+import org.example.service.query.ListQuery;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -14,6 +22,8 @@ import java.util.Optional;
 @RestController
 @RequestMapping("/api/cars")
 public class CarRestController {
+    private static final String RESOURCE_COUNT_HEADER = "X-Resource-Count";
+
     private final CarService carService;
 
     public CarRestController(CarService carService) {
@@ -21,25 +31,39 @@ public class CarRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Car>> getAllCars() {
-        return ResponseEntity.ok(carService.getAll());
+    public ResponseEntity<List<CarView>> getAllCars(
+            @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(value = "updatedSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        if (updatedSince != null && (createdFrom != null || createdTo != null)) {
+            throw new IllegalArgumentException("Use either createdFrom/createdTo or updatedSince, not both");
+        }
+        if (updatedSince != null) {
+            return keysetResponse(carService.getUpdatedSince(updatedSince, cursor, size));
+        }
+        if (createdFrom != null || createdTo != null) {
+            return keysetResponse(carService.getCreatedBetween(createdFrom, createdTo, cursor, size));
+        }
+        return withResourceCount().body(carService.getAll());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Car> getCar(@PathVariable("id") Long id) {
-        Optional<Car> car = carService.getById(id);
+    public ResponseEntity<CarView> getCar(@PathVariable("id") Long id,
+            @RequestParam(value = "createdAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAt) {
+        Optional<CarView> car = carService.getById(id, createdAt);
         return car.map(ResponseEntity::ok)
                   .orElseThrow(() -> new NoSuchElementException("Car not found with id: " + id));
     }
 
     @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
     public ResponseEntity<Void> checkCarExists(@PathVariable("id") Long id) {
-        Optional<Car> car = carService.getById(id);
+        Optional<CarView> car = carService.getById(id);
         if (car.isPresent()) {
-            return ResponseEntity.ok()
-                    .header("X-Resource-Count", "1")
-                    .header("X-Last-Modified", car.get().getUpdatedAt() != null ? 
-                            car.get().getUpdatedAt().toString() : "")
+            return withResourceCount()
+                    .header("X-Last-Modified", car.get().updatedAt() != null ? 
+                            car.get().updatedAt().toString() : "")
                     .build();
         } else {
             return ResponseEntity.notFound().build();
@@ -85,13 +109,13 @@ public class CarRestController {
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Car> patchCar(@PathVariable("id") Long id, @Valid @RequestBody CarDto dto) {
+    public ResponseEntity<CarView> patchCar(@PathVariable("id") Long id, @Valid @RequestBody CarDto dto) {
         if (dto.getBrand() != null) {
-            Optional<Car> updatedCar = carService.update(id, dto.getBrand());
+            Optional<CarView> updatedCar = carService.update(id, dto.getBrand());
             return updatedCar.map(ResponseEntity::ok)
                             .orElseThrow(() -> new NoSuchElementException("Car not found with id: " + id));
         }
-        Optional<Car> car = carService.getById(id);
+        Optional<CarView> car = carService.getById(id);
         return car.map(ResponseEntity::ok)
                   .orElseThrow(() -> new NoSuchElementException("Car not found with id: " + id));
     }
@@ -104,24 +128,61 @@ public class CarRestController {
      * This prevents corruption when new fields are added to the entity in the future.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Car> putCar(@PathVariable("id") Long id, @Valid @RequestBody CarDto dto) {
+    public ResponseEntity<CarView> putCar(@PathVariable("id") Long id, @Valid @RequestBody CarDto dto) {
         // Using PATCH-like semantics for data safety
         // All required fields must be provided due to @Valid validation
-        Optional<Car> updatedCar = carService.update(id, dto.getBrand());
+        Optional<CarView> updatedCar = carService.update(id, dto.getBrand());
         return updatedCar.map(ResponseEntity::ok)
                         .orElseThrow(() -> new NoSuchElementException("Car not found with id: " + id));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<Car>> searchCars(@RequestParam(value = "brand", required = false) String brand) {
+    public ResponseEntity<List<CarView>> searchCars(@RequestParam(value = "brand", required = false) String brand) {
         return ResponseEntity.ok(carService.searchByBrand(brand));
     }
 
+    /**
+     * Filter and sort query, e.g. {@code ?filter=id:in:1,2,3&filter=createdAt:gte:2024-01-01T00:00:00&sort=createdAt:desc}.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<List<CarView>> queryCars(@RequestParam MultiValueMap<String, String> params,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(carService.query(ListQuery.parse(params.get("filter"), params.get("sort"), page, size)));
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<ResourceCount> countCars() {
+        return ResponseEntity.ok(new ResourceCount("cars", carService.count()));
+    }
+
+    @GetMapping("/stats/by-brand")
+    public ResponseEntity<List<GroupCount>> getCarCountsByBrand() {
+        return ResponseEntity.ok(carService.getCountsByBrand());
+    }
+
     @GetMapping("/page")
-    public ResponseEntity<List<Car>> getCarsPage(@RequestParam("page") int page, @RequestParam("size") int size) {
+    public ResponseEntity<List<CarView>> getCarsPage(@RequestParam("page") int page, @RequestParam("size") int size) {
         if (page < 0 || size <= 0) {
             throw new IllegalArgumentException("Page must be >= 0 and size must be > 0");
         }
         return ResponseEntity.ok(carService.getPage(page, size));
     }
-} 
\ No newline at end of file
+
+    private ResponseEntity<List<CarView>> keysetResponse(KeysetPage<CarView> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header("X-Next-Cursor", page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    /**
+     * 200 carrying the collection's row count, left out while the counter is not seeded yet.
+     */
+    private ResponseEntity.BodyBuilder withResourceCount() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        carService.countIfReady().ifPresent(count -> response.header(RESOURCE_COUNT_HEADER, String.valueOf(count)));
+        return response;
+    }
+}
@@ -1,12 +1,20 @@
 package org.example.rest.controller;
 
 import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
+import org.example.models.view.GroupCount;
+import org.example.models.view.ResourceCount;
 import org.example.models.dto.GovEmployeeDto;
 import org.example.service.GovEmployeeService;
+import org.example.service.query.KeysetPage;
+import org.example.service.query.ListQuery;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -14,6 +22,8 @@ import java.util.Optional;
 @RestController
 @RequestMapping("/api/employees")
 public class GovEmployeeRestController {
+    private static final String RESOURCE_COUNT_HEADER = "X-Resource-Count";
+
     private final GovEmployeeService govEmployeeService;
 
     public GovEmployeeRestController(GovEmployeeService govEmployeeService) {
@@ -21,25 +31,39 @@ public class GovEmployeeRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<GovEmployee>> getAllEmployees() {
-        return ResponseEntity.ok(govEmployeeService.getAll());
+    public ResponseEntity<List<GovEmployeeView>> getAllEmployees(
+            @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(value = "updatedSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        if (updatedSince != null && (createdFrom != null || createdTo != null)) {
+            throw new IllegalArgumentException("Use either createdFrom/createdTo or updatedSince, not both");
+        }
+        if (updatedSince != null) {
+            return keysetResponse(govEmployeeService.getUpdatedSince(updatedSince, cursor, size));
+        }
+        if (createdFrom != null || createdTo != null) {
+            return keysetResponse(govEmployeeService.getCreatedBetween(createdFrom, createdTo, cursor, size));
+        }
+        return withResourceCount().body(govEmployeeService.getAll());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<GovEmployee> getEmployee(@PathVariable("id") Long id) {
-        Optional<GovEmployee> employee = govEmployeeService.getById(id);
+    public ResponseEntity<GovEmployeeView> getEmployee(@PathVariable("id") Long id,
+            @RequestParam(value = "createdAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAt) {
+        Optional<GovEmployeeView> employee = govEmployeeService.getById(id, createdAt);
         return employee.map(ResponseEntity::ok)
                       .orElseThrow(() -> new NoSuchElementException("Employee not found with id: " + id));
     }
 
     @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
     public ResponseEntity<Void> checkEmployeeExists(@PathVariable("id") Long id) {
-        Optional<GovEmployee> employee = govEmployeeService.getById(id);
+        Optional<GovEmployeeView> employee = govEmployeeService.getById(id);
         if (employee.isPresent()) {
-            return ResponseEntity.ok()
-                    .header("X-Resource-Count", "1")
-                    .header("X-Last-Modified", employee.get().getUpdatedAt() != null ? 
-                            employee.get().getUpdatedAt().toString() : "")
+            return withResourceCount()
+                    .header("X-Last-Modified", employee.get().updatedAt() != null ? 
+                            employee.get().updatedAt().toString() : "")
                     .build();
         } else {
             return ResponseEntity.notFound().build();
@@ -85,13 +109,13 @@ public class GovEmployeeRestController {
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<GovEmployee> patchEmployee(@PathVariable("id") Long id, @Valid @RequestBody GovEmployeeDto dto) {
+    public ResponseEntity<GovEmployeeView> patchEmployee(@PathVariable("id") Long id, @Valid @RequestBody GovEmployeeDto dto) {
         if (dto.getName() != null) {
-            Optional<GovEmployee> updatedEmployee = govEmployeeService.update(id, dto.getName());
+            Optional<GovEmployeeView> updatedEmployee = govEmployeeService.update(id, dto.getName());
             return updatedEmployee.map(ResponseEntity::ok)
                                  .orElseThrow(() -> new NoSuchElementException("Employee not found with id: " + id));
         }
-        Optional<GovEmployee> employee = govEmployeeService.getById(id);
+        Optional<GovEmployeeView> employee = govEmployeeService.getById(id);
         return employee.map(ResponseEntity::ok)
                       .orElseThrow(() -> new NoSuchElementException("Employee not found with id: " + id));
     }
@@ -104,24 +128,61 @@ public class GovEmployeeRestController {
      * This prevents corruption when new fields are added to the entity in the future.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<GovEmployee> putEmployee(@PathVariable("id") Long id, @Valid @RequestBody GovEmployeeDto dto) {
+    public ResponseEntity<GovEmployeeView> putEmployee(@PathVariable("id") Long id, @Valid @RequestBody GovEmployeeDto dto) {
         // Using PATCH-like semantics for data safety
         // All required fields must be provided due to @Valid validation
-        Optional<GovEmployee> updatedEmployee = govEmployeeService.update(id, dto.getName());
+        Optional<GovEmployeeView> updatedEmployee = govEmployeeService.update(id, dto.getName());
         return updatedEmployee.map(ResponseEntity::ok)
                              .orElseThrow(() -> new NoSuchElementException("Employee not found with id: " + id));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<GovEmployee>> searchEmployees(@RequestParam(value = "name", required = false) String name) {
+    public ResponseEntity<List<GovEmployeeView>> searchEmployees(@RequestParam(value = "name", required = false) String name) {
         return ResponseEntity.ok(govEmployeeService.searchByName(name));
     }
 
+    /**
+     * Filter and sort query, e.g. {@code ?filter=id:in:1,2,3&filter=createdAt:gte:2024-01-01T00:00:00&sort=createdAt:desc}.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<List<GovEmployeeView>> queryEmployees(@RequestParam MultiValueMap<String, String> params,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(govEmployeeService.query(ListQuery.parse(params.get("filter"), params.get("sort"), page, size)));
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<ResourceCount> countEmployees() {
+        return ResponseEntity.ok(new ResourceCount("employees", govEmployeeService.count()));
+    }
+
+    @GetMapping("/stats/by-name-initial")
+    public ResponseEntity<List<GroupCount>> getEmployeeCountsByNameInitial() {
+        return ResponseEntity.ok(govEmployeeService.getCountsByNameInitial());
+    }
+
     @GetMapping("/page")
-    public ResponseEntity<List<GovEmployee>> getEmployeesPage(@RequestParam("page") int page, @RequestParam("size") int size) {
+    public ResponseEntity<List<GovEmployeeView>> getEmployeesPage(@RequestParam("page") int page, @RequestParam("size") int size) {
         if (page < 0 || size <= 0) {
             throw new IllegalArgumentException("Page must be >= 0 and size must be > 0");
         }
         return ResponseEntity.ok(govEmployeeService.getPage(page, size));
     }
-} 
\ No newline at end of file
+
+    private ResponseEntity<List<GovEmployeeView>> keysetResponse(KeysetPage<GovEmployeeView> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header("X-Next-Cursor", page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    /**
+     * 200 carrying the collection's row count, left out while the counter is not seeded yet.
+     */
+    private ResponseEntity.BodyBuilder withResourceCount() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        govEmployeeService.countIfReady().ifPresent(count -> response.header(RESOURCE_COUNT_HEADER, String.valueOf(count)));
+        return response;
+    }
+}
@@ -1,58 +1,171 @@
 package org.example.service;
 
+import org.example.config.ReadPathProperties;
+import org.example.config.ReadPathProperties.ReadPath;
 import org.example.models.entity.Animal;
+import org.example.models.view.GroupCount;
+import org.example.models.view.AnimalView;
+import org.example.repository.AnimalJdbcRepository;
+import org.example.repository.GroupCountRepository;
+import org.example.repository.GroupCountRepository.Grouping;
+import org.example.service.ResourceCounters.Resource;
 import org.example.repository.AnimalRepository;
+import org.example.service.query.FieldType;
+import org.example.service.query.KeysetCursor;
+import org.example.service.query.KeysetPage;
+import org.example.service.query.ListQuery;
+import org.example.service.query.ListQueryEngine;
+import org.example.service.query.QueryField;
+import org.example.service.query.QueryResource;
+import org.example.service.query.TimeRange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 @Service
 public class AnimalService {
+    private static final QueryResource<Animal, AnimalView> QUERY_RESOURCE = QueryResource.of("animal", Animal.class, AnimalView.class,
+            new QueryField("id", FieldType.LONG),
+            new QueryField("type", FieldType.STRING),
+            new QueryField("createdAt", FieldType.TIMESTAMP),
+            new QueryField("updatedAt", FieldType.TIMESTAMP));
+
     private final AnimalRepository animalRepository;
+    private final AnimalJdbcRepository animalJdbcRepository;
+    private final ReadPathProperties readPathProperties;
+    private final ListQueryEngine listQueryEngine;
+    private final GroupCountRepository groupCountRepository;
+    private final ResourceCounters resourceCounters;
 
-    public AnimalService(AnimalRepository animalRepository) {
+    public AnimalService(AnimalRepository animalRepository, AnimalJdbcRepository animalJdbcRepository,
+            ReadPathProperties readPathProperties, ListQueryEngine listQueryEngine,
+            GroupCountRepository groupCountRepository, ResourceCounters resourceCounters) {
         this.animalRepository = animalRepository;
+        this.animalJdbcRepository = animalJdbcRepository;
+        this.readPathProperties = readPathProperties;
+        this.listQueryEngine = listQueryEngine;
+        this.groupCountRepository = groupCountRepository;
+        this.resourceCounters = resourceCounters;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AnimalView> getAll() {
+        return animalRepository.findAllProjectedBy();
     }
 
-    public List<Animal> getAll() {
-        return animalRepository.findAll();
+    @Transactional(readOnly = true)
+    public Optional<AnimalView> getById(Long id) {
+        if (readPathProperties.getAnimal().getById() == ReadPath.JDBC) return animalJdbcRepository.findById(id);
+        return animalRepository.findById(id).map(AnimalView::from);
     }
 
-    public Optional<Animal> getById(Long id) {
-        return animalRepository.findById(id);
+    /**
+     * Lookup by id with the creation time as a partition-pruning hint; only the row's month is probed.
+     */
+    @Transactional(readOnly = true)
+    public Optional<AnimalView> getById(Long id, LocalDateTime createdAt) {
+        if (createdAt == null) return getById(id);
+        TimeRange month = TimeRange.monthOf(createdAt);
+        return animalRepository.findByIdCreatedBetween(id, month.from(), month.to());
     }
 
+    @Transactional
     public Animal add(String type) {
         Animal animal = new Animal();
         animal.setType(type);
-        return animalRepository.save(animal);
+        Animal saved = animalRepository.save(animal);
+        groupCountRepository.adjust(Grouping.ANIMAL_TYPE, type, 1);
+        resourceCounters.adjust(Resource.ANIMAL, 1);
+        return saved;
     }
 
+    @Transactional
     public boolean delete(Long id) {
-        if (animalRepository.existsById(id)) {
-            animalRepository.deleteById(id);
+        Optional<Animal> animalOpt = animalRepository.findById(id);
+        if (animalOpt.isPresent()) {
+            animalRepository.delete(animalOpt.get());
+            groupCountRepository.adjust(Grouping.ANIMAL_TYPE, animalOpt.get().getType(), -1);
+            resourceCounters.adjust(Resource.ANIMAL, -1);
             return true;
         }
         return false;
     }
 
-    public List<Animal> searchByType(String type) {
-        if (type == null || type.isEmpty()) return animalRepository.findAll();
-        return animalRepository.findByTypeContainingIgnoreCase(type);
+    @Transactional(readOnly = true)
+    public List<AnimalView> searchByType(String type) {
+        if (type == null || type.isEmpty()) return animalRepository.findAllProjectedBy();
+        if (readPathProperties.getAnimal().getSearch() == ReadPath.JDBC) return animalJdbcRepository.findByTypeContainingIgnoreCase(type);
+        return animalRepository.findProjectedByTypeContainingIgnoreCase(type);
     }
 
-    public List<Animal> getPage(int page, int size) {
+    @Transactional(readOnly = true)
+    public List<AnimalView> getPage(int page, int size) {
         if (size <= 0) return List.of();
-        return animalRepository.findAll(org.springframework.data.domain.PageRequest.of(page, size)).getContent();
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (readPathProperties.getAnimal().getPage() == ReadPath.JDBC) return animalJdbcRepository.findPage(page, size);
+        return animalRepository.findAllProjectedBy(pageRequest);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<AnimalView> getCreatedBetween(LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        KeysetPage.checkSize(size);
+        TimeRange range = TimeRange.of(from, to);
+        KeysetCursor after = KeysetCursor.decodeOrStart(cursor, range.from());
+        List<AnimalView> rows = animalRepository.findCreatedBetween(range.from(), range.to(),
+                after.timestamp(), after.id(), Limit.of(size + 1));
+        return KeysetPage.of(rows, size, AnimalView::createdAt, AnimalView::id);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<AnimalView> getUpdatedSince(LocalDateTime since, String cursor, int size) {
+        KeysetPage.checkSize(size);
+        TimeRange range = TimeRange.since(since);
+        KeysetCursor after = KeysetCursor.decodeOrStart(cursor, range.from());
+        List<AnimalView> rows = animalRepository.findUpdatedBetween(range.from(), range.to(),
+                after.timestamp(), after.id(), Limit.of(size + 1));
+        return KeysetPage.of(rows, size, AnimalView::updatedAt, AnimalView::id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AnimalView> query(ListQuery query) {
+        return listQueryEngine.execute(QUERY_RESOURCE, query);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GroupCount> getCountsByType() {
+        return groupCountRepository.findAll(Grouping.ANIMAL_TYPE);
+    }
+
+    /**
+     * Exact row count from the maintained counter; never scans the table.
+     */
+    public long count() {
+        return resourceCounters.count(Resource.ANIMAL);
+    }
+
+    /**
+     * Row count for response headers: empty instead of failing while the counter is not seeded yet.
+     */
+    public OptionalLong countIfReady() {
+        return resourceCounters.countIfReady(Resource.ANIMAL);
     }
 
-    public Optional<Animal> update(Long id, String type) {
-        Optional<Animal> animalOpt = getById(id);
+    @Transactional
+    public Optional<AnimalView> update(Long id, String type) {
+        Optional<Animal> animalOpt = animalRepository.findById(id);
         if (animalOpt.isPresent()) {
             Animal animal = animalOpt.get();
+            String previousType = animal.getType();
             animal.setType(type);
-            return Optional.of(animalRepository.save(animal));
+            AnimalView updated = AnimalView.from(animalRepository.saveAndFlush(animal));
+            groupCountRepository.move(Grouping.ANIMAL_TYPE, previousType, type);
+            return Optional.of(updated);
         }
         return Optional.empty();
     }
-} 
\ No newline at end of file
+}
@@ -1,58 +1,171 @@
 package org.example.service;
 
+import org.example.config.ReadPathProperties;
+import org.example.config.ReadPathProperties.ReadPath;
 import org.example.models.entity.Car;
+import org.example.models.view.GroupCount;
+import org.example.models.view.CarView;
+import org.example.repository.CarJdbcRepository;
+import org.example.repository.GroupCountRepository;
+import org.example.repository.GroupCountRepository.Grouping;
+import org.example.service.ResourceCounters.Resource;
 import org.example.repository.CarRepository;
+import org.example.service.query.FieldType;
+import org.example.service.query.KeysetCursor;
+import org.example.service.query.KeysetPage;
+import org.example.service.query.ListQuery;
+import org.example.service.query.ListQueryEngine;
+import org.example.service.query.QueryField;
+import org.example.service.query.QueryResource;
+import org.example.service.query.TimeRange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 @Service
 public class CarService {
+    private static final QueryResource<Car, CarView> QUERY_RESOURCE = QueryResource.of("car", Car.class, CarView.class,
+            new QueryField("id", FieldType.LONG),
+            new QueryField("brand", FieldType.STRING),
+            new QueryField("createdAt", FieldType.TIMESTAMP),
+            new QueryField("updatedAt", FieldType.TIMESTAMP));
+
     private final CarRepository carRepository;
+    private final CarJdbcRepository carJdbcRepository;
+    private final ReadPathProperties readPathProperties;
+    private final ListQueryEngine listQueryEngine;
+    private final GroupCountRepository groupCountRepository;
+    private final ResourceCounters resourceCounters;
 
-    public CarService(CarRepository carRepository) {
+    public CarService(CarRepository carRepository, CarJdbcRepository carJdbcRepository,
+            ReadPathProperties readPathProperties, ListQueryEngine listQueryEngine,
+            GroupCountRepository groupCountRepository, ResourceCounters resourceCounters) {
         this.carRepository = carRepository;
+        this.carJdbcRepository = carJdbcRepository;
+        this.readPathProperties = readPathProperties;
+        this.listQueryEngine = listQueryEngine;
+        this.groupCountRepository = groupCountRepository;
+        this.resourceCounters = resourceCounters;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CarView> getAll() {
+        return carRepository.findAllProjectedBy();
     }
 
-    public List<Car> getAll() {
-        return carRepository.findAll();
+    @Transactional(readOnly = true)
+    public Optional<CarView> getById(Long id) {
+        if (readPathProperties.getCar().getById() == ReadPath.JDBC) return carJdbcRepository.findById(id);
+        return carRepository.findById(id).map(CarView::from);
     }
 
-    public Optional<Car> getById(Long id) {
-        return carRepository.findById(id);
+    /**
+     * Lookup by id with the creation time as a partition-pruning hint; only the row's month is probed.
+     */
+    @Transactional(readOnly = true)
+    public Optional<CarView> getById(Long id, LocalDateTime createdAt) {
+        if (createdAt == null) return getById(id);
+        TimeRange month = TimeRange.monthOf(createdAt);
+        return carRepository.findByIdCreatedBetween(id, month.from(), month.to());
     }
 
+    @Transactional
     public Car add(String brand) {
         Car car = new Car();
         car.setBrand(brand);
-        return carRepository.save(car);
+        Car saved = carRepository.save(car);
+        groupCountRepository.adjust(Grouping.CAR_BRAND, brand, 1);
+        resourceCounters.adjust(Resource.CAR, 1);
+        return saved;
     }
 
+    @Transactional
     public boolean delete(Long id) {
-        if (carRepository.existsById(id)) {
-            carRepository.deleteById(id);
+        Optional<Car> carOpt = carRepository.findById(id);
+        if (carOpt.isPresent()) {
+            carRepository.delete(carOpt.get());
+            groupCountRepository.adjust(Grouping.CAR_BRAND, carOpt.get().getBrand(), -1);
+            resourceCounters.adjust(Resource.CAR, -1);
             return true;
         }
         return false;
     }
 
-    public List<Car> searchByBrand(String brand) {
-        if (brand == null || brand.isEmpty()) return carRepository.findAll();
-        return carRepository.findByBrandContainingIgnoreCase(brand);
+    @Transactional(readOnly = true)
+    public List<CarView> searchByBrand(String brand) {
+        if (brand == null || brand.isEmpty()) return carRepository.findAllProjectedBy();
+        if (readPathProperties.getCar().getSearch() == ReadPath.JDBC) return carJdbcRepository.findByBrandContainingIgnoreCase(brand);
+        return carRepository.findProjectedByBrandContainingIgnoreCase(brand);
     }
 
-    public List<Car> getPage(int page, int size) {
+    @Transactional(readOnly = true)
+    public List<CarView> getPage(int page, int size) {
         if (size <= 0) return List.of();
-        return carRepository.findAll(org.springframework.data.domain.PageRequest.of(page, size)).getContent();
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (readPathProperties.getCar().getPage() == ReadPath.JDBC) return carJdbcRepository.findPage(page, size);
+        return carRepository.findAllProjectedBy(pageRequest);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<CarView> getCreatedBetween(LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        KeysetPage.checkSize(size);
+        TimeRange range = TimeRange.of(from, to);
+        KeysetCursor after = KeysetCursor.decodeOrStart(cursor, range.from());
+        List<CarView> rows = carRepository.findCreatedBetween(range.from(), range.to(),
+                after.timestamp(), after.id(), Limit.of(size + 1));
+        return KeysetPage.of(rows, size, CarView::createdAt, CarView::id);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<CarView> getUpdatedSince(LocalDateTime since, String cursor, int size) {
+        KeysetPage.checkSize(size);
+        TimeRange range = TimeRange.since(since);
+        KeysetCursor after = KeysetCursor.decodeOrStart(cursor, range.from());
+        List<CarView> rows = carRepository.findUpdatedBetween(range.from(), range.to(),
+                after.timestamp(), after.id(), Limit.of(size + 1));
+        return KeysetPage.of(rows, size, CarView::updatedAt, CarView::id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CarView> query(ListQuery query) {
+        return listQueryEngine.execute(QUERY_RESOURCE, query);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GroupCount> getCountsByBrand() {
+        return groupCountRepository.findAll(Grouping.CAR_BRAND);
+    }
+
+    /**
+     * Exact row count from the maintained counter; never scans the table.
+     */
+    public long count() {
+        return resourceCounters.count(Resource.CAR);
+    }
+
+    /**
+     * Row count for response headers: empty instead of failing while the counter is not seeded yet.
+     */
+    public OptionalLong countIfReady() {
+        return resourceCounters.countIfReady(Resource.CAR);
     }
 
-    public Optional<Car> update(Long id, String brand) {
-        Optional<Car> carOpt = getById(id);
+    @Transactional
+    public Optional<CarView> update(Long id, String brand) {
+        Optional<Car> carOpt = carRepository.findById(id);
         if (carOpt.isPresent()) {
             Car car = carOpt.get();
+            String previousBrand = car.getBrand();
             car.setBrand(brand);
-            return Optional.of(carRepository.save(car));
+            CarView updated = CarView.from(carRepository.saveAndFlush(car));
+            groupCountRepository.move(Grouping.CAR_BRAND, previousBrand, brand);
+            return Optional.of(updated);
         }
         return Optional.empty();
     }
-} 
\ No newline at end of file
+}
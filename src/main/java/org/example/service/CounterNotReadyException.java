@@ -0,0 +1,13 @@
+package org.example.service;
+
+import org.example.service.ResourceCounters.Resource;
+
+/**
+ * Thrown when a row count is requested before its counter has been seeded from the database.
+ */
+public class CounterNotReadyException extends IllegalStateException {
+
+    public CounterNotReadyException(Resource resource) {
+        super("Row count for " + resource.getTable() + " is not available yet");
+    }
+}
@@ -1,58 +1,173 @@
 package org.example.service;
 
+import org.example.config.ReadPathProperties;
+import org.example.config.ReadPathProperties.ReadPath;
 import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
+import org.example.models.view.GroupCount;
+import org.example.repository.GovEmployeeJdbcRepository;
 import org.example.repository.GovEmployeeRepository;
+import org.example.repository.GroupCountRepository;
+import org.example.repository.GroupCountRepository.Grouping;
+import org.example.service.ResourceCounters.Resource;
+import org.example.service.query.FieldType;
+import org.example.service.query.KeysetCursor;
+import org.example.service.query.KeysetPage;
+import org.example.service.query.ListQuery;
+import org.example.service.query.ListQueryEngine;
+import org.example.service.query.QueryField;
+import org.example.service.query.QueryResource;
+import org.example.service.query.TimeRange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 @Service
 public class GovEmployeeService {
+    private static final QueryResource<GovEmployee, GovEmployeeView> QUERY_RESOURCE = QueryResource.of("employee", GovEmployee.class, GovEmployeeView.class,
+            new QueryField("id", FieldType.LONG),
+            new QueryField("name", FieldType.STRING),
+            new QueryField("createdAt", FieldType.TIMESTAMP),
+            new QueryField("updatedAt", FieldType.TIMESTAMP));
+
     private final GovEmployeeRepository govEmployeeRepository;
+    private final GovEmployeeJdbcRepository govEmployeeJdbcRepository;
+    private final ReadPathProperties readPathProperties;
+    private final ListQueryEngine listQueryEngine;
+    private final GroupCountRepository groupCountRepository;
+    private final ResourceCounters resourceCounters;
 
-    public GovEmployeeService(GovEmployeeRepository govEmployeeRepository) {
+    public GovEmployeeService(GovEmployeeRepository govEmployeeRepository, GovEmployeeJdbcRepository govEmployeeJdbcRepository,
+            ReadPathProperties readPathProperties, ListQueryEngine listQueryEngine,
+            GroupCountRepository groupCountRepository, ResourceCounters resourceCounters) {
         this.govEmployeeRepository = govEmployeeRepository;
+        this.govEmployeeJdbcRepository = govEmployeeJdbcRepository;
+        this.readPathProperties = readPathProperties;
+        this.listQueryEngine = listQueryEngine;
+        this.groupCountRepository = groupCountRepository;
+        this.resourceCounters = resourceCounters;
+    }
+
+    @Transactional(readOnly = true)
+    public List<GovEmployeeView> getAll() {
+        return govEmployeeRepository.findAllProjectedBy();
     }
 
-    public List<GovEmployee> getAll() {
-        return govEmployeeRepository.findAll();
+    @Transactional(readOnly = true)
+    public Optional<GovEmployeeView> getById(Long id) {
+        if (readPathProperties.getEmployee().getById() == ReadPath.JDBC) return govEmployeeJdbcRepository.findById(id);
+        return govEmployeeRepository.findById(id).map(GovEmployeeView::from);
     }
 
-    public Optional<GovEmployee> getById(Long id) {
-        return govEmployeeRepository.findById(id);
+    /**
+     * Lookup by id with the creation time as a partition-pruning hint; only the row's month is probed.
+     */
+    @Transactional(readOnly = true)
+    public Optional<GovEmployeeView> getById(Long id, LocalDateTime createdAt) {
+        if (createdAt == null) return getById(id);
+        TimeRange month = TimeRange.monthOf(createdAt);
+        return govEmployeeRepository.findByIdCreatedBetween(id, month.from(), month.to());
     }
 
+    @Transactional
     public GovEmployee add(String name) {
         GovEmployee emp = new GovEmployee();
         emp.setName(name);
-        return govEmployeeRepository.save(emp);
+        GovEmployee saved = govEmployeeRepository.save(emp);
+        groupCountRepository.adjust(Grouping.EMPLOYEE_NAME_INITIAL, GroupCountRepository.nameInitial(name), 1);
+        resourceCounters.adjust(Resource.EMPLOYEE, 1);
+        return saved;
     }
 
+    @Transactional
     public boolean delete(Long id) {
-        if (govEmployeeRepository.existsById(id)) {
-            govEmployeeRepository.deleteById(id);
+        Optional<GovEmployee> empOpt = govEmployeeRepository.findById(id);
+        if (empOpt.isPresent()) {
+            govEmployeeRepository.delete(empOpt.get());
+            groupCountRepository.adjust(Grouping.EMPLOYEE_NAME_INITIAL,
+                    GroupCountRepository.nameInitial(empOpt.get().getName()), -1);
+            resourceCounters.adjust(Resource.EMPLOYEE, -1);
             return true;
         }
         return false;
     }
 
-    public List<GovEmployee> searchByName(String name) {
-        if (name == null || name.isEmpty()) return govEmployeeRepository.findAll();
-        return govEmployeeRepository.findByNameContainingIgnoreCase(name);
+    @Transactional(readOnly = true)
+    public List<GovEmployeeView> searchByName(String name) {
+        if (name == null || name.isEmpty()) return govEmployeeRepository.findAllProjectedBy();
+        if (readPathProperties.getEmployee().getSearch() == ReadPath.JDBC) return govEmployeeJdbcRepository.findByNameContainingIgnoreCase(name);
+        return govEmployeeRepository.findProjectedByNameContainingIgnoreCase(name);
     }
 
-    public List<GovEmployee> getPage(int page, int size) {
+    @Transactional(readOnly = true)
+    public List<GovEmployeeView> getPage(int page, int size) {
         if (size <= 0) return List.of();
-        return govEmployeeRepository.findAll(org.springframework.data.domain.PageRequest.of(page, size)).getContent();
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (readPathProperties.getEmployee().getPage() == ReadPath.JDBC) return govEmployeeJdbcRepository.findPage(page, size);
+        return govEmployeeRepository.findAllProjectedBy(pageRequest);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<GovEmployeeView> getCreatedBetween(LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        KeysetPage.checkSize(size);
+        TimeRange range = TimeRange.of(from, to);
+        KeysetCursor after = KeysetCursor.decodeOrStart(cursor, range.from());
+        List<GovEmployeeView> rows = govEmployeeRepository.findCreatedBetween(range.from(), range.to(),
+                after.timestamp(), after.id(), Limit.of(size + 1));
+        return KeysetPage.of(rows, size, GovEmployeeView::createdAt, GovEmployeeView::id);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<GovEmployeeView> getUpdatedSince(LocalDateTime since, String cursor, int size) {
+        KeysetPage.checkSize(size);
+        TimeRange range = TimeRange.since(since);
+        KeysetCursor after = KeysetCursor.decodeOrStart(cursor, range.from());
+        List<GovEmployeeView> rows = govEmployeeRepository.findUpdatedBetween(range.from(), range.to(),
+                after.timestamp(), after.id(), Limit.of(size + 1));
+        return KeysetPage.of(rows, size, GovEmployeeView::updatedAt, GovEmployeeView::id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GovEmployeeView> query(ListQuery query) {
+        return listQueryEngine.execute(QUERY_RESOURCE, query);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GroupCount> getCountsByNameInitial() {
+        return groupCountRepository.findAll(Grouping.EMPLOYEE_NAME_INITIAL);
+    }
+
+    /**
+     * Exact row count from the maintained counter; never scans the table.
+     */
+    public long count() {
+        return resourceCounters.count(Resource.EMPLOYEE);
+    }
+
+    /**
+     * Row count for response headers: empty instead of failing while the counter is not seeded yet.
+     */
+    public OptionalLong countIfReady() {
+        return resourceCounters.countIfReady(Resource.EMPLOYEE);
     }
 
-    public Optional<GovEmployee> update(Long id, String name) {
-        Optional<GovEmployee> empOpt = getById(id);
+    @Transactional
+    public Optional<GovEmployeeView> update(Long id, String name) {
+        Optional<GovEmployee> empOpt = govEmployeeRepository.findById(id);
         if (empOpt.isPresent()) {
             GovEmployee emp = empOpt.get();
+            String previousName = emp.getName();
             emp.setName(name);
-            return Optional.of(govEmployeeRepository.save(emp));
+            GovEmployeeView updated = GovEmployeeView.from(govEmployeeRepository.saveAndFlush(emp));
+            groupCountRepository.move(Grouping.EMPLOYEE_NAME_INITIAL,
+                    GroupCountRepository.nameInitial(previousName), GroupCountRepository.nameInitial(name));
+            return Optional.of(updated);
         }
         return Optional.empty();
     }
-} 
\ No newline at end of file
+}
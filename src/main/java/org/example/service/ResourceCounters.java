@@ -0,0 +1,256 @@
+package org.example.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * In-memory row counts per table, adjusted after each committed service write and periodically
+ * reconciled against COUNT(*) so that count requests never touch the database. A counter is seeded while service
+ * commits to its table are held back; until then {@link #count} throws {@link CounterNotReadyException}.
+ */
+@Component
+public class ResourceCounters {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceCounters.class);
+    private static final int INITIALIZE_ATTEMPTS = 3;
+
+    public enum Resource {
+        CAR("car"),
+        ANIMAL("animal"),
+        EMPLOYEE("gov_employee");
+
+        private final String table;
+
+        Resource(String table) {
+            this.table = table;
+        }
+
+        public String getTable() {
+            return table;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Resource, Counter> counters = new EnumMap<>(Resource.class);
+
+    public ResourceCounters(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (Resource resource : Resource.values()) {
+            counters.put(resource, new Counter());
+        }
+    }
+
+    /**
+     * Current row count from memory.
+     * @throws CounterNotReadyException if the counter has not been seeded yet
+     */
+    public long count(Resource resource) {
+        Counter counter = counters.get(resource);
+        if (!counter.isInitialized()) {
+            throw new CounterNotReadyException(resource);
+        }
+        return counter.value();
+    }
+
+    /**
+     * Current row count from memory, or empty while the counter has not been seeded.
+     */
+    public OptionalLong countIfReady(Resource resource) {
+        Counter counter = counters.get(resource);
+        return counter.isInitialized() ? OptionalLong.of(counter.value()) : OptionalLong.empty();
+    }
+
+    /**
+     * Apply a delta once the surrounding transaction commits, or immediately when there is none.
+     */
+    public void adjust(Resource resource, long delta) {
+        Counter counter = counters.get(resource);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.apply(delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                counter.enterCommit();
+                committing = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                counter.apply(delta);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (committing) {
+                    counter.exitCommit();
+                }
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcileAll();
+    }
+
+    @Scheduled(fixedDelayString = "${app.counters.reconcile-interval-ms:300000}",
+               initialDelayString = "${app.counters.reconcile-interval-ms:300000}")
+    public void reconcileAll() {
+        for (Resource resource : Resource.values()) {
+            if (!counters.get(resource).isInitialized()) {
+                seed(resource);
+            } else if (!reconcile(resource)) {
+                logger.debug("Skipped reconciling {} counter, writes were committing", resource);
+            }
+        }
+    }
+
+    /**
+     * Replace the counter with COUNT(*) unless a write committed while counting; such a round is skipped
+     * rather than risking a double-counted or lost delta.
+     */
+    boolean reconcile(Resource resource) {
+        Counter counter = counters.get(resource);
+        long writesBefore = counter.writes();
+        if (counter.inFlight() > 0) {
+            return false;
+        }
+        long actual = countRows(resource);
+        if (counter.inFlight() > 0) {
+            return false;
+        }
+        long previous = counter.resetIfUnchanged(writesBefore, actual);
+        if (previous == Counter.CHANGED) {
+            return false;
+        }
+        if (previous != Counter.UNINITIALIZED && previous != actual) {
+            logger.warn("Row counter for {} drifted from {} to {}, corrected", resource, previous, actual);
+        }
+        return true;
+    }
+
+    /**
+     * First COUNT(*) of a table. Service commits that would move the counter wait until it is done, so the count and
+     * the deltas cannot overlap; only writes applied outside a transaction can force a retry.
+     */
+    boolean seed(Resource resource) {
+        Counter counter = counters.get(resource);
+        counter.holdCommits();
+        try {
+            for (int attempt = 0; attempt < INITIALIZE_ATTEMPTS; attempt++) {
+                long writesBefore = counter.writes();
+                if (counter.resetIfUnchanged(writesBefore, countRows(resource)) != Counter.CHANGED) {
+                    return true;
+                }
+            }
+            logger.warn("Could not seed {} counter, writes kept changing it; counts stay unavailable", resource);
+            return false;
+        } finally {
+            counter.releaseCommits();
+        }
+    }
+
+    private long countRows(Resource resource) {
+        Long actual = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + resource.getTable(), Long.class);
+        return actual != null ? actual : 0L;
+    }
+
+    private static final class Counter {
+        static final long CHANGED = Long.MIN_VALUE;
+        static final long UNINITIALIZED = Long.MIN_VALUE + 1;
+
+        private int inFlight;
+        private boolean commitsHeld;
+        private long value;
+        private long writes;
+        private boolean initialized;
+
+        synchronized void enterCommit() {
+            boolean interrupted = false;
+            while (commitsHeld) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            inFlight++;
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized void exitCommit() {
+            inFlight--;
+            notifyAll();
+        }
+
+        synchronized int inFlight() {
+            return inFlight;
+        }
+
+        /**
+         * Stop new commits from entering and wait for the ones already committing to finish.
+         */
+        synchronized void holdCommits() {
+            commitsHeld = true;
+            boolean interrupted = false;
+            while (inFlight > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized void releaseCommits() {
+            commitsHeld = false;
+            notifyAll();
+        }
+
+        synchronized void apply(long delta) {
+            value += delta;
+            writes++;
+        }
+
+        synchronized long value() {
+            return value;
+        }
+
+        synchronized long writes() {
+            return writes;
+        }
+
+        synchronized boolean isInitialized() {
+            return initialized;
+        }
+
+        synchronized long resetIfUnchanged(long writesBefore, long actual) {
+            if (writes != writesBefore) {
+                return CHANGED;
+            }
+            long previous = initialized ? value : UNINITIALIZED;
+            value = actual;
+            initialized = true;
+            return previous;
+        }
+    }
+}
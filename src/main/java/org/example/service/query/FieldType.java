@@ -0,0 +1,29 @@
+package org.example.service.query;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Value type of a queryable attribute, deciding which operators apply and how raw values are parsed.
+ */
+public enum FieldType {
+    LONG,
+    STRING,
+    TIMESTAMP;
+
+    public Comparable<?> parse(String field, String raw) {
+        try {
+            return switch (this) {
+                case LONG -> Long.parseLong(raw);
+                case STRING -> raw;
+                case TIMESTAMP -> LocalDateTime.parse(raw);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid value '" + raw + "' for field '" + field + "'");
+        }
+    }
+
+    public boolean supports(FilterOperator operator) {
+        return operator != FilterOperator.PREFIX || this == STRING;
+    }
+}
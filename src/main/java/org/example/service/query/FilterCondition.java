@@ -0,0 +1,30 @@
+package org.example.service.query;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One parsed filter term, {@code field:operator:value}; IN takes a comma-separated value list.
+ */
+public record FilterCondition(String field, FilterOperator operator, List<String> values) {
+    static final int MAX_IN_VALUES = 1000;
+
+    public static FilterCondition parse(String term) {
+        String[] parts = term.split(":", 3);
+        if (parts.length < 3 || parts[0].isBlank() || parts[2].isEmpty()) {
+            throw new IllegalArgumentException("Filter must look like field:operator:value but was: " + term);
+        }
+        FilterOperator operator = FilterOperator.fromToken(parts[1]);
+        List<String> values = operator == FilterOperator.IN
+                ? Arrays.stream(parts[2].split(",")).map(String::trim).filter(v -> !v.isEmpty()).toList()
+                : List.of(parts[2]);
+        if (values.isEmpty() || values.size() > MAX_IN_VALUES) {
+            throw new IllegalArgumentException("IN filter needs between 1 and " + MAX_IN_VALUES + " values: " + term);
+        }
+        return new FilterCondition(parts[0], operator, values);
+    }
+
+    String shape() {
+        return field + ":" + operator.token();
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.service.query;
+
+import java.util.Arrays;
+
+/**
+ * Filter operators of the list query language, grouped by the kind of index access they need.
+ */
+public enum FilterOperator {
+    EQ("eq", "eq"),
+    PREFIX("prefix", "prefix"),
+    GT("gt", "range"),
+    GTE("gte", "range"),
+    LT("lt", "range"),
+    LTE("lte", "range"),
+    IN("in", "in");
+
+    private final String token;
+    private final String accessPath;
+
+    FilterOperator(String token, String accessPath) {
+        this.token = token;
+        this.accessPath = accessPath;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    /**
+     * Operator class used in allow-list entries, e.g. all of gt/gte/lt/lte are "range".
+     */
+    public String accessPath() {
+        return accessPath;
+    }
+
+    public static FilterOperator fromToken(String token) {
+        return Arrays.stream(values())
+                .filter(operator -> operator.token.equalsIgnoreCase(token))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown filter operator: " + token));
+    }
+}
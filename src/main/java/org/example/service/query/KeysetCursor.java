@@ -0,0 +1,42 @@
+package org.example.service.query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a (timestamp, id) ordered page, exchanged with clients as an opaque token.
+ */
+public record KeysetCursor(LocalDateTime timestamp, long id) {
+
+    /**
+     * Cursor positioned before every row at or after the given timestamp.
+     */
+    public static KeysetCursor startingAt(LocalDateTime timestamp) {
+        return new KeysetCursor(timestamp, 0L);
+    }
+
+    /**
+     * Decode a client token, or start at the given timestamp when no token was sent.
+     */
+    public static KeysetCursor decodeOrStart(String token, LocalDateTime start) {
+        if (token == null || token.isBlank()) {
+            return startingAt(start);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            KeysetCursor cursor = new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+            return cursor.timestamp().isBefore(start) ? startingAt(start) : cursor;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
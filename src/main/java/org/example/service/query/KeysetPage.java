@@ -0,0 +1,32 @@
+package org.example.service.query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated query and the cursor to continue from, null on the last page.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 1000;
+
+    public static void checkSize(int size) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_SIZE);
+        }
+    }
+
+    /**
+     * Build a page from rows fetched with a limit of size + 1; the extra row only signals that more exist.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, LocalDateTime> timestamp,
+                                       Function<T, Long> id) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        T last = items.get(size - 1);
+        return new KeysetPage<>(items, new KeysetCursor(timestamp.apply(last), id.apply(last)).encode());
+    }
+}
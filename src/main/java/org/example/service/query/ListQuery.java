@@ -0,0 +1,47 @@
+package org.example.service.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Parsed filter and sort query against a list endpoint.
+ */
+public record ListQuery(List<FilterCondition> filters, List<SortKey> sort, int page, int size) {
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 1000;
+    static final int MAX_FILTERS = 10;
+
+    public static ListQuery parse(List<String> filters, List<String> sort, Integer page, Integer size) {
+        List<String> filterTerms = filters != null ? filters : List.of();
+        List<String> sortTerms = sort != null ? sort : List.of();
+        int pageNumber = page != null ? page : 0;
+        int pageSize = size != null ? size : DEFAULT_SIZE;
+        if (filterTerms.size() > MAX_FILTERS) {
+            throw new IllegalArgumentException("At most " + MAX_FILTERS + " filters are allowed");
+        }
+        if (pageNumber < 0 || pageSize <= 0 || pageSize > MAX_SIZE) {
+            throw new IllegalArgumentException("Page must be >= 0 and size must be between 1 and " + MAX_SIZE);
+        }
+        if ((long) pageNumber * pageSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Page " + pageNumber + " of size " + pageSize + " starts beyond row "
+                    + Integer.MAX_VALUE);
+        }
+        return new ListQuery(filterTerms.stream().map(FilterCondition::parse).toList(),
+                sortTerms.stream().map(SortKey::parse).toList(), pageNumber, pageSize);
+    }
+
+    /**
+     * Index of the first row of the page.
+     */
+    public int offset() {
+        return Math.multiplyExact(page, size);
+    }
+
+    /**
+     * Fields, operators and sort keys without values; queries with the same shape share a compiled plan.
+     */
+    public String shape() {
+        return filters.stream().map(FilterCondition::shape).collect(Collectors.joining(","))
+                + "|" + sort.stream().map(SortKey::shape).collect(Collectors.joining(","));
+    }
+}
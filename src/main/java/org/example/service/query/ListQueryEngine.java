@@ -0,0 +1,105 @@
+package org.example.service.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.example.config.QueryProperties;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compiles list queries into JPA Specifications, caches the plans by shape and runs them as view projections.
+ */
+@Component
+public class ListQueryEngine {
+    private final EntityManager entityManager;
+    private final QueryProperties queryProperties;
+    private final QueryPlanCache planCache;
+
+    public ListQueryEngine(EntityManager entityManager, QueryProperties queryProperties) {
+        this.entityManager = entityManager;
+        this.queryProperties = queryProperties;
+        this.planCache = new QueryPlanCache(queryProperties.getPlanCacheSize());
+    }
+
+    /**
+     * Run the query against the resource, selecting straight into its view record.
+     *
+     * @throws IllegalArgumentException if the query is malformed or its shape is not on the allow-list
+     */
+    public <E, V> List<V> execute(QueryResource<E, V> resource, ListQuery query) {
+        QueryPlan<E> plan = planCache.get(resource.name() + "|" + query.shape(), () -> compile(resource, query));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<V> criteriaQuery = cb.createQuery(resource.viewType());
+        Root<E> root = criteriaQuery.from(resource.entityType());
+        criteriaQuery.select(cb.construct(resource.viewType(),
+                resource.viewAttributes().stream().map(root::get).toArray(Selection[]::new)));
+        criteriaQuery.where(plan.bind(query).toPredicate(root, criteriaQuery, cb));
+        criteriaQuery.orderBy(QueryUtils.toOrders(plan.sort(), root, cb));
+        return entityManager.createQuery(criteriaQuery)
+                .setFirstResult(query.offset())
+                .setMaxResults(query.size())
+                .getResultList();
+    }
+
+    public long getPlanCacheHits() {
+        return planCache.hits();
+    }
+
+    public long getPlanCacheMisses() {
+        return planCache.misses();
+    }
+
+    public int getPlanCacheSize() {
+        return planCache.size();
+    }
+
+    private <E, V> QueryPlan<E> compile(QueryResource<E, V> resource, ListQuery query) {
+        Set<String> allowed = Set.copyOf(queryProperties.getAllowList().getOrDefault(resource.name(), List.of()));
+        List<FieldType> types = new ArrayList<>();
+        List<QueryPlan.PredicateTemplate<E>> templates = new ArrayList<>();
+        boolean indexable = false;
+        for (FilterCondition filter : query.filters()) {
+            QueryField field = field(resource, filter.field());
+            if (!field.type().supports(filter.operator())) {
+                throw new IllegalArgumentException("Operator '" + filter.operator().token()
+                        + "' is not supported on field '" + field.name() + "'");
+            }
+            indexable |= allowed.contains(field.name() + ":" + filter.operator().accessPath());
+            types.add(field.type());
+            templates.add(QueryPlan.template(field.name(), filter.operator()));
+        }
+
+        List<Sort.Order> orders = new ArrayList<>();
+        for (SortKey key : query.sort()) {
+            orders.add(new Sort.Order(key.direction(), field(resource, key.field()).name()));
+        }
+        if (query.filters().isEmpty()) {
+            indexable = orders.isEmpty() || allowed.contains("sort:" + orders.get(0).getProperty());
+        }
+        if (!indexable) {
+            throw new IllegalArgumentException("Query shape '" + query.shape() + "' on " + resource.name()
+                    + " cannot use an index; allowed: " + allowed);
+        }
+        if (orders.stream().noneMatch(order -> order.getProperty().equals("id"))) {
+            orders.add(Sort.Order.asc("id"));
+        }
+        return new QueryPlan<>(types, templates, Sort.by(orders));
+    }
+
+    private static QueryField field(QueryResource<?, ?> resource, String name) {
+        QueryField field = resource.fields().get(name);
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown field '" + name + "'; queryable fields: " + resource.fields().keySet());
+        }
+        return field;
+    }
+}
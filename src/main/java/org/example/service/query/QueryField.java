@@ -0,0 +1,7 @@
+package org.example.service.query;
+
+/**
+ * Entity attribute exposed to the list query language.
+ */
+public record QueryField(String name, FieldType type) {
+}
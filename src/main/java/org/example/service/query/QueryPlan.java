@@ -0,0 +1,70 @@
+package org.example.service.query;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled form of one query shape: a predicate template per filter and the resolved sort.
+ * Values are bound per execution, so one plan serves every query with the same shape.
+ */
+final class QueryPlan<E> {
+    private final List<FieldType> types;
+    private final List<PredicateTemplate<E>> templates;
+    private final Sort sort;
+
+    QueryPlan(List<FieldType> types, List<PredicateTemplate<E>> templates, Sort sort) {
+        this.types = List.copyOf(types);
+        this.templates = List.copyOf(templates);
+        this.sort = sort;
+    }
+
+    Sort sort() {
+        return sort;
+    }
+
+    Specification<E> bind(ListQuery query) {
+        List<List<Comparable<?>>> values = new ArrayList<>();
+        for (int i = 0; i < templates.size(); i++) {
+            FilterCondition filter = query.filters().get(i);
+            FieldType type = types.get(i);
+            values.add(filter.values().stream().<Comparable<?>>map(raw -> type.parse(filter.field(), raw)).toList());
+        }
+        return (root, criteriaQuery, cb) -> {
+            Predicate[] predicates = new Predicate[templates.size()];
+            for (int i = 0; i < predicates.length; i++) {
+                predicates[i] = templates.get(i).toPredicate(root, cb, values.get(i));
+            }
+            return cb.and(predicates);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <E> PredicateTemplate<E> template(String attribute, FilterOperator operator) {
+        return switch (operator) {
+            case EQ -> (root, cb, values) -> cb.equal(root.get(attribute), values.get(0));
+            case PREFIX -> (root, cb, values) ->
+                    cb.like(root.<String>get(attribute), escapeLike((String) values.get(0)) + "%", '\\');
+            case GT -> (root, cb, values) -> cb.greaterThan((Expression) root.get(attribute), (Comparable) values.get(0));
+            case GTE -> (root, cb, values) -> cb.greaterThanOrEqualTo((Expression) root.get(attribute), (Comparable) values.get(0));
+            case LT -> (root, cb, values) -> cb.lessThan((Expression) root.get(attribute), (Comparable) values.get(0));
+            case LTE -> (root, cb, values) -> cb.lessThanOrEqualTo((Expression) root.get(attribute), (Comparable) values.get(0));
+            case IN -> (root, cb, values) -> root.get(attribute).in(values);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @FunctionalInterface
+    interface PredicateTemplate<E> {
+        Predicate toPredicate(Root<E> root, CriteriaBuilder cb, List<Comparable<?>> values);
+    }
+}
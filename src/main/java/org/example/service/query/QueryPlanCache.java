@@ -0,0 +1,55 @@
+package org.example.service.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of compiled query plans keyed by resource and query shape.
+ */
+final class QueryPlanCache {
+    private final Map<String, QueryPlan<?>> plans;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    QueryPlanCache(int maxSize) {
+        this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, QueryPlan<?>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> QueryPlan<E> get(String key, Supplier<QueryPlan<E>> compiler) {
+        synchronized (plans) {
+            QueryPlan<E> plan = (QueryPlan<E>) plans.get(key);
+            if (plan != null) {
+                hits.incrementAndGet();
+                return plan;
+            }
+        }
+        misses.incrementAndGet();
+        QueryPlan<E> compiled = compiler.get();
+        synchronized (plans) {
+            plans.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    int size() {
+        synchronized (plans) {
+            return plans.size();
+        }
+    }
+}
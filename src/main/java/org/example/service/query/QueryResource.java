@@ -0,0 +1,23 @@
+package org.example.service.query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queryable entity: its allow-list key, entity and view types, and the fields in view constructor order.
+ */
+public record QueryResource<E, V>(String name, Class<E> entityType, Class<V> viewType, Map<String, QueryField> fields) {
+
+    public static <E, V> QueryResource<E, V> of(String name, Class<E> entityType, Class<V> viewType, QueryField... fields) {
+        Map<String, QueryField> byName = new LinkedHashMap<>();
+        for (QueryField field : fields) {
+            byName.put(field.name(), field);
+        }
+        return new QueryResource<>(name, entityType, viewType, byName);
+    }
+
+    public List<String> viewAttributes() {
+        return List.copyOf(fields.keySet());
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.service.query;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * One sort term, {@code field} or {@code field:asc|desc}.
+ */
+public record SortKey(String field, Sort.Direction direction) {
+
+    public static SortKey parse(String term) {
+        String[] parts = term.split(":", 2);
+        if (parts[0].isBlank()) {
+            throw new IllegalArgumentException("Sort must look like field[:asc|desc] but was: " + term);
+        }
+        Sort.Direction direction = parts.length == 1 ? Sort.Direction.ASC : Sort.Direction.fromOptionalString(parts[1])
+                .orElseThrow(() -> new IllegalArgumentException("Unknown sort direction: " + parts[1]));
+        return new SortKey(parts[0], direction);
+    }
+
+    String shape() {
+        return field + ":" + direction.name().toLowerCase();
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.service.query;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * Half-open [from, to) window over an audit timestamp; open ends default to the DATETIME limits.
+ */
+public record TimeRange(LocalDateTime from, LocalDateTime to) {
+    public static final LocalDateTime MIN = LocalDateTime.of(1000, 1, 1, 0, 0);
+    public static final LocalDateTime MAX = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    public static TimeRange of(LocalDateTime from, LocalDateTime to) {
+        TimeRange range = new TimeRange(from != null ? from : MIN, to != null ? to : MAX);
+        if (!range.from().isBefore(range.to())) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+        return range;
+    }
+
+    public static TimeRange since(LocalDateTime since) {
+        if (since == null) {
+            throw new IllegalArgumentException("updatedSince is required");
+        }
+        return new TimeRange(since, MAX);
+    }
+
+    /**
+     * The calendar month containing the timestamp, matching one monthly created_at partition.
+     */
+    public static TimeRange monthOf(LocalDateTime timestamp) {
+        YearMonth month = YearMonth.from(timestamp);
+        return new TimeRange(month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+    }
+}
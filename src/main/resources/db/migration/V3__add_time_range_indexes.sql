@@ -0,0 +1,9 @@
+-- Composite indexes backing created_at / updated_at range queries with keyset continuation on (timestamp, id)
+CREATE INDEX idx_animal_created_at_id ON animal(created_at, id);
+CREATE INDEX idx_animal_updated_at_id ON animal(updated_at, id);
+
+CREATE INDEX idx_car_created_at_id ON car(created_at, id);
+CREATE INDEX idx_car_updated_at_id ON car(updated_at, id);
+
+CREATE INDEX idx_gov_employee_created_at_id ON gov_employee(created_at, id);
+CREATE INDEX idx_gov_employee_updated_at_id ON gov_employee(updated_at, id);
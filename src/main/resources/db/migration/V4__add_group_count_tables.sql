@@ -0,0 +1,26 @@
+-- Summary tables maintained by the services in the same transaction as each write,
+-- so group-by dashboards read a handful of rows instead of scanning the base tables
+CREATE TABLE IF NOT EXISTS car_brand_count (
+    brand VARCHAR(255) NOT NULL PRIMARY KEY,
+    row_count BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS animal_type_count (
+    type VARCHAR(255) NOT NULL PRIMARY KEY,
+    row_count BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS gov_employee_name_initial_count (
+    name_initial VARCHAR(1) NOT NULL PRIMARY KEY,
+    row_count BIGINT NOT NULL
+);
+
+-- Backfill from existing rows
+INSERT INTO car_brand_count (brand, row_count)
+SELECT brand, COUNT(*) FROM car WHERE brand IS NOT NULL GROUP BY brand;
+
+INSERT INTO animal_type_count (type, row_count)
+SELECT type, COUNT(*) FROM animal WHERE type IS NOT NULL GROUP BY type;
+
+INSERT INTO gov_employee_name_initial_count (name_initial, row_count)
+SELECT UPPER(LEFT(name, 1)), COUNT(*) FROM gov_employee WHERE name IS NOT NULL AND name <> '' GROUP BY UPPER(LEFT(name, 1));
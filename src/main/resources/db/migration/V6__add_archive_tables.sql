@@ -0,0 +1,28 @@
+-- Cold rows moved out of the hot tables by ArchivalJob; same columns plus the time the row was archived.
+-- id is kept from the source row, so it is unique here without AUTO_INCREMENT.
+CREATE TABLE IF NOT EXISTS animal_archive (
+    id BIGINT NOT NULL PRIMARY KEY,
+    type VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_animal_archive_created_at (created_at)
+);
+
+CREATE TABLE IF NOT EXISTS car_archive (
+    id BIGINT NOT NULL PRIMARY KEY,
+    brand VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_car_archive_created_at (created_at)
+);
+
+CREATE TABLE IF NOT EXISTS gov_employee_archive (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_gov_employee_archive_created_at (created_at)
+);
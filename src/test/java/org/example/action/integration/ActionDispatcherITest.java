@@ -48,7 +48,7 @@ public class ActionDispatcherITest extends IntegrationTestBase {
         assertThat(response).isNotNull();
         assertThat(response.isSuccess()).isTrue();
         assertThat(response.getCars()).isNotEmpty();
-        assertThat(response.getCars().get(0).getBrand()).isEqualTo("Test Car");
+        assertThat(response.getCars().get(0).brand()).isEqualTo("Test Car");
     }
 
     @Test
@@ -63,8 +63,8 @@ public class ActionDispatcherITest extends IntegrationTestBase {
         assertThat(response).isNotNull();
         assertThat(response.isSuccess()).isTrue();
         assertThat(response.getCar()).isNotNull();
-        assertThat(response.getCar().getId()).isEqualTo(testCarId);
-        assertThat(response.getCar().getBrand()).isEqualTo("Test Car");
+        assertThat(response.getCar().id()).isEqualTo(testCarId);
+        assertThat(response.getCar().brand()).isEqualTo("Test Car");
     }
 
     @Test
@@ -3,7 +3,7 @@ package org.example.action.unit;
 import org.example.action.animal.GetAllAnimalsAction;
 import org.example.action.animal.request.GetAllAnimalsRequest;
 import org.example.action.animal.response.GetAllAnimalsResponse;
-import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
 import org.example.service.AnimalService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,17 +27,14 @@ class GetAllAnimalsActionUTest {
     @InjectMocks
     private GetAllAnimalsAction getAllAnimalsAction;
 
-    private Animal createMockAnimal(Long id, String type) {
-        Animal animal = new Animal();
-        animal.setId(id);
-        animal.setType(type);
-        return animal;
+    private AnimalView createMockAnimal(Long id, String type) {
+        return new AnimalView(id, type, null, null);
     }
 
     @Test
     void execute_shouldReturnAllAnimals_whenAnimalsExist() {
         // Given
-        List<Animal> mockAnimals = Arrays.asList(
+        List<AnimalView> mockAnimals = Arrays.asList(
                 createMockAnimal(1L, "Dog"),
                 createMockAnimal(2L, "Cat"),
                 createMockAnimal(3L, "Bird")
@@ -51,9 +48,9 @@ class GetAllAnimalsActionUTest {
         // Then
         assertThat(response.isSuccess()).isTrue();
         assertThat(response.getAnimals()).hasSize(3);
-        assertThat(response.getAnimals().get(0).getType()).isEqualTo("Dog");
-        assertThat(response.getAnimals().get(1).getType()).isEqualTo("Cat");
-        assertThat(response.getAnimals().get(2).getType()).isEqualTo("Bird");
+        assertThat(response.getAnimals().get(0).type()).isEqualTo("Dog");
+        assertThat(response.getAnimals().get(1).type()).isEqualTo("Cat");
+        assertThat(response.getAnimals().get(2).type()).isEqualTo("Bird");
         assertThat(response.getMessage()).isNull();
         verify(animalService).getAll();
     }
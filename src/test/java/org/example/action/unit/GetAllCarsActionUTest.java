@@ -3,7 +3,7 @@ package org.example.action.unit;
 import org.example.action.car.GetAllCarsAction;
 import org.example.action.car.request.GetAllCarsRequest;
 import org.example.action.car.response.GetAllCarsResponse;
-import org.example.models.entity.Car;
+import org.example.models.view.CarView;
 import org.example.service.CarService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,9 +29,9 @@ class GetAllCarsActionUTest {
     @Test
     void execute_shouldReturnAllCars_whenServiceReturnsData() {
         // Given
-        List<Car> expectedCars = Arrays.asList(
-            new Car(1L, "Toyota"),
-            new Car(2L, "BMW")
+        List<CarView> expectedCars = Arrays.asList(
+            new CarView(1L, "Toyota", null, null),
+            new CarView(2L, "BMW", null, null)
         );
         when(carService.getAll()).thenReturn(expectedCars);
         GetAllCarsRequest request = new GetAllCarsRequest();
@@ -49,7 +49,7 @@ class GetAllCarsActionUTest {
     @Test
     void execute_shouldReturnEmptyList_whenServiceReturnsEmptyList() {
         // Given
-        List<Car> emptyCars = List.of();
+        List<CarView> emptyCars = List.of();
         when(carService.getAll()).thenReturn(emptyCars);
         GetAllCarsRequest request = new GetAllCarsRequest();
 
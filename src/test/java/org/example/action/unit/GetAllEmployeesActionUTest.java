@@ -3,7 +3,7 @@ package org.example.action.unit;
 import org.example.action.govemployee.GetAllEmployeesAction;
 import org.example.action.govemployee.request.GetAllEmployeesRequest;
 import org.example.action.govemployee.response.GetAllEmployeesResponse;
-import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
 import org.example.service.GovEmployeeService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,17 +28,14 @@ class GetAllEmployeesActionUTest {
     @InjectMocks
     private GetAllEmployeesAction getAllEmployeesAction;
 
-    private GovEmployee createMockEmployee(Long id, String name) {
-        GovEmployee employee = new GovEmployee();
-        employee.setId(id);
-        employee.setName(name);
-        return employee;
+    private GovEmployeeView createMockEmployee(Long id, String name) {
+        return new GovEmployeeView(id, name, null, null);
     }
 
     @Test
     void execute_shouldReturnAllEmployees_whenEmployeesExist() {
         // Given
-        List<GovEmployee> mockEmployees = Arrays.asList(
+        List<GovEmployeeView> mockEmployees = Arrays.asList(
                 createMockEmployee(1L, "Alice Johnson"),
                 createMockEmployee(2L, "Bob Smith"),
                 createMockEmployee(3L, "Charlie Brown")
@@ -52,9 +49,9 @@ class GetAllEmployeesActionUTest {
         // Then
         assertThat(response.isSuccess()).isTrue();
         assertThat(response.getEmployees()).hasSize(3);
-        assertThat(response.getEmployees().get(0).getName()).isEqualTo("Alice Johnson");
-        assertThat(response.getEmployees().get(1).getName()).isEqualTo("Bob Smith");
-        assertThat(response.getEmployees().get(2).getName()).isEqualTo("Charlie Brown");
+        assertThat(response.getEmployees().get(0).name()).isEqualTo("Alice Johnson");
+        assertThat(response.getEmployees().get(1).name()).isEqualTo("Bob Smith");
+        assertThat(response.getEmployees().get(2).name()).isEqualTo("Charlie Brown");
         verify(govEmployeeService).getAll();
     }
 
@@ -3,7 +3,7 @@ package org.example.action.unit;
 import org.example.action.animal.GetAnimalByIdAction;
 import org.example.action.animal.request.GetAnimalByIdRequest;
 import org.example.action.animal.response.GetAnimalByIdResponse;
-import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
 import org.example.service.AnimalService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,18 +26,15 @@ class GetAnimalByIdActionUTest {
     @InjectMocks
     private GetAnimalByIdAction getAnimalByIdAction;
 
-    private Animal createMockAnimal(Long id, String type) {
-        Animal animal = new Animal();
-        animal.setId(id);
-        animal.setType(type);
-        return animal;
+    private AnimalView createMockAnimal(Long id, String type) {
+        return new AnimalView(id, type, null, null);
     }
 
     @Test
     void execute_shouldReturnAnimal_whenAnimalExists() {
         // Given
         Long animalId = 1L;
-        Animal mockAnimal = createMockAnimal(animalId, "Dog");
+        AnimalView mockAnimal = createMockAnimal(animalId, "Dog");
         when(animalService.getById(animalId)).thenReturn(Optional.of(mockAnimal));
         GetAnimalByIdRequest request = new GetAnimalByIdRequest(animalId);
 
@@ -47,8 +44,8 @@ class GetAnimalByIdActionUTest {
         // Then
         assertThat(response.isSuccess()).isTrue();
         assertThat(response.getAnimal()).isNotNull();
-        assertThat(response.getAnimal().getId()).isEqualTo(animalId);
-        assertThat(response.getAnimal().getType()).isEqualTo("Dog");
+        assertThat(response.getAnimal().id()).isEqualTo(animalId);
+        assertThat(response.getAnimal().type()).isEqualTo("Dog");
         assertThat(response.getMessage()).isNull();
         verify(animalService).getById(animalId);
     }
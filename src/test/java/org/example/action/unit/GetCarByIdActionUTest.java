@@ -3,7 +3,7 @@ package org.example.action.unit;
 import org.example.action.car.GetCarByIdAction;
 import org.example.action.car.request.GetCarByIdRequest;
 import org.example.action.car.response.GetCarByIdResponse;
-import org.example.models.entity.Car;
+import org.example.models.view.CarView;
 import org.example.service.CarService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +31,7 @@ class GetCarByIdActionUTest {
 
     @ParameterizedTest(name = "Get car by ID: {0}")
     @MethodSource("getCarByIdData")
-    void execute_shouldHandleVariousScenarios(String testName, Long carId, Optional<Car> serviceResult, boolean expectedSuccess, String expectedBrand, String expectedMessage) {
+    void execute_shouldHandleVariousScenarios(String testName, Long carId, Optional<CarView> serviceResult, boolean expectedSuccess, String expectedBrand, String expectedMessage) {
         // Given
         when(carService.getById(carId)).thenReturn(serviceResult);
         GetCarByIdRequest request = new GetCarByIdRequest(carId);
@@ -43,7 +43,7 @@ class GetCarByIdActionUTest {
         assertThat(response.isSuccess()).isEqualTo(expectedSuccess);
         if (expectedSuccess) {
             assertThat(response.getCar()).isNotNull();
-            assertThat(response.getCar().getBrand()).isEqualTo(expectedBrand);
+            assertThat(response.getCar().brand()).isEqualTo(expectedBrand);
             assertThat(response.getMessage()).isNull();
         } else {
             assertThat(response.getCar()).isNull();
@@ -54,7 +54,7 @@ class GetCarByIdActionUTest {
 
     static Stream<Arguments> getCarByIdData() {
         return Stream.of(
-            Arguments.of("Car exists", 1L, Optional.of(new Car(1L, "Toyota")), true, "Toyota", null),
+            Arguments.of("Car exists", 1L, Optional.of(new CarView(1L, "Toyota", null, null)), true, "Toyota", null),
             Arguments.of("Car does not exist", 999L, Optional.empty(), false, null, "Car not found with id: 999")
         );
     }
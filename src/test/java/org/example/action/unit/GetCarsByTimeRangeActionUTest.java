@@ -0,0 +1,77 @@
+package org.example.action.unit;
+
+import org.example.action.car.GetCarsByTimeRangeAction;
+import org.example.action.car.request.GetCarsByTimeRangeRequest;
+import org.example.action.car.response.GetCarsByTimeRangeResponse;
+import org.example.models.view.CarView;
+import org.example.service.CarService;
+import org.example.service.query.KeysetPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCarsByTimeRangeActionUTest {
+
+    @Mock
+    private CarService carService;
+
+    @InjectMocks
+    private GetCarsByTimeRangeAction getCarsByTimeRangeAction;
+
+    @Test
+    void execute_shouldReturnPageAndCursor_whenUpdatedSinceProvided() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<CarView> cars = List.of(new CarView(1L, "BMW", since, since.plusHours(1)));
+        when(carService.getUpdatedSince(since, null, KeysetPage.DEFAULT_SIZE)).thenReturn(new KeysetPage<>(cars, "next"));
+        GetCarsByTimeRangeRequest request = new GetCarsByTimeRangeRequest(null, null, since, null, null);
+
+        // When
+        GetCarsByTimeRangeResponse response = getCarsByTimeRangeAction.execute(request);
+
+        // Then
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getCars()).containsExactlyElementsOf(cars);
+        assertThat(response.getNextCursor()).isEqualTo("next");
+    }
+
+    @Test
+    void execute_shouldReturnInvalidParameters_whenCreatedRangeAndUpdatedSinceAreCombined() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        GetCarsByTimeRangeRequest request = new GetCarsByTimeRangeRequest(now.minusDays(1), null, now, null, 10);
+
+        // When
+        GetCarsByTimeRangeResponse response = getCarsByTimeRangeAction.execute(request);
+
+        // Then
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getMessage()).contains("either");
+        verifyNoInteractions(carService);
+    }
+
+    @Test
+    void execute_shouldReturnInvalidParameters_whenServiceRejectsRange() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(carService.getCreatedBetween(now, now, null, 10))
+                .thenThrow(new IllegalArgumentException("createdFrom must be before createdTo"));
+        GetCarsByTimeRangeRequest request = new GetCarsByTimeRangeRequest(now, now, null, null, 10);
+
+        // When
+        GetCarsByTimeRangeResponse response = getCarsByTimeRangeAction.execute(request);
+
+        // Then
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getMessage()).isEqualTo("createdFrom must be before createdTo");
+    }
+}
@@ -3,7 +3,7 @@ package org.example.action.unit;
 import org.example.action.govemployee.GetEmployeeByIdAction;
 import org.example.action.govemployee.request.GetEmployeeByIdRequest;
 import org.example.action.govemployee.response.GetEmployeeByIdResponse;
-import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
 import org.example.service.GovEmployeeService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,18 +26,15 @@ class GetEmployeeByIdActionUTest {
     @InjectMocks
     private GetEmployeeByIdAction getEmployeeByIdAction;
 
-    private GovEmployee createMockEmployee(Long id, String name) {
-        GovEmployee employee = new GovEmployee();
-        employee.setId(id);
-        employee.setName(name);
-        return employee;
+    private GovEmployeeView createMockEmployee(Long id, String name) {
+        return new GovEmployeeView(id, name, null, null);
     }
 
     @Test
     void execute_shouldReturnEmployee_whenEmployeeExists() {
         // Given
         Long employeeId = 1L;
-        GovEmployee mockEmployee = createMockEmployee(employeeId, "John Doe");
+        GovEmployeeView mockEmployee = createMockEmployee(employeeId, "John Doe");
         when(govEmployeeService.getById(employeeId)).thenReturn(Optional.of(mockEmployee));
         GetEmployeeByIdRequest request = new GetEmployeeByIdRequest(employeeId);
 
@@ -47,8 +44,8 @@ class GetEmployeeByIdActionUTest {
         // Then
         assertThat(response.isSuccess()).isTrue();
         assertThat(response.getEmployee()).isNotNull();
-        assertThat(response.getEmployee().getId()).isEqualTo(employeeId);
-        assertThat(response.getEmployee().getName()).isEqualTo("John Doe");
+        assertThat(response.getEmployee().id()).isEqualTo(employeeId);
+        assertThat(response.getEmployee().name()).isEqualTo("John Doe");
         assertThat(response.getMessage()).isNull();
         verify(govEmployeeService).getById(employeeId);
     }
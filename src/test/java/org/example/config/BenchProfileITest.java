@@ -0,0 +1,89 @@
+package org.example.config;
+
+import org.example.models.entity.Animal;
+import org.example.models.entity.Car;
+import org.example.models.entity.GovEmployee;
+import org.example.service.AnimalService;
+import org.example.service.CarService;
+import org.example.service.GovEmployeeService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the whole app on the bench profile's in-process H2 database, so it needs neither MySQL nor Docker.
+ */
+@ActiveProfiles("bench")
+@SpringBootTest
+public class BenchProfileITest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Autowired
+    private GovEmployeeService govEmployeeService;
+
+    @Test
+    void migrate_shouldApplyEveryMigration_whenBenchProfileIsActive() {
+        // When / Then
+        assertThat(flyway.info().applied()).isNotEmpty();
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    void carService_shouldWriteAndRead_whenBenchProfileIsActive() {
+        // Given
+        long countBefore = carService.count();
+
+        // When
+        Car car = carService.add("Bench Car");
+
+        // Then
+        assertThat(carService.getById(car.getId())).hasValueSatisfying(view ->
+                assertThat(view.brand()).isEqualTo("Bench Car"));
+        assertThat(carService.count()).isEqualTo(countBefore + 1);
+        assertThat(carService.getCountsByBrand()).anySatisfy(count ->
+                assertThat(count.group()).isEqualTo("Bench Car"));
+        assertThat(carService.delete(car.getId())).isTrue();
+    }
+
+    @Test
+    void animalService_shouldWriteAndRead_whenBenchProfileIsActive() {
+        // Given
+        long countBefore = animalService.count();
+
+        // When
+        Animal animal = animalService.add("Bench Animal");
+
+        // Then
+        assertThat(animalService.getById(animal.getId())).hasValueSatisfying(view ->
+                assertThat(view.type()).isEqualTo("Bench Animal"));
+        assertThat(animalService.count()).isEqualTo(countBefore + 1);
+        assertThat(animalService.delete(animal.getId())).isTrue();
+    }
+
+    @Test
+    void govEmployeeService_shouldWriteAndRead_whenBenchProfileIsActive() {
+        // Given
+        long countBefore = govEmployeeService.count();
+
+        // When
+        GovEmployee employee = govEmployeeService.add("Bench Employee");
+
+        // Then
+        assertThat(govEmployeeService.getById(employee.getId())).hasValueSatisfying(view ->
+                assertThat(view.name()).isEqualTo("Bench Employee"));
+        assertThat(govEmployeeService.count()).isEqualTo(countBefore + 1);
+        assertThat(govEmployeeService.delete(employee.getId())).isTrue();
+    }
+}
@@ -26,6 +26,8 @@ public class FlywayMigrationITest extends IntegrationTestBase {
                 tableNames.add(tables.getString("TABLE_NAME").toLowerCase());
             }
         }
-        assertThat(tableNames).contains("animal", "car", "gov_employee");
+        assertThat(tableNames).contains("animal", "car", "gov_employee",
+                "car_brand_count", "animal_type_count", "gov_employee_name_initial_count",
+                "car_archive", "animal_archive", "gov_employee_archive");
     }
 } 
\ No newline at end of file
@@ -0,0 +1,83 @@
+package org.example.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceUTest {
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldReturnPrimary_whenTransactionIsNotReadOnly() {
+        // Given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of("replica-0"), lagMonitor);
+
+        // When
+        Object key = dataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verifyNoInteractions(lagMonitor);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRoundRobinReplicas_whenTransactionIsReadOnly() {
+        // Given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of("replica-0", "replica-1"), lagMonitor);
+        when(lagMonitor.isWithinLag(anyString())).thenReturn(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object first = dataSource.determineCurrentLookupKey();
+        Object second = dataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(first).isEqualTo("replica-0");
+        assertThat(second).isEqualTo("replica-1");
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldSkipLaggingReplica_whenAnotherReplicaIsHealthy() {
+        // Given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of("replica-0", "replica-1"), lagMonitor);
+        when(lagMonitor.isWithinLag("replica-0")).thenReturn(false);
+        when(lagMonitor.isWithinLag("replica-1")).thenReturn(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object key = dataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(key).isEqualTo("replica-1");
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldFallBackToPrimary_whenAllReplicasLag() {
+        // Given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(List.of("replica-0"), lagMonitor);
+        when(lagMonitor.isWithinLag("replica-0")).thenReturn(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object key = dataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+}
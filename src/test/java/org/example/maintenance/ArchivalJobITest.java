@@ -0,0 +1,77 @@
+package org.example.maintenance;
+
+import org.example.config.ArchiveProperties;
+import org.example.config.IntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArchivalJobITest extends IntegrationTestBase {
+    private static final String BRAND = "Archive-Me";
+
+    @Autowired
+    private ArchivalJob archivalJob;
+
+    @Autowired
+    private ArchiveProperties archiveProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        archiveProperties.setBatchSize(500);
+        archiveProperties.setPauseBetweenBatchesMs(100);
+        jdbcTemplate.update("DELETE FROM car_archive WHERE brand = ?", BRAND);
+        jdbcTemplate.update("DELETE FROM car WHERE brand = ?", BRAND);
+        jdbcTemplate.update("DELETE FROM car_brand_count WHERE brand = ?", BRAND);
+    }
+
+    @Test
+    void start_shouldMoveColdRowsInBatchesAndKeepRecentRows_whenRunToCompletion() throws Exception {
+        // Given
+        archiveProperties.setBatchSize(2);
+        archiveProperties.setPauseBetweenBatchesMs(0);
+        Timestamp old = Timestamp.valueOf(LocalDateTime.now().minusYears(3));
+        Timestamp recent = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(new Object[]{BRAND, old, old});
+        }
+        rows.add(new Object[]{BRAND, recent, recent});
+        jdbcTemplate.batchUpdate("INSERT INTO car (brand, created_at, updated_at) VALUES (?, ?, ?)", rows);
+        jdbcTemplate.update("INSERT INTO car_brand_count (brand, row_count) VALUES (?, 6)", BRAND);
+
+        // When
+        assertThat(archivalJob.start()).isTrue();
+        ArchiveProgress progress = awaitCompletion();
+
+        // Then
+        assertThat(progress.state()).isEqualTo(ArchivalJob.State.IDLE);
+        ArchiveProgress.TableStatus car = progress.tables().stream()
+                .filter(t -> t.table().equals("car")).findFirst().orElseThrow();
+        assertThat(car.completed()).isTrue();
+        assertThat(car.rowsMoved()).isGreaterThanOrEqualTo(5);
+        assertThat(car.batches()).isGreaterThanOrEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM car_archive WHERE brand = ?", Long.class, BRAND)).isEqualTo(5L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM car WHERE brand = ?", Long.class, BRAND)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT row_count FROM car_brand_count WHERE brand = ?", Long.class, BRAND)).isEqualTo(1L);
+    }
+
+    private ArchiveProgress awaitCompletion() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        ArchiveProgress progress = archivalJob.getProgress();
+        while (progress.state() == ArchivalJob.State.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            progress = archivalJob.getProgress();
+        }
+        return progress;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.maintenance;
+
+import org.example.config.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PartitionMaintenanceITest extends IntegrationTestBase {
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    @Autowired
+    private PartitionMaintenance partitionMaintenance;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void maintain_shouldCreateMonthlyPartitionsAheadAndKeepCatchAllLast_whenRunRepeatedly() {
+        // Given
+        YearMonth month = YearMonth.now();
+
+        // When
+        partitionMaintenance.maintain(PartitionedTable.CAR, month);
+        PartitionMaintenance.Result second = partitionMaintenance.maintain(PartitionedTable.CAR, month);
+
+        // Then
+        List<String> partitions = partitionMaintenance.partitionNames(PartitionedTable.CAR);
+        assertThat(partitions).contains(month.format(PARTITION_NAME), month.plusMonths(3).format(PARTITION_NAME));
+        assertThat(partitions.get(0)).isEqualTo(PartitionMaintenance.HISTORY);
+        assertThat(partitions.get(partitions.size() - 1)).isEqualTo(PartitionMaintenance.FUTURE);
+        assertThat(second.created()).isEmpty();
+        assertThat(second.dropped()).isEmpty();
+    }
+
+    @Test
+    void createdAtRangeQuery_shouldTouchOnlyTheMatchingMonthPartition() {
+        // Given
+        YearMonth month = YearMonth.now();
+        partitionMaintenance.maintain(PartitionedTable.CAR, month);
+        Timestamp createdAt = Timestamp.valueOf(month.atDay(2).atTime(10, 0));
+        jdbcTemplate.update("INSERT INTO car (brand, created_at, updated_at) VALUES (?, ?, ?)", "Pruned", createdAt, createdAt);
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        // When
+        Map<String, Object> plan = jdbcTemplate.queryForMap(
+                "EXPLAIN SELECT id, brand, created_at, updated_at FROM car WHERE created_at >= ? AND created_at < ?",
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+
+        // Then
+        assertThat(plan.get("partitions")).isEqualTo(month.format(PARTITION_NAME));
+    }
+}
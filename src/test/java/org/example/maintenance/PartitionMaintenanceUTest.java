@@ -0,0 +1,147 @@
+package org.example.maintenance;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.config.PartitionProperties;
+import org.example.models.entity.Car;
+import org.example.repository.GroupCountRepository;
+import org.example.repository.GroupCountRepository.Grouping;
+import org.example.service.ResourceCounters;
+import org.example.service.ResourceCounters.Resource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceUTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private GroupCountRepository groupCountRepository;
+
+    @Mock
+    private ResourceCounters resourceCounters;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Spy
+    private PartitionProperties partitionProperties = new PartitionProperties();
+
+    @InjectMocks
+    private PartitionMaintenance partitionMaintenance;
+
+    @Test
+    void maintain_shouldSplitFuturePartitionIntoMissingMonths_whenFewerThanMonthsAheadExist() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("car")))
+                .thenReturn(List.of("p_history", "p202610", "p_future"));
+
+        // When
+        PartitionMaintenance.Result result = partitionMaintenance.maintain(PartitionedTable.CAR, YearMonth.of(2026, 10));
+
+        // Then
+        assertThat(result.created()).containsExactly("p202611", "p202612", "p202701");
+        assertThat(result.dropped()).isEmpty();
+        verify(jdbcTemplate).execute("ALTER TABLE car REORGANIZE PARTITION p_future INTO ("
+                + "PARTITION p202611 VALUES LESS THAN (UNIX_TIMESTAMP('2026-12-01 00:00:00')), "
+                + "PARTITION p202612 VALUES LESS THAN (UNIX_TIMESTAMP('2027-01-01 00:00:00')), "
+                + "PARTITION p202701 VALUES LESS THAN (UNIX_TIMESTAMP('2027-02-01 00:00:00')), "
+                + "PARTITION p_future VALUES LESS THAN MAXVALUE)");
+    }
+
+    @Test
+    void maintain_shouldDropExpiredPartitionsAndAdjustDerivedCounts_whenRetentionIsSet() {
+        // Given
+        partitionProperties.setRetentionMonths(1);
+        Cache cache = mock(Cache.class);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("car")))
+                .thenReturn(List.of("p_history", "p202610", "p202611", "p202612", "p202701", "p202702", "p202703", "p_future"));
+        when(jdbcTemplate.queryForList(contains("FROM car_expired GROUP BY")))
+                .thenReturn(List.of(Map.of("group_key", "BMW", "row_count", 4L)),
+                        List.of(Map.of("group_key", "BMW", "row_count", 1L), Map.of("group_key", "Audi", "row_count", 2L)));
+
+        // When
+        PartitionMaintenance.Result result = partitionMaintenance.maintain(PartitionedTable.CAR, YearMonth.of(2026, 12));
+
+        // Then
+        assertThat(result.dropped()).containsExactly("p_history", "p202610");
+        assertThat(result.created()).isEmpty();
+        verify(jdbcTemplate).execute("ALTER TABLE car EXCHANGE PARTITION p_history WITH TABLE car_expired WITHOUT VALIDATION");
+        verify(jdbcTemplate).execute("ALTER TABLE car DROP PARTITION p_history");
+        verify(jdbcTemplate).execute("ALTER TABLE car EXCHANGE PARTITION p202610 WITH TABLE car_expired WITHOUT VALIDATION");
+        verify(jdbcTemplate).execute("ALTER TABLE car DROP PARTITION p202610");
+        verify(jdbcTemplate, times(2)).execute("DROP TABLE car_expired");
+        verify(jdbcTemplate, never()).queryForList(contains("FROM car PARTITION"));
+        verify(groupCountRepository).adjust(Grouping.CAR_BRAND, "BMW", -4);
+        verify(groupCountRepository).adjust(Grouping.CAR_BRAND, "BMW", -1);
+        verify(groupCountRepository).adjust(Grouping.CAR_BRAND, "Audi", -2);
+        verify(resourceCounters).adjust(Resource.CAR, -4);
+        verify(resourceCounters).adjust(Resource.CAR, -3);
+        verify(cache, times(2)).evict(Car.class);
+    }
+
+    @Test
+    void maintain_shouldNotSplitFuturePartition_whenItHoldsRows() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("car")))
+                .thenReturn(List.of("p_history", "p202610", "p_future"));
+        when(jdbcTemplate.queryForList("SELECT 1 FROM car PARTITION (p_future) LIMIT 1", Integer.class))
+                .thenReturn(List.of(1));
+
+        // When
+        PartitionMaintenance.Result result = partitionMaintenance.maintain(PartitionedTable.CAR, YearMonth.of(2026, 10));
+
+        // Then
+        assertThat(result.created()).isEmpty();
+        verify(jdbcTemplate, never()).execute(contains("REORGANIZE PARTITION"));
+    }
+
+    @Test
+    void maintain_shouldReleaseLeftoverStagingTable_whenPreviousDropWasInterrupted() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("car")))
+                .thenReturn(List.of("p_history", "p202610", "p202611", "p202612", "p202701", "p_future"));
+        when(jdbcTemplate.queryForObject(contains("information_schema.TABLES"), eq(Long.class), eq("car_expired")))
+                .thenReturn(1L);
+        when(jdbcTemplate.queryForList(contains("FROM car_expired GROUP BY")))
+                .thenReturn(List.of(Map.of("group_key", "BMW", "row_count", 5L)));
+
+        // When
+        partitionMaintenance.maintain(PartitionedTable.CAR, YearMonth.of(2026, 10));
+
+        // Then
+        verify(groupCountRepository).adjust(Grouping.CAR_BRAND, "BMW", -5);
+        verify(resourceCounters).adjust(Resource.CAR, -5);
+        verify(jdbcTemplate).execute("DROP TABLE car_expired");
+    }
+
+    @Test
+    void maintain_shouldDoNothing_whenTableIsNotPartitioned() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("animal"))).thenReturn(List.of());
+
+        // When
+        PartitionMaintenance.Result result = partitionMaintenance.maintain(PartitionedTable.ANIMAL, YearMonth.of(2026, 10));
+
+        // Then
+        assertThat(result.created()).isEmpty();
+        assertThat(result.dropped()).isEmpty();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
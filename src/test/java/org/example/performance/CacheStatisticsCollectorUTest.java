@@ -0,0 +1,74 @@
+package org.example.performance;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheStatisticsCollectorUTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @InjectMocks
+    private CacheStatisticsCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+    }
+
+    @Test
+    void collect_shouldReportHitsAndMisses_whenRegionIsRegistered() {
+        // Given
+        CacheRegionStatistics carStatistics = mock(CacheRegionStatistics.class);
+        when(carStatistics.getHitCount()).thenReturn(90L);
+        when(carStatistics.getMissCount()).thenReturn(10L);
+        when(carStatistics.getPutCount()).thenReturn(10L);
+        when(carStatistics.getElementCountInMemory()).thenReturn(10L);
+        when(statistics.getDomainDataRegionStatistics("car")).thenReturn(carStatistics);
+        when(statistics.getDomainDataRegionStatistics("animal")).thenThrow(new IllegalArgumentException("Unknown region"));
+        when(statistics.getDomainDataRegionStatistics("gov_employee")).thenReturn(null);
+
+        // When
+        List<CacheRegionMetrics> metrics = collector.collect();
+
+        // Then
+        assertThat(metrics).extracting(CacheRegionMetrics::region).containsExactly("car", "animal", "gov_employee");
+        CacheRegionMetrics car = metrics.get(0);
+        assertThat(car.hitCount()).isEqualTo(90L);
+        assertThat(car.missCount()).isEqualTo(10L);
+        assertThat(car.getHitRatio()).isEqualTo(90.0);
+        assertThat(metrics.get(1).hitCount()).isZero();
+        assertThat(metrics.get(1).elementCountInMemory()).isEqualTo(-1L);
+        assertThat(metrics.get(2).evictionCount()).isEqualTo(-1L);
+    }
+
+    @Test
+    void reset_shouldClearHibernateStatistics() {
+        // When
+        collector.reset();
+
+        // Then
+        verify(statistics).clear();
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.performance;
+
+import org.example.performance.ab.AbResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerformanceComparisonUTest {
+
+    @Test
+    void getAverageTimeDifferencePercent_shouldBePositive_whenActionIsFaster() {
+        // Given
+        PerformanceMetrics rest = metrics("REST", 10, 10, 10, 10);
+        PerformanceMetrics action = metrics("ACTION", 8, 8, 8, 8);
+
+        // When
+        PerformanceComparison comparison = new PerformanceComparison(rest, action);
+
+        // Then
+        assertThat(comparison.getAverageTimeDifferencePercent()).isEqualTo(20.0);
+    }
+
+    @Test
+    void toString_shouldReportTie_whenOnlyOneRunIsCompared() {
+        // Given a large difference over many requests, which is still one run per API
+        PerformanceMetrics rest = new PerformanceMetrics("REST");
+        PerformanceMetrics action = new PerformanceMetrics("ACTION");
+        for (int i = 0; i < 500; i++) {
+            rest.recordExecution(10 + i % 3, true);
+            action.recordExecution(8 + i % 3, true);
+        }
+
+        // When
+        String summary = new PerformanceComparison(rest, action).toString();
+
+        // Then
+        assertThat(summary).contains("Faster Approach: TIE").contains("/performance/ab-test");
+    }
+
+    @Test
+    void getFasterApproach_shouldBeAbWinner_whenAbBenchmarkHasRun() {
+        // Given action significantly faster, REST ahead on throughput but not significantly
+        AbResult.Interval same = new AbResult.Interval(1, 1, 1);
+        AbResult abResult = new AbResult(null, "REST-HTTP", "ACTION-HTTP", List.of(), List.of(
+                new AbResult.MetricEstimate(AbResult.MEAN_LATENCY, true, same, same,
+                        new AbResult.Interval(-0.2, -0.3, -0.1)),
+                new AbResult.MetricEstimate(AbResult.THROUGHPUT, false, same, same,
+                        new AbResult.Interval(-0.05, -0.1, 0.01))));
+
+        // When
+        PerformanceComparison comparison = new PerformanceComparison(metrics("REST", 10), metrics("ACTION", 12),
+                abResult);
+
+        // Then
+        assertThat(comparison.getFasterApproach()).isEqualTo(AbResult.ACTION);
+    }
+
+    private static PerformanceMetrics metrics(String apiType, long... executionTimesMs) {
+        PerformanceMetrics metrics = new PerformanceMetrics(apiType);
+        for (long executionTimeMs : executionTimesMs) {
+            metrics.recordExecution(executionTimeMs, true);
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.performance.ab;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BootstrapUTest {
+
+    @Test
+    void estimate_shouldFavourAction_whenActionIsConsistentlyFaster() {
+        // Given
+        double[] rest = {10.2, 10.5, 9.9, 10.1, 10.4, 10.0, 10.3, 9.8};
+        double[] action = {8.1, 8.4, 7.9, 8.2, 8.0, 8.3, 7.8, 8.2};
+
+        // When
+        AbResult.MetricEstimate estimate = Bootstrap.estimate("mean latency ms", true, rest, action, 2000, 0.95,
+                new SplittableRandom(1));
+
+        // Then
+        assertThat(estimate.significant()).isTrue();
+        assertThat(estimate.better()).isEqualTo(AbResult.ACTION);
+        assertThat(estimate.difference().estimate()).isBetween(-0.25, -0.15);
+        assertThat(estimate.rest().lower()).isLessThan(estimate.rest().estimate());
+        assertThat(estimate.rest().upper()).isGreaterThan(estimate.rest().estimate());
+    }
+
+    @Test
+    void estimate_shouldBeTie_whenRunsOverlap() {
+        // Given
+        double[] rest = {10.0, 12.5, 9.0, 11.8, 10.4, 8.7, 12.1, 9.6};
+        double[] action = {11.9, 9.1, 10.3, 8.8, 12.4, 10.0, 9.5, 11.6};
+
+        // When
+        AbResult.MetricEstimate estimate = Bootstrap.estimate("mean latency ms", true, rest, action, 2000, 0.95,
+                new SplittableRandom(1));
+
+        // Then
+        assertThat(estimate.significant()).isFalse();
+        assertThat(estimate.better()).isEqualTo(AbResult.TIE);
+    }
+
+    @Test
+    void winner_shouldBeMixed_whenSignificantMetricsDisagree() {
+        // Given
+        AbResult.Interval same = new AbResult.Interval(1, 1, 1);
+        AbResult.MetricEstimate fasterAction = new AbResult.MetricEstimate("mean latency ms", true, same, same,
+                new AbResult.Interval(-0.2, -0.3, -0.1));
+        AbResult.MetricEstimate moreRestThroughput = new AbResult.MetricEstimate("throughput req/s", false, same, same,
+                new AbResult.Interval(-0.2, -0.3, -0.1));
+        AbResult.MetricEstimate tiedP99 = new AbResult.MetricEstimate("p99 latency ms", true, same, same,
+                new AbResult.Interval(0.05, -0.1, 0.2));
+
+        // When / Then
+        assertThat(new AbResult(null, "REST-HTTP", "ACTION-HTTP", List.of(),
+                List.of(fasterAction, tiedP99)).winner()).isEqualTo(AbResult.ACTION);
+        assertThat(new AbResult(null, "REST-HTTP", "ACTION-HTTP", List.of(),
+                List.of(fasterAction, moreRestThroughput)).winner()).isEqualTo(AbResult.MIXED);
+        assertThat(new AbResult(null, "REST-HTTP", "ACTION-HTTP", List.of(),
+                List.of(tiedP99)).winner()).isEqualTo(AbResult.TIE);
+    }
+
+    @Test
+    void better_shouldFollowEachMetric_andBeTieWhenMetricIsMissing() {
+        // Given
+        AbResult.Interval same = new AbResult.Interval(1, 1, 1);
+        AbResult.MetricEstimate fasterAction = new AbResult.MetricEstimate(AbResult.MEAN_LATENCY, true, same, same,
+                new AbResult.Interval(-0.2, -0.3, -0.1));
+        AbResult result = new AbResult(null, "REST-HTTP", "ACTION-HTTP", List.of(), List.of(fasterAction));
+
+        // When / Then
+        assertThat(result.better(AbResult.MEAN_LATENCY)).isEqualTo(AbResult.ACTION);
+        assertThat(result.better(AbResult.THROUGHPUT)).isEqualTo(AbResult.TIE);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.performance.benchmark;
+
+import org.HdrHistogram.Histogram;
+import org.example.performance.load.LatencySummary;
+import org.example.performance.scenario.ScenarioPhase;
+import org.example.performance.scenario.ScenarioResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BenchmarkBudgetUTest {
+
+    @Test
+    void check_shouldFailOnlyBreachedLimits_whenOneApiIsTooSlow() {
+        // Given REST p99 around 5 ms, actions around 80 ms
+        ScenarioResult result = new ScenarioResult("default", List.of(ScenarioPhase.steady("steady", 10, 5)), 10_000,
+                List.of(op("REST-HTTP", 5_000, 1000, 0), op("ACTION-LOCAL", 80_000, 1000, 20)));
+        BenchmarkBudget budget = new BenchmarkBudget(50.0, 50.0, 0.01);
+
+        // When
+        List<BenchmarkBudget.BudgetCheck> checks = budget.check(result);
+
+        // Then
+        assertThat(checks).hasSize(6);
+        assertThat(checks).filteredOn(check -> !check.passed())
+                .extracting(check -> check.driver() + " " + check.metric())
+                .containsExactlyInAnyOrder("ACTION-LOCAL p99Ms", "ACTION-LOCAL errorRate");
+    }
+
+    @Test
+    void check_shouldReturnNoChecks_whenNoBudgetIsConfigured() {
+        // Given
+        ScenarioResult result = new ScenarioResult("default", List.of(), 1_000, List.of(op("REST-HTTP", 5_000, 10, 0)));
+
+        // When / Then
+        assertThat(new BenchmarkBudget(null, null, null).check(result)).isEmpty();
+    }
+
+    private static ScenarioResult.OperationResult op(String driver, long micros, long requests, long errors) {
+        Histogram histogram = new Histogram(3);
+        histogram.recordValueWithCount(micros, requests);
+        return new ScenarioResult.OperationResult(driver, "CAR GET_BY_ID", requests, errors, requests / 10.0,
+                LatencySummary.of(histogram), histogram, new long[0], new Histogram[0]);
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.performance.benchmark;
+
+import org.example.config.BenchmarkProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BenchmarkOptionsUTest {
+
+    @Test
+    void parse_shouldAcceptSpaceAndEqualsSeparatedValues_whenMixed() {
+        // When
+        BenchmarkOptions options = BenchmarkOptions.parse(new BenchmarkProperties(), "performance",
+                "--scenario", "read-heavy", "--users=20", "--duration", "60", "--output", "out/results.json",
+                "--max-p99-ms=25.5");
+
+        // Then
+        assertThat(options.scenario()).isEqualTo("read-heavy");
+        assertThat(options.users()).isEqualTo(20);
+        assertThat(options.durationSeconds()).isEqualTo(60);
+        assertThat(options.output()).isEqualTo("out/results.json");
+        assertThat(options.budget().maxP99Ms()).isEqualTo(25.5);
+    }
+
+    @Test
+    void parse_shouldFallBackToConfiguredBudgets_whenOptionsOmitThem() {
+        // Given
+        BenchmarkProperties properties = new BenchmarkProperties();
+        properties.setWarmupSeconds(3);
+        properties.setMinThroughputPerSecond(100.0);
+
+        // When
+        BenchmarkOptions options = BenchmarkOptions.parse(properties, "performance", "--users", "2");
+
+        // Then
+        assertThat(options.warmupSeconds()).isEqualTo(3);
+        assertThat(options.budget().minThroughputPerSecond()).isEqualTo(100.0);
+        assertThat(options.budget().maxP99Ms()).isNull();
+        assertThat(options.output()).isNull();
+    }
+
+    @Test
+    void parse_shouldReject_whenOptionIsUnknownOrValueMissing() {
+        BenchmarkProperties properties = new BenchmarkProperties();
+        assertThatThrownBy(() -> BenchmarkOptions.parse(properties, "performance", "--threads", "4"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BenchmarkOptions.parse(properties, "performance", "--users"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BenchmarkOptions.parse(properties, "performance", "--transport", "grpc"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
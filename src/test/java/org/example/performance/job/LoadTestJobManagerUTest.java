@@ -0,0 +1,241 @@
+package org.example.performance.job;
+
+import org.example.config.LoadJobProperties;
+import org.example.performance.PerformanceLoadTester;
+import org.example.performance.scaling.ScalingConfiguration;
+import org.example.performance.scaling.ScalingResult;
+import org.example.performance.scaling.ScalingSweep;
+import org.example.performance.scenario.ScenarioCatalog;
+import org.example.performance.scenario.ScenarioResult;
+import org.example.performance.scenario.ScenarioSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoadTestJobManagerUTest {
+    @Mock
+    private PerformanceLoadTester loadTester;
+
+    @Mock
+    private ScenarioCatalog scenarioCatalog;
+
+    @Mock
+    private ScalingSweep scalingSweep;
+
+    private final LoadJobProperties properties = new LoadJobProperties();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private LoadTestJobManager jobManager;
+
+    @BeforeEach
+    void setUp() {
+        jobManager = new LoadTestJobManager(loadTester, scenarioCatalog, scalingSweep, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        jobManager.shutdown();
+    }
+
+    @Test
+    void submit_shouldCompleteWithRunIdAndSnapshots_whenLoadTestFinishes() throws InterruptedException {
+        // Given
+        when(loadTester.runLoadTest(any(), any())).thenAnswer(invocation -> {
+            Consumer<ScenarioSnapshot> progress = invocation.getArgument(1);
+            progress.accept(new ScenarioSnapshot(1, 1000, 5, List.of()));
+            return result("run-1");
+        });
+
+        // When
+        LoadTestJob job = jobManager.submit(configuration()).orElseThrow();
+        awaitFinished(job);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(LoadTestJob.Status.COMPLETED);
+        assertThat(job.getRunId()).isEqualTo("run-1");
+        assertThat(job.getSnapshotCount()).isEqualTo(1);
+        assertThat(job.getLatestSnapshot().activeUsers()).isEqualTo(5);
+        assertThat(jobManager.get(job.getId())).isSameAs(job);
+    }
+
+    @Test
+    void cancel_shouldCancelImmediately_whenJobIsQueued() throws InterruptedException {
+        // Given one job running and one waiting behind it
+        when(loadTester.runLoadTest(any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return result("run-1");
+        });
+        LoadTestJob running = jobManager.submit(configuration()).orElseThrow();
+        LoadTestJob queued = jobManager.submit(configuration()).orElseThrow();
+
+        // When
+        boolean cancelled = jobManager.cancel(queued.getId());
+        release.countDown();
+        awaitFinished(running);
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(queued.getStatus()).isEqualTo(LoadTestJob.Status.CANCELLED);
+        assertThat(running.getStatus()).isEqualTo(LoadTestJob.Status.COMPLETED);
+        verify(loadTester, times(1)).runLoadTest(any(), any());
+        assertThat(jobManager.cancel(running.getId())).isFalse();
+    }
+
+    @Test
+    void cancel_shouldInterruptLoadTest_whenJobIsRunning() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        when(loadTester.runLoadTest(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new CancellationException("Load test cancelled");
+            }
+            return result("run-1");
+        });
+        LoadTestJob job = jobManager.submit(configuration()).orElseThrow();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        jobManager.cancel(job.getId());
+        awaitFinished(job);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(LoadTestJob.Status.CANCELLED);
+        assertThat(job.getRunId()).isNull();
+    }
+
+    @Test
+    void submit_shouldRejectJob_whenQueueIsFull() throws InterruptedException {
+        // Given one job running and one waiting behind it
+        properties.setMaxQueued(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(loadTester.runLoadTest(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return result("run-1");
+        });
+        jobManager.submit(configuration());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        jobManager.submit(configuration());
+
+        // When
+        Optional<LoadTestJob> rejected = jobManager.submit(configuration());
+
+        // Then
+        assertThat(rejected).isEmpty();
+        assertThat(jobManager.list()).extracting(LoadTestJob::getStatus)
+                .containsExactly(LoadTestJob.Status.RUNNING, LoadTestJob.Status.QUEUED);
+    }
+
+    @Test
+    void runExclusively_shouldRefuse_whenJobIsRunning() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        when(loadTester.runLoadTest(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return result("run-1");
+        });
+        LoadTestJob job = jobManager.submit(configuration()).orElseThrow();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Optional<String> refused = jobManager.runExclusively(() -> "ran");
+        release.countDown();
+        awaitFinished(job);
+
+        // Then
+        assertThat(refused).isEmpty();
+        assertThat(jobManager.runExclusively(() -> "ran")).contains("ran");
+    }
+
+    @Test
+    void submit_shouldWaitForSynchronousTest_whenOneIsRunning() throws InterruptedException {
+        // Given a synchronous test holding the machine
+        when(loadTester.runLoadTest(any(), any())).thenReturn(result("run-1"));
+        CountDownLatch running = new CountDownLatch(1);
+        Thread synchronous = new Thread(() -> jobManager.runExclusively(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ran";
+        }));
+        synchronous.start();
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        LoadTestJob job = jobManager.submit(configuration()).orElseThrow();
+        Thread.sleep(100);
+        LoadTestJob.Status waiting = job.getStatus();
+        release.countDown();
+        awaitFinished(job);
+
+        // Then
+        assertThat(waiting).isEqualTo(LoadTestJob.Status.QUEUED);
+        assertThat(job.getStatus()).isEqualTo(LoadTestJob.Status.COMPLETED);
+        synchronous.join(5000);
+    }
+
+    @Test
+    void submitScalingSweep_shouldCompleteWithResultAndStage_whenSweepFinishes() throws InterruptedException {
+        // Given
+        ScalingConfiguration configuration = new ScalingConfiguration(List.of(10L, 100L), "scaling", "local", 1, 1,
+                0, 100, true, ScalingConfiguration.DEFAULT_SEED);
+        ScalingResult sweep = new ScalingResult(configuration, List.of(), List.of(), 1.2);
+        when(scalingSweep.run(eq(configuration), any(), any())).thenAnswer(invocation -> {
+            Consumer<String> stage = invocation.getArgument(1);
+            stage.accept("Step 2/2, 100 rows per table: CAR GET_BY_ID");
+            return sweep;
+        });
+
+        // When
+        LoadTestJob job = jobManager.submitScalingSweep(configuration).orElseThrow();
+        awaitFinished(job);
+
+        // Then
+        assertThat(job.getType()).isEqualTo(LoadTestJob.SCALING_SWEEP);
+        assertThat(job.getStatus()).isEqualTo(LoadTestJob.Status.COMPLETED);
+        assertThat(job.getResult()).isSameAs(sweep);
+        assertThat(job.getStage()).isEqualTo("Step 2/2, 100 rows per table: CAR GET_BY_ID");
+        verifyNoInteractions(loadTester);
+    }
+
+    private static PerformanceLoadTester.LoadTestConfiguration configuration() {
+        return new PerformanceLoadTester.LoadTestConfiguration(5, 10, ScenarioCatalog.DEFAULT_SCENARIO, "local");
+    }
+
+    private static PerformanceLoadTester.PerformanceTestResult result(String runId) {
+        return new PerformanceLoadTester.PerformanceTestResult(0, 10_000, configuration(), Map.of(),
+                new ScenarioResult(ScenarioCatalog.DEFAULT_SCENARIO, List.of(), 10_000, List.of()), runId);
+    }
+
+    private static void awaitFinished(LoadTestJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(job.isFinished()).as("job %d finished", job.getId()).isTrue();
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.performance.job;
+
+import org.example.performance.PerformanceLoadTester;
+import org.example.performance.scenario.ScenarioCatalog;
+import org.example.performance.scenario.ScenarioSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LoadTestJobUTest {
+
+    @Test
+    void publish_shouldNotHoldJob_whenStreamIsSlowToAccept() throws Exception {
+        // Given a subscriber whose client stalls on the first event
+        LoadTestJob job = new LoadTestJob(1, new PerformanceLoadTester.LoadTestConfiguration(5, 10,
+                ScenarioCatalog.DEFAULT_SCENARIO, "local"));
+        job.start();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter emitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return null;
+        }).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        job.subscribe(emitter);
+
+        // When
+        CompletableFuture<Void> publishing = CompletableFuture.runAsync(() ->
+                job.publish(new ScenarioSnapshot(1, 1000, 5, List.of())));
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        int snapshots = CompletableFuture.supplyAsync(job::getSnapshotCount).get(1, TimeUnit.SECONDS);
+        release.countDown();
+        publishing.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(snapshots).isEqualTo(1);
+        verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void finish_shouldSendDoneOnce_whenCalledTwice() throws Exception {
+        // Given
+        LoadTestJob job = new LoadTestJob(1, new PerformanceLoadTester.LoadTestConfiguration(5, 10,
+                ScenarioCatalog.DEFAULT_SCENARIO, "local"));
+        job.start();
+        SseEmitter emitter = mock(SseEmitter.class);
+        job.subscribe(emitter);
+
+        // When
+        job.finish(LoadTestJob.Status.CANCELLED);
+        job.finish(LoadTestJob.Status.FAILED);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(LoadTestJob.Status.CANCELLED);
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).complete();
+    }
+}
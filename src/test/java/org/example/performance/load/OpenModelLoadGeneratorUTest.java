@@ -0,0 +1,116 @@
+package org.example.performance.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenModelLoadGeneratorUTest {
+
+    private final OpenModelLoadGenerator generator = new OpenModelLoadGenerator();
+
+    @Test
+    void run_shouldKeepUp_whenArrivalRateIsBelowCapacity() {
+        // Given a server that handles one request at a time in 2 ms (capacity ~500 req/s)
+        ReentrantLock server = new ReentrantLock();
+        LoadOperation operation = () -> serve(server, 2);
+
+        // When
+        OpenModelResult result = generator.run(OpenModelConfiguration.constant(100, 2), () -> operation);
+
+        // Then
+        OpenModelResult.StepResult step = result.steps().get(0);
+        assertThat(step.scheduled()).isEqualTo(200);
+        assertThat(step.completed()).isEqualTo(200);
+        assertThat(step.errors()).isZero();
+        assertThat(step.saturated()).isFalse();
+        assertThat(result.saturationRps()).isNull();
+        assertThat(result.maxSustainedRps()).isEqualTo(100);
+    }
+
+    @Test
+    void run_shouldReportSaturationAndCorrectedLatency_whenArrivalRateExceedsCapacity() {
+        // Given a server that handles one request at a time in 10 ms (capacity ~100 req/s), behind one connection
+        ReentrantLock server = new ReentrantLock();
+        LoadOperation operation = () -> serve(server, 10);
+        OpenModelConfiguration config = new OpenModelConfiguration(40, 200, 160, 2, 1, 0.05);
+
+        // When
+        OpenModelResult result = generator.run(config, () -> operation);
+
+        // Then
+        assertThat(result.steps()).hasSize(2);
+        OpenModelResult.StepResult underCapacity = result.steps().get(0);
+        OpenModelResult.StepResult overCapacity = result.steps().get(1);
+        assertThat(underCapacity.saturated()).isFalse();
+        assertThat(overCapacity.saturated()).isTrue();
+        assertThat(overCapacity.achievedRps()).isLessThan(150);
+        assertThat(overCapacity.backlog()).isPositive();
+        // Requests queued for the connection: latency from the schedule is far above the time once sent
+        assertThat(overCapacity.corrected().p99Ms()).isGreaterThan(overCapacity.uncorrected().p99Ms() * 5);
+        assertThat(result.saturationRps()).isEqualTo(200);
+        assertThat(result.maxSustainedRps()).isEqualTo(40);
+    }
+
+    @Test
+    void run_shouldCountFailures_whenOperationThrows() {
+        // Given
+        LoadOperation failing = () -> {
+            throw new IllegalStateException("boom");
+        };
+
+        // When
+        OpenModelResult result = generator.run(OpenModelConfiguration.constant(50, 1), () -> failing);
+
+        // Then
+        OpenModelResult.StepResult step = result.steps().get(0);
+        assertThat(step.errors()).isEqualTo(step.completed()).isEqualTo(50);
+    }
+
+    @Test
+    void run_shouldRecordUnfinishedRequestsAsTimeouts_whenDrainTimesOut() {
+        // Given a server that never answers within the drain timeout, behind two slots
+        OpenModelLoadGenerator shortDrain = new OpenModelLoadGenerator(Duration.ofMillis(200));
+        LoadOperation hanging = () -> {
+            Thread.sleep(60_000);
+            return true;
+        };
+
+        // When
+        OpenModelResult result = shortDrain.run(new OpenModelConfiguration(20, 20, 20, 1, 2, 0.05), () -> hanging);
+
+        // Then all 20 are accounted for, queued and in flight alike, with latency of at least the drain timeout
+        OpenModelResult.StepResult step = result.steps().get(0);
+        assertThat(step.completed()).isZero();
+        assertThat(step.timedOut()).isEqualTo(step.scheduled()).isEqualTo(20);
+        assertThat(step.correctedHistogram().getTotalCount()).isEqualTo(20);
+        assertThat(step.corrected().maxMs()).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    void targetRates_shouldStepUpToEndRate() {
+        assertThat(OpenModelConfiguration.stepped(100, 400, 100, 5).targetRates())
+                .containsExactly(100.0, 200.0, 300.0, 400.0);
+        assertThat(OpenModelConfiguration.constant(75, 5).targetRates()).containsExactly(75.0);
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidSchedules() {
+        assertThatThrownBy(() -> OpenModelConfiguration.constant(0, 5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OpenModelConfiguration.stepped(100, 50, 10, 5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OpenModelConfiguration.stepped(100, 200, 0, 5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean serve(ReentrantLock server, long millis) throws InterruptedException {
+        server.lock();
+        try {
+            Thread.sleep(millis);
+            return true;
+        } finally {
+            server.unlock();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.performance.load;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.config.LoadClientProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledHttpLoadClientUTest {
+
+    private HttpServer server;
+    private PooledHttpLoadClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        LoadClientProperties properties = new LoadClientProperties();
+        properties.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        properties.setMaxConnections(50);
+        client = new PooledHttpLoadClient(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void send_shouldReturnStatusBodySizeAndOrderedTimings_whenServerResponds() throws IOException {
+        // When
+        HttpTiming timing = client.send("POST", "/ok", "{\"brand\":\"Toyota\"}");
+
+        // Then
+        assertThat(timing.status()).isEqualTo(200);
+        assertThat(timing.isSuccess()).isTrue();
+        assertThat(timing.responseBytes()).isEqualTo(15);
+        assertThat(timing.connectMicros()).isGreaterThanOrEqualTo(0);
+        assertThat(timing.ttfbMicros()).isGreaterThanOrEqualTo(timing.connectMicros());
+        assertThat(timing.totalMicros()).isGreaterThanOrEqualTo(timing.ttfbMicros());
+    }
+
+    @Test
+    void send_shouldReturnErrorStatusWithoutThrowing_whenServerRejects() throws IOException {
+        // When
+        HttpTiming timing = client.send("GET", "/missing", null);
+
+        // Then
+        assertThat(timing.status()).isEqualTo(404);
+        assertThat(timing.isSuccess()).isFalse();
+    }
+
+    @Test
+    void send_shouldServeManyVirtualThreadUsers_whenCalledConcurrently() throws Exception {
+        // Given
+        HttpTimingRecorder recorder = new HttpTimingRecorder();
+        List<Future<?>> users = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 500; i++) {
+                users.add(executor.submit(() -> {
+                    recorder.record(client.send("GET", "/ok", null));
+                    return null;
+                }));
+            }
+            for (Future<?> user : users) {
+                user.get();
+            }
+        }
+
+        // Then
+        HttpTimingRecorder.HttpTimingSummary summary = recorder.summary(client.description());
+        assertThat(summary.requests()).isEqualTo(500);
+        assertThat(summary.errors()).isZero();
+        assertThat(summary.connect()).isNotNull();
+        assertThat(summary.total().p99Ms()).isGreaterThanOrEqualTo(summary.ttfb().p50Ms());
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.performance.results;
+
+import org.HdrHistogram.Histogram;
+import org.example.performance.load.LatencySummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RunComparatorUTest {
+
+    private static final double THRESHOLD = 0.05;
+    private static final double CONFIDENCE = 0.95;
+
+    @Test
+    void compare_shouldFlagP99Regression_whenCandidateTailIsSlower() {
+        // Given 2% of candidate requests take twice as long
+        RunRecord baseline = run("base", latencies(1, 0.0), perSecond(2, 100));
+        RunRecord candidate = run("new", latencies(2, 0.02), perSecond(3, 100));
+
+        // When
+        RunComparison comparison = RunComparator.compare(baseline, candidate, THRESHOLD, CONFIDENCE);
+
+        // Then
+        RunComparison.SeriesComparison series = comparison.series().get(0);
+        assertThat(series.p99Verdict()).isEqualTo(RunComparison.Verdict.REGRESSION);
+        assertThat(series.candidateP99Ms()).isGreaterThan(series.baselineP99Ms() * 1.5);
+        assertThat(series.throughputVerdict()).isEqualTo(RunComparison.Verdict.NO_CHANGE);
+        assertThat(comparison.hasRegressions()).isTrue();
+    }
+
+    @Test
+    void compare_shouldFlagThroughputRegression_whenPerSecondCompletionsDrop() {
+        // Given
+        RunRecord baseline = run("base", latencies(1, 0.0), perSecond(4, 100));
+        RunRecord candidate = run("new", latencies(5, 0.0), perSecond(5, 80));
+
+        // When
+        RunComparison.SeriesComparison series =
+                RunComparator.compare(baseline, candidate, THRESHOLD, CONFIDENCE).series().get(0);
+
+        // Then
+        assertThat(series.throughputVerdict()).isEqualTo(RunComparison.Verdict.REGRESSION);
+        assertThat(series.throughputPValue()).isLessThan(0.05);
+        assertThat(series.p99Verdict()).isEqualTo(RunComparison.Verdict.NO_CHANGE);
+    }
+
+    @Test
+    void compare_shouldReportNoChange_whenRunsComeFromSameDistribution() {
+        // Given
+        RunRecord baseline = run("base", latencies(6, 0.0), perSecond(7, 100));
+        RunRecord candidate = run("new", latencies(8, 0.0), perSecond(9, 100));
+
+        // When
+        RunComparison comparison = RunComparator.compare(baseline, candidate, THRESHOLD, CONFIDENCE);
+
+        // Then
+        assertThat(comparison.series()).singleElement().satisfies(series -> {
+            assertThat(series.p99Verdict()).isEqualTo(RunComparison.Verdict.NO_CHANGE);
+            assertThat(series.throughputVerdict()).isEqualTo(RunComparison.Verdict.NO_CHANGE);
+        });
+        assertThat(comparison.hasRegressions()).isFalse();
+        assertThat(comparison.sameEnvironment()).isTrue();
+    }
+
+    @Test
+    void compare_shouldReportInsufficientData_whenRunsAreTooShort() {
+        // Given
+        Histogram few = new Histogram(3);
+        few.recordValue(1000);
+        RunRecord baseline = run("base", new Histogram[]{few, few}, new long[]{1, 1});
+        RunRecord candidate = run("new", new Histogram[]{few, few}, new long[]{1, 1});
+
+        // When
+        RunComparison.SeriesComparison series =
+                RunComparator.compare(baseline, candidate, THRESHOLD, CONFIDENCE).series().get(0);
+
+        // Then
+        assertThat(series.p99Verdict()).isEqualTo(RunComparison.Verdict.INSUFFICIENT_DATA);
+        assertThat(series.throughputVerdict()).isEqualTo(RunComparison.Verdict.INSUFFICIENT_DATA);
+        assertThat(series.throughputPValue()).isNull();
+    }
+
+    @Test
+    void compare_shouldReportInsufficientData_whenLatencyIsTooSparsePerBatch() {
+        // Given 60 seconds of 20 requests each: plenty of requests overall, but only 11 batches of 100 per run
+        RunRecord baseline = run("base", latencies(1, 0.0, 20), perSecond(2, 100));
+        RunRecord candidate = run("new", latencies(2, 0.0, 20), perSecond(3, 100));
+        RunRecord shortRun = run("short", Arrays.copyOf(latencies(4, 0.0, 20), 25), perSecond(5, 100));
+
+        // When
+        RunComparison.SeriesComparison enough =
+                RunComparator.compare(baseline, candidate, THRESHOLD, CONFIDENCE).series().get(0);
+        RunComparison.SeriesComparison tooFew =
+                RunComparator.compare(baseline, shortRun, THRESHOLD, CONFIDENCE).series().get(0);
+
+        // Then
+        assertThat(enough.p99Verdict()).isEqualTo(RunComparison.Verdict.NO_CHANGE);
+        assertThat(tooFew.p99Verdict()).isEqualTo(RunComparison.Verdict.INSUFFICIENT_DATA);
+    }
+
+    @Test
+    void batchP99s_shouldGroupSteadySecondsIntoBatchesOfAtLeastHundredRequests() {
+        // Given 10 seconds of 40 requests: the 8 steady ones make 2 full batches of 120 and a partial one of 80
+        Histogram[] perSecond = latencies(1, 0.0, 40);
+
+        // When
+        double[] p99s = RunComparator.batchP99s(Arrays.copyOf(perSecond, 10));
+
+        // Then
+        assertThat(p99s).hasSize(2);
+    }
+
+    @Test
+    void compare_shouldNotCompare_whenRunsHaveNoSeriesInCommon() {
+        // Given
+        RunRecord baseline = run("base", latencies(1, 0.0), perSecond(2, 100));
+        RunRecord candidate = new RunRecord("new", "load-test", Instant.EPOCH, 60_000L, Map.of(),
+                baseline.environment(), List.of());
+
+        // When
+        RunComparison comparison = RunComparator.compare(baseline, candidate, THRESHOLD, CONFIDENCE);
+
+        // Then
+        assertThat(comparison.hasCommonSeries()).isFalse();
+        assertThat(comparison.comparable()).isFalse();
+        assertThat(comparison.hasRegressions()).isFalse();
+    }
+
+    @Test
+    void compare_shouldNotCompare_whenOnlyOneRunUsedEmbeddedDatabase() {
+        // Given a slower candidate measured on H2 against a MySQL baseline
+        RunRecord baseline = run("base", latencies(1, 0.0), perSecond(2, 100));
+        RunRecord candidate = run("new", latencies(2, 0.02), perSecond(3, 80), "H2 2.3.232 (2024-08-11)");
+
+        // When
+        RunComparison comparison = RunComparator.compare(baseline, candidate, THRESHOLD, CONFIDENCE);
+
+        // Then
+        assertThat(comparison.series()).singleElement().satisfies(series -> {
+            assertThat(series.p99Verdict()).isEqualTo(RunComparison.Verdict.NOT_COMPARABLE);
+            assertThat(series.throughputVerdict()).isEqualTo(RunComparison.Verdict.NOT_COMPARABLE);
+        });
+        assertThat(comparison.comparable()).isFalse();
+        assertThat(comparison.hasRegressions()).isFalse();
+    }
+
+    @Test
+    void decode_shouldRestoreHistogramExactly_whenEncoded() {
+        // Given
+        Histogram histogram = total(latencies(10, 0.01));
+
+        // When
+        Histogram decoded = RunRecord.decode(RunRecord.encode(histogram));
+
+        // Then
+        assertThat(decoded).isEqualTo(histogram);
+        assertThat(decoded.getValueAtPercentile(99)).isEqualTo(histogram.getValueAtPercentile(99));
+    }
+
+    /**
+     * 60 seconds of 333 latencies between 1 and 2 ms, with the given fraction pushed to 4-5 ms.
+     */
+    private static Histogram[] latencies(long seed, double slowFraction) {
+        return latencies(seed, slowFraction, 333);
+    }
+
+    private static Histogram[] latencies(long seed, double slowFraction, int perSecond) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Histogram[] seconds = new Histogram[60];
+        for (int s = 0; s < seconds.length; s++) {
+            seconds[s] = new Histogram(3);
+            for (int i = 0; i < perSecond; i++) {
+                long micros = 1000 + random.nextLong(1000);
+                seconds[s].recordValue(random.nextDouble() < slowFraction ? micros + 3000 : micros);
+            }
+        }
+        return seconds;
+    }
+
+    private static Histogram total(Histogram[] perSecond) {
+        Histogram total = new Histogram(3);
+        Arrays.stream(perSecond).forEach(total::add);
+        return total;
+    }
+
+    private static long[] perSecond(long seed, long mean) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] seconds = new long[60];
+        for (int i = 0; i < seconds.length; i++) {
+            seconds[i] = mean - 5 + random.nextLong(11);
+        }
+        return seconds;
+    }
+
+    private static RunRecord run(String id, Histogram[] latencyPerSecond, long[] perSecond) {
+        return run(id, latencyPerSecond, perSecond, "MySQL 8.0");
+    }
+
+    private static RunRecord run(String id, Histogram[] latencyPerSecond, long[] perSecond, String database) {
+        Histogram histogram = total(latencyPerSecond);
+        long requests = histogram.getTotalCount();
+        RunRecord.Series series = new RunRecord.Series("REST", "TOTAL", requests, 0,
+                (double) requests / perSecond.length, LatencySummary.of(histogram), perSecond,
+                RunRecord.encode(histogram), Arrays.stream(latencyPerSecond).map(RunRecord::encode).toList());
+        EnvironmentFingerprint environment = new EnvironmentFingerprint("21", "vendor", "vm", List.of(), List.of("G1"),
+                "Linux", "6", "amd64", 8, 1L << 30, "host", database, "pooled", List.of());
+        return new RunRecord(id, "load-test", Instant.EPOCH, perSecond.length * 1000L, Map.of(), environment,
+                List.of(series));
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.performance.scaling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.LongToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ScalingAnalysisUTest {
+
+    private static final List<Long> SIZES = List.of(10_000L, 100_000L, 1_000_000L, 10_000_000L);
+    private static final double SUPER_LINEAR = 1.2;
+
+    @Test
+    void growth_shouldFlagSuperLinear_whenP99GrowsFasterThanRows() {
+        // Given a flat lookup and an operation that is flat at first, then quadratic
+        List<ScalingResult.SizeRun> runs = runs(
+                rows -> 1.0,
+                rows -> rows <= 100_000 ? 5.0 : 5.0 * Math.pow(rows / 100_000.0, 2));
+
+        // When
+        List<ScalingResult.Growth> growth = ScalingAnalysis.growth(runs, SUPER_LINEAR);
+
+        // Then
+        assertThat(growth).extracting(ScalingResult.Growth::operation).containsExactly("CAR GET_BY_ID", "CAR GET_ALL");
+        assertThat(growth.get(0).p99Exponent()).isCloseTo(0.0, within(1e-9));
+        assertThat(growth.get(0).superLinear()).isFalse();
+        assertThat(growth.get(1).p99Exponent()).isCloseTo(2.0, within(1e-9));
+        assertThat(growth.get(1).points()).hasSize(4);
+        assertThat(growth.get(1).superLinear()).isTrue();
+    }
+
+    @Test
+    void growth_shouldNotFlag_whenP99GrowsLinearly() {
+        // Given
+        List<ScalingResult.SizeRun> runs = runs(rows -> 1.0, rows -> rows / 10_000.0);
+
+        // When
+        ScalingResult.Growth getAll = ScalingAnalysis.growth(runs, SUPER_LINEAR).get(1);
+
+        // Then
+        assertThat(getAll.p99Exponent()).isCloseTo(1.0, within(1e-9));
+        assertThat(getAll.superLinear()).isFalse();
+    }
+
+    @Test
+    void steepestExponent_shouldSkipSteps_whenASizeHadNoRequests() {
+        // Given
+        List<ScalingResult.Measurement> points = List.of(
+                measurement(SIZES.get(0), "CAR GET_ALL", 10, 1.0),
+                measurement(SIZES.get(1), "CAR GET_ALL", 0, 0.0),
+                measurement(SIZES.get(2), "CAR GET_ALL", 10, 0.0),
+                measurement(SIZES.get(3), "CAR GET_ALL", 10, 3.0));
+
+        // When
+        double exponent = ScalingAnalysis.steepestExponent(points);
+
+        // Then
+        assertThat(exponent).isNaN();
+    }
+
+    @Test
+    void growth_shouldFitOverMeasuredSizesOnly_whenOperationWasCappedAtLargeSizes() {
+        // Given GET_ALL, linear in the rows, only measured at the two smallest sizes
+        List<ScalingResult.SizeRun> runs = SIZES.stream()
+                .map(rows -> new ScalingResult.SizeRun(rows, 0, rows > 100_000
+                        ? List.of(measurement(rows, "CAR GET_BY_ID", 1000, 1.0))
+                        : List.of(measurement(rows, "CAR GET_BY_ID", 1000, 1.0),
+                                measurement(rows, "CAR GET_ALL", 100, rows / 10_000.0))))
+                .toList();
+
+        // When
+        ScalingResult.Growth getAll = ScalingAnalysis.growth(runs, SUPER_LINEAR).get(1);
+
+        // Then
+        assertThat(getAll.points()).extracting(ScalingResult.Measurement::rows).containsExactly(10_000L, 100_000L);
+        assertThat(getAll.p99Exponent()).isCloseTo(1.0, within(1e-9));
+        assertThat(getAll.at(1_000_000L)).isNull();
+    }
+
+    private static List<ScalingResult.SizeRun> runs(LongToDoubleFunction getById, LongToDoubleFunction getAll) {
+        return SIZES.stream()
+                .map(rows -> new ScalingResult.SizeRun(rows, 0, List.of(
+                        measurement(rows, "CAR GET_BY_ID", 1000, getById.applyAsDouble(rows)),
+                        measurement(rows, "CAR GET_ALL", 100, getAll.applyAsDouble(rows)))))
+                .toList();
+    }
+
+    private static ScalingResult.Measurement measurement(long rows, String operation, long requests, double p99Ms) {
+        return new ScalingResult.Measurement(rows, "REST-HTTP", operation, requests, 0, requests / 30.0, p99Ms / 2,
+                p99Ms, null);
+    }
+}
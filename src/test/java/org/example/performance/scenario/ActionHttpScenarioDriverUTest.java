@@ -0,0 +1,72 @@
+package org.example.performance.scenario;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ActionHttpScenarioDriverUTest {
+
+    @Test
+    void path_shouldTargetActionEndpoint_whenCallIsForEntity() {
+        // Given
+        ScenarioCall call = call(ScenarioEntity.EMPLOYEE, OperationType.GET_BY_ID);
+
+        // When
+        String path = ActionHttpScenarioDriver.path(call);
+
+        // Then
+        assertThat(path).isEqualTo("/actions/employees/get-by-id");
+    }
+
+    @Test
+    void body_shouldCarryIdAndEntityField_whenCallIsUpdate() {
+        // Given
+        ScenarioCall call = call(ScenarioEntity.ANIMAL, OperationType.UPDATE);
+
+        // When
+        Map<String, Object> body = ActionHttpScenarioDriver.body(call);
+
+        // Then
+        assertThat(body).containsExactlyInAnyOrderEntriesOf(Map.of("id", 42L, "type", "TestValue"));
+    }
+
+    @Test
+    void body_shouldCarryPageAndSize_whenCallIsGetPage() {
+        // Given
+        ScenarioCall call = call(ScenarioEntity.CAR, OperationType.GET_PAGE);
+
+        // When
+        Map<String, Object> body = ActionHttpScenarioDriver.body(call);
+
+        // Then
+        assertThat(body).containsExactlyInAnyOrderEntriesOf(
+                Map.of("page", 3, "size", ScenarioOperation.DEFAULT_PAGE_SIZE));
+    }
+
+    @Test
+    void body_shouldBeNull_whenEndpointTakesNoBody() {
+        for (OperationType type : List.of(OperationType.GET_ALL, OperationType.COUNT)) {
+            // Given
+            ScenarioCall call = call(ScenarioEntity.CAR, type);
+
+            // When / Then
+            assertThat(ActionHttpScenarioDriver.body(call)).isNull();
+        }
+    }
+
+    @Test
+    void parse_shouldKeepOriginalMeaning_whenApiIsGivenWithoutTransport() {
+        assertThat(ApiMode.parse("rest")).isEqualTo(ApiMode.REST_HTTP);
+        assertThat(ApiMode.parse("ACTION")).isEqualTo(ApiMode.ACTION_LOCAL);
+        assertThat(ApiMode.parse("action_http")).isEqualTo(ApiMode.ACTION_HTTP);
+        assertThatThrownBy(() -> ApiMode.parse("GRPC")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ScenarioCall call(ScenarioEntity entity, OperationType type) {
+        return new ScenarioCall(0, new ScenarioOperation(entity, type, 1), 42L, 3, "TestValue");
+    }
+}
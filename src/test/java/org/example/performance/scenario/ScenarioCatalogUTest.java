@@ -0,0 +1,94 @@
+package org.example.performance.scenario;
+
+import org.example.config.ScenarioProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScenarioCatalogUTest {
+
+    private final ScenarioCatalog catalog = new ScenarioCatalog(new ScenarioProperties());
+
+    @Test
+    void list_shouldLoadBundledScenarios_whenNoDirectoryIsConfigured() {
+        // When / Then
+        assertThat(catalog.list()).extracting(Scenario::name)
+                .contains(ScenarioCatalog.DEFAULT_SCENARIO, "read-heavy", "latest-reads");
+        assertThat(catalog.find("read-heavy").idSelection().distribution()).isEqualTo(Scenario.Distribution.ZIPFIAN);
+        assertThat(catalog.find("read-heavy").phases()).hasSize(3);
+    }
+
+    @Test
+    void find_shouldPreferDirectoryScenario_whenNameMatchesBundledOne(@TempDir Path directory) throws Exception {
+        // Given
+        Files.writeString(directory.resolve("default.yml"), """
+                name: default
+                operations:
+                  - { entity: car, type: count, weight: 1 }
+                """);
+        ScenarioProperties properties = new ScenarioProperties();
+        properties.setDirectory(directory.toString());
+
+        // When
+        Scenario scenario = new ScenarioCatalog(properties).find(ScenarioCatalog.DEFAULT_SCENARIO);
+
+        // Then
+        assertThat(scenario.operations()).containsExactly(new ScenarioOperation(ScenarioEntity.CAR, OperationType.COUNT, 1));
+    }
+
+    @Test
+    void find_shouldListKnownScenarios_whenNameIsUnknown() {
+        assertThatThrownBy(() -> catalog.find("missing"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown scenario 'missing'")
+                .hasMessageContaining(ScenarioCatalog.DEFAULT_SCENARIO);
+    }
+
+    @Test
+    void parseYaml_shouldApplyDefaults_whenOptionalFieldsAreMissing() throws Exception {
+        // When
+        Scenario scenario = catalog.parseYaml("""
+                name: minimal
+                operations:
+                  - { entity: ANIMAL, type: SEARCH, weight: 2 }
+                  - { entity: ANIMAL, type: GET_PAGE, weight: 1 }
+                """);
+
+        // Then
+        assertThat(scenario.idSelection().distribution()).isEqualTo(Scenario.Distribution.UNIFORM);
+        assertThat(scenario.payload().minLength()).isEqualTo(8);
+        assertThat(scenario.operations().get(0).term()).isEqualTo(ScenarioOperation.DEFAULT_TERM);
+        assertThat(scenario.operations().get(1).pageSize()).isEqualTo(ScenarioOperation.DEFAULT_PAGE_SIZE);
+        assertThat(scenario.phasesOr(7, 15)).containsExactly(ScenarioPhase.steady("steady", 15, 7));
+    }
+
+    @Test
+    void parseYaml_shouldReject_whenReadRatioNeedsMissingWrites() {
+        assertThatThrownBy(() -> catalog.parseYaml("""
+                name: reads-only
+                readRatio: 0.8
+                operations:
+                  - { entity: CAR, type: GET_BY_ID, weight: 1 }
+                """))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("needs both read and write operations");
+    }
+
+    @Test
+    void parseYaml_shouldReject_whenPhaseHasNoUsers() {
+        assertThatThrownBy(() -> catalog.parseYaml("""
+                name: no-users
+                operations:
+                  - { entity: CAR, type: COUNT, weight: 1 }
+                phases:
+                  - { name: ramp, durationSeconds: 10 }
+                """))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("needs users or fromUsers/toUsers");
+    }
+}
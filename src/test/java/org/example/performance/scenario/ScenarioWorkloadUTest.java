@@ -0,0 +1,144 @@
+package org.example.performance.scenario;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScenarioWorkloadUTest {
+
+    private static final Map<ScenarioEntity, ScenarioWorkload.IdRange> CARS_1_TO_1000 =
+            Map.of(ScenarioEntity.CAR, new ScenarioWorkload.IdRange(1, 1000));
+
+    @Test
+    void next_shouldSplitReadsAndWrites_whenReadRatioIsSet() {
+        // Given weights that favour writes, rescaled to 80% reads
+        ScenarioWorkload workload = new ScenarioWorkload(scenario(0.8, Scenario.Distribution.UNIFORM,
+                new ScenarioOperation(ScenarioEntity.CAR, OperationType.GET_BY_ID, 1),
+                new ScenarioOperation(ScenarioEntity.CAR, OperationType.CREATE, 5),
+                new ScenarioOperation(ScenarioEntity.CAR, OperationType.UPDATE, 5)), CARS_1_TO_1000);
+        SplittableRandom random = new SplittableRandom(7);
+
+        // When
+        int writes = 0;
+        for (int i = 0; i < 20_000; i++) {
+            if (workload.next(random).operation().type().isWrite()) writes++;
+        }
+
+        // Then
+        assertThat(writes / 20_000.0).isBetween(0.18, 0.22);
+    }
+
+    @Test
+    void next_shouldStayWithinIdRange_whenDistributionIsUniformOrZipfian() {
+        for (Scenario.Distribution distribution : List.of(Scenario.Distribution.UNIFORM, Scenario.Distribution.ZIPFIAN)) {
+            // Given
+            ScenarioWorkload workload = new ScenarioWorkload(scenario(null, distribution,
+                    new ScenarioOperation(ScenarioEntity.CAR, OperationType.GET_BY_ID, 1)), CARS_1_TO_1000);
+            SplittableRandom random = new SplittableRandom(11);
+
+            // When / Then
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(workload.next(random).id()).isBetween(1L, 1000L);
+            }
+        }
+    }
+
+    @Test
+    void next_shouldFavourNewestIdsAndFollowCreates_whenDistributionIsLatest() {
+        // Given
+        ScenarioWorkload workload = new ScenarioWorkload(scenario(null, Scenario.Distribution.LATEST,
+                new ScenarioOperation(ScenarioEntity.CAR, OperationType.GET_BY_ID, 1),
+                new ScenarioOperation(ScenarioEntity.CAR, OperationType.CREATE, 1)), CARS_1_TO_1000);
+        SplittableRandom random = new SplittableRandom(13);
+
+        // When
+        int newest = 0;
+        int reads = 0;
+        boolean sawCreatedId = false;
+        for (int i = 0; i < 10_000; i++) {
+            ScenarioCall call = workload.next(random);
+            if (call.operation().type() == OperationType.CREATE) {
+                workload.completed(call, i < 100);
+            } else {
+                reads++;
+                if (call.id() > 900) newest++;
+                if (call.id() > 1000) sawCreatedId = true;
+            }
+        }
+
+        // Then
+        assertThat(newest).isGreaterThan(reads / 2);
+        assertThat(sawCreatedId).isTrue();
+    }
+
+    @Test
+    void next_shouldSpreadOverCreatedIds_whenZipfianScenarioStartsOnEmptyTable() {
+        for (Scenario.Distribution distribution : List.of(Scenario.Distribution.ZIPFIAN, Scenario.Distribution.LATEST)) {
+            // Given an empty table that the scenario fills with 1000 rows
+            ScenarioWorkload workload = new ScenarioWorkload(scenario(null, distribution,
+                    new ScenarioOperation(ScenarioEntity.CAR, OperationType.GET_BY_ID, 1),
+                    new ScenarioOperation(ScenarioEntity.CAR, OperationType.CREATE, 1)),
+                    Map.of(ScenarioEntity.CAR, ScenarioWorkload.IdRange.EMPTY));
+            SplittableRandom random = new SplittableRandom(19);
+            int created = 0;
+            while (created < 1000) {
+                ScenarioCall call = workload.next(random);
+                if (call.operation().type() == OperationType.CREATE) {
+                    workload.completed(call, true);
+                    created++;
+                }
+            }
+
+            // When
+            Set<Long> ids = new HashSet<>();
+            for (int i = 0; i < 10_000; i++) {
+                ScenarioCall call = workload.next(random);
+                if (call.operation().type() == OperationType.GET_BY_ID) ids.add(call.id());
+            }
+
+            // Then
+            assertThat(ids).as(distribution.name()).hasSizeGreaterThan(100).allMatch(id -> id >= 1 && id <= 1000);
+        }
+    }
+
+    @Test
+    void value_shouldStartWithDefaultTermAndRespectLength_whenGenerated() {
+        // Given
+        ScenarioWorkload workload = new ScenarioWorkload(scenario(null, Scenario.Distribution.UNIFORM,
+                new ScenarioOperation(ScenarioEntity.CAR, OperationType.CREATE, 1)), CARS_1_TO_1000);
+        SplittableRandom random = new SplittableRandom(17);
+
+        // When / Then
+        for (int i = 0; i < 1000; i++) {
+            String value = workload.next(random).value();
+            assertThat(value).startsWith(ScenarioOperation.DEFAULT_TERM).hasSizeBetween(8, 16);
+        }
+    }
+
+    @Test
+    void activeUsers_shouldRampLinearly_whenPhaseGoesFromFewToMany() {
+        // Given
+        List<ScenarioPhase> phases = List.of(
+                ScenarioPhase.steady("warmup", 10, 5),
+                new ScenarioPhase("ramp", 10, null, 5, 25));
+
+        // When / Then
+        assertThat(ScenarioRunner.activeUsers(phases, 0)).isEqualTo(5);
+        assertThat(ScenarioRunner.activeUsers(phases, 9_999)).isEqualTo(5);
+        assertThat(ScenarioRunner.activeUsers(phases, 15_000)).isEqualTo(15);
+        assertThat(ScenarioRunner.activeUsers(phases, 19_999)).isEqualTo(25);
+        assertThat(ScenarioRunner.activeUsers(phases, 20_000)).isZero();
+    }
+
+    private static Scenario scenario(Double readRatio, Scenario.Distribution distribution,
+                                     ScenarioOperation... operations) {
+        return new Scenario("test", null, readRatio, new Scenario.IdSelection(distribution, null),
+                null, null, List.of(operations), null);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.performance.seed;
+
+import org.example.config.IntegrationTestBase;
+import org.example.models.view.GroupCount;
+import org.example.service.CarService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataSeederITest extends IntegrationTestBase {
+
+    @Autowired
+    private DataSeeder dataSeeder;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void seed_shouldLoadRequestedRowsWithSkewedBrandsAndRebuildDerivedCounts_whenTablesAreTruncated() {
+        // Given
+        SeedConfiguration config = new SeedConfiguration(5_000, 2_000, 1_500, 700, 365, 0.99, 42L, true);
+
+        // When
+        SeedResult result = dataSeeder.seed(config);
+
+        // Then
+        assertThat(result.totalRows()).isEqualTo(8_500);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM car", Long.class)).isEqualTo(5_000L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM animal", Long.class)).isEqualTo(2_000L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM gov_employee", Long.class)).isEqualTo(1_500L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM car WHERE created_at < NOW() - INTERVAL 180 DAY", Long.class)).isGreaterThan(1_000L);
+        assertThat(carService.count()).isEqualTo(5_000L);
+
+        List<GroupCount> brands = carService.getCountsByBrand();
+        assertThat(brands.get(0).group()).isEqualTo(DataSeeder.BRANDS.get(0));
+        assertThat(brands.get(0).count()).isGreaterThan(brands.get(brands.size() - 1).count() * 5);
+        assertThat(brands.stream().mapToLong(GroupCount::count).sum()).isEqualTo(5_000L);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.performance.seed;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZipfianGeneratorUTest {
+
+    @Test
+    void next_shouldStayInRangeAndFavourLowRanks_whenSampledRepeatedly() {
+        // Given
+        ZipfianGenerator generator = new ZipfianGenerator(40);
+        SplittableRandom random = new SplittableRandom(7);
+        long[] counts = new long[40];
+
+        // When
+        for (int i = 0; i < 200_000; i++) {
+            counts[generator.nextInt(random)]++;
+        }
+
+        // Then
+        assertThat(counts[0]).isGreaterThan(counts[1]);
+        assertThat(counts[1]).isGreaterThan(counts[10]);
+        assertThat(counts[10]).isGreaterThan(counts[39]);
+        // With theta 0.99 over 40 items the top rank gets roughly 23% of samples
+        assertThat(counts[0] / 200_000.0).isBetween(0.18, 0.28);
+    }
+
+    @Test
+    void next_shouldAlwaysReturnZero_whenThereIsOneItem() {
+        // Given
+        ZipfianGenerator generator = new ZipfianGenerator(1);
+        SplittableRandom random = new SplittableRandom(1);
+
+        // When & Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(generator.next(random)).isZero();
+        }
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new ZipfianGenerator(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ZipfianGenerator(10, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.performance.timing;
+
+import org.example.config.ApiTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApiTimingFilterApiTest extends ApiTestBase {
+
+    @Autowired
+    private ApiTimingRecorder apiTimingRecorder;
+
+    @BeforeEach
+    void setUp() {
+        apiTimingRecorder.reset();
+    }
+
+    @Test
+    void filter_shouldTimeBothApiStylesAlike_whenRestAndActionRequestsAreServed() throws Exception {
+        // Given
+        Long carId = createTestCar("Toyota");
+
+        // When
+        validateSuccess(getJson("/api/cars/" + carId));
+        validateSuccess(postJson("/actions/cars/get-by-id", Map.of("id", carId)));
+
+        // Then
+        List<ApiTimingRecorder.ApiTimingSummary> summaries = apiTimingRecorder.summaries();
+        assertThat(summaries).extracting(ApiTimingRecorder.ApiTimingSummary::api)
+                .containsExactly(ApiTimingRecorder.REST, ApiTimingRecorder.ACTION);
+        assertThat(summaries).allSatisfy(summary -> {
+            assertThat(summary.requests()).isEqualTo(1);
+            assertThat(summary.errors()).isZero();
+            assertThat(summary.total().maxMs()).isGreaterThan(0);
+        });
+    }
+
+    @Test
+    void filter_shouldCountError_whenResourceIsMissing() throws Exception {
+        // When
+        validateNotFound(getJson("/api/cars/999999"));
+
+        // Then
+        assertThat(apiTimingRecorder.summaries()).singleElement()
+                .satisfies(summary -> assertThat(summary.errors()).isEqualTo(1));
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.performance.timing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingUTest {
+
+    @Test
+    void phases_shouldTakeDeserializationOutOfHandler_whenRequestHasBody() {
+        // Given marks at 0 in, 100 handler, 150-250 body read, 700 body write
+        RequestTiming timing = new RequestTiming(1_000);
+        timing.markHandlerStart(1_100);
+        timing.markReadStart(1_150);
+        timing.markReadEnd(1_250);
+        timing.markWriteStart(1_700);
+
+        // When
+        RequestTiming.Phases phases = timing.phases(2_000);
+
+        // Then
+        assertThat(phases).isEqualTo(new RequestTiming.Phases(1_000, 100, 500, 300, 100));
+    }
+
+    @Test
+    void phases_shouldReportNoConversion_whenRequestHasNoBodyAndNoResponseBody() {
+        // Given
+        RequestTiming timing = new RequestTiming(1_000);
+        timing.markHandlerStart(1_200);
+
+        // When
+        RequestTiming.Phases phases = timing.phases(1_900);
+
+        // Then
+        assertThat(phases).isEqualTo(new RequestTiming.Phases(900, 0, 700, 0, 200));
+    }
+
+    @Test
+    void phases_shouldKeepFirstWriteMark_whenErrorBodyIsWrittenAfterResponseBody() {
+        // Given
+        RequestTiming timing = new RequestTiming(0);
+        timing.markHandlerStart(10);
+        timing.markWriteStart(60);
+        timing.markWriteStart(80);
+
+        // When
+        RequestTiming.Phases phases = timing.phases(100);
+
+        // Then
+        assertThat(phases.handler()).isEqualTo(50);
+        assertThat(phases.serialization()).isEqualTo(40);
+    }
+
+    @Test
+    void apiOf_shouldSeparateRestAndActions_whenPathIsTimed() {
+        assertThat(ApiTimingRecorder.apiOf("/api/cars/1")).isEqualTo(ApiTimingRecorder.REST);
+        assertThat(ApiTimingRecorder.apiOf("/actions/cars/get-by-id")).isEqualTo(ApiTimingRecorder.ACTION);
+        assertThat(ApiTimingRecorder.apiOf("/apis")).isNull();
+        assertThat(ApiTimingRecorder.apiOf("/performance/comparison")).isNull();
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.performance.worker;
+
+import org.HdrHistogram.Histogram;
+import org.example.performance.load.LatencySummary;
+import org.example.performance.results.RunRecord;
+import org.example.performance.scenario.ScenarioPhase;
+import org.example.performance.scenario.ScenarioResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkerReportUTest {
+
+    private static final List<ScenarioPhase> PHASES = List.of(ScenarioPhase.steady("steady", 3, 4));
+
+    @Test
+    void merge_shouldMatchSingleHistogram_whenWorkersSplitTheSamples() {
+        // Given one set of latencies, half recorded by each worker, the slow tail only on the second
+        SplittableRandom random = new SplittableRandom(7);
+        Histogram all = new Histogram(3);
+        Histogram first = new Histogram(3);
+        Histogram second = new Histogram(3);
+        for (int i = 0; i < 20_000; i++) {
+            long micros = i % 2 == 1 && i % 100 == 1 ? 250_000 + random.nextLong(50_000) : 500 + random.nextLong(2_000);
+            all.recordValue(micros);
+            (i % 2 == 0 ? first : second).recordValue(micros);
+        }
+
+        // When
+        ScenarioResult merged = WorkerReport.merge("default", PHASES, List.of(
+                report(0, series("REST-HTTP", first, new long[]{3000, 4000, 3000})),
+                report(1, series("REST-HTTP", second, new long[]{2000, 5000, 3000}))));
+
+        // Then
+        ScenarioResult.OperationResult op = merged.operations().get(0);
+        assertThat(merged.operations()).hasSize(1);
+        assertThat(op.histogram().getTotalCount()).isEqualTo(all.getTotalCount());
+        for (double percentile : new double[]{50, 90, 99, 99.9, 100}) {
+            assertThat(op.histogram().getValueAtPercentile(percentile))
+                    .isEqualTo(all.getValueAtPercentile(percentile));
+        }
+        assertThat(op.requests()).isEqualTo(20_000);
+        assertThat(op.completedPerSecond()).containsExactly(5000, 9000, 6000);
+    }
+
+    @Test
+    void merge_shouldKeepDriversApart_whenWorkersRunBothApis() {
+        // Given
+        Histogram latency = new Histogram(3);
+        latency.recordValue(1_000);
+
+        // When
+        ScenarioResult merged = WorkerReport.merge("default", PHASES, List.of(
+                report(0, series("REST-HTTP", latency, new long[]{1}), series("ACTION-HTTP", latency, new long[]{1})),
+                report(1, series("REST-HTTP", latency, new long[]{1}), series("ACTION-HTTP", latency, new long[]{1}))));
+
+        // Then
+        assertThat(merged.drivers()).containsExactly("REST-HTTP", "ACTION-HTTP");
+        assertThat(merged.total("ACTION-HTTP").requests()).isEqualTo(2);
+        assertThat(merged.total("ACTION-HTTP").throughputPerSecond()).isEqualTo(2.0);
+    }
+
+    private static WorkerReport report(int worker, RunRecord.Series... series) {
+        return new WorkerReport(worker, 0, 3000, List.of(series));
+    }
+
+    private static RunRecord.Series series(String driver, Histogram histogram, long[] perSecond) {
+        long requests = histogram.getTotalCount();
+        return RunRecord.Series.of(new ScenarioResult.OperationResult(driver, "CAR GET_BY_ID", requests, 0,
+                requests / 3.0, LatencySummary.of(histogram), histogram, perSecond, new Histogram[0]));
+    }
+}
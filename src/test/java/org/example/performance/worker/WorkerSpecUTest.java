@@ -0,0 +1,57 @@
+package org.example.performance.worker;
+
+import org.example.performance.scenario.OperationType;
+import org.example.performance.scenario.Scenario;
+import org.example.performance.scenario.ScenarioEntity;
+import org.example.performance.scenario.ScenarioOperation;
+import org.example.performance.scenario.ScenarioPhase;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkerSpecUTest {
+
+    @Test
+    void share_shouldAddUpToTotal_whenUsersDoNotDivideEvenly() {
+        // When
+        List<Integer> shares = IntStream.range(0, 3).mapToObj(worker -> WorkerSpec.share(10, worker, 3)).toList();
+
+        // Then
+        assertThat(shares).containsExactly(4, 3, 3);
+    }
+
+    @Test
+    void share_shouldSplitEveryPhase_whenScenarioRamps() {
+        // Given
+        Scenario scenario = scenario(List.of(new ScenarioPhase("ramp", 10, null, 0, 9),
+                ScenarioPhase.steady("steady", 20, 9)));
+
+        // When
+        List<Scenario> shares = IntStream.range(0, 2)
+                .mapToObj(worker -> WorkerSpec.share(scenario, worker, 2))
+                .toList();
+
+        // Then
+        assertThat(shares).extracting(s -> s.phases().get(0).toUsers()).containsExactly(5, 4);
+        assertThat(shares).extracting(s -> s.phases().get(1).maxUsers()).containsExactly(5, 4);
+        assertThat(shares).allSatisfy(s -> assertThat(s.phases().get(0).durationSeconds()).isEqualTo(10));
+    }
+
+    @Test
+    void share_shouldReject_whenPhaseHasFewerUsersThanWorkers() {
+        // Given
+        Scenario scenario = scenario(List.of(ScenarioPhase.steady("steady", 10, 2)));
+
+        // When / Then
+        assertThatThrownBy(() -> WorkerSpec.share(scenario, 0, 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Scenario scenario(List<ScenarioPhase> phases) {
+        return new Scenario("ramp", null, null, null, null, null,
+                List.of(new ScenarioOperation(ScenarioEntity.CAR, OperationType.GET_BY_ID, 1)), phases);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.repository;
+
+import org.example.config.IntegrationTestBase;
+import org.example.models.entity.Car;
+import org.example.models.view.CarView;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+public class CarJdbcRepositoryITest extends IntegrationTestBase {
+    @Autowired
+    private CarJdbcRepository carJdbcRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Test
+    void findById_shouldMatchJpaProjection() {
+        Car saved = carRepository.saveAndFlush(new Car(null, "Toyota"));
+
+        Optional<CarView> found = carJdbcRepository.findById(saved.getId());
+
+        assertThat(found).isPresent();
+        assertThat(found.get().brand()).isEqualTo("Toyota");
+        assertThat(found.get().createdAt()).isNotNull();
+        assertThat(carJdbcRepository.findById(-1L)).isEmpty();
+    }
+
+    @Test
+    void findPage_shouldMatchJpaProjection() {
+        carRepository.saveAndFlush(new Car(null, "BMW"));
+        carRepository.saveAndFlush(new Car(null, "Audi"));
+        carRepository.saveAndFlush(new Car(null, "Honda"));
+
+        List<CarView> jdbcPage = carJdbcRepository.findPage(1, 2);
+        List<CarView> jpaPage = carRepository.findAllProjectedBy(PageRequest.of(1, 2));
+
+        assertThat(jdbcPage).extracting(CarView::id).isEqualTo(jpaPage.stream().map(CarView::id).toList());
+    }
+
+    @Test
+    void findByBrandContainingIgnoreCase_shouldTreatWildcardsLiterally() {
+        carRepository.saveAndFlush(new Car(null, "Mini_Cooper"));
+        carRepository.saveAndFlush(new Car(null, "MiniXCooper"));
+
+        List<CarView> found = carJdbcRepository.findByBrandContainingIgnoreCase("mini_");
+
+        assertThat(found).extracting(CarView::brand).containsExactly("Mini_Cooper");
+        assertThat(carRepository.findProjectedByBrandContainingIgnoreCase("mini_"))
+                .extracting(CarView::brand).containsExactly("Mini_Cooper");
+    }
+}
@@ -4,9 +4,14 @@ import org.example.config.IntegrationTestBase;
 import org.example.models.entity.Car;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Transactional
@@ -14,6 +19,9 @@ public class CarRepositoryITest extends IntegrationTestBase {
     @Autowired
     private CarRepository carRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void saveAndFindCar() {
         Car car = new Car();
@@ -34,4 +42,25 @@ public class CarRepositoryITest extends IntegrationTestBase {
         carRepository.delete(c1);
         assertThat(carRepository.findById(c1.getId())).isEmpty();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void createdAtRangeWithKeyset_shouldBeEvaluatedAsIndexRangeScan() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Timestamp createdAt = Timestamp.valueOf(start.plusHours(i));
+            rows.add(new Object[]{"Brand-" + i, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO car (brand, created_at, updated_at) VALUES (?, ?, ?)", rows);
+
+        Map<String, Object> plan = jdbcTemplate.queryForMap(
+                "EXPLAIN SELECT id, brand, created_at, updated_at FROM car " +
+                "WHERE created_at >= '2024-02-01 00:00:00' AND created_at < '2024-02-02 00:00:00' " +
+                "AND (created_at > '2024-02-01 05:00:00' OR (created_at = '2024-02-01 05:00:00' AND id > 0)) " +
+                "ORDER BY created_at, id LIMIT 11");
+
+        assertThat(plan.get("key")).isEqualTo("idx_car_created_at_id");
+        assertThat(plan.get("type")).isEqualTo("range");
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("filesort");
+    }
+}
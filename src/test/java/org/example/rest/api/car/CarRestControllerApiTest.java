@@ -4,6 +4,7 @@ import org.example.config.ApiTestBase;
 import org.example.models.dto.CarDto;
 import org.example.models.entity.Car;
 import org.example.service.CarService;
+import org.example.service.ResourceCounters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -11,9 +12,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.stream.Stream;
 
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -22,6 +25,9 @@ public class CarRestControllerApiTest extends ApiTestBase {
     @Autowired
     private CarService carService;
 
+    @Autowired
+    private ResourceCounters resourceCounters;
+
     private Car testCar;
 
     @BeforeEach
@@ -273,6 +279,42 @@ public class CarRestControllerApiTest extends ApiTestBase {
                 .andExpect(jsonPath("$[0].brand").value("BMW"));
     }
 
+    // GET /api/cars/count - Count cars
+    @Test
+    void countCars_shouldReturnCounterValueAndSetCollectionHeader_whenCarsAreAddedAndDeleted() throws Exception {
+        // Given - cleanup bypasses the services, so start from a reconciled counter
+        resourceCounters.reconcileAll();
+        Car bmw = carService.add("BMW");
+        carService.add("Audi");
+        carService.delete(bmw.getId());
+
+        // When & Then
+        validateSuccess(getJson("/api/cars/count"))
+                .andExpect(jsonPath("$.resource").value("cars"))
+                .andExpect(jsonPath("$.count").value(2));
+        validateSuccess(getJson("/api/cars"))
+                .andExpect(header().string("X-Resource-Count", "2"));
+        validateSuccess(MockMvcRequestBuilders.head("/api/cars/" + testCar.getId()))
+                .andExpect(header().string("X-Resource-Count", "2"));
+        expectActionSuccess(validateSuccess(postJson("/actions/cars/count")))
+                .andExpect(jsonPath("$.count").value(2));
+    }
+
+    @Test
+    void searchAndQuery_shouldNotSetCollectionHeader_whenResponseIsFiltered() throws Exception {
+        // Given
+        resourceCounters.reconcileAll();
+        carService.add("BMW");
+
+        // When & Then
+        validateSuccess(getJson("/api/cars/search?brand=BMW"))
+                .andExpect(header().doesNotExist("X-Resource-Count"));
+        validateSuccess(getJson("/api/cars/query?filter=brand:eq:BMW"))
+                .andExpect(header().doesNotExist("X-Resource-Count"));
+        validateSuccess(getJson("/api/cars/page?page=0&size=1"))
+                .andExpect(header().doesNotExist("X-Resource-Count"));
+    }
+
     // GET /api/cars/page - Get paginated cars
     @Test
     void getCarsPage_shouldReturnPaginatedResults_whenValidParametersProvided() throws Exception {
@@ -1,8 +1,16 @@
 package org.example.rest.unit;
 
 import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
+import org.example.config.ReadPathProperties;
+import org.example.config.ReadPathProperties.ReadPath;
+import org.example.repository.AnimalJdbcRepository;
 import org.example.repository.AnimalRepository;
+import org.example.repository.GroupCountRepository;
+import org.example.repository.GroupCountRepository.Grouping;
 import org.example.service.AnimalService;
+import org.example.service.ResourceCounters;
+import org.example.service.ResourceCounters.Resource;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -10,6 +18,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +31,18 @@ import static org.mockito.Mockito.*;
 class AnimalServiceUTest {
     @Mock
     private AnimalRepository animalRepository;
+
+    @Mock
+    private AnimalJdbcRepository animalJdbcRepository;
+
+    @Spy
+    private ReadPathProperties readPathProperties = new ReadPathProperties();
+
+    @Mock
+    private GroupCountRepository groupCountRepository;
+
+    @Mock
+    private ResourceCounters resourceCounters;
     
     @InjectMocks
     private AnimalService animalService;
@@ -29,19 +50,19 @@ class AnimalServiceUTest {
     @Test
     void getAll_shouldReturnAllAnimals_whenRepositoryReturnsData() {
         // Given
-        List<Animal> expectedAnimals = Arrays.asList(
-            new Animal(1L, "Lion"), 
-            new Animal(2L, "Tiger")
+        List<AnimalView> expectedAnimals = Arrays.asList(
+            new AnimalView(1L, "Lion", null, null), 
+            new AnimalView(2L, "Tiger", null, null)
         );
-        when(animalRepository.findAll()).thenReturn(expectedAnimals);
+        when(animalRepository.findAllProjectedBy()).thenReturn(expectedAnimals);
         
         // When
-        List<Animal> actualAnimals = animalService.getAll();
+        List<AnimalView> actualAnimals = animalService.getAll();
         
         // Then
         assertThat(actualAnimals).hasSize(2);
         assertThat(actualAnimals).containsExactlyElementsOf(expectedAnimals);
-        verify(animalRepository).findAll();
+        verify(animalRepository).findAllProjectedBy();
     }
 
     @ParameterizedTest(name = "Get by ID: {0}")
@@ -51,12 +72,12 @@ class AnimalServiceUTest {
         when(animalRepository.findById(animalId)).thenReturn(repositoryResult);
         
         // When
-        Optional<Animal> result = animalService.getById(animalId);
+        Optional<AnimalView> result = animalService.getById(animalId);
         
         // Then
         assertThat(result.isPresent()).isEqualTo(shouldBePresent);
         if (shouldBePresent) {
-            assertThat(result.get().getType()).isEqualTo(expectedType);
+            assertThat(result.get().type()).isEqualTo(expectedType);
         }
         verify(animalRepository).findById(animalId);
     }
@@ -82,27 +103,30 @@ class AnimalServiceUTest {
         assertThat(result.getType()).isEqualTo(type);
         assertThat(result.getId()).isEqualTo(3L);
         verify(animalRepository).save(any(Animal.class));
+        verify(groupCountRepository).adjust(Grouping.ANIMAL_TYPE, type, 1);
+        verify(resourceCounters).adjust(Resource.ANIMAL, 1);
     }
 
     @ParameterizedTest(name = "Delete animal: {0}")
     @MethodSource("deleteData")
     void delete_shouldHandleVariousScenarios(String testName, Long animalId, boolean existsInRepo, boolean expectedResult, boolean shouldCallDelete) {
         // Given
-        when(animalRepository.existsById(animalId)).thenReturn(existsInRepo);
-        if (shouldCallDelete) {
-            doNothing().when(animalRepository).deleteById(animalId);
-        }
+        Animal existing = new Animal(animalId, "Lion");
+        when(animalRepository.findById(animalId)).thenReturn(existsInRepo ? Optional.of(existing) : Optional.empty());
         
         // When
         boolean result = animalService.delete(animalId);
         
         // Then
         assertThat(result).isEqualTo(expectedResult);
-        verify(animalRepository).existsById(animalId);
+        verify(animalRepository).findById(animalId);
         if (shouldCallDelete) {
-            verify(animalRepository).deleteById(animalId);
+            verify(animalRepository).delete(existing);
+            verify(groupCountRepository).adjust(Grouping.ANIMAL_TYPE, "Lion", -1);
+            verify(resourceCounters).adjust(Resource.ANIMAL, -1);
         } else {
-            verify(animalRepository, never()).deleteById(animalId);
+            verify(animalRepository, never()).delete(any(Animal.class));
+            verifyNoInteractions(groupCountRepository, resourceCounters);
         }
     }
 
@@ -120,22 +144,22 @@ class AnimalServiceUTest {
         when(animalRepository.findById(animalId)).thenReturn(repositoryResult);
         if (shouldCallSave && repositoryResult.isPresent()) {
             Animal updatedAnimal = new Animal(animalId, newType);
-            when(animalRepository.save(repositoryResult.get())).thenReturn(updatedAnimal);
+            when(animalRepository.saveAndFlush(repositoryResult.get())).thenReturn(updatedAnimal);
         }
         
         // When
-        Optional<Animal> result = animalService.update(animalId, newType);
+        Optional<AnimalView> result = animalService.update(animalId, newType);
         
         // Then
         assertThat(result.isPresent()).isEqualTo(shouldBePresent);
         if (shouldBePresent) {
-            assertThat(result.get().getType()).isEqualTo(newType);
+            assertThat(result.get().type()).isEqualTo(newType);
         }
         verify(animalRepository).findById(animalId);
         if (shouldCallSave) {
-            verify(animalRepository).save(any(Animal.class));
+            verify(animalRepository).saveAndFlush(any(Animal.class));
         } else {
-            verify(animalRepository, never()).save(any(Animal.class));
+            verify(animalRepository, never()).saveAndFlush(any(Animal.class));
         }
     }
 
@@ -148,34 +172,34 @@ class AnimalServiceUTest {
 
     @ParameterizedTest(name = "Search by type: {0}")
     @MethodSource("searchByTypeData")
-    void searchByType_shouldHandleVariousScenarios(String testName, String searchType, List<Animal> expectedAnimals, boolean shouldCallSpecificSearch) {
+    void searchByType_shouldHandleVariousScenarios(String testName, String searchType, List<AnimalView> expectedAnimals, boolean shouldCallSpecificSearch) {
         // Given
         if (shouldCallSpecificSearch) {
-            when(animalRepository.findByTypeContainingIgnoreCase(searchType)).thenReturn(expectedAnimals);
+            when(animalRepository.findProjectedByTypeContainingIgnoreCase(searchType)).thenReturn(expectedAnimals);
         } else {
-            when(animalRepository.findAll()).thenReturn(expectedAnimals);
+            when(animalRepository.findAllProjectedBy()).thenReturn(expectedAnimals);
         }
         
         // When
-        List<Animal> result = animalService.searchByType(searchType);
+        List<AnimalView> result = animalService.searchByType(searchType);
         
         // Then
         assertThat(result).hasSize(expectedAnimals.size());
         assertThat(result).containsExactlyElementsOf(expectedAnimals);
         
         if (shouldCallSpecificSearch) {
-            verify(animalRepository).findByTypeContainingIgnoreCase(searchType);
-            verify(animalRepository, never()).findAll();
+            verify(animalRepository).findProjectedByTypeContainingIgnoreCase(searchType);
+            verify(animalRepository, never()).findAllProjectedBy();
         } else {
-            verify(animalRepository).findAll();
-            verify(animalRepository, never()).findByTypeContainingIgnoreCase(any());
+            verify(animalRepository).findAllProjectedBy();
+            verify(animalRepository, never()).findProjectedByTypeContainingIgnoreCase(any());
         }
     }
 
     static Stream<Arguments> searchByTypeData() {
-        List<Animal> lionAnimals = Arrays.asList(new Animal(1L, "Lion"));
-        List<Animal> allAnimals = Arrays.asList(new Animal(1L, "Lion"), new Animal(2L, "Tiger"));
-        List<Animal> emptyAnimals = Arrays.asList(); // No animals match "   "
+        List<AnimalView> lionAnimals = Arrays.asList(new AnimalView(1L, "Lion", null, null));
+        List<AnimalView> allAnimals = Arrays.asList(new AnimalView(1L, "Lion", null, null), new AnimalView(2L, "Tiger", null, null));
+        List<AnimalView> emptyAnimals = Arrays.asList(); // No animals match "   "
         
         return Stream.of(
                 Arguments.of("Specific type provided", "Lion", lionAnimals, true),
@@ -190,19 +214,61 @@ class AnimalServiceUTest {
         // Given
         int page = 0;
         int size = 5;
-        List<Animal> expectedAnimals = Arrays.asList(new Animal(1L, "Lion"), new Animal(2L, "Tiger"));
+        List<AnimalView> expectedAnimals = Arrays.asList(new AnimalView(1L, "Lion", null, null), new AnimalView(2L, "Tiger", null, null));
         org.springframework.data.domain.PageRequest pageRequest = org.springframework.data.domain.PageRequest.of(page, size);
-        org.springframework.data.domain.Page<Animal> mockPage = mock(org.springframework.data.domain.Page.class);
-        when(animalRepository.findAll(pageRequest)).thenReturn(mockPage);
-        when(mockPage.getContent()).thenReturn(expectedAnimals);
+        when(animalRepository.findAllProjectedBy(pageRequest)).thenReturn(expectedAnimals);
         
         // When
-        List<Animal> result = animalService.getPage(page, size);
+        List<AnimalView> result = animalService.getPage(page, size);
         
         // Then
         assertThat(result).hasSize(2);
         assertThat(result).containsExactlyElementsOf(expectedAnimals);
-        verify(animalRepository).findAll(pageRequest);
-        verify(mockPage).getContent();
+        verify(animalRepository).findAllProjectedBy(pageRequest);
+    }
+
+    @Test
+    void getById_shouldReadThroughJdbcRepository_whenByIdPathIsJdbc() {
+        // Given
+        readPathProperties.getAnimal().setById(ReadPath.JDBC);
+        AnimalView expected = new AnimalView(1L, "lion", null, null);
+        when(animalJdbcRepository.findById(1L)).thenReturn(Optional.of(expected));
+
+        // When
+        Optional<AnimalView> result = animalService.getById(1L);
+
+        // Then
+        assertThat(result).contains(expected);
+        verify(animalRepository, never()).findById(any());
+    }
+
+    @Test
+    void searchByType_shouldReadThroughJdbcRepository_whenSearchPathIsJdbc() {
+        // Given
+        readPathProperties.getAnimal().setSearch(ReadPath.JDBC);
+        List<AnimalView> expected = List.of(new AnimalView(1L, "lion", null, null));
+        when(animalJdbcRepository.findByTypeContainingIgnoreCase("lion")).thenReturn(expected);
+
+        // When
+        List<AnimalView> result = animalService.searchByType("lion");
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(expected);
+        verify(animalRepository, never()).findProjectedByTypeContainingIgnoreCase(any());
+    }
+
+    @Test
+    void getPage_shouldReadThroughJdbcRepository_whenPagePathIsJdbc() {
+        // Given
+        readPathProperties.getAnimal().setPage(ReadPath.JDBC);
+        List<AnimalView> expected = List.of(new AnimalView(6L, "lion", null, null));
+        when(animalJdbcRepository.findPage(1, 5)).thenReturn(expected);
+
+        // When
+        List<AnimalView> result = animalService.getPage(1, 5);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(expected);
+        verify(animalRepository, never()).findAllProjectedBy(any(org.springframework.data.domain.Pageable.class));
     }
-} 
\ No newline at end of file
+} 
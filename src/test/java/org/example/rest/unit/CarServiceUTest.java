@@ -1,8 +1,18 @@
 package org.example.rest.unit;
 
 import org.example.models.entity.Car;
+import org.example.models.view.CarView;
+import org.example.config.ReadPathProperties;
+import org.example.config.ReadPathProperties.ReadPath;
+import org.example.repository.CarJdbcRepository;
 import org.example.repository.CarRepository;
+import org.example.repository.GroupCountRepository;
+import org.example.repository.GroupCountRepository.Grouping;
 import org.example.service.CarService;
+import org.example.service.ResourceCounters;
+import org.example.service.ResourceCounters.Resource;
+import org.example.service.query.KeysetCursor;
+import org.example.service.query.KeysetPage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -10,18 +20,34 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CarServiceUTest {
     @Mock
     private CarRepository carRepository;
+
+    @Mock
+    private CarJdbcRepository carJdbcRepository;
+
+    @Spy
+    private ReadPathProperties readPathProperties = new ReadPathProperties();
+
+    @Mock
+    private GroupCountRepository groupCountRepository;
+
+    @Mock
+    private ResourceCounters resourceCounters;
     
     @InjectMocks
     private CarService carService;
@@ -29,19 +55,19 @@ class CarServiceUTest {
     @Test
     void getAll_shouldReturnAllCars_whenRepositoryReturnsData() {
         // Given
-        List<Car> expectedCars = Arrays.asList(
-            new Car(1L, "Toyota"), 
-            new Car(2L, "BMW")
+        List<CarView> expectedCars = Arrays.asList(
+            new CarView(1L, "Toyota", null, null), 
+            new CarView(2L, "BMW", null, null)
         );
-        when(carRepository.findAll()).thenReturn(expectedCars);
+        when(carRepository.findAllProjectedBy()).thenReturn(expectedCars);
         
         // When
-        List<Car> actualCars = carService.getAll();
+        List<CarView> actualCars = carService.getAll();
         
         // Then
         assertThat(actualCars).hasSize(2);
         assertThat(actualCars).containsExactlyElementsOf(expectedCars);
-        verify(carRepository).findAll();
+        verify(carRepository).findAllProjectedBy();
     }
 
     @ParameterizedTest(name = "Get by ID: {0}")
@@ -51,12 +77,12 @@ class CarServiceUTest {
         when(carRepository.findById(carId)).thenReturn(repositoryResult);
         
         // When
-        Optional<Car> result = carService.getById(carId);
+        Optional<CarView> result = carService.getById(carId);
         
         // Then
         assertThat(result.isPresent()).isEqualTo(shouldBePresent);
         if (shouldBePresent) {
-            assertThat(result.get().getBrand()).isEqualTo(expectedBrand);
+            assertThat(result.get().brand()).isEqualTo(expectedBrand);
         }
         verify(carRepository).findById(carId);
     }
@@ -82,27 +108,30 @@ class CarServiceUTest {
         assertThat(result.getBrand()).isEqualTo(brand);
         assertThat(result.getId()).isEqualTo(3L);
         verify(carRepository).save(any(Car.class));
+        verify(groupCountRepository).adjust(Grouping.CAR_BRAND, brand, 1);
+        verify(resourceCounters).adjust(Resource.CAR, 1);
     }
 
     @ParameterizedTest(name = "Delete car: {0}")
     @MethodSource("deleteData")
     void delete_shouldHandleVariousScenarios(String testName, Long carId, boolean existsInRepo, boolean expectedResult, boolean shouldCallDelete) {
         // Given
-        when(carRepository.existsById(carId)).thenReturn(existsInRepo);
-        if (shouldCallDelete) {
-            doNothing().when(carRepository).deleteById(carId);
-        }
+        Car existing = new Car(carId, "Toyota");
+        when(carRepository.findById(carId)).thenReturn(existsInRepo ? Optional.of(existing) : Optional.empty());
         
         // When
         boolean result = carService.delete(carId);
         
         // Then
         assertThat(result).isEqualTo(expectedResult);
-        verify(carRepository).existsById(carId);
+        verify(carRepository).findById(carId);
         if (shouldCallDelete) {
-            verify(carRepository).deleteById(carId);
+            verify(carRepository).delete(existing);
+            verify(groupCountRepository).adjust(Grouping.CAR_BRAND, "Toyota", -1);
+            verify(resourceCounters).adjust(Resource.CAR, -1);
         } else {
-            verify(carRepository, never()).deleteById(carId);
+            verify(carRepository, never()).delete(any(Car.class));
+            verifyNoInteractions(groupCountRepository, resourceCounters);
         }
     }
 
@@ -120,22 +149,22 @@ class CarServiceUTest {
         when(carRepository.findById(carId)).thenReturn(repositoryResult);
         if (shouldCallSave && repositoryResult.isPresent()) {
             Car updatedCar = new Car(carId, newBrand);
-            when(carRepository.save(repositoryResult.get())).thenReturn(updatedCar);
+            when(carRepository.saveAndFlush(repositoryResult.get())).thenReturn(updatedCar);
         }
         
         // When
-        Optional<Car> result = carService.update(carId, newBrand);
+        Optional<CarView> result = carService.update(carId, newBrand);
         
         // Then
         assertThat(result.isPresent()).isEqualTo(shouldBePresent);
         if (shouldBePresent) {
-            assertThat(result.get().getBrand()).isEqualTo(newBrand);
+            assertThat(result.get().brand()).isEqualTo(newBrand);
         }
         verify(carRepository).findById(carId);
         if (shouldCallSave) {
-            verify(carRepository).save(any(Car.class));
+            verify(carRepository).saveAndFlush(any(Car.class));
         } else {
-            verify(carRepository, never()).save(any(Car.class));
+            verify(carRepository, never()).saveAndFlush(any(Car.class));
         }
     }
 
@@ -148,34 +177,34 @@ class CarServiceUTest {
 
     @ParameterizedTest(name = "Search by brand: {0}")
     @MethodSource("searchByBrandData")
-    void searchByBrand_shouldHandleVariousScenarios(String testName, String searchBrand, List<Car> expectedCars, boolean shouldCallSpecificSearch) {
+    void searchByBrand_shouldHandleVariousScenarios(String testName, String searchBrand, List<CarView> expectedCars, boolean shouldCallSpecificSearch) {
         // Given
         if (shouldCallSpecificSearch) {
-            when(carRepository.findByBrandContainingIgnoreCase(searchBrand)).thenReturn(expectedCars);
+            when(carRepository.findProjectedByBrandContainingIgnoreCase(searchBrand)).thenReturn(expectedCars);
         } else {
-            when(carRepository.findAll()).thenReturn(expectedCars);
+            when(carRepository.findAllProjectedBy()).thenReturn(expectedCars);
         }
         
         // When
-        List<Car> result = carService.searchByBrand(searchBrand);
+        List<CarView> result = carService.searchByBrand(searchBrand);
         
         // Then
         assertThat(result).hasSize(expectedCars.size());
         assertThat(result).containsExactlyElementsOf(expectedCars);
         
         if (shouldCallSpecificSearch) {
-            verify(carRepository).findByBrandContainingIgnoreCase(searchBrand);
-            verify(carRepository, never()).findAll();
+            verify(carRepository).findProjectedByBrandContainingIgnoreCase(searchBrand);
+            verify(carRepository, never()).findAllProjectedBy();
         } else {
-            verify(carRepository).findAll();
-            verify(carRepository, never()).findByBrandContainingIgnoreCase(any());
+            verify(carRepository).findAllProjectedBy();
+            verify(carRepository, never()).findProjectedByBrandContainingIgnoreCase(any());
         }
     }
 
     static Stream<Arguments> searchByBrandData() {
-        List<Car> bmwCars = Arrays.asList(new Car(1L, "BMW X5"));
-        List<Car> allCars = Arrays.asList(new Car(1L, "BMW"), new Car(2L, "Toyota"));
-        List<Car> emptyCars = Arrays.asList(); // No cars match "   "
+        List<CarView> bmwCars = Arrays.asList(new CarView(1L, "BMW X5", null, null));
+        List<CarView> allCars = Arrays.asList(new CarView(1L, "BMW", null, null), new CarView(2L, "Toyota", null, null));
+        List<CarView> emptyCars = Arrays.asList(); // No cars match "   "
         
         return Stream.of(
                 Arguments.of("Specific brand provided", "BMW", bmwCars, true),
@@ -190,19 +219,92 @@ class CarServiceUTest {
         // Given
         int page = 0;
         int size = 5;
-        List<Car> expectedCars = Arrays.asList(new Car(1L, "BMW"), new Car(2L, "Toyota"));
+        List<CarView> expectedCars = Arrays.asList(new CarView(1L, "BMW", null, null), new CarView(2L, "Toyota", null, null));
         org.springframework.data.domain.PageRequest pageRequest = org.springframework.data.domain.PageRequest.of(page, size);
-        org.springframework.data.domain.Page<Car> mockPage = mock(org.springframework.data.domain.Page.class);
-        when(carRepository.findAll(pageRequest)).thenReturn(mockPage);
-        when(mockPage.getContent()).thenReturn(expectedCars);
+        when(carRepository.findAllProjectedBy(pageRequest)).thenReturn(expectedCars);
         
         // When
-        List<Car> result = carService.getPage(page, size);
+        List<CarView> result = carService.getPage(page, size);
         
         // Then
         assertThat(result).hasSize(2);
         assertThat(result).containsExactlyElementsOf(expectedCars);
-        verify(carRepository).findAll(pageRequest);
-        verify(mockPage).getContent();
+        verify(carRepository).findAllProjectedBy(pageRequest);
+    }
+
+    @Test
+    void getById_shouldReadThroughJdbcRepository_whenByIdPathIsJdbc() {
+        // Given
+        readPathProperties.getCar().setById(ReadPath.JDBC);
+        CarView expected = new CarView(1L, "BMW", null, null);
+        when(carJdbcRepository.findById(1L)).thenReturn(Optional.of(expected));
+
+        // When
+        Optional<CarView> result = carService.getById(1L);
+
+        // Then
+        assertThat(result).contains(expected);
+        verify(carRepository, never()).findById(any());
+    }
+
+    @Test
+    void searchByBrand_shouldReadThroughJdbcRepository_whenSearchPathIsJdbc() {
+        // Given
+        readPathProperties.getCar().setSearch(ReadPath.JDBC);
+        List<CarView> expected = List.of(new CarView(1L, "BMW", null, null));
+        when(carJdbcRepository.findByBrandContainingIgnoreCase("BMW")).thenReturn(expected);
+
+        // When
+        List<CarView> result = carService.searchByBrand("BMW");
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(expected);
+        verify(carRepository, never()).findProjectedByBrandContainingIgnoreCase(any());
+    }
+
+    @Test
+    void getPage_shouldReadThroughJdbcRepository_whenPagePathIsJdbc() {
+        // Given
+        readPathProperties.getCar().setPage(ReadPath.JDBC);
+        List<CarView> expected = List.of(new CarView(6L, "BMW", null, null));
+        when(carJdbcRepository.findPage(1, 5)).thenReturn(expected);
+
+        // When
+        List<CarView> result = carService.getPage(1, 5);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(expected);
+        verify(carRepository, never()).findAllProjectedBy(any(org.springframework.data.domain.Pageable.class));
+    }
+
+    @Test
+    void getCreatedBetween_shouldReturnCursorOfLastItem_whenMoreRowsThanSizeExist() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 2, 1, 0, 0);
+        CarView first = new CarView(1L, "BMW", from.plusDays(1), null);
+        CarView second = new CarView(2L, "Audi", from.plusDays(2), null);
+        CarView extra = new CarView(3L, "Kia", from.plusDays(3), null);
+        when(carRepository.findCreatedBetween(from, to, from, 0L, Limit.of(3))).thenReturn(List.of(first, second, extra));
+
+        // When
+        KeysetPage<CarView> page = carService.getCreatedBetween(from, to, null, 2);
+
+        // Then
+        assertThat(page.items()).containsExactly(first, second);
+        assertThat(KeysetCursor.decodeOrStart(page.nextCursor(), from)).isEqualTo(new KeysetCursor(second.createdAt(), 2L));
+    }
+
+    @Test
+    void getCreatedBetween_shouldRejectRequest_whenRangeIsEmptyOrCursorIsMalformed() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThatThrownBy(() -> carService.getCreatedBetween(now, now, null, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> carService.getCreatedBetween(null, null, "not-a-cursor", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> carService.getCreatedBetween(null, null, null, KeysetPage.MAX_SIZE + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(carRepository);
     }
-} 
\ No newline at end of file
+}
@@ -1,8 +1,16 @@
 package org.example.rest.unit;
 
 import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
+import org.example.config.ReadPathProperties;
+import org.example.config.ReadPathProperties.ReadPath;
+import org.example.repository.GovEmployeeJdbcRepository;
 import org.example.repository.GovEmployeeRepository;
+import org.example.repository.GroupCountRepository;
+import org.example.repository.GroupCountRepository.Grouping;
 import org.example.service.GovEmployeeService;
+import org.example.service.ResourceCounters;
+import org.example.service.ResourceCounters.Resource;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -10,6 +18,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +31,18 @@ import static org.mockito.Mockito.*;
 class GovEmployeeServiceUTest {
     @Mock
     private GovEmployeeRepository govEmployeeRepository;
+
+    @Mock
+    private GovEmployeeJdbcRepository govEmployeeJdbcRepository;
+
+    @Spy
+    private ReadPathProperties readPathProperties = new ReadPathProperties();
+
+    @Mock
+    private GroupCountRepository groupCountRepository;
+
+    @Mock
+    private ResourceCounters resourceCounters;
     
     @InjectMocks
     private GovEmployeeService govEmployeeService;
@@ -29,19 +50,19 @@ class GovEmployeeServiceUTest {
     @Test
     void getAll_shouldReturnAllEmployees_whenRepositoryReturnsData() {
         // Given
-        List<GovEmployee> expectedEmployees = Arrays.asList(
-            new GovEmployee(1L, "Alice"), 
-            new GovEmployee(2L, "Bob")
+        List<GovEmployeeView> expectedEmployees = Arrays.asList(
+            new GovEmployeeView(1L, "Alice", null, null), 
+            new GovEmployeeView(2L, "Bob", null, null)
         );
-        when(govEmployeeRepository.findAll()).thenReturn(expectedEmployees);
+        when(govEmployeeRepository.findAllProjectedBy()).thenReturn(expectedEmployees);
         
         // When
-        List<GovEmployee> actualEmployees = govEmployeeService.getAll();
+        List<GovEmployeeView> actualEmployees = govEmployeeService.getAll();
         
         // Then
         assertThat(actualEmployees).hasSize(2);
         assertThat(actualEmployees).containsExactlyElementsOf(expectedEmployees);
-        verify(govEmployeeRepository).findAll();
+        verify(govEmployeeRepository).findAllProjectedBy();
     }
 
     @ParameterizedTest(name = "Get by ID: {0}")
@@ -51,12 +72,12 @@ class GovEmployeeServiceUTest {
         when(govEmployeeRepository.findById(employeeId)).thenReturn(repositoryResult);
         
         // When
-        Optional<GovEmployee> result = govEmployeeService.getById(employeeId);
+        Optional<GovEmployeeView> result = govEmployeeService.getById(employeeId);
         
         // Then
         assertThat(result.isPresent()).isEqualTo(shouldBePresent);
         if (shouldBePresent) {
-            assertThat(result.get().getName()).isEqualTo(expectedName);
+            assertThat(result.get().name()).isEqualTo(expectedName);
         }
         verify(govEmployeeRepository).findById(employeeId);
     }
@@ -82,27 +103,30 @@ class GovEmployeeServiceUTest {
         assertThat(result.getName()).isEqualTo(name);
         assertThat(result.getId()).isEqualTo(3L);
         verify(govEmployeeRepository).save(any(GovEmployee.class));
+        verify(groupCountRepository).adjust(Grouping.EMPLOYEE_NAME_INITIAL, "C", 1);
+        verify(resourceCounters).adjust(Resource.EMPLOYEE, 1);
     }
 
     @ParameterizedTest(name = "Delete employee: {0}")
     @MethodSource("deleteData")
     void delete_shouldHandleVariousScenarios(String testName, Long employeeId, boolean existsInRepo, boolean expectedResult, boolean shouldCallDelete) {
         // Given
-        when(govEmployeeRepository.existsById(employeeId)).thenReturn(existsInRepo);
-        if (shouldCallDelete) {
-            doNothing().when(govEmployeeRepository).deleteById(employeeId);
-        }
+        GovEmployee existing = new GovEmployee(employeeId, "Alice");
+        when(govEmployeeRepository.findById(employeeId)).thenReturn(existsInRepo ? Optional.of(existing) : Optional.empty());
         
         // When
         boolean result = govEmployeeService.delete(employeeId);
         
         // Then
         assertThat(result).isEqualTo(expectedResult);
-        verify(govEmployeeRepository).existsById(employeeId);
+        verify(govEmployeeRepository).findById(employeeId);
         if (shouldCallDelete) {
-            verify(govEmployeeRepository).deleteById(employeeId);
+            verify(govEmployeeRepository).delete(existing);
+            verify(groupCountRepository).adjust(Grouping.EMPLOYEE_NAME_INITIAL, "A", -1);
+            verify(resourceCounters).adjust(Resource.EMPLOYEE, -1);
         } else {
-            verify(govEmployeeRepository, never()).deleteById(employeeId);
+            verify(govEmployeeRepository, never()).delete(any(GovEmployee.class));
+            verifyNoInteractions(groupCountRepository, resourceCounters);
         }
     }
 
@@ -120,22 +144,22 @@ class GovEmployeeServiceUTest {
         when(govEmployeeRepository.findById(employeeId)).thenReturn(repositoryResult);
         if (shouldCallSave && repositoryResult.isPresent()) {
             GovEmployee updatedEmployee = new GovEmployee(employeeId, newName);
-            when(govEmployeeRepository.save(repositoryResult.get())).thenReturn(updatedEmployee);
+            when(govEmployeeRepository.saveAndFlush(repositoryResult.get())).thenReturn(updatedEmployee);
         }
         
         // When
-        Optional<GovEmployee> result = govEmployeeService.update(employeeId, newName);
+        Optional<GovEmployeeView> result = govEmployeeService.update(employeeId, newName);
         
         // Then
         assertThat(result.isPresent()).isEqualTo(shouldBePresent);
         if (shouldBePresent) {
-            assertThat(result.get().getName()).isEqualTo(newName);
+            assertThat(result.get().name()).isEqualTo(newName);
         }
         verify(govEmployeeRepository).findById(employeeId);
         if (shouldCallSave) {
-            verify(govEmployeeRepository).save(any(GovEmployee.class));
+            verify(govEmployeeRepository).saveAndFlush(any(GovEmployee.class));
         } else {
-            verify(govEmployeeRepository, never()).save(any(GovEmployee.class));
+            verify(govEmployeeRepository, never()).saveAndFlush(any(GovEmployee.class));
         }
     }
 
@@ -148,34 +172,34 @@ class GovEmployeeServiceUTest {
 
     @ParameterizedTest(name = "Search by name: {0}")
     @MethodSource("searchByNameData")
-    void searchByName_shouldHandleVariousScenarios(String testName, String searchName, List<GovEmployee> expectedEmployees, boolean shouldCallSpecificSearch) {
+    void searchByName_shouldHandleVariousScenarios(String testName, String searchName, List<GovEmployeeView> expectedEmployees, boolean shouldCallSpecificSearch) {
         // Given
         if (shouldCallSpecificSearch) {
-            when(govEmployeeRepository.findByNameContainingIgnoreCase(searchName)).thenReturn(expectedEmployees);
+            when(govEmployeeRepository.findProjectedByNameContainingIgnoreCase(searchName)).thenReturn(expectedEmployees);
         } else {
-            when(govEmployeeRepository.findAll()).thenReturn(expectedEmployees);
+            when(govEmployeeRepository.findAllProjectedBy()).thenReturn(expectedEmployees);
         }
         
         // When
-        List<GovEmployee> result = govEmployeeService.searchByName(searchName);
+        List<GovEmployeeView> result = govEmployeeService.searchByName(searchName);
         
         // Then
         assertThat(result).hasSize(expectedEmployees.size());
         assertThat(result).containsExactlyElementsOf(expectedEmployees);
         
         if (shouldCallSpecificSearch) {
-            verify(govEmployeeRepository).findByNameContainingIgnoreCase(searchName);
-            verify(govEmployeeRepository, never()).findAll();
+            verify(govEmployeeRepository).findProjectedByNameContainingIgnoreCase(searchName);
+            verify(govEmployeeRepository, never()).findAllProjectedBy();
         } else {
-            verify(govEmployeeRepository).findAll();
-            verify(govEmployeeRepository, never()).findByNameContainingIgnoreCase(any());
+            verify(govEmployeeRepository).findAllProjectedBy();
+            verify(govEmployeeRepository, never()).findProjectedByNameContainingIgnoreCase(any());
         }
     }
 
     static Stream<Arguments> searchByNameData() {
-        List<GovEmployee> aliceEmployees = Arrays.asList(new GovEmployee(1L, "Alice"));
-        List<GovEmployee> allEmployees = Arrays.asList(new GovEmployee(1L, "Alice"), new GovEmployee(2L, "Bob"));
-        List<GovEmployee> emptyEmployees = Arrays.asList(); // No employees match "   "
+        List<GovEmployeeView> aliceEmployees = Arrays.asList(new GovEmployeeView(1L, "Alice", null, null));
+        List<GovEmployeeView> allEmployees = Arrays.asList(new GovEmployeeView(1L, "Alice", null, null), new GovEmployeeView(2L, "Bob", null, null));
+        List<GovEmployeeView> emptyEmployees = Arrays.asList(); // No employees match "   "
         
         return Stream.of(
                 Arguments.of("Specific name provided", "Alice", aliceEmployees, true),
@@ -190,19 +214,61 @@ class GovEmployeeServiceUTest {
         // Given
         int page = 0;
         int size = 5;
-        List<GovEmployee> expectedEmployees = Arrays.asList(new GovEmployee(1L, "Alice"), new GovEmployee(2L, "Bob"));
+        List<GovEmployeeView> expectedEmployees = Arrays.asList(new GovEmployeeView(1L, "Alice", null, null), new GovEmployeeView(2L, "Bob", null, null));
         org.springframework.data.domain.PageRequest pageRequest = org.springframework.data.domain.PageRequest.of(page, size);
-        org.springframework.data.domain.Page<GovEmployee> mockPage = mock(org.springframework.data.domain.Page.class);
-        when(govEmployeeRepository.findAll(pageRequest)).thenReturn(mockPage);
-        when(mockPage.getContent()).thenReturn(expectedEmployees);
+        when(govEmployeeRepository.findAllProjectedBy(pageRequest)).thenReturn(expectedEmployees);
         
         // When
-        List<GovEmployee> result = govEmployeeService.getPage(page, size);
+        List<GovEmployeeView> result = govEmployeeService.getPage(page, size);
         
         // Then
         assertThat(result).hasSize(2);
         assertThat(result).containsExactlyElementsOf(expectedEmployees);
-        verify(govEmployeeRepository).findAll(pageRequest);
-        verify(mockPage).getContent();
+        verify(govEmployeeRepository).findAllProjectedBy(pageRequest);
+    }
+
+    @Test
+    void getById_shouldReadThroughJdbcRepository_whenByIdPathIsJdbc() {
+        // Given
+        readPathProperties.getEmployee().setById(ReadPath.JDBC);
+        GovEmployeeView expected = new GovEmployeeView(1L, "Alice", null, null);
+        when(govEmployeeJdbcRepository.findById(1L)).thenReturn(Optional.of(expected));
+
+        // When
+        Optional<GovEmployeeView> result = govEmployeeService.getById(1L);
+
+        // Then
+        assertThat(result).contains(expected);
+        verify(govEmployeeRepository, never()).findById(any());
+    }
+
+    @Test
+    void searchByName_shouldReadThroughJdbcRepository_whenSearchPathIsJdbc() {
+        // Given
+        readPathProperties.getEmployee().setSearch(ReadPath.JDBC);
+        List<GovEmployeeView> expected = List.of(new GovEmployeeView(1L, "Alice", null, null));
+        when(govEmployeeJdbcRepository.findByNameContainingIgnoreCase("Alice")).thenReturn(expected);
+
+        // When
+        List<GovEmployeeView> result = govEmployeeService.searchByName("Alice");
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(expected);
+        verify(govEmployeeRepository, never()).findProjectedByNameContainingIgnoreCase(any());
+    }
+
+    @Test
+    void getPage_shouldReadThroughJdbcRepository_whenPagePathIsJdbc() {
+        // Given
+        readPathProperties.getEmployee().setPage(ReadPath.JDBC);
+        List<GovEmployeeView> expected = List.of(new GovEmployeeView(6L, "Alice", null, null));
+        when(govEmployeeJdbcRepository.findPage(1, 5)).thenReturn(expected);
+
+        // When
+        List<GovEmployeeView> result = govEmployeeService.getPage(1, 5);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(expected);
+        verify(govEmployeeRepository, never()).findAllProjectedBy(any(org.springframework.data.domain.Pageable.class));
     }
-} 
\ No newline at end of file
+} 
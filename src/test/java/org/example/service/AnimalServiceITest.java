@@ -1,6 +1,7 @@
 package org.example.service;
 
 import org.example.models.entity.Animal;
+import org.example.models.view.AnimalView;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -23,15 +24,15 @@ public class AnimalServiceITest extends IntegrationTestBase {
         
         // When
         Animal savedAnimal = animalService.add(type);
-        Optional<Animal> retrievedAnimal = animalService.getById(savedAnimal.getId());
+        Optional<AnimalView> retrievedAnimal = animalService.getById(savedAnimal.getId());
         
         // Then
         assertThat(savedAnimal.getId()).isNotNull();
         assertThat(savedAnimal.getType()).isEqualTo(type);
         assertThat(retrievedAnimal).isPresent();
-        assertThat(retrievedAnimal.get().getType()).isEqualTo(type);
-        assertThat(retrievedAnimal.get().getCreatedAt()).isNotNull();
-        assertThat(retrievedAnimal.get().getUpdatedAt()).isNotNull();
+        assertThat(retrievedAnimal.get().type()).isEqualTo(type);
+        assertThat(retrievedAnimal.get().createdAt()).isNotNull();
+        assertThat(retrievedAnimal.get().updatedAt()).isNotNull();
     }
 
     @Test
@@ -41,7 +42,7 @@ public class AnimalServiceITest extends IntegrationTestBase {
         
         // When
         boolean deleted = animalService.delete(savedAnimal.getId());
-        Optional<Animal> retrievedAnimal = animalService.getById(savedAnimal.getId());
+        Optional<AnimalView> retrievedAnimal = animalService.getById(savedAnimal.getId());
         
         // Then
         assertThat(deleted).isTrue();
@@ -56,11 +57,11 @@ public class AnimalServiceITest extends IntegrationTestBase {
         animalService.add("cat");
         
         // When
-        List<Animal> lions = animalService.searchByType("lion");
+        List<AnimalView> lions = animalService.searchByType("lion");
         
         // Then
         assertThat(lions).hasSize(2);
-        assertThat(lions).allMatch(animal -> animal.getType().contains("lion"));
+        assertThat(lions).allMatch(animal -> animal.type().contains("lion"));
     }
 
     @Test
@@ -70,12 +71,12 @@ public class AnimalServiceITest extends IntegrationTestBase {
         String newType = "tiger";
         
         // When
-        Optional<Animal> updatedAnimal = animalService.update(originalAnimal.getId(), newType);
+        Optional<AnimalView> updatedAnimal = animalService.update(originalAnimal.getId(), newType);
         
         // Then
         assertThat(updatedAnimal).isPresent();
-        assertThat(updatedAnimal.get().getType()).isEqualTo(newType);
-        assertThat(updatedAnimal.get().getId()).isEqualTo(originalAnimal.getId());
+        assertThat(updatedAnimal.get().type()).isEqualTo(newType);
+        assertThat(updatedAnimal.get().id()).isEqualTo(originalAnimal.getId());
     }
 
     @Test
@@ -86,7 +87,7 @@ public class AnimalServiceITest extends IntegrationTestBase {
         animalService.add("bird");
         
         // When
-        List<Animal> firstPage = animalService.getPage(0, 2);
+        List<AnimalView> firstPage = animalService.getPage(0, 2);
         
         // Then
         assertThat(firstPage).hasSizeLessThanOrEqualTo(2);
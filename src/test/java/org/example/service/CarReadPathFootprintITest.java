@@ -0,0 +1,90 @@
+package org.example.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.config.IntegrationTestBase;
+import org.example.repository.CarRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Before/after measurement of getAll at 100k rows: managed entities vs record projection. The allocated bytes and
+ * milliseconds of both are published as report entries and printed as one {@code 📏 getAll at 100k rows} line, which
+ * Gradle keeps in the system-out of {@code build/test-results/test/TEST-*CarReadPathFootprintITest.xml}.
+ */
+@Transactional
+public class CarReadPathFootprintITest extends IntegrationTestBase {
+
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void findAllProjectedBy_shouldAllocateLessThanEntityFindAll_whenTableHas100kRows(TestReporter reporter) {
+        // Given
+        seedCars();
+        measure(carRepository::findAll);
+        measure(carRepository::findAllProjectedBy);
+
+        // When
+        Footprint entities = measure(carRepository::findAll);
+        Footprint projections = measure(carRepository::findAllProjectedBy);
+
+        // Then
+        reporter.publishEntry(Map.of(
+                "entities.allocatedBytes", String.valueOf(entities.allocatedBytes()),
+                "entities.millis", String.valueOf(entities.millis()),
+                "projections.allocatedBytes", String.valueOf(projections.allocatedBytes()),
+                "projections.millis", String.valueOf(projections.millis())));
+        System.out.printf("📏 getAll at 100k rows: entities %,d bytes allocated in %d ms, projections %,d bytes in %d ms%n",
+                entities.allocatedBytes(), entities.millis(), projections.allocatedBytes(), projections.millis());
+        assertThat(entities.rows()).isGreaterThanOrEqualTo(ROWS);
+        assertThat(projections.rows()).isEqualTo(entities.rows());
+        assertThat(projections.allocatedBytes()).isLessThan(entities.allocatedBytes());
+    }
+
+    private void seedCars() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{"Brand-" + (i % 50), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO car (brand, created_at, updated_at) VALUES (?, ?, ?)", rows);
+    }
+
+    private Footprint measure(Supplier<? extends List<?>> query) {
+        entityManager.clear();
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        int rows = query.get().size();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Footprint(rows, allocated, millis);
+    }
+
+    private record Footprint(int rows, long allocatedBytes, long millis) {
+    }
+}
@@ -1,10 +1,17 @@
 package org.example.service;
 
 import org.example.models.entity.Car;
+import org.example.models.view.CarView;
+import org.example.models.view.GroupCount;
+import org.example.service.query.KeysetPage;
+import org.example.service.query.ListQuery;
+import org.example.service.query.ListQueryEngine;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -16,6 +23,9 @@ public class CarServiceITest extends IntegrationTestBase {
     @Autowired
     private CarService carService;
 
+    @Autowired
+    private ListQueryEngine listQueryEngine;
+
     @Test
     void addAndGetCar_shouldCreateAndRetrieveCar_whenValidDataProvided() {
         // Given
@@ -23,15 +33,15 @@ public class CarServiceITest extends IntegrationTestBase {
         
         // When
         Car savedCar = carService.add(brand);
-        Optional<Car> retrievedCar = carService.getById(savedCar.getId());
+        Optional<CarView> retrievedCar = carService.getById(savedCar.getId());
         
         // Then
         assertThat(savedCar.getId()).isNotNull();
         assertThat(savedCar.getBrand()).isEqualTo(brand);
         assertThat(retrievedCar).isPresent();
-        assertThat(retrievedCar.get().getBrand()).isEqualTo(brand);
-        assertThat(retrievedCar.get().getCreatedAt()).isNotNull();
-        assertThat(retrievedCar.get().getUpdatedAt()).isNotNull();
+        assertThat(retrievedCar.get().brand()).isEqualTo(brand);
+        assertThat(retrievedCar.get().createdAt()).isNotNull();
+        assertThat(retrievedCar.get().updatedAt()).isNotNull();
     }
 
     @Test
@@ -41,7 +51,7 @@ public class CarServiceITest extends IntegrationTestBase {
         
         // When
         boolean deleted = carService.delete(savedCar.getId());
-        Optional<Car> retrievedCar = carService.getById(savedCar.getId());
+        Optional<CarView> retrievedCar = carService.getById(savedCar.getId());
         
         // Then
         assertThat(deleted).isTrue();
@@ -68,11 +78,11 @@ public class CarServiceITest extends IntegrationTestBase {
         carService.add("Toyota");
         
         // When
-        List<Car> bmwCars = carService.searchByBrand("BMW");
+        List<CarView> bmwCars = carService.searchByBrand("BMW");
         
         // Then
         assertThat(bmwCars).hasSize(2);
-        assertThat(bmwCars).allMatch(car -> car.getBrand().contains("BMW"));
+        assertThat(bmwCars).allMatch(car -> car.brand().contains("BMW"));
     }
 
     @Test
@@ -82,12 +92,12 @@ public class CarServiceITest extends IntegrationTestBase {
         String newBrand = "Honda";
         
         // When
-        Optional<Car> updatedCar = carService.update(originalCar.getId(), newBrand);
+        Optional<CarView> updatedCar = carService.update(originalCar.getId(), newBrand);
         
         // Then
         assertThat(updatedCar).isPresent();
-        assertThat(updatedCar.get().getBrand()).isEqualTo(newBrand);
-        assertThat(updatedCar.get().getId()).isEqualTo(originalCar.getId());
+        assertThat(updatedCar.get().brand()).isEqualTo(newBrand);
+        assertThat(updatedCar.get().id()).isEqualTo(originalCar.getId());
     }
 
     @Test
@@ -97,7 +107,7 @@ public class CarServiceITest extends IntegrationTestBase {
         String newBrand = "Honda";
         
         // When
-        Optional<Car> result = carService.update(nonExistentId, newBrand);
+        Optional<CarView> result = carService.update(nonExistentId, newBrand);
         
         // Then
         assertThat(result).isEmpty();
@@ -111,7 +121,7 @@ public class CarServiceITest extends IntegrationTestBase {
         carService.add("Honda");
         
         // When
-        List<Car> firstPage = carService.getPage(0, 2);
+        List<CarView> firstPage = carService.getPage(0, 2);
         
         // Then
         assertThat(firstPage).hasSizeLessThanOrEqualTo(2);
@@ -123,9 +133,85 @@ public class CarServiceITest extends IntegrationTestBase {
         carService.add("Toyota");
         
         // When
-        List<Car> result = carService.getPage(0, 0);
+        List<CarView> result = carService.getPage(0, 0);
         
         // Then
         assertThat(result).isEmpty();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getCreatedBetween_shouldContinueFromCursorWithoutGapsOrDuplicates_whenMorePagesExist() {
+        // Given
+        LocalDateTime from = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime to = LocalDateTime.now().plusMinutes(1);
+        List<Long> createdIds = List.of(carService.add("Audi").getId(), carService.add("Kia").getId(),
+                carService.add("Seat").getId());
+
+        // When
+        List<Long> seenIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<CarView> page = carService.getCreatedBetween(from, to, cursor, 2);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            page.items().forEach(car -> seenIds.add(car.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertThat(seenIds).doesNotHaveDuplicates();
+        assertThat(seenIds).containsSubsequence(createdIds);
+    }
+
+    @Test
+    void getUpdatedSince_shouldReturnOnlyRowsUpdatedAfterTimestamp() {
+        // Given
+        Car car = carService.add("Skoda");
+        LocalDateTime since = LocalDateTime.now().plusMinutes(1);
+
+        // When
+        KeysetPage<CarView> page = carService.getUpdatedSince(since, null, 10);
+
+        // Then
+        assertThat(page.items()).extracting(CarView::id).doesNotContain(car.getId());
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void query_shouldApplyInPrefixAndMultiKeySort_andReuseCompiledPlan_whenShapeRepeats() {
+        // Given
+        Car audi = carService.add("Audi");
+        Car alpine = carService.add("Alpine");
+        Car bmw = carService.add("BMW");
+        long missesBefore = listQueryEngine.getPlanCacheMisses();
+
+        // When
+        List<CarView> byIds = carService.query(ListQuery.parse(
+                List.of("id:in:" + audi.getId() + "," + alpine.getId() + "," + bmw.getId(), "brand:prefix:A"),
+                List.of("brand:asc", "id:desc"), 0, 10));
+        List<CarView> sameShape = carService.query(ListQuery.parse(
+                List.of("id:in:" + bmw.getId(), "brand:prefix:B"), List.of("brand:asc", "id:desc"), 0, 10));
+
+        // Then
+        assertThat(byIds).extracting(CarView::brand).containsExactly("Alpine", "Audi");
+        assertThat(sameShape).extracting(CarView::id).containsExactly(bmw.getId());
+        assertThat(listQueryEngine.getPlanCacheMisses() - missesBefore).isEqualTo(1);
+    }
+
+    @Test
+    void getCountsByBrand_shouldFollowCreateUpdateAndDelete_whenWritesGoThroughService() {
+        // Given
+        String brand = "Lada-" + System.nanoTime();
+        String renamed = brand + "-Niva";
+        Car first = carService.add(brand);
+        Car second = carService.add(brand);
+
+        // When
+        carService.update(second.getId(), renamed);
+        carService.delete(first.getId());
+
+        // Then
+        List<GroupCount> counts = carService.getCountsByBrand();
+        assertThat(counts).extracting(GroupCount::group).doesNotContain(brand);
+        assertThat(counts).contains(new GroupCount(renamed, 1));
+    }
+}
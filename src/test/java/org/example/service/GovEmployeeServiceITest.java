@@ -1,6 +1,7 @@
 package org.example.service;
 
 import org.example.models.entity.GovEmployee;
+import org.example.models.view.GovEmployeeView;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -23,15 +24,15 @@ public class GovEmployeeServiceITest extends IntegrationTestBase {
         
         // When
         GovEmployee savedEmployee = govEmployeeService.add(name);
-        Optional<GovEmployee> retrievedEmployee = govEmployeeService.getById(savedEmployee.getId());
+        Optional<GovEmployeeView> retrievedEmployee = govEmployeeService.getById(savedEmployee.getId());
         
         // Then
         assertThat(savedEmployee.getId()).isNotNull();
         assertThat(savedEmployee.getName()).isEqualTo(name);
         assertThat(retrievedEmployee).isPresent();
-        assertThat(retrievedEmployee.get().getName()).isEqualTo(name);
-        assertThat(retrievedEmployee.get().getCreatedAt()).isNotNull();
-        assertThat(retrievedEmployee.get().getUpdatedAt()).isNotNull();
+        assertThat(retrievedEmployee.get().name()).isEqualTo(name);
+        assertThat(retrievedEmployee.get().createdAt()).isNotNull();
+        assertThat(retrievedEmployee.get().updatedAt()).isNotNull();
     }
 
     @Test
@@ -41,7 +42,7 @@ public class GovEmployeeServiceITest extends IntegrationTestBase {
         
         // When
         boolean deleted = govEmployeeService.delete(savedEmployee.getId());
-        Optional<GovEmployee> retrievedEmployee = govEmployeeService.getById(savedEmployee.getId());
+        Optional<GovEmployeeView> retrievedEmployee = govEmployeeService.getById(savedEmployee.getId());
         
         // Then
         assertThat(deleted).isTrue();
@@ -56,11 +57,11 @@ public class GovEmployeeServiceITest extends IntegrationTestBase {
         govEmployeeService.add("Bob Jones");
         
         // When
-        List<GovEmployee> aliceEmployees = govEmployeeService.searchByName("Alice");
+        List<GovEmployeeView> aliceEmployees = govEmployeeService.searchByName("Alice");
         
         // Then
         assertThat(aliceEmployees).hasSize(2);
-        assertThat(aliceEmployees).allMatch(employee -> employee.getName().contains("Alice"));
+        assertThat(aliceEmployees).allMatch(employee -> employee.name().contains("Alice"));
     }
 
     @Test
@@ -70,12 +71,12 @@ public class GovEmployeeServiceITest extends IntegrationTestBase {
         String newName = "John Smith";
         
         // When
-        Optional<GovEmployee> updatedEmployee = govEmployeeService.update(originalEmployee.getId(), newName);
+        Optional<GovEmployeeView> updatedEmployee = govEmployeeService.update(originalEmployee.getId(), newName);
         
         // Then
         assertThat(updatedEmployee).isPresent();
-        assertThat(updatedEmployee.get().getName()).isEqualTo(newName);
-        assertThat(updatedEmployee.get().getId()).isEqualTo(originalEmployee.getId());
+        assertThat(updatedEmployee.get().name()).isEqualTo(newName);
+        assertThat(updatedEmployee.get().id()).isEqualTo(originalEmployee.getId());
     }
 
     @Test
@@ -86,7 +87,7 @@ public class GovEmployeeServiceITest extends IntegrationTestBase {
         govEmployeeService.add("Charlie Brown");
         
         // When
-        List<GovEmployee> firstPage = govEmployeeService.getPage(0, 2);
+        List<GovEmployeeView> firstPage = govEmployeeService.getPage(0, 2);
         
         // Then
         assertThat(firstPage).hasSizeLessThanOrEqualTo(2);
@@ -0,0 +1,164 @@
+package org.example.service;
+
+import org.example.service.ResourceCounters.Resource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceCountersUTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ResourceCounters resourceCounters;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void count_shouldNotQueryDatabase_whenCalledAfterSeeding() {
+        // Given
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM car", Long.class)).thenReturn(5L);
+        resourceCounters.seed(Resource.CAR);
+
+        // When
+        long first = resourceCounters.count(Resource.CAR);
+        long second = resourceCounters.count(Resource.CAR);
+
+        // Then
+        assertThat(first).isEqualTo(5L);
+        assertThat(second).isEqualTo(5L);
+        verify(jdbcTemplate, times(1)).queryForObject("SELECT COUNT(*) FROM car", Long.class);
+    }
+
+    @Test
+    void count_shouldThrowNotReady_whenCounterWasNeverSeeded() {
+        // Given
+        resourceCounters.adjust(Resource.CAR, 1);
+
+        // When / Then
+        assertThatThrownBy(() -> resourceCounters.count(Resource.CAR))
+                .isInstanceOf(CounterNotReadyException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void countIfReady_shouldBeEmpty_whenCounterWasNeverSeeded() {
+        // Given
+        resourceCounters.adjust(Resource.CAR, 1);
+
+        // When / Then
+        assertThat(resourceCounters.countIfReady(Resource.CAR)).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void seed_shouldHoldCommitsUntilCounted_whenWriteCommitsDuringSeeding() throws Exception {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        resourceCounters.adjust(Resource.CAR, 1);
+        TransactionSynchronization write = TransactionSynchronizationManager.getSynchronizations().get(0);
+        TransactionSynchronizationManager.clearSynchronization();
+        Thread committer = new Thread(() -> {
+            write.beforeCommit(false);
+            write.afterCommit();
+            write.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        });
+        AtomicBoolean heldDuringCount = new AtomicBoolean();
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM car", Long.class)).thenAnswer(invocation -> {
+            committer.start();
+            committer.join(200);
+            heldDuringCount.set(committer.isAlive());
+            return 5L;
+        });
+
+        // When
+        boolean seeded = resourceCounters.seed(Resource.CAR);
+        committer.join(5000);
+
+        // Then
+        assertThat(seeded).isTrue();
+        assertThat(heldDuringCount).isTrue();
+        assertThat(resourceCounters.count(Resource.CAR)).isEqualTo(6L);
+    }
+
+    @Test
+    void adjust_shouldApplyImmediately_whenNoTransactionIsActive() {
+        // Given
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM animal", Long.class)).thenReturn(2L);
+        resourceCounters.seed(Resource.ANIMAL);
+
+        // When
+        resourceCounters.adjust(Resource.ANIMAL, 1);
+        resourceCounters.adjust(Resource.ANIMAL, 1);
+        resourceCounters.adjust(Resource.ANIMAL, -1);
+
+        // Then
+        assertThat(resourceCounters.count(Resource.ANIMAL)).isEqualTo(3L);
+    }
+
+    @Test
+    void adjust_shouldApplyAfterCommitOnly_whenTransactionIsActive() {
+        // Given
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM car", Long.class)).thenReturn(10L);
+        resourceCounters.seed(Resource.CAR);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        resourceCounters.adjust(Resource.CAR, 1);
+        long beforeCommit = resourceCounters.count(Resource.CAR);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        assertThat(beforeCommit).isEqualTo(10L);
+        assertThat(resourceCounters.count(Resource.CAR)).isEqualTo(11L);
+    }
+
+    @Test
+    void adjust_shouldLeaveCountUnchanged_whenTransactionRollsBack() {
+        // Given
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM gov_employee", Long.class)).thenReturn(4L);
+        resourceCounters.seed(Resource.EMPLOYEE);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        resourceCounters.adjust(Resource.EMPLOYEE, -1);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertThat(resourceCounters.count(Resource.EMPLOYEE)).isEqualTo(4L);
+    }
+
+    @Test
+    void reconcile_shouldCorrectDrift_whenTableChangedOutsideServices() {
+        // Given
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM car", Long.class)).thenReturn(7L, 3L);
+        resourceCounters.seed(Resource.CAR);
+
+        // When
+        resourceCounters.reconcile(Resource.CAR);
+
+        // Then
+        assertThat(resourceCounters.count(Resource.CAR)).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.service.query;
+
+import jakarta.persistence.EntityManager;
+import org.example.config.QueryProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ListQueryEngineUTest {
+    private static final QueryResource<Object, Object> RESOURCE = QueryResource.of("car", Object.class, Object.class,
+            new QueryField("id", FieldType.LONG),
+            new QueryField("brand", FieldType.STRING),
+            new QueryField("createdAt", FieldType.TIMESTAMP));
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ListQueryEngine listQueryEngine;
+
+    @BeforeEach
+    void setUp() {
+        QueryProperties queryProperties = new QueryProperties();
+        queryProperties.setPlanCacheSize(2);
+        queryProperties.setAllowList(Map.of("car", List.of("id:in", "brand:prefix", "createdAt:range", "sort:id")));
+        listQueryEngine = new ListQueryEngine(entityManager, queryProperties);
+    }
+
+    @Test
+    void execute_shouldRejectShape_whenNoFilterIsOnTheAllowList() {
+        // Given
+        ListQuery query = ListQuery.parse(List.of("brand:eq:BMW"), List.of(), null, null);
+
+        // When / Then
+        assertThatThrownBy(() -> listQueryEngine.execute(RESOURCE, query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot use an index");
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void execute_shouldRejectShape_whenUnfilteredSortLeadsWithNonIndexedField() {
+        // Given
+        ListQuery query = ListQuery.parse(List.of(), List.of("brand:desc", "id"), null, null);
+
+        // When / Then
+        assertThatThrownBy(() -> listQueryEngine.execute(RESOURCE, query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot use an index");
+    }
+
+    @Test
+    void execute_shouldRejectQuery_whenFieldIsUnknownOrOperatorDoesNotFitType() {
+        assertThatThrownBy(() -> listQueryEngine.execute(RESOURCE, ListQuery.parse(List.of("color:eq:red"), null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown field");
+        assertThatThrownBy(() -> listQueryEngine.execute(RESOURCE, ListQuery.parse(List.of("id:prefix:1"), null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not supported");
+    }
+
+    @Test
+    void parse_shouldKeepValuesOutOfShape_soQueriesDifferingOnlyInValuesSharePlans() {
+        // Given
+        ListQuery first = ListQuery.parse(List.of("id:in:1,2,3", "createdAt:gte:2024-01-01T00:00:00"), List.of("createdAt:desc"), 0, 10);
+        ListQuery second = ListQuery.parse(List.of("id:in:7", "createdAt:gte:2025-06-01T12:30:00"), List.of("createdAt:desc"), 3, 50);
+
+        // Then
+        assertThat(first.shape()).isEqualTo("id:in,createdAt:gte|createdAt:desc").isEqualTo(second.shape());
+        assertThat(first.filters().get(0).values()).containsExactly("1", "2", "3");
+        assertThat(FieldType.TIMESTAMP.parse("createdAt", first.filters().get(1).values().get(0)))
+                .isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    @Test
+    void parse_shouldRejectMalformedTermsAndOversizedPages() {
+        assertThatThrownBy(() -> ListQuery.parse(List.of("brand"), null, null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ListQuery.parse(List.of("brand:like:B"), null, null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ListQuery.parse(null, List.of("id:sideways"), null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ListQuery.parse(null, null, 0, ListQuery.MAX_SIZE + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parse_shouldRejectPage_whenOffsetDoesNotFitAnInt() {
+        // Given page 4294968 of 1000 rows, whose int offset would wrap around to 704
+        ListQuery lastPage = ListQuery.parse(null, null, Integer.MAX_VALUE / 1000, 1000);
+
+        // When / Then
+        assertThat(lastPage.offset()).isEqualTo(2_147_483_000);
+        assertThatThrownBy(() -> ListQuery.parse(null, null, 4_294_968, 1000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("beyond row");
+    }
+}